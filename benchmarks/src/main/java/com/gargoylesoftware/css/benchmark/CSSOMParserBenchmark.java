@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Benchmarks for the {@link CSSOMParser} entry points using the real world stylesheets.
+ *
+ * <p>Every benchmark runs in throughput and in sample time mode; the sample time
+ * results contain the latency percentiles (p0.99). Use the gc profiler
+ * (-prof gc, enabled by default in {@link BenchmarkRunner}) for the allocation rate.</p>
+ *
+ * @author Ronald Brill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CSSOMParserBenchmark {
+
+    /** The corpus file to parse. */
+    @Param({"all.css", "bootstrap_3_3_7_min.css", "compass-homestyle.css", "home.built.css",
+        "load.php.css", "mui.css", "normalize.css", "style-V5-11.css", "style.csx.css", "www.css",
+        "blueprint/ie.css", "blueprint/print.css", "blueprint/screen.css"})
+    private String file_;
+
+    private String css_;
+    private List<String> declarations_;
+    private List<String> propertyValues_;
+
+    /**
+     * Loads the stylesheet and extracts the declarations and property values
+     * used by the fine grained benchmarks.
+     * @throws IOException in case of error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        css_ = RealWorldCorpus.load(file_);
+
+        final CSSStyleSheetImpl sheet = newParser().parseStyleSheet(new InputSource(new StringReader(css_)), null);
+        declarations_ = RealWorldCorpus.declarations(sheet);
+        propertyValues_ = RealWorldCorpus.propertyValues(sheet);
+    }
+
+    /**
+     * Parses the whole stylesheet.
+     * @return the parsed sheet
+     * @throws IOException in case of error
+     */
+    @Benchmark
+    public CSSStyleSheetImpl parseStyleSheet() throws IOException {
+        return newParser().parseStyleSheet(new InputSource(new StringReader(css_)), null);
+    }
+
+    /**
+     * Parses all declaration blocks of the stylesheet one by one.
+     * @param blackhole the blackhole
+     * @throws IOException in case of error
+     */
+    @Benchmark
+    public void parseStyleDeclaration(final Blackhole blackhole) throws IOException {
+        final CSSOMParser parser = newParser();
+        for (final String declaration : declarations_) {
+            blackhole.consume(parser.parseStyleDeclaration(declaration));
+        }
+    }
+
+    /**
+     * Parses all property values of the stylesheet one by one.
+     * @param blackhole the blackhole
+     * @throws IOException in case of error
+     */
+    @Benchmark
+    public void parsePropertyValue(final Blackhole blackhole) throws IOException {
+        final CSSOMParser parser = newParser();
+        for (final String value : propertyValues_) {
+            blackhole.consume(parser.parsePropertyValue(value));
+        }
+    }
+
+    private static CSSOMParser newParser() {
+        final CSSOMParser parser = new CSSOMParser();
+        parser.setErrorHandler(RealWorldCorpus.SILENT_ERROR_HANDLER);
+        return parser;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.gargoylesoftware.css.dom.AbstractCSSRuleImpl;
+import com.gargoylesoftware.css.dom.CSSMediaRuleImpl;
+import com.gargoylesoftware.css.dom.CSSRuleListImpl;
+import com.gargoylesoftware.css.dom.CSSStyleRuleImpl;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.dom.Property;
+import com.gargoylesoftware.css.parser.CSSErrorHandler;
+import com.gargoylesoftware.css.parser.CSSException;
+import com.gargoylesoftware.css.parser.CSSParseException;
+
+/**
+ * Access to the real world stylesheets shared with the test suite.
+ *
+ * @author Ronald Brill
+ */
+public final class RealWorldCorpus {
+
+    /**
+     * Error handler that ignores everything; the corpus contains some
+     * invalid css and printing the errors would distort the measurements.
+     */
+    public static final CSSErrorHandler SILENT_ERROR_HANDLER = new CSSErrorHandler() {
+        @Override
+        public void warning(final CSSParseException exception) throws CSSException {
+            // ignore
+        }
+
+        @Override
+        public void error(final CSSParseException exception) throws CSSException {
+            // ignore
+        }
+
+        @Override
+        public void fatalError(final CSSParseException exception) throws CSSException {
+            // ignore
+        }
+    };
+
+    private RealWorldCorpus() {
+    }
+
+    /**
+     * Reads a stylesheet from the corpus.
+     * @param name the file name relative to the realworld folder
+     * @return the content
+     * @throws IOException in case of error
+     */
+    public static String load(final String name) throws IOException {
+        try (InputStream is = RealWorldCorpus.class.getClassLoader().getResourceAsStream("realworld/" + name)) {
+            if (is == null) {
+                throw new IOException("Unknown corpus file '" + name + "'.");
+            }
+            final Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8);
+            final StringBuilder sb = new StringBuilder();
+            final char[] buffer = new char[4096];
+            int read = reader.read(buffer);
+            while (read != -1) {
+                sb.append(buffer, 0, read);
+                read = reader.read(buffer);
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Collects the declaration blocks (the text between the braces) of all style rules.
+     * @param sheet the sheet
+     * @return the list of declaration texts
+     */
+    public static List<String> declarations(final CSSStyleSheetImpl sheet) {
+        final List<String> result = new ArrayList<>();
+        collect(sheet.getCssRules(), result, null);
+        return result;
+    }
+
+    /**
+     * Collects the property values of all style rules.
+     * @param sheet the sheet
+     * @return the list of property value texts
+     */
+    public static List<String> propertyValues(final CSSStyleSheetImpl sheet) {
+        final List<String> result = new ArrayList<>();
+        collect(sheet.getCssRules(), null, result);
+        return result;
+    }
+
+    private static void collect(final CSSRuleListImpl rules,
+            final List<String> declarations, final List<String> values) {
+        for (final AbstractCSSRuleImpl rule : rules.getRules()) {
+            if (rule instanceof CSSStyleRuleImpl) {
+                final CSSStyleRuleImpl styleRule = (CSSStyleRuleImpl) rule;
+                if (declarations != null) {
+                    declarations.add(styleRule.getStyle().getCssText());
+                }
+                if (values != null) {
+                    for (final Property property : styleRule.getStyle().getProperties()) {
+                        if (property.getValue() != null) {
+                            values.add(property.getValue().getCssText());
+                        }
+                    }
+                }
+            }
+            else if (rule instanceof CSSMediaRuleImpl) {
+                collect(((CSSMediaRuleImpl) rule).getCssRules(), declarations, values);
+            }
+        }
+    }
+}
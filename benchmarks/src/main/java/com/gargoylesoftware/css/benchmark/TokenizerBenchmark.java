@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.CssStringCharStream;
+import com.gargoylesoftware.css.parser.InputSource;
+import com.gargoylesoftware.css.parser.javacc.CSS3Parser;
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserConstants;
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserTokenManager;
+import com.gargoylesoftware.css.parser.javacc.CssTokenizer;
+import com.gargoylesoftware.css.parser.javacc.Token;
+
+/**
+ * Compares the generated {@link CSS3ParserTokenManager} with the hand-written
+ * {@link CssTokenizer} using the real world stylesheets.
+ *
+ * @author Ronald Brill
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TokenizerBenchmark {
+
+    /** The corpus file to tokenize. */
+    @Param({"all.css", "bootstrap_3_3_7_min.css", "compass-homestyle.css", "home.built.css",
+        "load.php.css", "mui.css", "normalize.css", "style-V5-11.css", "style.csx.css", "www.css",
+        "blueprint/ie.css", "blueprint/print.css", "blueprint/screen.css"})
+    private String file_;
+
+    /** The token manager to use; 'generated' or 'handwritten'. */
+    @Param({"generated", "handwritten"})
+    private String tokenizer_;
+
+    private String css_;
+
+    /**
+     * Loads the stylesheet.
+     * @throws IOException in case of error
+     */
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        css_ = RealWorldCorpus.load(file_);
+    }
+
+    /**
+     * Reads all tokens of the stylesheet.
+     * @return the number of tokens
+     */
+    @Benchmark
+    public int tokenize() {
+        final CSS3ParserTokenManager tokenManager = newTokenManager();
+        tokenManager.ReInit(new CssStringCharStream(css_));
+
+        int count = 0;
+        Token token = tokenManager.getNextToken();
+        while (token.kind != CSS3ParserConstants.EOF) {
+            count++;
+            token = tokenManager.getNextToken();
+        }
+        return count;
+    }
+
+    /**
+     * Parses the whole stylesheet.
+     * @return the parsed sheet
+     * @throws IOException in case of error
+     */
+    @Benchmark
+    public CSSStyleSheetImpl parseStyleSheet() throws IOException {
+        final CSS3Parser parser = new CSS3Parser(newTokenManager());
+        parser.setTokenRecycling(true);
+        final CSSOMParser cssomParser = new CSSOMParser(parser);
+        cssomParser.setErrorHandler(RealWorldCorpus.SILENT_ERROR_HANDLER);
+        return cssomParser.parseStyleSheet(new InputSource(new StringReader(css_)), null);
+    }
+
+    private CSS3ParserTokenManager newTokenManager() {
+        if ("handwritten".equals(tokenizer_)) {
+            return new CssTokenizer(null);
+        }
+        return new CSS3ParserTokenManager(null);
+    }
+}
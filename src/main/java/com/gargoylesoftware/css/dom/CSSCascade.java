@@ -0,0 +1,359 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.dom;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.SelectorEntry;
+import com.gargoylesoftware.css.parser.selector.SelectorSpecificity;
+import com.gargoylesoftware.css.util.CSSPropertyNames;
+
+/**
+ * Applies the cascade to the rules matching an element.
+ *
+ * <p>Usage: call {@link #reset()}, add all matching {@link SelectorEntry}s and
+ * (optional) the declaration of the style attribute and call {@link #resolve()}.
+ * The declarations are ordered by</p>
+ * <ol>
+ * <li>origin and importance (user agent, user, author, author !important,
+ *     user !important, user agent !important)</li>
+ * <li>specificity</li>
+ * <li>style sheet order and document order</li>
+ * </ol>
+ * <p>The sort is stable; entries with equal keys are applied in the order they
+ * were added. The entries have to be from an index created by
+ * {@link CSSStyleSheetImpl#buildRuleIndex()} (or at least carry a document order);
+ * for entries of different style sheets the style sheet index defines the order.</p>
+ *
+ * <p>The result depends only on the added entries and the style attribute, therefore
+ * it can be shared between elements matching the same rules. An instance reuses its
+ * internal buffers; it is not thread safe.</p>
+ *
+ * @author Ronald Brill
+ */
+public class CSSCascade {
+
+    /**
+     * The origin of a style sheet.
+     */
+    public enum Origin {
+        /** The browser default styles. */
+        USER_AGENT,
+        /** User style sheets. */
+        USER,
+        /** The style sheets of the document. */
+        AUTHOR
+    }
+
+    private static final int SMALL_SORT = 16;
+    private static final int STYLE_ATTRIBUTE_SPECIFICITY = SelectorSpecificity.FROM_STYLE_ATTRIBUTE.getValue();
+    private static final Origin[] IMPORTANT_ORDER = {Origin.AUTHOR, Origin.USER, Origin.USER_AGENT};
+    // the ids of unknown property names are forgotten if there are more
+    private static final int MAX_UNKNOWN_IDS = 256;
+    private static final int WINNERS_LENGTH = CSSPropertyNames.getKnownCount() + 16;
+
+    // the matched declarations; sorted by sort()
+    private CSSStyleDeclarationImpl[] styles_ = new CSSStyleDeclarationImpl[16];
+    private Origin[] origins_ = new Origin[16];
+    private long[] primaryKeys_ = new long[16];
+    private int[] styleSheets_ = new int[16];
+    private long[] orders_ = new long[16];
+    private int[] sorted_ = new int[16];
+    private int[] sortBuffer_ = new int[16];
+    private int size_;
+    private boolean sortedValid_;
+    private CSSStyleDeclarationImpl styleAttribute_;
+
+    // the winning property per property id (unknown properties get ids after the known ones)
+    // and the position of the winning declaration in the cascade
+    private Property[] winners_ = new Property[WINNERS_LENGTH];
+    private int[] winnerPositions_ = new int[WINNERS_LENGTH];
+    private int position_;
+    private int[] touched_ = new int[32];
+    private long[] emitOrder_ = new long[32];
+    private int touchedCount_;
+    private final Map<String, Integer> unknownIds_ = new HashMap<>();
+
+    /**
+     * Clears all added entries.
+     */
+    public void reset() {
+        Arrays.fill(styles_, 0, size_, null);
+        size_ = 0;
+        sortedValid_ = false;
+        styleAttribute_ = null;
+    }
+
+    /**
+     * @return the number of added declarations
+     */
+    public int size() {
+        return size_;
+    }
+
+    /**
+     * Adds a matching entry of an author style sheet.
+     * @param entry the entry
+     */
+    public void add(final SelectorEntry entry) {
+        add(entry, Origin.AUTHOR, 0);
+    }
+
+    /**
+     * Adds a matching entry.
+     * @param entry the entry
+     * @param origin the origin of the style sheet
+     * @param styleSheetIndex the position of the style sheet in the list of style sheets
+     */
+    public void add(final SelectorEntry entry, final Origin origin, final int styleSheetIndex) {
+        final CSSStyleDeclarationImpl style = entry.getRule().getStyle();
+        if (style == null) {
+            return;
+        }
+        add(style, origin, entry.getSelector().getPackedSpecificity(), styleSheetIndex, entry.getOrder());
+    }
+
+    /**
+     * Adds all matching entries of a style sheet.
+     * @param entries the entries
+     * @param origin the origin of the style sheet
+     * @param styleSheetIndex the position of the style sheet in the list of style sheets
+     */
+    public void addAll(final List<SelectorEntry> entries, final Origin origin, final int styleSheetIndex) {
+        for (int i = 0; i < entries.size(); i++) {
+            add(entries.get(i), origin, styleSheetIndex);
+        }
+    }
+
+    /**
+     * Adds the declaration from the style attribute of the element. This wins
+     * over all declarations from author style sheets having the same importance.
+     * @param style the declaration
+     */
+    public void addStyleAttribute(final CSSStyleDeclarationImpl style) {
+        if (style != null) {
+            styleAttribute_ = style;
+            add(style, Origin.AUTHOR, STYLE_ATTRIBUTE_SPECIFICITY, Integer.MAX_VALUE, Long.MAX_VALUE);
+        }
+    }
+
+    private void add(final CSSStyleDeclarationImpl style, final Origin origin,
+            final int specificity, final int styleSheetIndex, final long order) {
+        if (size_ == styles_.length) {
+            final int newLength = size_ * 2;
+            styles_ = Arrays.copyOf(styles_, newLength);
+            origins_ = Arrays.copyOf(origins_, newLength);
+            primaryKeys_ = Arrays.copyOf(primaryKeys_, newLength);
+            styleSheets_ = Arrays.copyOf(styleSheets_, newLength);
+            orders_ = Arrays.copyOf(orders_, newLength);
+            sorted_ = new int[newLength];
+            sortBuffer_ = new int[newLength];
+        }
+
+        styles_[size_] = style;
+        origins_[size_] = origin;
+        primaryKeys_[size_] = ((long) origin.ordinal() << 32) | (specificity & 0xFFFFFFFFL);
+        styleSheets_[size_] = styleSheetIndex;
+        orders_[size_] = order;
+        size_++;
+        sortedValid_ = false;
+    }
+
+    /**
+     * Applies the cascade to the added declarations.
+     * @return a new declaration containing the winning property for every property name
+     *         in the order of the winning declarations; the properties are the ones
+     *         from the rules and must not be modified
+     */
+    public CSSStyleDeclarationImpl resolve() {
+        sort();
+
+        // normal declarations; sorted ascending, the last one wins
+        for (int i = 0; i < size_; i++) {
+            apply(styles_[sorted_[i]], false);
+        }
+
+        // important declarations win over all normal ones; the
+        // order of the origins is reversed
+        for (Origin origin : IMPORTANT_ORDER) {
+            for (int i = 0; i < size_; i++) {
+                final int idx = sorted_[i];
+                if (origins_[idx] == origin) {
+                    apply(styles_[idx], true);
+                }
+            }
+        }
+
+        // position in the upper half, id in the lower half
+        if (emitOrder_.length < touchedCount_) {
+            emitOrder_ = new long[touched_.length];
+        }
+        for (int i = 0; i < touchedCount_; i++) {
+            final int id = touched_[i];
+            emitOrder_[i] = ((long) winnerPositions_[id] << 32) | id;
+        }
+        Arrays.sort(emitOrder_, 0, touchedCount_);
+
+        final CSSStyleDeclarationImpl result = new CSSStyleDeclarationImpl(null);
+        for (int i = 0; i < touchedCount_; i++) {
+            final int id = (int) emitOrder_[i];
+            result.addProperty(winners_[id]);
+            winners_[id] = null;
+        }
+        touchedCount_ = 0;
+        position_ = 0;
+
+        if (unknownIds_.size() > MAX_UNKNOWN_IDS) {
+            unknownIds_.clear();
+            winners_ = new Property[WINNERS_LENGTH];
+            winnerPositions_ = new int[WINNERS_LENGTH];
+        }
+        return result;
+    }
+
+    private void apply(final CSSStyleDeclarationImpl style, final boolean important) {
+        final List<Property> properties = style.getProperties();
+        for (int i = 0; i < properties.size(); i++) {
+            final Property property = properties.get(i);
+            if (property.isImportant() != important) {
+                continue;
+            }
+
+            int id = property.getId();
+            if (id == CSSPropertyNames.UNKNOWN_ID) {
+                id = unknownId(property.getName());
+            }
+            if (winners_[id] == null) {
+                if (touchedCount_ == touched_.length) {
+                    touched_ = Arrays.copyOf(touched_, touchedCount_ * 2);
+                }
+                touched_[touchedCount_++] = id;
+            }
+            winners_[id] = property;
+            winnerPositions_[id] = position_++;
+        }
+    }
+
+    private int unknownId(final String name) {
+        final String key = name.toLowerCase(Locale.ROOT);
+        final Integer known = unknownIds_.get(key);
+        if (known != null) {
+            return known;
+        }
+
+        final int id = CSSPropertyNames.getKnownCount() + unknownIds_.size();
+        unknownIds_.put(key, id);
+        if (id >= winners_.length) {
+            winners_ = Arrays.copyOf(winners_, winners_.length * 2);
+            winnerPositions_ = Arrays.copyOf(winnerPositions_, winners_.length);
+        }
+        return id;
+    }
+
+    /**
+     * Stable sort of the indexes by origin, specificity, style sheet and document order.
+     */
+    void sort() {
+        if (sortedValid_) {
+            return;
+        }
+        for (int i = 0; i < size_; i++) {
+            sorted_[i] = i;
+        }
+        mergeSort(0, size_);
+        sortedValid_ = true;
+    }
+
+    /**
+     * @param pos the position in the sorted sequence; sort() has to be called before
+     * @return the declaration at this position
+     */
+    CSSStyleDeclarationImpl getSortedStyle(final int pos) {
+        return styles_[sorted_[pos]];
+    }
+
+    /**
+     * @param pos the position in the sorted sequence; sort() has to be called before
+     * @return the origin of the declaration at this position
+     */
+    Origin getSortedOrigin(final int pos) {
+        return origins_[sorted_[pos]];
+    }
+
+    /**
+     * @return the declaration added by {@link #addStyleAttribute(CSSStyleDeclarationImpl)} or null
+     */
+    CSSStyleDeclarationImpl getStyleAttribute() {
+        return styleAttribute_;
+    }
+
+    private int compare(final int i1, final int i2) {
+        int result = Long.compare(primaryKeys_[i1], primaryKeys_[i2]);
+        if (result == 0) {
+            result = Integer.compare(styleSheets_[i1], styleSheets_[i2]);
+            if (result == 0) {
+                result = Long.compare(orders_[i1], orders_[i2]);
+            }
+        }
+        return result;
+    }
+
+    private void insertionSort(final int from, final int to) {
+        for (int i = from + 1; i < to; i++) {
+            final int current = sorted_[i];
+            int j = i - 1;
+            while (j >= from && compare(sorted_[j], current) > 0) {
+                sorted_[j + 1] = sorted_[j];
+                j--;
+            }
+            sorted_[j + 1] = current;
+        }
+    }
+
+    private void mergeSort(final int from, final int to) {
+        if (to - from <= SMALL_SORT) {
+            insertionSort(from, to);
+            return;
+        }
+        final int mid = (from + to) >>> 1;
+        mergeSort(from, mid);
+        mergeSort(mid, to);
+        if (compare(sorted_[mid - 1], sorted_[mid]) <= 0) {
+            return;
+        }
+
+        final int[] buffer = sortBuffer_;
+        final int length = mid - from;
+        System.arraycopy(sorted_, from, buffer, 0, length);
+        int left = 0;
+        int right = mid;
+        int dest = from;
+        while (left < length && right < to) {
+            if (compare(sorted_[right], buffer[left]) < 0) {
+                sorted_[dest++] = sorted_[right++];
+            }
+            else {
+                sorted_[dest++] = buffer[left++];
+            }
+        }
+        while (left < length) {
+            sorted_[dest++] = buffer[left++];
+        }
+    }
+}
@@ -47,7 +47,14 @@ public CSSMediaRuleImpl(
             final AbstractCSSRuleImpl parentRule,
             final MediaListImpl media) {
         super(parentStyleSheet, parentRule);
+        setMediaListInternal(media);
+    }
+
+    private void setMediaListInternal(final MediaListImpl media) {
         mediaList_ = media;
+        if (media != null) {
+            media.setOwnerRule(this);
+        }
     }
 
     /**
@@ -78,8 +85,11 @@ public void setCssText(final String cssText) throws DOMException {
 
             // The rule must be a media rule
             if (r instanceof CSSMediaRuleImpl) {
-                mediaList_ = ((CSSMediaRuleImpl) r).mediaList_;
+                setMediaListInternal(((CSSMediaRuleImpl) r).mediaList_);
                 cssRules_ = ((CSSMediaRuleImpl) r).cssRules_;
+                if (getParentStyleSheet() != null) {
+                    getParentStyleSheet().mediaRuleChanged(this);
+                }
             }
             else {
                 throw new DOMExceptionImpl(
@@ -134,7 +144,11 @@ public void insertRule(final String rule, final int index) throws DOMException {
             final AbstractCSSRuleImpl r = parser.parseRule(rule);
 
             // Insert the rule into the list of rules
+            r.setParentRule(this);
             getCssRules().insert(r, index);
+            if (parentStyleSheet != null) {
+                parentStyleSheet.ruleInserted(getCssRules(), index);
+            }
 
         }
         catch (final IndexOutOfBoundsException e) {
@@ -164,7 +178,11 @@ public void insertRule(final String rule, final int index) throws DOMException {
      */
     public void deleteRule(final int index) throws DOMException {
         try {
+            final AbstractCSSRuleImpl rule = getCssRules().getRules().get(index);
             getCssRules().delete(index);
+            if (getParentStyleSheet() != null) {
+                getParentStyleSheet().ruleRemoved(rule);
+            }
         }
         catch (final IndexOutOfBoundsException e) {
             throw new DOMExceptionImpl(
@@ -174,12 +192,24 @@ public void deleteRule(final int index) throws DOMException {
         }
     }
 
+    /**
+     * The media list of this rule was modified.
+     */
+    void mediaChanged() {
+        if (getParentStyleSheet() != null) {
+            getParentStyleSheet().mediaRuleChanged(this);
+        }
+    }
+
     /**
      * Replaces the rule list.
      * @param rules the new rule list
      */
     public void setRuleList(final CSSRuleListImpl rules) {
         cssRules_ = rules;
+        if (getParentStyleSheet() != null) {
+            getParentStyleSheet().mediaRuleChanged(this);
+        }
     }
 
     @Override
@@ -225,6 +255,6 @@ private void readObject(final ObjectInputStream in)
                 cssRule.setParentStyleSheet(getParentStyleSheet());
             }
         }
-        mediaList_ = (MediaListImpl) in.readObject();
+        setMediaListInternal((MediaListImpl) in.readObject());
     }
 }
@@ -14,13 +14,21 @@
  */
 package com.gargoylesoftware.css.dom;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 
 import org.w3c.dom.DOMException;
 
 import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.util.CSSPropertyNames;
 import com.gargoylesoftware.css.util.LangUtils;
 
 /**
@@ -33,7 +41,21 @@ public class CSSStyleDeclarationImpl implements Serializable {
 	private static final long serialVersionUID = 1L;
 	private static final String PRIORITY_IMPORTANT = "important";
     private AbstractCSSRuleImpl parentRule_;
-    private List<Property> properties_ = new ArrayList<>();
+    private List<Property> properties_ = new PropertyList(this);
+
+    // the index of the properties by name; built on demand and replaced if the
+    // property list was modified or a property was renamed; published as a whole
+    // to support concurrent readers
+    private transient volatile Index index_;
+
+    // counts the renames of the properties indexed by this declaration
+    private transient volatile long renames_;
+
+    // unmodifiable view of the properties; only set if this declaration is read only
+    private transient List<Property> readOnlyProperties_;
+
+    // counts the properties changed in place by setProperty()
+    private transient long valueChanges_;
 
     /**
      * Ctor.
@@ -48,9 +70,48 @@ public CSSStyleDeclarationImpl(final AbstractCSSRuleImpl parentRule) {
      * @return the properties
      */
     public List<Property> getProperties() {
+        if (readOnlyProperties_ != null) {
+            return readOnlyProperties_;
+        }
         return properties_;
     }
 
+    /**
+     * @return true if this declaration can't be modified
+     */
+    public boolean isReadOnly() {
+        return readOnlyProperties_ != null;
+    }
+
+    /**
+     * Makes this declaration read only; used for shared declarations.
+     */
+    void setReadOnly() {
+        readOnlyProperties_ = Collections.unmodifiableList(properties_);
+        // build the index before the declaration is shared
+        getIndex();
+    }
+
+    /**
+     * @return a number that changes every time the list of properties is modified
+     *         or a property is changed using {@link #setProperty(String, String, String)}
+     */
+    long getVersion() {
+        return propertyList().getVersion() + valueChanges_;
+    }
+
+    private PropertyList propertyList() {
+        return (PropertyList) properties_;
+    }
+
+    private void checkReadOnly() throws DOMException {
+        if (readOnlyProperties_ != null) {
+            throw new DOMExceptionImpl(
+                    DOMException.NO_MODIFICATION_ALLOWED_ERR,
+                    DOMExceptionImpl.READ_ONLY_DECLARATION);
+        }
+    }
+
     /**
      * @return the current css text
      */
@@ -75,6 +136,7 @@ public String getCssText() {
      * @throws DOMException in case of error
      */
     public void setCssText(final String cssText) throws DOMException {
+        checkReadOnly();
         try {
             final CSSOMParser parser = new CSSOMParser();
             properties_.clear();
@@ -117,9 +179,13 @@ public CSSValueImpl getPropertyCSSValue(final String propertyName) {
      * @throws DOMException in case of error
      */
     public String removeProperty(final String propertyName) throws DOMException {
+        checkReadOnly();
         if (null == propertyName) {
             return "";
         }
+        if (getPropertyDeclaration(propertyName) == null) {
+            return "";
+        }
         for (int i = 0; i < properties_.size(); i++) {
             final Property p = properties_.get(i);
             if (p != null && propertyName.equalsIgnoreCase(p.getName())) {
@@ -156,6 +222,7 @@ public void setProperty(
             final String propertyName,
             final String value,
             final String priority) throws DOMException {
+        checkReadOnly();
         try {
             CSSValueImpl expr = null;
             if (!value.isEmpty()) {
@@ -171,6 +238,7 @@ public void setProperty(
             else {
                 p.setValue(expr);
                 p.setImportant(important);
+                valueChanges_++;
             }
         }
         catch (final Exception e) {
@@ -200,10 +268,23 @@ public AbstractCSSRuleImpl getParentRule() {
      * @param p the property to add
      */
     public void addProperty(final Property p) {
+        checkReadOnly();
         if (null == p) {
             return;
         }
+        final Index index = index_;
+        final boolean indexValid = index != null && index.isUpToDate(propertyList().getVersion(), renames_);
         properties_.add(p);
+        if (indexValid && index.properties_ != null && p.getName() != null) {
+            if (isAscii(p.getName()) && p.getDeclaration() == this) {
+                index.properties_.put(indexKey(p.getName(), p.getId()), p);
+                index_ = new Index(index.properties_, propertyList().getVersion(), renames_,
+                        index.foreign_, index.foreignNames_);
+            }
+            else {
+                index_ = null;
+            }
+        }
     }
 
     /**
@@ -214,6 +295,11 @@ public Property getPropertyDeclaration(final String propertyName) {
         if (null == propertyName) {
             return null;
         }
+        final Map<String, Property> index = getIndex();
+        if (index != null && isAscii(propertyName)) {
+            return index.get(indexKey(propertyName, CSSPropertyNames.getId(propertyName)));
+        }
+
         for (int i = properties_.size() - 1; i > -1; i--) {
             final Property p = properties_.get(i);
             if (p != null && propertyName.equalsIgnoreCase(p.getName())) {
@@ -223,6 +309,74 @@ public Property getPropertyDeclaration(final String propertyName) {
         return null;
     }
 
+    /**
+     * @return the index of the properties by canonical name (the last one wins)
+     *         or null if the names can't be indexed
+     */
+    private Map<String, Property> getIndex() {
+        final long version = propertyList().getVersion();
+        final long renames = renames_;
+        Index index = index_;
+        if (index == null || !index.isUpToDate(version, renames)) {
+            index = buildIndex(version, renames);
+            index_ = index;
+        }
+        return index.properties_;
+    }
+
+    private Index buildIndex(final long version, final long renames) {
+        final Map<String, Property> properties = new HashMap<>();
+        final List<Property> foreign = new ArrayList<>();
+        for (final Property p : properties_) {
+            if (p != null && p.getName() != null) {
+                if (!isAscii(p.getName())) {
+                    return new Index(null, version, renames, null, null);
+                }
+                properties.put(indexKey(p.getName(), p.getId()), p);
+                if (p.getDeclaration() != this) {
+                    foreign.add(p);
+                }
+            }
+        }
+
+        if (foreign.isEmpty()) {
+            return new Index(properties, version, renames, null, null);
+        }
+        final Property[] foreignProperties = foreign.toArray(new Property[foreign.size()]);
+        final String[] foreignNames = new String[foreignProperties.length];
+        for (int i = 0; i < foreignProperties.length; i++) {
+            foreignNames[i] = foreignProperties[i].getName();
+        }
+        return new Index(properties, version, renames, foreignProperties, foreignNames);
+    }
+
+    /**
+     * Called by the properties of this declaration if the name was changed.
+     */
+    void propertyRenamed() {
+        renames_++;
+    }
+
+    /**
+     * The key of the index; known names are mapped to the constant from
+     * {@link CSSPropertyNames} without creating a new string.
+     */
+    private static String indexKey(final String name, final int id) {
+        if (id != CSSPropertyNames.UNKNOWN_ID) {
+            return CSSPropertyNames.getName(id);
+        }
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean isAscii(final String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) > 127) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public String toString() {
         return getCssText();
@@ -273,4 +427,169 @@ public int hashCode() {
         hash = LangUtils.hashCode(hash, properties_);
         return hash;
     }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        properties_ = new PropertyList(this, properties_);
+    }
+
+    /**
+     * The index of the properties by name; never modified after publication,
+     * except by {@link CSSStyleDeclarationImpl#addProperty(Property)}.
+     */
+    private static final class Index {
+        // canonical property name -> last property with this name; the canonical
+        // name of known properties is the constant from CSSPropertyNames, for all
+        // others it is the lower case name; null if one of the names is not plain
+        // ascii because lower casing is not the same as equalsIgnoreCase() for all
+        // characters
+        private final Map<String, Property> properties_;
+        private final long version_;
+        private final long renames_;
+
+        // the properties indexed by another declaration (e.g. the result of a
+        // cascade) together with the names used for the index; renames of these
+        // are not reported to this declaration
+        private final Property[] foreign_;
+        private final String[] foreignNames_;
+
+        Index(final Map<String, Property> properties, final long version, final long renames,
+                final Property[] foreign, final String[] foreignNames) {
+            properties_ = properties;
+            version_ = version;
+            renames_ = renames;
+            foreign_ = foreign;
+            foreignNames_ = foreignNames;
+        }
+
+        boolean isUpToDate(final long version, final long renames) {
+            if (version_ != version || renames_ != renames) {
+                return false;
+            }
+            if (foreign_ != null) {
+                for (int i = 0; i < foreign_.length; i++) {
+                    if (foreign_[i].getName() != foreignNames_[i]) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * The list of properties; counts all modifications (including
+     * replacements) to be able to detect changes done using
+     * {@link CSSStyleDeclarationImpl#getProperties()}.
+     * The added properties are assigned to the declaration (if not already indexed
+     * by another one) to get informed about renames.
+     */
+    private static final class PropertyList extends ArrayList<Property> {
+        private final transient CSSStyleDeclarationImpl declaration_;
+        private long replacements_;
+
+        PropertyList(final CSSStyleDeclarationImpl declaration) {
+            super();
+            declaration_ = declaration;
+        }
+
+        PropertyList(final CSSStyleDeclarationImpl declaration, final List<Property> properties) {
+            super(properties);
+            declaration_ = declaration;
+            for (final Property p : properties) {
+                assign(p);
+            }
+        }
+
+        private void assign(final Property p) {
+            if (p != null && p.getDeclaration() == null) {
+                p.setDeclaration(declaration_);
+            }
+        }
+
+        private void release(final Object p) {
+            if (p instanceof Property && ((Property) p).getDeclaration() == declaration_) {
+                ((Property) p).setDeclaration(null);
+            }
+        }
+
+        @Override
+        public boolean add(final Property element) {
+            assign(element);
+            return super.add(element);
+        }
+
+        @Override
+        public void add(final int index, final Property element) {
+            assign(element);
+            super.add(index, element);
+        }
+
+        @Override
+        public boolean addAll(final Collection<? extends Property> c) {
+            for (final Property p : c) {
+                assign(p);
+            }
+            return super.addAll(c);
+        }
+
+        @Override
+        public boolean addAll(final int index, final Collection<? extends Property> c) {
+            for (final Property p : c) {
+                assign(p);
+            }
+            return super.addAll(index, c);
+        }
+
+        @Override
+        public Property set(final int index, final Property element) {
+            replacements_++;
+            assign(element);
+            final Property old = super.set(index, element);
+            if (old != element) {
+                release(old);
+            }
+            return old;
+        }
+
+        @Override
+        public Property remove(final int index) {
+            final Property old = super.remove(index);
+            release(old);
+            return old;
+        }
+
+        @Override
+        public boolean remove(final Object o) {
+            final boolean removed = super.remove(o);
+            if (removed) {
+                release(o);
+            }
+            return removed;
+        }
+
+        @Override
+        public void clear() {
+            for (final Property p : this) {
+                release(p);
+            }
+            super.clear();
+        }
+
+        /**
+         * @return a value that changes with every modification of this list
+         */
+        long getVersion() {
+            return modCount + replacements_;
+        }
+
+        /**
+         * Serialize as plain list to stay compatible with the serialized form of
+         * {@link CSSStyleDeclarationImpl}.
+         * @return the replacement
+         */
+        private Object writeReplace() {
+            return new ArrayList<>(this);
+        }
+    }
 }
@@ -59,6 +59,9 @@ public SelectorList getSelectors() {
      */
     public void setSelectors(final SelectorList selectors) {
         selectors_ = selectors;
+        if (getParentStyleSheet() != null) {
+            getParentStyleSheet().selectorsChanged(this);
+        }
     }
 
     /**
@@ -92,7 +95,7 @@ public void setCssText(final String cssText) throws DOMException {
 
             // The rule must be a style rule
             if (r instanceof CSSStyleRuleImpl) {
-                selectors_ = ((CSSStyleRuleImpl) r).selectors_;
+                setSelectors(((CSSStyleRuleImpl) r).selectors_);
                 style_ = ((CSSStyleRuleImpl) r).style_;
             }
             else {
@@ -130,7 +133,7 @@ public String getSelectorText() {
     public void setSelectorText(final String selectorText) throws DOMException {
         try {
             final CSSOMParser parser = new CSSOMParser();
-            selectors_ = parser.parseSelectors(selectorText);
+            setSelectors(parser.parseSelectors(selectorText));
         }
         catch (final CSSException e) {
             throw new DOMExceptionImpl(
@@ -0,0 +1,242 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.dom;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gargoylesoftware.css.dom.CSSCascade.Origin;
+
+/**
+ * Shares the result of the cascade between elements matching the same rules.
+ *
+ * <p>Sibling elements like list items or table cells usually match exactly the
+ * same set of rules. The key of this cache is the identity of the matched
+ * declarations (in cascade order, together with their origin and modification
+ * count) plus the identity and modification count of the style attribute
+ * declaration. All elements having the same key get the same read only
+ * {@link CSSStyleDeclarationImpl}.</p>
+ *
+ * <p>The shared declaration contains copies of the winning properties, changing
+ * them does not change the style sheets. But the copies are shared by all
+ * elements having the same key and the values are the ones of the rules; do not
+ * modify them.</p>
+ *
+ * <p>Modifications done using the methods of a matched declaration are detected;
+ * direct modifications of a {@link Property}
+ * are not, call {@link #clear()} in this case.</p>
+ *
+ * <p>The cache itself is not thread safe. The returned shared declarations are
+ * read only; because their property index is built when they are made read only
+ * and published as one immutable object, they can be read from multiple threads.</p>
+ *
+ * @author Ronald Brill
+ */
+public class CSSStyleSharingCache {
+
+    private final int maxSize_;
+    private final Map<Key, CSSStyleDeclarationImpl> cache_;
+
+    // reused for the lookup to avoid creating a key for every hit
+    private final Key probe_ = new Key();
+
+    private long hits_;
+    private long misses_;
+
+    /**
+     * Ctor.
+     * @param maxSize the max number of cached declarations; the least recently
+     *        used ones are removed if the cache is full
+     */
+    public CSSStyleSharingCache(final int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize has to be positive");
+        }
+        maxSize_ = maxSize;
+        cache_ = new LinkedHashMap<Key, CSSStyleDeclarationImpl>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, CSSStyleDeclarationImpl> eldest) {
+                return size() > maxSize_;
+            }
+        };
+    }
+
+    /**
+     * Applies the cascade or returns the shared result of a previous cascade
+     * with the same matched declarations.
+     * @param cascade the cascade, filled with the matching entries of an element
+     * @return the read only result
+     */
+    public CSSStyleDeclarationImpl resolve(final CSSCascade cascade) {
+        probe_.fill(cascade);
+        CSSStyleDeclarationImpl result = cache_.get(probe_);
+        if (result != null) {
+            hits_++;
+            return result;
+        }
+
+        misses_++;
+        result = copyOf(cascade.resolve());
+        result.setReadOnly();
+        cache_.put(probe_.copy(), result);
+        return result;
+    }
+
+    private static CSSStyleDeclarationImpl copyOf(final CSSStyleDeclarationImpl resolved) {
+        final CSSStyleDeclarationImpl result = new CSSStyleDeclarationImpl(null);
+        final List<Property> properties = resolved.getProperties();
+        for (int i = 0; i < properties.size(); i++) {
+            final Property property = properties.get(i);
+            final Property copy = new Property(property.getName(), property.getValue(), property.isImportant());
+            copy.setLocator(property.getLocator());
+            result.addProperty(copy);
+        }
+        return result;
+    }
+
+    /**
+     * Removes all cached declarations.
+     */
+    public void clear() {
+        cache_.clear();
+    }
+
+    /**
+     * @return the number of cached declarations
+     */
+    public int size() {
+        return cache_.size();
+    }
+
+    /**
+     * @return the number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits_;
+    }
+
+    /**
+     * @return the number of lookups that required a cascade
+     */
+    public long getMisses() {
+        return misses_;
+    }
+
+    /**
+     * The identity vector of the matched declarations.
+     */
+    private static final class Key {
+        private CSSStyleDeclarationImpl[] styles_;
+        private Origin[] origins_;
+        private long[] versions_;
+        private int size_;
+        private CSSStyleDeclarationImpl styleAttribute_;
+        private long styleAttributeVersion_;
+        private int hash_;
+
+        Key() {
+            styles_ = new CSSStyleDeclarationImpl[16];
+            origins_ = new Origin[16];
+            versions_ = new long[16];
+        }
+
+        void fill(final CSSCascade cascade) {
+            cascade.sort();
+
+            final int length = cascade.size();
+            if (length > styles_.length) {
+                styles_ = new CSSStyleDeclarationImpl[length];
+                origins_ = new Origin[length];
+                versions_ = new long[length];
+            }
+
+            final CSSStyleDeclarationImpl styleAttribute = cascade.getStyleAttribute();
+            int hash = 0;
+            int size = 0;
+            for (int i = 0; i < length; i++) {
+                final CSSStyleDeclarationImpl style = cascade.getSortedStyle(i);
+                if (style == styleAttribute) {
+                    continue;
+                }
+                final Origin origin = cascade.getSortedOrigin(i);
+                final long version = style.getVersion();
+                styles_[size] = style;
+                origins_[size] = origin;
+                versions_[size] = version;
+                size++;
+
+                hash = hash * 31 + System.identityHashCode(style);
+                hash = hash * 31 + origin.ordinal();
+                hash = hash * 31 + Long.hashCode(version);
+            }
+            // the rest of the arrays is not used, clear it to not keep the styles alive
+            Arrays.fill(styles_, size, size_ < size ? size : size_, null);
+            size_ = size;
+
+            styleAttribute_ = styleAttribute;
+            if (styleAttribute != null) {
+                styleAttributeVersion_ = styleAttribute.getVersion();
+                hash = hash * 31 + System.identityHashCode(styleAttribute);
+                hash = hash * 31 + Long.hashCode(styleAttributeVersion_);
+            }
+            hash_ = hash;
+        }
+
+        Key copy() {
+            final Key key = new Key();
+            key.styles_ = Arrays.copyOf(styles_, size_);
+            key.origins_ = Arrays.copyOf(origins_, size_);
+            key.versions_ = Arrays.copyOf(versions_, size_);
+            key.size_ = size_;
+            key.styleAttribute_ = styleAttribute_;
+            key.styleAttributeVersion_ = styleAttributeVersion_;
+            key.hash_ = hash_;
+            return key;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash_;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            if (hash_ != other.hash_ || size_ != other.size_) {
+                return false;
+            }
+            for (int i = 0; i < size_; i++) {
+                if (styles_[i] != other.styles_[i]
+                        || origins_[i] != other.origins_[i]
+                        || versions_[i] != other.versions_[i]) {
+                    return false;
+                }
+            }
+            if (styleAttribute_ == null) {
+                return other.styleAttribute_ == null;
+            }
+            return styleAttribute_ == other.styleAttribute_
+                    && styleAttributeVersion_ == other.styleAttributeVersion_;
+        }
+    }
+}
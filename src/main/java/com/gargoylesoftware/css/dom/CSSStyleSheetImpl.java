@@ -22,18 +22,25 @@
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.w3c.dom.DOMException;
 import org.w3c.dom.Node;
 
 import com.gargoylesoftware.css.parser.CSSException;
 import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.condition.Condition;
+import com.gargoylesoftware.css.parser.media.MediaQueryEvaluator;
 import com.gargoylesoftware.css.parser.media.MediaQueryList;
+import com.gargoylesoftware.css.parser.selector.AncestorFilter;
+import com.gargoylesoftware.css.parser.selector.DescendantSelector;
 import com.gargoylesoftware.css.parser.selector.ElementSelector;
 import com.gargoylesoftware.css.parser.selector.Selector;
+import com.gargoylesoftware.css.parser.selector.Selector.SelectorType;
+import com.gargoylesoftware.css.parser.selector.SimpleSelector;
 import com.gargoylesoftware.css.util.LangUtils;
 import com.gargoylesoftware.css.util.ThrowCssExceptionErrorHandler;
 
@@ -53,6 +60,7 @@ public class CSSStyleSheetImpl implements Serializable {
     private AbstractCSSRuleImpl ownerRule_;
     private CSSRuleListImpl cssRules_;
     private CSSStyleSheetRuleIndex index_;
+    private transient CSSStyleSheetRuleIndexBuilder indexBuilder_;
 
     /**
      * Ctor.
@@ -189,6 +197,7 @@ else if (r instanceof CSSImportRuleImpl) {
 
             // Insert the rule into the list of rules
             getCssRules().insert(r, index);
+            ruleInserted(getCssRules(), index);
 
         }
         catch (final IndexOutOfBoundsException e) {
@@ -219,7 +228,9 @@ else if (r instanceof CSSImportRuleImpl) {
      */
     public void deleteRule(final int index) throws DOMException {
         try {
+            final AbstractCSSRuleImpl rule = getCssRules().getRules().get(index);
             getCssRules().delete(index);
+            ruleRemoved(rule);
         }
         catch (final IndexOutOfBoundsException e) {
             throw new DOMExceptionImpl(
@@ -280,6 +291,9 @@ public void setOwnerRule(final AbstractCSSRuleImpl ownerRule) {
      */
     public void setCssRules(final CSSRuleListImpl rules) {
         cssRules_ = rules;
+        if (indexBuilder_ != null) {
+            indexBuilder_.rebuild();
+        }
     }
 
     @Override
@@ -351,6 +365,7 @@ public CSSStyleSheetRuleIndex getRuleIndex() {
      */
     public void setRuleIndex(final CSSStyleSheetRuleIndex index) {
         index_ = index;
+        indexBuilder_ = null;
     }
 
     /**
@@ -358,6 +373,53 @@ public void setRuleIndex(final CSSStyleSheetRuleIndex index) {
      */
     public void resetRuleIndex() {
         index_ = null;
+        indexBuilder_ = null;
+    }
+
+    /**
+     * Builds the CSSStyleSheetRuleIndex for all style rules of this sheet (including
+     * the ones inside media rules) and sets it as rule index. This index is
+     * updated automatically if the rules are changed using
+     * {@link #insertRule(String, int)}, {@link #deleteRule(int)},
+     * {@link CSSMediaRuleImpl#insertRule(String, int)}, {@link CSSMediaRuleImpl#deleteRule(int)}
+     * or {@link CSSStyleRuleImpl#setSelectorText(String)}.
+     *
+     * @return the CSSStyleSheetRuleIndex
+     */
+    public CSSStyleSheetRuleIndex buildRuleIndex() {
+        if (indexBuilder_ == null) {
+            indexBuilder_ = new CSSStyleSheetRuleIndexBuilder(this);
+            index_ = indexBuilder_.getIndex();
+        }
+        return index_;
+    }
+
+    CSSStyleSheetRuleIndexBuilder getRuleIndexBuilder() {
+        return indexBuilder_;
+    }
+
+    void ruleInserted(final CSSRuleListImpl rules, final int index) {
+        if (indexBuilder_ != null) {
+            indexBuilder_.ruleInserted(rules, index);
+        }
+    }
+
+    void ruleRemoved(final AbstractCSSRuleImpl rule) {
+        if (indexBuilder_ != null) {
+            indexBuilder_.ruleRemoved(rule);
+        }
+    }
+
+    void selectorsChanged(final CSSStyleRuleImpl rule) {
+        if (indexBuilder_ != null) {
+            indexBuilder_.selectorsChanged(rule);
+        }
+    }
+
+    void mediaRuleChanged(final CSSMediaRuleImpl rule) {
+        if (indexBuilder_ != null) {
+            indexBuilder_.mediaRuleChanged(rule);
+        }
     }
 
     /**
@@ -366,10 +428,18 @@ public void resetRuleIndex() {
     public static final class SelectorEntry {
         private Selector selector_;
         private CSSStyleRuleImpl rule_;
+        private final int[] ancestorHashes_;
+        private final long order_;
+
+        // the buckets of the index containing this entry
+        private List<SelectorEntry> bucket_;
+        private List<SelectorEntry> allBucket_;
 
-        SelectorEntry(final Selector selector, final CSSStyleRuleImpl rule) {
+        SelectorEntry(final Selector selector, final CSSStyleRuleImpl rule, final long order) {
             selector_ = selector;
             rule_ = rule;
+            ancestorHashes_ = AncestorFilter.getAncestorHashes(selector);
+            order_ = order;
         }
 
         /**
@@ -385,6 +455,22 @@ public Selector getSelector() {
         public CSSStyleRuleImpl getRule() {
             return rule_;
         }
+
+        /**
+         * @return the hashes of the tag names, ids and classes required for the ancestors
+         * of a matching element; use {@link AncestorFilter#mightMatch(int[])} to check them
+         */
+        public int[] getAncestorHashes() {
+            return ancestorHashes_;
+        }
+
+        /**
+         * @return the position of the selector in document order; only the
+         * relation to the order of other entries is meaningful
+         */
+        public long getOrder() {
+            return order_;
+        }
     }
 
     /**
@@ -402,7 +488,8 @@ void add(final String key, final SelectorEntry selector) {
                     entry = new ArrayList<>();
                     keyToSelectors_.put(key, entry);
                 }
-                entry.add(selector);
+                selector.bucket_ = entry;
+                insert(entry, selector);
             }
 
             List<SelectorEntry> get(final String key) {
@@ -417,12 +504,96 @@ List<SelectorEntry> get(final String key) {
         private static final MediaListImpl DEFAULT_MEDIA_LIST = new MediaListImpl(null);
 
         private final List<CSSStyleSheetRuleIndex> children_ = new ArrayList<>();
+        private final Map<MediaQueryList, CSSStyleSheetRuleIndex> childrenByMedia_ = new HashMap<>();
 
         private MediaListImpl mediaList_ = DEFAULT_MEDIA_LIST;
+        private final List<SelectorEntry> universalSelectors_ = new ArrayList<>();
         private final SelectorIndex elementSelectors_ = new SelectorIndex();
-        private final SelectorIndex classSelectors_ = new SelectorIndex();
+        // class name -> element name (null for any element) -> selectors
+        private final Map<String, SelectorIndex> classSelectors_ = new HashMap<>();
+        private final SelectorIndex idSelectors_ = new SelectorIndex();
+        private final SelectorIndex attributeSelectors_ = new SelectorIndex();
         private final List<SelectorEntry> otherSelectors_ = new ArrayList<>();
 
+        // all entries of the id and attribute buckets; used if the caller does not filter
+        private final List<SelectorEntry> allIdSelectors_ = new ArrayList<>();
+        private final List<SelectorEntry> allAttributeSelectors_ = new ArrayList<>();
+
+        private long lastOrder_;
+
+        /**
+         * Add a selector. The selector is indexed using the most selective key of
+         * the rightmost compound selector; an id is preferred over a class, a class
+         * over an attribute name and an attribute name over the element name.
+         *
+         * @param s the selector
+         * @param styleRule the rule
+         */
+        public void add(final Selector s, final CSSStyleRuleImpl styleRule) {
+            add(newEntry(s, styleRule));
+        }
+
+        void add(final SelectorEntry entry) {
+            final Selector s = entry.getSelector();
+            SimpleSelector simple = s.getSimpleSelector();
+            if (simple != null
+                    && simple.getSelectorType() == SelectorType.PSEUDO_ELEMENT_SELECTOR
+                    && s.getSelectorType() == SelectorType.DESCENDANT_SELECTOR) {
+                // the pseudo element belongs to the element of the ancestor part
+                simple = ((DescendantSelector) s).getAncestorSelector().getSimpleSelector();
+            }
+
+            if (simple == null || simple.getSelectorType() != SelectorType.ELEMENT_NODE_SELECTOR) {
+                addTo(otherSelectors_, entry);
+                return;
+            }
+
+            final ElementSelector elementSelector = (ElementSelector) simple;
+            String className = null;
+            String attributeName = null;
+            final List<Condition> conditions = elementSelector.getConditions();
+            if (conditions != null) {
+                for (Condition condition : conditions) {
+                    switch (condition.getConditionType()) {
+                        case ID_CONDITION:
+                            addIdSelector(condition.getValue(), entry);
+                            return;
+                        case CLASS_CONDITION:
+                            if (className == null) {
+                                className = condition.getValue();
+                            }
+                            break;
+                        case ATTRIBUTE_CONDITION:
+                        case ONE_OF_ATTRIBUTE_CONDITION:
+                        case BEGIN_HYPHEN_ATTRIBUTE_CONDITION:
+                        case PREFIX_ATTRIBUTE_CONDITION:
+                        case SUFFIX_ATTRIBUTE_CONDITION:
+                        case SUBSTRING_ATTRIBUTE_CONDITION:
+                            if (attributeName == null) {
+                                attributeName = condition.getLocalName();
+                            }
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }
+
+            if (className != null) {
+                addClassSelector(elementSelector, className, entry);
+            }
+            else if (attributeName != null) {
+                addAttributeSelector(attributeName, entry);
+            }
+            else {
+                addElementSelector(elementSelector, entry);
+            }
+        }
+
+        private SelectorEntry newEntry(final Selector s, final CSSStyleRuleImpl styleRule) {
+            return new SelectorEntry(s, styleRule, lastOrder_ + 1);
+        }
+
         /**
          * Add an ElementSelector.
          *
@@ -432,8 +603,64 @@ List<SelectorEntry> get(final String key) {
          */
         public void addElementSelector(final ElementSelector elementSelector,
                                         final Selector s, final CSSStyleRuleImpl styleRule) {
+            addElementSelector(elementSelector, newEntry(s, styleRule));
+        }
+
+        private void addElementSelector(final ElementSelector elementSelector, final SelectorEntry entry) {
             final String elementName = elementSelector.getLocalNameLowerCase();
-            elementSelectors_.add(elementName, new SelectorEntry(s, styleRule));
+            if (elementName == null) {
+                addTo(universalSelectors_, entry);
+                return;
+            }
+            elementSelectors_.add(elementName, entry);
+            updateOrder(entry);
+        }
+
+        /**
+         * Add a selector that has to be checked for every element.
+         *
+         * @param s the selector
+         * @param styleRule the rule
+         */
+        public void addUniversalSelector(final Selector s, final CSSStyleRuleImpl styleRule) {
+            addTo(universalSelectors_, newEntry(s, styleRule));
+        }
+
+        /**
+         * Add a selector having an id condition.
+         *
+         * @param id the id
+         * @param s the selector
+         * @param styleRule the rule
+         */
+        public void addIdSelector(final String id, final Selector s, final CSSStyleRuleImpl styleRule) {
+            addIdSelector(id, newEntry(s, styleRule));
+        }
+
+        private void addIdSelector(final String id, final SelectorEntry entry) {
+            idSelectors_.add(id, entry);
+            entry.allBucket_ = allIdSelectors_;
+            insert(allIdSelectors_, entry);
+            updateOrder(entry);
+        }
+
+        /**
+         * Add a selector having an attribute condition.
+         *
+         * @param attributeName the name of the attribute
+         * @param s the selector
+         * @param styleRule the rule
+         */
+        public void addAttributeSelector(final String attributeName,
+                final Selector s, final CSSStyleRuleImpl styleRule) {
+            addAttributeSelector(attributeName, newEntry(s, styleRule));
+        }
+
+        private void addAttributeSelector(final String attributeName, final SelectorEntry entry) {
+            attributeSelectors_.add(attributeName.toLowerCase(Locale.ROOT), entry);
+            entry.allBucket_ = allAttributeSelectors_;
+            insert(allAttributeSelectors_, entry);
+            updateOrder(entry);
         }
 
         /**
@@ -446,15 +673,26 @@ public void addElementSelector(final ElementSelector elementSelector,
          */
         public void addClassSelector(final ElementSelector elementSelector, final String className,
                 final Selector s, final CSSStyleRuleImpl styleRule) {
-            final String elementName = elementSelector.getLocalNameLowerCase();
-            final String key;
-            if (elementName == null) {
-                key = "." + className;
+            addClassSelector(elementSelector, className, newEntry(s, styleRule));
+        }
+
+        private void addClassSelector(final ElementSelector elementSelector, final String className,
+                final SelectorEntry entry) {
+            SelectorIndex byElement = classSelectors_.get(className);
+            if (byElement == null) {
+                byElement = new SelectorIndex();
+                classSelectors_.put(className, byElement);
             }
-            else {
-                key = elementName + "." + className;
+            byElement.add(elementSelector.getLocalNameLowerCase(), entry);
+            updateOrder(entry);
+        }
+
+        List<SelectorEntry> getClassSelectors(final String className, final String elementName) {
+            final SelectorIndex byElement = classSelectors_.get(className);
+            if (byElement == null) {
+                return Collections.emptyList();
             }
-            classSelectors_.add(key, new SelectorEntry(s, styleRule));
+            return byElement.get(elementName);
         }
 
         /**
@@ -464,8 +702,99 @@ public void addClassSelector(final ElementSelector elementSelector, final String
          * @param styleRule the rule
          */
         public void addOtherSelector(final Selector s, final CSSStyleRuleImpl styleRule) {
-            final SelectorEntry selectorEntry = new SelectorEntry(s, styleRule);
-            otherSelectors_.add(selectorEntry);
+            addTo(otherSelectors_, newEntry(s, styleRule));
+        }
+
+        private void addTo(final List<SelectorEntry> bucket, final SelectorEntry entry) {
+            entry.bucket_ = bucket;
+            insert(bucket, entry);
+            updateOrder(entry);
+        }
+
+        private void updateOrder(final SelectorEntry entry) {
+            if (entry.order_ > lastOrder_) {
+                lastOrder_ = entry.order_;
+            }
+        }
+
+        /**
+         * Inserts the entry; the buckets are sorted in document order.
+         */
+        private static void insert(final List<SelectorEntry> bucket, final SelectorEntry entry) {
+            final int size = bucket.size();
+            if (size == 0 || bucket.get(size - 1).order_ < entry.order_) {
+                bucket.add(entry);
+                return;
+            }
+            bucket.add(-search(bucket, entry.order_) - 1, entry);
+        }
+
+        private static int search(final List<SelectorEntry> bucket, final long order) {
+            int low = 0;
+            int high = bucket.size() - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final long midOrder = bucket.get(mid).order_;
+                if (midOrder < order) {
+                    low = mid + 1;
+                }
+                else if (midOrder > order) {
+                    high = mid - 1;
+                }
+                else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        /**
+         * Removes the entry from all buckets.
+         * @param entry the entry to remove
+         */
+        static void remove(final SelectorEntry entry) {
+            removeFrom(entry.bucket_, entry);
+            removeFrom(entry.allBucket_, entry);
+            entry.bucket_ = null;
+            entry.allBucket_ = null;
+        }
+
+        private static void removeFrom(final List<SelectorEntry> bucket, final SelectorEntry entry) {
+            if (bucket == null) {
+                return;
+            }
+            int pos = search(bucket, entry.order_);
+            if (pos < 0 || bucket.get(pos) != entry) {
+                // different entries with the same order are possible if
+                // the add methods are mixed; fall back to a linear search
+                pos = -1;
+                for (int i = 0; i < bucket.size(); i++) {
+                    if (bucket.get(i) == entry) {
+                        pos = i;
+                        break;
+                    }
+                }
+            }
+            if (pos > -1) {
+                bucket.remove(pos);
+            }
+        }
+
+        /**
+         * Removes all entries and children.
+         */
+        void clear() {
+            children_.clear();
+            childrenByMedia_.clear();
+            universalSelectors_.clear();
+            elementSelectors_.keyToSelectors_.clear();
+            classSelectors_.clear();
+            idSelectors_.keyToSelectors_.clear();
+            attributeSelectors_.keyToSelectors_.clear();
+            otherSelectors_.clear();
+            allIdSelectors_.clear();
+            allAttributeSelectors_.clear();
+            lastOrder_ = 0;
         }
 
         /**
@@ -474,17 +803,17 @@ public void addOtherSelector(final Selector s, final CSSStyleRuleImpl styleRule)
          * @return the CSSStyleSheetRuleIndex
          */
         public CSSStyleSheetRuleIndex addMedia(final MediaListImpl mediaList) {
-            final String media = mediaList.getMediaText();
-            for (CSSStyleSheetRuleIndex cssStyleSheetRuleIndex : children_) {
-                if (media.equals(cssStyleSheetRuleIndex.getMediaList().getMediaText())) {
-                    return cssStyleSheetRuleIndex;
-                }
+            final MediaQueryList media = mediaList.getMediaQueryList();
+            CSSStyleSheetRuleIndex index = childrenByMedia_.get(media);
+            if (index != null) {
+                return index;
             }
 
-            final CSSStyleSheetRuleIndex index = new CSSStyleSheetRuleIndex();
+            index = new CSSStyleSheetRuleIndex();
             index.mediaList_ = mediaList;
 
             children_.add(index);
+            childrenByMedia_.put(media, index);
             return index;
         }
 
@@ -502,84 +831,227 @@ public List<CSSStyleSheetRuleIndex> getChildren() {
             return children_;
         }
 
+        /**
+         * Collects this index and all nested indexes whose media lists match. This
+         * allows to prune all non matching media rules once instead of checking the
+         * media for every element.
+         * @param evaluator the evaluator used to check the media lists
+         * @return the matching indexes; empty if the media list of this index does not match
+         */
+        public List<CSSStyleSheetRuleIndex> getMatchingIndexes(final MediaQueryEvaluator evaluator) {
+            final List<CSSStyleSheetRuleIndex> result = new ArrayList<>();
+            collectMatchingIndexes(evaluator, result);
+            return result;
+        }
+
+        private void collectMatchingIndexes(final MediaQueryEvaluator evaluator,
+                final List<CSSStyleSheetRuleIndex> result) {
+            if (!evaluator.matches(mediaList_)) {
+                return;
+            }
+            result.add(this);
+            for (int i = 0; i < children_.size(); i++) {
+                children_.get(i).collectMatchingIndexes(evaluator, result);
+            }
+        }
+
         /**
          * @param elementName the element
          * @param classes the classes
          * @return Iterator of SelectorEntry
          */
         public Iterator<SelectorEntry> getSelectorEntriesIteratorFor(final String elementName, final String[] classes) {
-            return new SelectorEntriesIterator(this, elementName, classes);
+            return new SelectorEntriesIterator(this, elementName, classes, null, null, false);
         }
-    }
-
-    static final class SelectorEntriesIterator implements Iterator<SelectorEntry> {
-        private LinkedList<Iterator<SelectorEntry>> iterators_;
-
-        SelectorEntriesIterator(final CSSStyleSheetRuleIndex index,
-                final String elementName,
-                final String[] classes) {
-
-            iterators_ = new LinkedList<>();
 
-            List<SelectorEntry> selectors = index.elementSelectors_.get(null);
-            if (!selectors.isEmpty()) {
-                iterators_.add(selectors.iterator());
-            }
-
-            selectors = index.elementSelectors_.get(elementName);
-            if (!selectors.isEmpty()) {
-                iterators_.add(selectors.iterator());
-            }
+        /**
+         * Returns the candidates for an element. In contrast to
+         * {@link #getSelectorEntriesIteratorFor(String, String[])} only the selectors
+         * indexed by the given id and attribute names are part of the result.
+         *
+         * @param elementName the element
+         * @param classes the classes
+         * @param id the id of the element or null
+         * @param attributeNames the (lowercase) names of the attributes of the element or null
+         * @return Iterator of SelectorEntry
+         */
+        public Iterator<SelectorEntry> getSelectorEntriesIteratorFor(final String elementName,
+                final String[] classes, final String id, final String[] attributeNames) {
+            return new SelectorEntriesIterator(this, elementName, classes, id, attributeNames, true);
+        }
 
+        /**
+         * Calls the visitor for all candidates of an element; the same
+         * candidates as returned by
+         * {@link #getSelectorEntriesIteratorFor(String, String[], String, String[])}
+         * in the same order. This does not allocate any objects.
+         *
+         * @param elementName the element
+         * @param classes the classes
+         * @param id the id of the element or null
+         * @param attributeNames the (lowercase) names of the attributes of the element or null
+         * @param visitor the visitor
+         */
+        public void forEachSelectorEntry(final String elementName, final String[] classes,
+                final String id, final String[] attributeNames, final Consumer<SelectorEntry> visitor) {
+            visit(universalSelectors_, visitor);
+            visit(elementSelectors_.get(elementName), visitor);
             if (classes != null) {
                 for (String clazz : classes) {
-                    selectors = index.classSelectors_.get("." + clazz);
-                    if (selectors != null && !selectors.isEmpty()) {
-                        iterators_.add(selectors.iterator());
-                    }
-
+                    visit(getClassSelectors(clazz, null), visitor);
                     if (elementName != null) {
-                        selectors = index.classSelectors_.get(elementName + "." + clazz);
-                        if (selectors != null && !selectors.isEmpty()) {
-                            iterators_.add(selectors.iterator());
-                        }
+                        visit(getClassSelectors(clazz, elementName), visitor);
                     }
                 }
             }
+            if (id != null) {
+                visit(idSelectors_.get(id), visitor);
+            }
+            if (attributeNames != null) {
+                for (String attributeName : attributeNames) {
+                    visit(attributeSelectors_.get(attributeName), visitor);
+                }
+            }
+            visit(otherSelectors_, visitor);
+        }
 
-            if (index.otherSelectors_ != null && !index.otherSelectors_.isEmpty()) {
-                iterators_.add(index.otherSelectors_.iterator());
+        private static void visit(final List<SelectorEntry> entries, final Consumer<SelectorEntry> visitor) {
+            // no iterator here, the lists are always array based
+            for (int i = 0; i < entries.size(); i++) {
+                visitor.accept(entries.get(i));
             }
         }
+    }
+
+    /**
+     * Iterates over the buckets of the index without creating any
+     * intermediate objects.
+     */
+    static final class SelectorEntriesIterator implements Iterator<SelectorEntry> {
+        private static final int STATE_UNIVERSAL = 0;
+        private static final int STATE_ELEMENT = 1;
+        private static final int STATE_CLASS = 2;
+        private static final int STATE_ID = 3;
+        private static final int STATE_ATTRIBUTE = 4;
+        private static final int STATE_OTHER = 5;
+        private static final int STATE_DONE = 6;
+
+        private final CSSStyleSheetRuleIndex index_;
+        private final String elementName_;
+        private final String[] classes_;
+        private final String id_;
+        private final String[] attributeNames_;
+        private final boolean filterIdAndAttributes_;
+
+        // the bucket to be processed next
+        private int state_ = STATE_UNIVERSAL;
+        // position inside the classes (two buckets per class) or the attribute names
+        private int pos_;
+
+        private List<SelectorEntry> bucket_ = Collections.emptyList();
+        private int bucketPos_;
+
+        SelectorEntriesIterator(final CSSStyleSheetRuleIndex index,
+                final String elementName,
+                final String[] classes,
+                final String id,
+                final String[] attributeNames,
+                final boolean filterIdAndAttributes) {
+            index_ = index;
+            elementName_ = elementName;
+            classes_ = classes;
+            id_ = id;
+            attributeNames_ = attributeNames;
+            filterIdAndAttributes_ = filterIdAndAttributes;
+        }
 
         @Override
         public SelectorEntry next() {
-            if (iterators_.isEmpty()) {
+            if (!hasNext()) {
                 return null;
             }
-
-            final Iterator<SelectorEntry> iter = iterators_.peek();
-            if (iter.hasNext()) {
-                return iter.next();
-            }
-
-            iterators_.removeFirst();
-            return next();
+            return bucket_.get(bucketPos_++);
         }
 
         @Override
         public boolean hasNext() {
-            if (iterators_.isEmpty()) {
-                return false;
+            while (bucketPos_ >= bucket_.size()) {
+                if (!nextBucket()) {
+                    return false;
+                }
             }
+            return true;
+        }
 
-            final Iterator<SelectorEntry> iter = iterators_.peek();
-            if (iter.hasNext()) {
-                return true;
-            }
+        private boolean nextBucket() {
+            bucketPos_ = 0;
+            switch (state_) {
+                case STATE_UNIVERSAL:
+                    bucket_ = index_.universalSelectors_;
+                    state_ = STATE_ELEMENT;
+                    return true;
+
+                case STATE_ELEMENT:
+                    bucket_ = index_.elementSelectors_.get(elementName_);
+                    state_ = STATE_CLASS;
+                    pos_ = 0;
+                    return true;
+
+                case STATE_CLASS:
+                    if (classes_ == null || pos_ >= classes_.length * 2) {
+                        bucket_ = Collections.emptyList();
+                        state_ = STATE_ID;
+                        return true;
+                    }
+                    final String clazz = classes_[pos_ >> 1];
+                    if ((pos_ & 1) == 0) {
+                        bucket_ = index_.getClassSelectors(clazz, null);
+                    }
+                    else if (elementName_ != null) {
+                        bucket_ = index_.getClassSelectors(clazz, elementName_);
+                    }
+                    else {
+                        bucket_ = Collections.emptyList();
+                    }
+                    pos_++;
+                    return true;
+
+                case STATE_ID:
+                    if (!filterIdAndAttributes_) {
+                        bucket_ = index_.allIdSelectors_;
+                    }
+                    else if (id_ != null) {
+                        bucket_ = index_.idSelectors_.get(id_);
+                    }
+                    else {
+                        bucket_ = Collections.emptyList();
+                    }
+                    state_ = STATE_ATTRIBUTE;
+                    pos_ = 0;
+                    return true;
+
+                case STATE_ATTRIBUTE:
+                    if (!filterIdAndAttributes_) {
+                        bucket_ = index_.allAttributeSelectors_;
+                        state_ = STATE_OTHER;
+                    }
+                    else if (attributeNames_ != null && pos_ < attributeNames_.length) {
+                        bucket_ = index_.attributeSelectors_.get(attributeNames_[pos_++]);
+                    }
+                    else {
+                        bucket_ = Collections.emptyList();
+                        state_ = STATE_OTHER;
+                    }
+                    return true;
+
+                case STATE_OTHER:
+                    bucket_ = index_.otherSelectors_;
+                    state_ = STATE_DONE;
+                    return true;
 
-            iterators_.pop();
-            return hasNext();
+                default:
+                    return false;
+            }
         }
     }
 }
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.dom;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.CSSStyleSheetRuleIndex;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.SelectorEntry;
+import com.gargoylesoftware.css.parser.selector.Selector;
+import com.gargoylesoftware.css.parser.selector.SelectorList;
+
+/**
+ * Builds the {@link CSSStyleSheetRuleIndex} of a style sheet and keeps it up to date
+ * if rules are inserted, deleted or changed.
+ *
+ * <p>Every selector entry gets an order number reflecting the document order. The
+ * numbers are assigned with large gaps; inserted rules get numbers between the
+ * ones of their neighbors. Only if there is no more space the whole index is
+ * rebuilt.</p>
+ *
+ * @author Ronald Brill
+ */
+final class CSSStyleSheetRuleIndexBuilder {
+
+    static final long GAP = 1L << 32;
+
+    private static final long NONE = -1;
+
+    private final CSSStyleSheetImpl styleSheet_;
+    private final CSSStyleSheetRuleIndex index_;
+
+    private final Map<CSSStyleRuleImpl, IndexedRule> styleRules_ = new IdentityHashMap<>();
+    private final Map<CSSRuleListImpl, RuleList> ruleLists_ = new IdentityHashMap<>();
+    private final Map<CSSMediaRuleImpl, CSSRuleListImpl> mediaRules_ = new IdentityHashMap<>();
+    private long lastOrder_;
+    private int rebuildCount_;
+
+    /**
+     * A style rule together with the entries created for it.
+     */
+    private static final class IndexedRule {
+        private final CSSRuleListImpl ruleList_;
+        private final SelectorEntry[] entries_;
+
+        IndexedRule(final CSSRuleListImpl ruleList, final SelectorEntry[] entries) {
+            ruleList_ = ruleList;
+            entries_ = entries;
+        }
+    }
+
+    /**
+     * A rule list (of the style sheet or of a media rule) and the index for its style rules.
+     */
+    private static final class RuleList {
+        private final CSSStyleSheetRuleIndex index_;
+        private final CSSRuleListImpl parentList_;
+        private final AbstractCSSRuleImpl owner_;
+
+        RuleList(final CSSStyleSheetRuleIndex index, final CSSRuleListImpl parentList,
+                final AbstractCSSRuleImpl owner) {
+            index_ = index;
+            parentList_ = parentList;
+            owner_ = owner;
+        }
+    }
+
+    CSSStyleSheetRuleIndexBuilder(final CSSStyleSheetImpl styleSheet) {
+        styleSheet_ = styleSheet;
+        index_ = new CSSStyleSheetRuleIndex();
+        rebuild();
+    }
+
+    CSSStyleSheetRuleIndex getIndex() {
+        return index_;
+    }
+
+    int getRebuildCount() {
+        return rebuildCount_;
+    }
+
+    /**
+     * Rebuilds the whole index; the index object itself is reused.
+     */
+    void rebuild() {
+        rebuildCount_++;
+        index_.clear();
+        styleRules_.clear();
+        ruleLists_.clear();
+        mediaRules_.clear();
+        lastOrder_ = 0;
+
+        final CSSRuleListImpl rules = styleSheet_.getCssRules();
+        ruleLists_.put(rules, new RuleList(index_, null, null));
+        for (AbstractCSSRuleImpl rule : rules.getRules()) {
+            add(rules, index_, rule, GAP, null);
+        }
+    }
+
+    /**
+     * The rule at the given position was inserted into the given list.
+     * @param ruleList the list
+     * @param position the position of the new rule
+     */
+    void ruleInserted(final CSSRuleListImpl ruleList, final int position) {
+        final RuleList info = ruleLists_.get(ruleList);
+        if (info == null) {
+            rebuild();
+            return;
+        }
+
+        final AbstractCSSRuleImpl rule = ruleList.getRules().get(position);
+        final int count = countEntries(rule);
+        if (count == 0) {
+            // no style rules; but maybe a media rule requiring a rule list
+            add(ruleList, info.index_, rule, 0, new long[] {0});
+            return;
+        }
+
+        final long prev = lastOrderBefore(ruleList, position);
+        final long next = firstOrderFrom(ruleList, position + 1);
+
+        final long step;
+        if (next == NONE) {
+            step = GAP;
+        }
+        else {
+            step = (next - prev) / (count + 1);
+            if (step < 1) {
+                rebuild();
+                return;
+            }
+        }
+
+        final long[] order = new long[] {prev};
+        add(ruleList, info.index_, rule, step, order);
+    }
+
+    /**
+     * The given rule was removed from the given list.
+     * @param rule the removed rule
+     */
+    void ruleRemoved(final AbstractCSSRuleImpl rule) {
+        if (rule instanceof CSSStyleRuleImpl) {
+            final IndexedRule indexed = styleRules_.remove(rule);
+            if (indexed != null) {
+                for (SelectorEntry entry : indexed.entries_) {
+                    CSSStyleSheetRuleIndex.remove(entry);
+                }
+            }
+        }
+        else if (rule instanceof CSSMediaRuleImpl) {
+            final CSSRuleListImpl rules = mediaRules_.remove(rule);
+            if (rules != null) {
+                for (AbstractCSSRuleImpl child : rules.getRules()) {
+                    ruleRemoved(child);
+                }
+                ruleLists_.remove(rules);
+            }
+        }
+    }
+
+    /**
+     * The rule list or the media of the given media rule has been replaced
+     * or the media list was modified.
+     * @param rule the rule
+     */
+    void mediaRuleChanged(final CSSMediaRuleImpl rule) {
+        if (mediaRules_.containsKey(rule)) {
+            rebuild();
+        }
+    }
+
+    /**
+     * The selectors of the given rule have been changed.
+     * @param rule the rule
+     */
+    void selectorsChanged(final CSSStyleRuleImpl rule) {
+        final IndexedRule indexed = styleRules_.get(rule);
+        if (indexed == null) {
+            return;
+        }
+
+        final int position = indexOf(indexed.ruleList_, rule);
+        ruleRemoved(rule);
+        if (position < 0) {
+            rebuild();
+            return;
+        }
+        ruleInserted(indexed.ruleList_, position);
+    }
+
+    /**
+     * Adds the rule; if order is null the order numbers are continued at the end
+     * using the given step, otherwise order[0] is the number of the entry before.
+     */
+    private void add(final CSSRuleListImpl ruleList, final CSSStyleSheetRuleIndex index,
+            final AbstractCSSRuleImpl rule, final long step, final long[] order) {
+        if (rule instanceof CSSStyleRuleImpl) {
+            final CSSStyleRuleImpl styleRule = (CSSStyleRuleImpl) rule;
+            final SelectorList selectors = styleRule.getSelectors();
+            final int size = selectors == null ? 0 : selectors.size();
+            final SelectorEntry[] entries = new SelectorEntry[size];
+            for (int i = 0; i < size; i++) {
+                final long entryOrder;
+                if (order == null) {
+                    lastOrder_ += step;
+                    entryOrder = lastOrder_;
+                }
+                else {
+                    order[0] += step;
+                    entryOrder = order[0];
+                    if (entryOrder > lastOrder_) {
+                        lastOrder_ = entryOrder;
+                    }
+                }
+
+                final Selector selector = selectors.get(i);
+                entries[i] = new SelectorEntry(selector, styleRule, entryOrder);
+                index.add(entries[i]);
+            }
+            styleRules_.put(styleRule, new IndexedRule(ruleList, entries));
+        }
+        else if (rule instanceof CSSMediaRuleImpl) {
+            final CSSMediaRuleImpl mediaRule = (CSSMediaRuleImpl) rule;
+            final CSSStyleSheetRuleIndex mediaIndex = index.addMedia(mediaRule.getMediaList());
+            final CSSRuleListImpl rules = mediaRule.getCssRules();
+            ruleLists_.put(rules, new RuleList(mediaIndex, ruleList, mediaRule));
+            mediaRules_.put(mediaRule, rules);
+            for (AbstractCSSRuleImpl child : rules.getRules()) {
+                add(rules, mediaIndex, child, step, order);
+            }
+        }
+    }
+
+    private static int countEntries(final AbstractCSSRuleImpl rule) {
+        if (rule instanceof CSSStyleRuleImpl) {
+            final SelectorList selectors = ((CSSStyleRuleImpl) rule).getSelectors();
+            return selectors == null ? 0 : selectors.size();
+        }
+        if (rule instanceof CSSMediaRuleImpl) {
+            int count = 0;
+            for (AbstractCSSRuleImpl child : ((CSSMediaRuleImpl) rule).getCssRules().getRules()) {
+                count += countEntries(child);
+            }
+            return count;
+        }
+        return 0;
+    }
+
+    /**
+     * @return the order of the last entry in document order before the
+     * given position, 0 if there is none
+     */
+    private long lastOrderBefore(final CSSRuleListImpl ruleList, final int position) {
+        final List<AbstractCSSRuleImpl> rules = ruleList.getRules();
+        for (int i = position - 1; i >= 0; i--) {
+            final long order = lastOrderOf(rules.get(i));
+            if (order != NONE) {
+                return order;
+            }
+        }
+
+        final RuleList info = ruleLists_.get(ruleList);
+        if (info == null || info.parentList_ == null) {
+            return 0;
+        }
+        return lastOrderBefore(info.parentList_, indexOf(info.parentList_, info.owner_));
+    }
+
+    private long lastOrderOf(final AbstractCSSRuleImpl rule) {
+        if (rule instanceof CSSStyleRuleImpl) {
+            final IndexedRule indexed = styleRules_.get(rule);
+            if (indexed != null && indexed.entries_.length > 0) {
+                return indexed.entries_[indexed.entries_.length - 1].getOrder();
+            }
+        }
+        else if (rule instanceof CSSMediaRuleImpl) {
+            final List<AbstractCSSRuleImpl> rules = ((CSSMediaRuleImpl) rule).getCssRules().getRules();
+            for (int i = rules.size() - 1; i >= 0; i--) {
+                final long order = lastOrderOf(rules.get(i));
+                if (order != NONE) {
+                    return order;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * @return the order of the first entry in document order starting at the
+     * given position, NONE if there is none
+     */
+    private long firstOrderFrom(final CSSRuleListImpl ruleList, final int position) {
+        final List<AbstractCSSRuleImpl> rules = ruleList.getRules();
+        for (int i = position; i < rules.size(); i++) {
+            final long order = firstOrderOf(rules.get(i));
+            if (order != NONE) {
+                return order;
+            }
+        }
+
+        final RuleList info = ruleLists_.get(ruleList);
+        if (info == null || info.parentList_ == null) {
+            return NONE;
+        }
+        return firstOrderFrom(info.parentList_, indexOf(info.parentList_, info.owner_) + 1);
+    }
+
+    private long firstOrderOf(final AbstractCSSRuleImpl rule) {
+        if (rule instanceof CSSStyleRuleImpl) {
+            final IndexedRule indexed = styleRules_.get(rule);
+            if (indexed != null && indexed.entries_.length > 0) {
+                return indexed.entries_[0].getOrder();
+            }
+        }
+        else if (rule instanceof CSSMediaRuleImpl) {
+            for (AbstractCSSRuleImpl child : ((CSSMediaRuleImpl) rule).getCssRules().getRules()) {
+                final long order = firstOrderOf(child);
+                if (order != NONE) {
+                    return order;
+                }
+            }
+        }
+        return NONE;
+    }
+
+    private static int indexOf(final CSSRuleListImpl ruleList, final AbstractCSSRuleImpl rule) {
+        // the rules implement equals(), search for the identical one
+        final List<AbstractCSSRuleImpl> rules = ruleList.getRules();
+        for (int i = 0; i < rules.size(); i++) {
+            if (rules.get(i) == rule) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -65,6 +65,8 @@ public class DOMExceptionImpl extends DOMException {
     public static final int NOT_IMPLEMENTED = 18;
     /** INSERT_BEFORE_IMPORT = 19. */
     public static final int INSERT_BEFORE_IMPORT = 19;
+    /** READ_ONLY_DECLARATION = 20. */
+    public static final int READ_ONLY_DECLARATION = 20;
 
     static final String[] messages = {
         "Syntax error",
@@ -86,7 +88,8 @@ public class DOMExceptionImpl extends DOMException {
         "An import rule must preceed all other rules",
         "The specified type was not found",
         "The functionality is not implemented",
-        "Can't insert a rule before the last charset or import rule"
+        "Can't insert a rule before the last charset or import rule",
+        "This declaration is read only"
     };
 
     /**
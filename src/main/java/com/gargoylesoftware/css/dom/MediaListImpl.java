@@ -38,6 +38,13 @@ public class MediaListImpl extends AbstractLocatable implements Serializable {
 
 	private static final long serialVersionUID = 1L;
 	private List<MediaQuery> mediaQueries_;
+    // immutable snapshot of the queries; the shared list the queries are taken
+    // from or a copy created on demand; reset by all methods modifying the queries
+    // or handing them out (the shared queries are replaced by private copies in
+    // this case)
+    private transient MediaQueryList mediaQueryList_;
+    // the media rule using this list; informed about changes
+    private transient CSSMediaRuleImpl ownerRule_;
 
     /**
      * Creates new MediaList.
@@ -80,7 +87,9 @@ public void setMediaText(final String mediaText) throws DOMException {
             final CSSOMParser parser = new CSSOMParser();
             parser.setErrorHandler(ThrowCssExceptionErrorHandler.INSTANCE);
             final MediaQueryList sml = parser.parseMedia(mediaText);
+            unshare();
             setMediaList(sml);
+            mediaChanged();
         }
         catch (final CSSParseException e) {
             throw new DOMException(DOMException.SYNTAX_ERR, e.getLocalizedMessage());
@@ -105,6 +114,7 @@ public MediaQuery mediaQuery(final int index) {
         if (index < 0 || (index >= mediaQueries_.size())) {
             return null;
         }
+        unshare();
         return mediaQueries_.get(index);
     }
 
@@ -118,18 +128,69 @@ public String toString() {
      * @param media the media queries string to be parsed
      */
     public void setMedia(final List<String> media) {
+        mediaQueryList_ = null;
         mediaQueries_.clear();
         for (String medium : media) {
             mediaQueries_.add(new MediaQuery(medium));
         }
+        mediaChanged();
+    }
+
+    /**
+     * @param ownerRule the media rule using this list
+     */
+    void setOwnerRule(final CSSMediaRuleImpl ownerRule) {
+        ownerRule_ = ownerRule;
+    }
+
+    private void mediaChanged() {
+        if (ownerRule_ != null) {
+            ownerRule_.mediaChanged();
+        }
     }
 
     private void setMediaList(final MediaQueryList mediaList) {
         if (mediaList != null) {
             mediaQueries_.addAll(mediaList.getMediaQueries());
+            if (mediaList.isImmutable() && mediaQueries_.size() == mediaList.getLength()) {
+                mediaQueryList_ = mediaList;
+            }
         }
     }
 
+    /**
+     * Replaces the shared queries by private copies that can be modified
+     * and resets the snapshot.
+     */
+    private void unshare() {
+        mediaQueryList_ = null;
+        for (int i = 0; i < mediaQueries_.size(); i++) {
+            final MediaQuery mediaQuery = mediaQueries_.get(i);
+            if (mediaQuery.isImmutable()) {
+                final MediaQuery copy = new MediaQuery(mediaQuery.getMedia(), mediaQuery.isOnly(), mediaQuery.isNot());
+                copy.setLocator(mediaQuery.getLocator());
+                for (Property property : mediaQuery.getProperties()) {
+                    copy.addMediaProperty(property);
+                }
+                mediaQueries_.set(i, copy);
+            }
+        }
+    }
+
+    /**
+     * Returns an immutable snapshot of the media queries of this list; lists with the
+     * same queries are equal and can be used as keys (e.g. for the rule index).
+     * The snapshot is cached until the list is modified; a query returned by
+     * {@link #mediaQuery(int)} has to be modified before the next snapshot is taken.
+     * @return the immutable list
+     */
+    public MediaQueryList getMediaQueryList() {
+        if (mediaQueryList_ == null) {
+            mediaQueryList_ = MediaQueryList.immutableCopyOf(mediaQueries_);
+        }
+        return mediaQueryList_;
+    }
+
     private boolean equalsMedia(final MediaListImpl ml) {
         if ((ml == null) || (getLength() != ml.getLength())) {
             return false;
@@ -138,7 +199,7 @@ private boolean equalsMedia(final MediaListImpl ml) {
         int i = 0;
         for (MediaQuery mediaQuery : mediaQueries_) {
             final String m1 = mediaQuery.getMedia();
-            final String m2 = ml.mediaQuery(i).getMedia();
+            final String m2 = ml.mediaQueries_.get(i).getMedia();
             if (!LangUtils.equals(m1, m2)) {
                 return false;
             }
@@ -162,7 +223,9 @@ public boolean equals(final Object obj) {
     @Override
     public int hashCode() {
         int hash = super.hashCode();
-        hash = LangUtils.hashCode(hash, mediaQueries_);
+        for (MediaQuery mediaQuery : mediaQueries_) {
+            hash = LangUtils.hashCode(hash, mediaQuery.getMedia());
+        }
         return hash;
     }
 }
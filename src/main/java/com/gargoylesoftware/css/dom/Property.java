@@ -14,9 +14,12 @@
  */
 package com.gargoylesoftware.css.dom;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 import com.gargoylesoftware.css.parser.AbstractLocatable;
+import com.gargoylesoftware.css.util.CSSPropertyNames;
 import com.gargoylesoftware.css.util.LangUtils;
 
 /**
@@ -25,10 +28,15 @@
 public class Property extends AbstractLocatable implements Serializable {
 
 	private static final long serialVersionUID = 1L;
+
 	private String name_;
+    private transient int id_;
     private CSSValueImpl value_;
     private boolean important_;
 
+    // the declaration indexing this property by name; informed about renames
+    private transient CSSStyleDeclarationImpl declaration_;
+
     /**
      * Creates new Property.
      * @param name the name
@@ -37,6 +45,7 @@ public class Property extends AbstractLocatable implements Serializable {
      */
     public Property(final String name, final CSSValueImpl value, final boolean important) {
         name_ = name;
+        id_ = CSSPropertyNames.getId(name);
         value_ = value;
         important_ = important;
     }
@@ -55,6 +64,34 @@ public String getName() {
      */
     public void setName(final String name) {
         name_ = name;
+        id_ = CSSPropertyNames.getId(name);
+        if (declaration_ != null) {
+            declaration_.propertyRenamed();
+        }
+    }
+
+    /**
+     * @return the declaration indexing this property or null
+     */
+    CSSStyleDeclarationImpl getDeclaration() {
+        return declaration_;
+    }
+
+    /**
+     * @param declaration the declaration indexing this property or null
+     */
+    void setDeclaration(final CSSStyleDeclarationImpl declaration) {
+        declaration_ = declaration;
+    }
+
+    /**
+     * Returns the id of the property name.
+     * @return the id or {@link CSSPropertyNames#UNKNOWN_ID} if the name is not
+     *         a known property name
+     * @see CSSPropertyNames#getId(String)
+     */
+    public int getId() {
+        return id_;
     }
 
     /**
@@ -135,4 +172,9 @@ public int hashCode() {
         hash = LangUtils.hashCode(hash, value_);
         return hash;
     }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        id_ = CSSPropertyNames.getId(name_);
+    }
 }
@@ -22,12 +22,15 @@
 
 import org.w3c.dom.DOMException;
 
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserConstants;
 import com.gargoylesoftware.css.parser.javacc.CharStream;
+import com.gargoylesoftware.css.parser.javacc.NumericToken;
 import com.gargoylesoftware.css.parser.javacc.ParseException;
 import com.gargoylesoftware.css.parser.javacc.Token;
 import com.gargoylesoftware.css.parser.javacc.TokenMgrError;
 import com.gargoylesoftware.css.parser.media.MediaQueryList;
 import com.gargoylesoftware.css.parser.selector.SelectorList;
+import com.gargoylesoftware.css.util.CSSPropertyNames;
 
 /**
  * Base implementation of {@link CSSParser}.
@@ -85,6 +88,7 @@ public abstract class AbstractCSSParser implements CSSParser {
     }
 
     private boolean ieStarHackAccepted_;
+    private boolean createLocators_ = true;
 
     private static final String NUM_CHARS = "0123456789.";
 
@@ -135,6 +139,29 @@ public boolean isIeStarHackAccepted() {
         return ieStarHackAccepted_;
     }
 
+    @Override
+    public void setCreateLocators(final boolean createLocators) {
+        createLocators_ = createLocators;
+    }
+
+    @Override
+    public boolean isCreateLocators() {
+        return createLocators_;
+    }
+
+    /**
+     * Resets the parser to the state of a newly created one; all references
+     * to the handlers and to the last input are released.
+     */
+    void reset() {
+        documentHandler_ = null;
+        errorHandler_ = null;
+        source_ = null;
+        ieStarHackAccepted_ = false;
+        createLocators_ = true;
+        ReInit(null);
+    }
+
     /**
      * @param key the lookup key
      * @return the parser message
@@ -150,9 +177,12 @@ protected String getParserMessage(final String key) {
     /**
      * Returns a new locator for the given token.
      * @param t the token to generate the locator for
-     * @return a new locator
+     * @return a new locator or null if the creation of locators is disabled
      */
     protected Locator createLocator(final Token t) {
+        if (!createLocators_) {
+            return null;
+        }
         return new Locator(getInputSource().getURI(),
             t == null ? 0 : t.beginLine,
             t == null ? 0 : t.beginColumn);
@@ -241,7 +271,7 @@ protected CSSParseException toCSSParseException(final String key, final ParseExc
                 invalid.append(e.tokenImage[0]);
                 break;
             }
-            invalid.append(addEscapes(tok.image));
+            invalid.append(addEscapes(tok.image.substring(0, imageLength(tok))));
             tok = tok.next;
         }
         final StringBuilder message = new StringBuilder(getParserMessage(key));
@@ -289,6 +319,19 @@ protected CSSParseException toCSSParseException(final String messageKey,
         return new CSSParseException(MessageFormat.format(messagePattern, msgParams), locator);
     }
 
+    /**
+     * @param messageKey the message key
+     * @param msgParams the params
+     * @param t the token the error is reported for
+     * @return a new CSSParseException
+     */
+    protected CSSParseException toCSSParseException(final String messageKey,
+            final Object[] msgParams, final Token t) {
+        final String messagePattern = getParserMessage(messageKey);
+        return new CSSParseException(MessageFormat.format(messagePattern, msgParams),
+                getInputSource().getURI(), t.beginLine, t.beginColumn);
+    }
+
     /**
      * @param messageKey the message key
      * @param e a CSSParseException
@@ -300,10 +343,22 @@ protected CSSParseException createSkipWarning(final String messageKey, final CSS
 
     @Override
     public void parseStyleSheet(final InputSource source) throws IOException {
+        parseStyleSheet(source, getCharStream(source));
+    }
+
+    /**
+     * Parses a style sheet (or a part of a style sheet) from the given char stream.
+     *
+     * @param source the input source; the char stream replaces the content of the source
+     * @param charStream the char stream to read from
+     * @return false if the parsing was stopped because of an error
+     */
+    boolean parseStyleSheet(final InputSource source, final CharStream charStream) {
         source_ = source;
-        ReInit(getCharStream(source));
+        initCharStream(charStream);
         try {
             styleSheet();
+            return true;
         }
         catch (final ParseException e) {
             getErrorHandler().error(toCSSParseException("invalidStyleSheet", e));
@@ -314,12 +369,13 @@ public void parseStyleSheet(final InputSource source) throws IOException {
         catch (final CSSParseException e) {
             getErrorHandler().error(e);
         }
+        return false;
     }
 
     @Override
     public void parseStyleDeclaration(final InputSource source) throws IOException {
         source_ = source;
-        ReInit(getCharStream(source));
+        initCharStream(getCharStream(source));
         try {
             styleDeclaration();
         }
@@ -337,7 +393,7 @@ public void parseStyleDeclaration(final InputSource source) throws IOException {
     @Override
     public void parseRule(final InputSource source) throws IOException {
         source_ = source;
-        ReInit(getCharStream(source));
+        initCharStream(getCharStream(source));
         try {
             styleSheetRuleSingle();
         }
@@ -355,7 +411,7 @@ public void parseRule(final InputSource source) throws IOException {
     @Override
     public SelectorList parseSelectors(final InputSource source) throws IOException {
         source_ = source;
-        ReInit(getCharStream(source));
+        initCharStream(getCharStream(source));
         SelectorList sl = null;
         try {
             sl = parseSelectorsInternal();
@@ -375,7 +431,18 @@ public SelectorList parseSelectors(final InputSource source) throws IOException
     @Override
     public LexicalUnit parsePropertyValue(final InputSource source) throws IOException {
         source_ = source;
-        ReInit(getCharStream(source));
+
+        // most values are single tokens like '10px' or 'red'; they are
+        // processed without the overhead of the generated parser
+        final String content = source.getContent();
+        if (content != null) {
+            final LexicalUnit simple = SingleTokenValueParser.parse(this, content);
+            if (simple != null) {
+                return simple;
+            }
+        }
+
+        initCharStream(getCharStream(source));
         LexicalUnit lu = null;
         try {
             lu = expr();
@@ -395,7 +462,7 @@ public LexicalUnit parsePropertyValue(final InputSource source) throws IOExcepti
     @Override
     public boolean parsePriority(final InputSource source) throws IOException {
         source_ = source;
-        ReInit(getCharStream(source));
+        initCharStream(getCharStream(source));
         boolean b = false;
         try {
             b = prio();
@@ -420,7 +487,7 @@ public boolean parsePriority(final InputSource source) throws IOException {
      */
     public MediaQueryList parseMedia(final InputSource source) throws IOException {
         source_ = source;
-        ReInit(getCharStream(source));
+        initCharStream(getCharStream(source));
         final MediaQueryList ml = new MediaQueryList();
         try {
             mediaList(ml);
@@ -437,7 +504,22 @@ public MediaQueryList parseMedia(final InputSource source) throws IOException {
         return ml;
     }
 
+    /**
+     * Uses the given stream as input; the line/column tracking of the stream is
+     * disabled if no locators are created.
+     * @param charStream the stream
+     */
+    private void initCharStream(final CharStream charStream) {
+        if (charStream != null && !createLocators_) {
+            charStream.setTrackLineColumn(false);
+        }
+        ReInit(charStream);
+    }
+
     private static CharStream getCharStream(final InputSource source) throws IOException {
+        if (source.getContent() != null) {
+            return new CssStringCharStream(source.getContent());
+        }
         if (source.getReader() != null) {
             return new CssCharStream(source.getReader(), 1, 1);
         }
@@ -670,7 +752,8 @@ protected void handleEndSelector(final SelectorList selectors) {
     }
 
     /**
-     * property handler.
+     * property handler; the name is replaced by the canonical instance
+     * (see {@link CSSPropertyNames#intern(String)}).
      *
      * @param name the name
      * @param value the value
@@ -679,7 +762,7 @@ protected void handleEndSelector(final SelectorList selectors) {
      */
     protected void handleProperty(final String name, final LexicalUnit value,
             final boolean important, final Locator locator) {
-        getDocumentHandler().property(name, value, important, locator);
+        getDocumentHandler().property(CSSPropertyNames.intern(name), value, important, locator);
     }
 
     /**
@@ -798,6 +881,89 @@ protected double doubleValue(final char op, final String s) {
         return result;
     }
 
+    /**
+     * @param t the number token
+     * @return true if the value of the token fits into an int
+     */
+    protected boolean isIntValue(final Token t) {
+        if (t instanceof NumericToken) {
+            return ((NumericToken) t).isInteger();
+        }
+        try {
+            Integer.parseInt(t.image);
+            return true;
+        }
+        catch (final NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the int value of a number token.
+     *
+     * @param op the sign char
+     * @param t the token
+     * @return the int value
+     */
+    protected int intValue(final char op, final Token t) {
+        if (t instanceof NumericToken) {
+            final int result = ((NumericToken) t).getIntValue();
+            if (op == '-') {
+                return -1 * result;
+            }
+            return result;
+        }
+        return intValue(op, t.image);
+    }
+
+    /**
+     * Returns the double value of a numeric token; the value is calculated
+     * by the token manager.
+     *
+     * @param op the sign char
+     * @param t the token
+     * @return the double value
+     */
+    protected double doubleValue(final char op, final Token t) {
+        if (t instanceof NumericToken) {
+            final double result = ((NumericToken) t).getDoubleValue();
+            if (op == '-') {
+                return -1 * result;
+            }
+            return result;
+        }
+        return doubleValue(op, t.image.substring(0, getLastNumPos(t.image) + 1));
+    }
+
+    /**
+     * @param t the dimension token
+     * @return the unit
+     */
+    protected String dimensionUnit(final Token t) {
+        if (t instanceof NumericToken) {
+            return ((NumericToken) t).getDimensionUnit();
+        }
+        return t.image.substring(getLastNumPos(t.image) + 1);
+    }
+
+    /**
+     * Appends the image of the token; numeric tokens (except dimensions)
+     * are appended without the unit.
+     *
+     * @param t the token
+     * @param sb the builder
+     */
+    protected void appendImage(final Token t, final StringBuilder sb) {
+        sb.append(t.image, 0, imageLength(t));
+    }
+
+    private static int imageLength(final Token t) {
+        if (t instanceof NumericToken && t.kind != CSS3ParserConstants.DIMENSION) {
+            return ((NumericToken) t).getNumberLength();
+        }
+        return t.image.length();
+    }
+
     /**
      * Returns the pos of the last numeric char in the given string.
      *
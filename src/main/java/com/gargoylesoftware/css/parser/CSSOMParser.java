@@ -15,8 +15,14 @@
 package com.gargoylesoftware.css.parser;
 
 import java.io.IOException;
-import java.io.StringReader;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Stack;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
 import org.w3c.dom.DOMException;
 
@@ -35,17 +41,45 @@
 import com.gargoylesoftware.css.dom.MediaListImpl;
 import com.gargoylesoftware.css.dom.Property;
 import com.gargoylesoftware.css.parser.javacc.CSS3Parser;
+import com.gargoylesoftware.css.parser.javacc.CharStream;
 import com.gargoylesoftware.css.parser.media.MediaQueryList;
+import com.gargoylesoftware.css.parser.media.MediaQueryListInterner;
 import com.gargoylesoftware.css.parser.selector.SelectorList;
 
 /**
+ * Parser for the CSSOM; uses a {@link CSSParser} and builds the object model.
+ *
+ * <p>If no parser is given, the CSSOMParser takes a {@link CSS3Parser} from a small
+ * per thread pool for every parse call and returns it afterwards. This saves the
+ * setup costs of the javacc parser (and the token manager) for the many small parse
+ * calls done by the object model (e.g. setCssText(), setProperty()).</p>
+ *
+ * <p>Large style sheets can be parsed in parallel, see {@link #setParallelParsing(ForkJoinPool)}.</p>
+ *
  * @author Ronald Brill
  */
 public class CSSOMParser {
 
+    /** Max number of idle parsers per thread; more are only needed for nested parsing. */
+    private static final int MAX_POOLED_PARSERS = 4;
+    private static final ThreadLocal<ArrayDeque<CSS3Parser>> PARSER_POOL =
+            ThreadLocal.withInitial(() -> new ArrayDeque<>(MAX_POOLED_PARSERS));
+
+    /** Min size of the parts of a style sheet parsed in parallel. */
+    private static final int PARALLEL_CHUNK_SIZE = 16 * 1024;
+
     private CSSParser parser_;
     private CSSStyleSheetImpl parentStyleSheet_;
 
+    private CSSErrorHandler errorHandler_;
+    private boolean createLocators_ = true;
+
+    private ForkJoinPool parallelPool_;
+    private int parallelChunkSize_ = PARALLEL_CHUNK_SIZE;
+
+    // created on demand; most parsers never see a media rule
+    private MediaQueryListInterner mediaQueryLists_;
+
     /**
      * Creates new CSSOMParser.
      * @param parser the parser
@@ -55,17 +89,128 @@ public CSSOMParser(final CSSParser parser) {
     }
 
     /**
-     * Creates new CSSOMParser.
+     * Creates new CSSOMParser using a pooled {@link CSS3Parser}.
      */
     public CSSOMParser() {
-        parser_ = new CSS3Parser();
     }
 
     /**
      * @param eh the error handler to be used
      */
     public void setErrorHandler(final CSSErrorHandler eh) {
-        parser_.setErrorHandler(eh);
+        errorHandler_ = eh;
+        if (parser_ != null) {
+            parser_.setErrorHandler(eh);
+        }
+    }
+
+    /**
+     * Enables/disables the creation of locators. Without locators the
+     * parsed objects are not holding any position information,
+     * getLocator() returns null for all of them; the line/column numbers
+     * of the input are not tracked and errors are reported without position.
+     *
+     * @param createLocators the new state
+     */
+    public void setCreateLocators(final boolean createLocators) {
+        createLocators_ = createLocators;
+        if (parser_ != null) {
+            parser_.setCreateLocators(createLocators);
+        }
+    }
+
+    /**
+     * Enables the parallel parsing of large style sheets. The style sheet is split
+     * at the top-level rules and the parts are parsed concurrently using the given pool.
+     * The result (rules, locators and errors) is the same as for sequential parsing,
+     * but the errors are reported (in document order) after all parts are parsed.
+     * Because of this an error handler throwing exceptions does not stop the parsing.
+     *
+     * <p>This is only supported if the CSSOMParser was created without a parser.
+     * Small style sheets and style sheets the split is not safe for (e.g. unbalanced
+     * braces, unterminated strings or comments) are parsed sequentially.</p>
+     *
+     * @param pool the pool to be used or null to disable parallel parsing
+     */
+    public void setParallelParsing(final ForkJoinPool pool) {
+        parallelPool_ = pool;
+    }
+
+    /**
+     * Sets the interner used for the media lists of media and import rules. All
+     * equal media lists parsed by this parser share one immutable media query list.
+     * Use the same interner for many parsers to share the lists between style sheets.
+     *
+     * @param interner the interner
+     */
+    public synchronized void setMediaQueryListInterner(final MediaQueryListInterner interner) {
+        mediaQueryLists_ = interner;
+    }
+
+    private synchronized MediaQueryListInterner getMediaQueryListInterner() {
+        if (mediaQueryLists_ == null) {
+            mediaQueryLists_ = new MediaQueryListInterner();
+        }
+        return mediaQueryLists_;
+    }
+
+    /**
+     * @param media the parsed list
+     * @return a media list using the canonical instance of the parsed list
+     */
+    private MediaListImpl createMediaList(final MediaQueryList media) {
+        if (media == null) {
+            return new MediaListImpl(null);
+        }
+        final MediaListImpl ml = new MediaListImpl(getMediaQueryListInterner().intern(media));
+        ml.setLocator(media.getLocator());
+        return ml;
+    }
+
+    /**
+     * Sets the min size of the parts of a style sheet parsed in parallel.
+     * @param chunkSize the new size
+     */
+    void setParallelChunkSize(final int chunkSize) {
+        parallelChunkSize_ = chunkSize;
+    }
+
+    /**
+     * @return the parser to be used for the next parse call; this is the
+     * parser given to the ctor or a parser from the pool
+     */
+    private CSSParser acquireParser() {
+        if (parser_ != null) {
+            return parser_;
+        }
+
+        CSS3Parser parser = PARSER_POOL.get().pollFirst();
+        if (parser == null) {
+            parser = new CSS3Parser();
+            parser.setTokenRecycling(true);
+        }
+        if (errorHandler_ != null) {
+            parser.setErrorHandler(errorHandler_);
+        }
+        parser.setCreateLocators(createLocators_);
+        return parser;
+    }
+
+    /**
+     * Returns a pooled parser to the pool after resetting it.
+     * @param parser the parser returned by {@link #acquireParser()}
+     */
+    private void releaseParser(final CSSParser parser) {
+        if (parser == parser_) {
+            return;
+        }
+
+        // reset() is package private and therefore not a member of CSS3Parser
+        ((AbstractCSSParser) parser).reset();
+        final ArrayDeque<CSS3Parser> pool = PARSER_POOL.get();
+        if (pool.size() < MAX_POOLED_PARSERS) {
+            pool.addFirst((CSS3Parser) parser);
+        }
     }
 
     /**
@@ -77,15 +222,153 @@ public void setErrorHandler(final CSSErrorHandler eh) {
      * @throws IOException if the underlying SAC parser throws an IOException
      */
     public CSSStyleSheetImpl parseStyleSheet(final InputSource source, final String href) throws IOException {
-        final CSSOMHandler handler = new CSSOMHandler();
-        handler.setHref(href);
-        parser_.setDocumentHandler(handler);
-        parser_.parseStyleSheet(source);
-        final Object o = handler.getRoot();
-        if (o instanceof CSSStyleSheetImpl) {
-            return (CSSStyleSheetImpl) o;
+        InputSource input = source;
+        if (parser_ == null && parallelPool_ != null) {
+            input = toStringInputSource(source);
+            final String css = input.getContent();
+            if (css != null) {
+                final int chunkSize = Math.max(parallelChunkSize_,
+                        css.length() / (parallelPool_.getParallelism() * 4));
+                final List<StyleSheetSplitter.Chunk> chunks = StyleSheetSplitter.split(css, chunkSize);
+                if (chunks != null) {
+                    return parseStyleSheetParallel(input, href, chunks);
+                }
+            }
+        }
+
+        final CSSParser parser = acquireParser();
+        try {
+            final CSSOMHandler handler = new CSSOMHandler(parser);
+            handler.setHref(href);
+            parser.setDocumentHandler(handler);
+            parser.parseStyleSheet(input);
+            final Object o = handler.getRoot();
+            if (o instanceof CSSStyleSheetImpl) {
+                return (CSSStyleSheetImpl) o;
+            }
+            return null;
+        }
+        finally {
+            releaseParser(parser);
+        }
+    }
+
+    /**
+     * @param source the input source
+     * @return an input source with the content as string; sources based on
+     *         an uri are returned unchanged
+     * @throws IOException in case of error reading the source
+     */
+    private static InputSource toStringInputSource(final InputSource source) throws IOException {
+        if (source.getContent() != null || source.getReader() == null) {
+            return source;
+        }
+
+        final StringBuilder css = new StringBuilder();
+        final Reader reader = source.getReader();
+        final char[] buffer = new char[8192];
+        int read = reader.read(buffer);
+        while (read > -1) {
+            css.append(buffer, 0, read);
+            read = reader.read(buffer);
+        }
+
+        final InputSource stringSource = new InputSource(css.toString());
+        stringSource.setURI(source.getURI());
+        stringSource.setMedia(source.getMedia());
+        stringSource.setTitle(source.getTitle());
+        return stringSource;
+    }
+
+    /**
+     * Parses the chunks of a style sheet in parallel and joins the results.
+     *
+     * @param source the input source
+     * @param href the href
+     * @param chunks the chunks of the style sheet
+     * @return the CSSOM style sheet
+     */
+    private CSSStyleSheetImpl parseStyleSheetParallel(final InputSource source, final String href,
+            final List<StyleSheetSplitter.Chunk> chunks) {
+        // the same setup as done by CSSOMHandler.startDocument()
+        final CSSStyleSheetImpl sheet = new CSSStyleSheetImpl();
+        setParentStyleSheet(sheet);
+        sheet.setHref(href);
+        sheet.setMediaText(source.getMedia());
+        sheet.setTitle(source.getTitle());
+        final CSSRuleListImpl rules = new CSSRuleListImpl();
+        sheet.setCssRules(rules);
+
+        final String css = source.getContent();
+        final List<ForkJoinTask<ParsedChunk>> tasks = new ArrayList<>(chunks.size());
+        for (final StyleSheetSplitter.Chunk chunk : chunks) {
+            tasks.add(parallelPool_.submit(() -> parseChunk(source, sheet, css, chunk)));
+        }
+
+        final CSSErrorHandler errorHandler = errorHandler_ == null ? new HandlerBase() : errorHandler_;
+        for (final ForkJoinTask<ParsedChunk> task : tasks) {
+            final ParsedChunk parsed = task.join();
+            for (final AbstractCSSRuleImpl rule : parsed.getRules().getRules()) {
+                rules.add(rule);
+            }
+            parsed.reportErrors(errorHandler);
+
+            // the sequential parser stops at this point
+            if (!parsed.isCompleted()) {
+                break;
+            }
+        }
+        return sheet;
+    }
+
+    private ParsedChunk parseChunk(final InputSource source, final CSSStyleSheetImpl sheet,
+            final String css, final StyleSheetSplitter.Chunk chunk) {
+        final CSSParser parser = acquireParser();
+        try {
+            final ParsedChunk parsed = new ParsedChunk();
+            parser.setErrorHandler(parsed);
+
+            final Stack<Object> nodeStack = new Stack<>();
+            nodeStack.push(sheet);
+            nodeStack.push(parsed.getRules());
+            parser.setDocumentHandler(new CSSOMHandler(nodeStack, parser));
+
+            final CharStream charStream = new CssStringCharStream(
+                    css.substring(chunk.getBegin(), chunk.getEnd()), chunk.getLine(), chunk.getColumn());
+            // parseStyleSheet(InputSource, CharStream) is package private and therefore not a member of CSS3Parser
+            parsed.setCompleted(((AbstractCSSParser) parser).parseStyleSheet(source, charStream));
+            return parsed;
+        }
+        finally {
+            releaseParser(parser);
+        }
+    }
+
+    /**
+     * Parses a SAC input source and passes every top-level rule to the given consumer
+     * as soon as the rule is complete. The rules are not collected; the memory
+     * required does not grow with the size of the style sheet.
+     *
+     * <p>Nested rules (e.g. the rules of an @media rule) are not reported separately, they
+     * are part of the enclosing rule. All rules share an empty parent style sheet.</p>
+     *
+     * @param source the SAC input source
+     * @param href the href
+     * @param ruleConsumer the consumer receiving the rules in document order
+     * @throws IOException if the underlying SAC parser throws an IOException
+     */
+    public void parseStyleSheet(final InputSource source, final String href,
+            final Consumer<AbstractCSSRuleImpl> ruleConsumer) throws IOException {
+        final CSSParser parser = acquireParser();
+        try {
+            final CSSOMHandler handler = new CSSOMStreamingHandler(parser, ruleConsumer);
+            handler.setHref(href);
+            parser.setDocumentHandler(handler);
+            parser.parseStyleSheet(source);
+        }
+        finally {
+            releaseParser(parser);
         }
-        return null;
     }
 
     /**
@@ -109,12 +392,16 @@ public CSSStyleDeclarationImpl parseStyleDeclaration(final String styleDecl) thr
      * @throws IOException if the underlying SAC parser throws an IOException
      */
     public void parseStyleDeclaration(final CSSStyleDeclarationImpl sd, final String styleDecl) throws IOException {
-        try (InputSource source = new InputSource(new StringReader(styleDecl))) {
+        final CSSParser parser = acquireParser();
+        try (InputSource source = new InputSource(styleDecl)) {
             final Stack<Object> nodeStack = new Stack<>();
             nodeStack.push(sd);
-            final CSSOMHandler handler = new CSSOMHandler(nodeStack);
-            parser_.setDocumentHandler(handler);
-            parser_.parseStyleDeclaration(source);
+            final CSSOMHandler handler = new CSSOMHandler(nodeStack, parser);
+            parser.setDocumentHandler(handler);
+            parser.parseStyleDeclaration(source);
+        }
+        finally {
+            releaseParser(parser);
         }
     }
 
@@ -126,15 +413,19 @@ public void parseStyleDeclaration(final CSSStyleDeclarationImpl sd, final String
      * @throws IOException if the underlying SAC parser throws an IOException
      */
     public CSSValueImpl parsePropertyValue(final String propertyValue) throws IOException {
-        try (InputSource source = new InputSource(new StringReader(propertyValue))) {
-            final CSSOMHandler handler = new CSSOMHandler();
-            parser_.setDocumentHandler(handler);
-            final LexicalUnit lu = parser_.parsePropertyValue(source);
+        final CSSParser parser = acquireParser();
+        try (InputSource source = new InputSource(propertyValue)) {
+            final CSSOMHandler handler = new CSSOMHandler(parser);
+            parser.setDocumentHandler(handler);
+            final LexicalUnit lu = parser.parsePropertyValue(source);
             if (null == lu) {
                 return null;
             }
             return new CSSValueImpl(lu);
         }
+        finally {
+            releaseParser(parser);
+        }
     }
 
     /**
@@ -145,12 +436,16 @@ public CSSValueImpl parsePropertyValue(final String propertyValue) throws IOExce
      * @throws IOException if the underlying SAC parser throws an IOException
      */
     public AbstractCSSRuleImpl parseRule(final String rule) throws IOException {
-        try (InputSource source = new InputSource(new StringReader(rule))) {
-            final CSSOMHandler handler = new CSSOMHandler();
-            parser_.setDocumentHandler(handler);
-            parser_.parseRule(source);
+        final CSSParser parser = acquireParser();
+        try (InputSource source = new InputSource(rule)) {
+            final CSSOMHandler handler = new CSSOMHandler(parser);
+            parser.setDocumentHandler(handler);
+            parser.parseRule(source);
             return (AbstractCSSRuleImpl) handler.getRoot();
         }
+        finally {
+            releaseParser(parser);
+        }
     }
 
     /**
@@ -161,10 +456,14 @@ public AbstractCSSRuleImpl parseRule(final String rule) throws IOException {
      * @throws IOException if the underlying SAC parser throws an IOException
      */
     public SelectorList parseSelectors(final String selectors) throws IOException {
-        try (InputSource source = new InputSource(new StringReader(selectors))) {
+        final CSSParser parser = acquireParser();
+        try (InputSource source = new InputSource(selectors)) {
             final HandlerBase handler = new HandlerBase();
-            parser_.setDocumentHandler(handler);
-            return parser_.parseSelectors(source);
+            parser.setDocumentHandler(handler);
+            return parser.parseSelectors(source);
+        }
+        finally {
+            releaseParser(parser);
         }
     }
 
@@ -176,14 +475,18 @@ public SelectorList parseSelectors(final String selectors) throws IOException {
      * @throws IOException if the underlying SAC parser throws an IOException
      */
     public MediaQueryList parseMedia(final String media) throws IOException {
-        try (InputSource source = new InputSource(new StringReader(media))) {
+        final CSSParser parser = acquireParser();
+        try (InputSource source = new InputSource(media)) {
             final HandlerBase handler = new HandlerBase();
-            parser_.setDocumentHandler(handler);
-            if (parser_ instanceof AbstractCSSParser) {
-                return ((AbstractCSSParser) parser_).parseMedia(source);
+            parser.setDocumentHandler(handler);
+            if (parser instanceof AbstractCSSParser) {
+                return ((AbstractCSSParser) parser).parseMedia(source);
             }
             return null;
         }
+        finally {
+            releaseParser(parser);
+        }
     }
 
     /**
@@ -204,6 +507,7 @@ class CSSOMHandler implements DocumentHandler {
 		private Stack<Object> nodeStack_;
 		private Object root_;
 		private String href_;
+		private final CSSParser cssParser_;
 
 		private String getHref() {
 			return href_;
@@ -213,12 +517,14 @@ private void setHref(final String href) {
 			href_ = href;
 		}
 
-		CSSOMHandler(final Stack<Object> nodeStack) {
+		CSSOMHandler(final Stack<Object> nodeStack, final CSSParser parser) {
 			nodeStack_ = nodeStack;
+			cssParser_ = parser;
 		}
 
-		CSSOMHandler() {
+		CSSOMHandler(final CSSParser parser) {
 			nodeStack_ = new Stack<>();
+			cssParser_ = parser;
 		}
 
 		Object getRoot() {
@@ -289,7 +595,7 @@ public void importStyle(final String uri, final MediaQueryList media, final Stri
 				final Locator locator) throws CSSException {
 			// Create the import rule and add it to the rule list
 			final CSSImportRuleImpl ir = new CSSImportRuleImpl(CSSOMParser.this.getParentStyleSheet(), getParentRule(),
-					uri, new MediaListImpl(media));
+					uri, createMediaList(media));
 			ir.setLocator(locator);
 			if (!nodeStack_.empty()) {
 				((CSSRuleListImpl) nodeStack_.peek()).add(ir);
@@ -302,7 +608,7 @@ public void importStyle(final String uri, final MediaQueryList media, final Stri
 				final Locator locator, final char quoting) throws CSSException {
 			// Create the import rule and add it to the rule list
 			final CSSImportRuleImpl ir = new CSSImportRuleImpl(CSSOMParser.this.getParentStyleSheet(), getParentRule(),
-					uri, new MediaListImpl(media), quoting);
+					uri, createMediaList(media), quoting);
 			ir.setLocator(locator);
 			if (!nodeStack_.empty()) {
 				((CSSRuleListImpl) nodeStack_.peek()).add(ir);
@@ -313,7 +619,7 @@ public void importStyle(final String uri, final MediaQueryList media, final Stri
 
 		@Override
 		public void startMedia(final MediaQueryList media, final Locator locator) throws CSSException {
-			final MediaListImpl ml = new MediaListImpl(media);
+			final MediaListImpl ml = createMediaList(media);
 			// Create the media rule and add it to the rule list
 			final CSSMediaRuleImpl mr = new CSSMediaRuleImpl(CSSOMParser.this.getParentStyleSheet(), getParentRule(),
 					ml);
@@ -418,8 +724,8 @@ public void property(final String name, final LexicalUnit value, final boolean i
 				property.setLocator(locator);
 				decl.addProperty(property);
 			} catch (final DOMException e) {
-				if (parser_ instanceof AbstractCSSParser) {
-					final AbstractCSSParser parser = (AbstractCSSParser) parser_;
+				if (cssParser_ instanceof AbstractCSSParser) {
+					final AbstractCSSParser parser = (AbstractCSSParser) cssParser_;
 					parser.getErrorHandler().error(parser.toCSSParseException(e));
 
 				}
@@ -437,4 +743,133 @@ private AbstractCSSRuleImpl getParentRule() {
 			return null;
 		}
 	}
+
+	/**
+	 * Handler passing the top-level rules to a consumer instead of adding them
+	 * to the style sheet.
+	 */
+	class CSSOMStreamingHandler extends CSSOMHandler {
+		private final Consumer<AbstractCSSRuleImpl> ruleConsumer_;
+
+		CSSOMStreamingHandler(final CSSParser parser, final Consumer<AbstractCSSRuleImpl> ruleConsumer) {
+			super(parser);
+			ruleConsumer_ = ruleConsumer;
+		}
+
+		/**
+		 * Called after a rule was completed; if we are back at the
+		 * style sheet level, the rule is passed to the consumer.
+		 */
+		private void ruleDone() {
+			// style sheet and rule list
+			if (super.nodeStack_.size() == 2) {
+				final CSSRuleListImpl rules = (CSSRuleListImpl) super.nodeStack_.peek();
+				while (rules.getLength() > 0) {
+					final AbstractCSSRuleImpl rule = rules.getRules().get(0);
+					rules.delete(0);
+					ruleConsumer_.accept(rule);
+				}
+			}
+		}
+
+		@Override
+		public void ignorableAtRule(final String atRule, final Locator locator) throws CSSException {
+			super.ignorableAtRule(atRule, locator);
+			ruleDone();
+		}
+
+		@Override
+		public void charset(final String characterEncoding, final Locator locator) throws CSSException {
+			super.charset(characterEncoding, locator);
+			ruleDone();
+		}
+
+		@Override
+		public void charset(final String characterEncoding, final Locator locator, final char quoting)
+				throws CSSException {
+			super.charset(characterEncoding, locator, quoting);
+			ruleDone();
+		}
+
+		@Override
+		public void importStyle(final String uri, final MediaQueryList media, final String defaultNamespaceURI,
+				final Locator locator) throws CSSException {
+			super.importStyle(uri, media, defaultNamespaceURI, locator);
+			ruleDone();
+		}
+
+		@Override
+		public void importStyle(final String uri, final MediaQueryList media, final String defaultNamespaceURI,
+				final Locator locator, final char quoting) throws CSSException {
+			super.importStyle(uri, media, defaultNamespaceURI, locator, quoting);
+			ruleDone();
+		}
+
+		@Override
+		public void endMedia(final MediaQueryList media) throws CSSException {
+			super.endMedia(media);
+			ruleDone();
+		}
+
+		@Override
+		public void endPage(final String name, final String pseudoPage) throws CSSException {
+			super.endPage(name, pseudoPage);
+			ruleDone();
+		}
+
+		@Override
+		public void endFontFace() throws CSSException {
+			super.endFontFace();
+			ruleDone();
+		}
+
+		@Override
+		public void endSelector(final SelectorList selectors) throws CSSException {
+			super.endSelector(selectors);
+			ruleDone();
+		}
+	}
+
+	/**
+	 * The rules of a parsed part of a style sheet; the errors are recorded
+	 * to be reported in document order.
+	 */
+	private static final class ParsedChunk implements CSSErrorHandler {
+		private final CSSRuleListImpl rules_ = new CSSRuleListImpl();
+		private final List<Consumer<CSSErrorHandler>> errors_ = new ArrayList<>();
+		private boolean completed_;
+
+		CSSRuleListImpl getRules() {
+			return rules_;
+		}
+
+		boolean isCompleted() {
+			return completed_;
+		}
+
+		void setCompleted(final boolean completed) {
+			completed_ = completed;
+		}
+
+		@Override
+		public void warning(final CSSParseException exception) throws CSSException {
+			errors_.add(h -> h.warning(exception));
+		}
+
+		@Override
+		public void error(final CSSParseException exception) throws CSSException {
+			errors_.add(h -> h.error(exception));
+		}
+
+		@Override
+		public void fatalError(final CSSParseException exception) throws CSSException {
+			errors_.add(h -> h.fatalError(exception));
+		}
+
+		void reportErrors(final CSSErrorHandler errorHandler) {
+			for (final Consumer<CSSErrorHandler> error : errors_) {
+				error.accept(errorHandler);
+			}
+		}
+	}
 }
@@ -167,4 +167,24 @@ public interface CSSParser {
      * @return accepted trur if the parser should accept ie star hack
      */
     boolean isIeStarHackAccepted();
+
+    /**
+     * Enables/disables the creation of {@link Locator}s for the parsed objects.
+     * Without locators all getLocator() calls are returning null and the
+     * line/column numbers of the input are not tracked; the errors are
+     * reported without position (-1) in this case.
+     * The default implementation ignores the call; locators are always created.
+     *
+     * @param createLocators the new state
+     */
+    default void setCreateLocators(final boolean createLocators) {
+        // locators are always created
+    }
+
+    /**
+     * @return true if locators are created for the parsed objects
+     */
+    default boolean isCreateLocators() {
+        return true;
+    }
 }
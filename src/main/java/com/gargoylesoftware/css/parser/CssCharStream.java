@@ -9,6 +9,11 @@
  * There is no processing of escaping in this class because the escaping is
  * part of the parser. CSS has some strange rules about that, so processing
  * unicode escapes in this class is too early.
+ *
+ * Line and column numbers are not stored per character; the stream only
+ * records the offsets of the line starts and calculates the numbers when
+ * requested. Tracking can be disabled completely by setTrackLineColumn(false),
+ * the line and column getters are returning -1 in this case.
  */
 @SuppressWarnings("all")
 public final class CssCharStream implements CharStream
@@ -23,14 +28,19 @@ public final class CssCharStream implements CharStream
   int tokenBegin;
   /** Position in buffer. */
   public int bufpos = -1;
-  private int bufline[];
-  private int bufcolumn[];
 
-  private int column = 0;
-  private int line = 1;
+  /** Offset (from the start of the input) of the char at bufpos. */
+  private int offset = -1;
+  /** Offset of the char at tokenBegin. */
+  private int tokenBeginOffset;
 
-  private boolean prevCharIsCR = false;
-  private boolean prevCharIsLF = false;
+  private final LineIndex lineIndex;
+
+  // support for adjustBeginLineColumn()
+  private int adjustOffset = Integer.MAX_VALUE;
+  private int adjustLine;
+  private int adjustLineDelta;
+  private int adjustColumnDelta;
 
   private java.io.Reader inputStream;
 
@@ -44,8 +54,6 @@ public final class CssCharStream implements CharStream
   private void ExpandBuff(boolean wrapAround)
   {
     char[] newbuffer = new char[bufsize + BUFFER_SIZE];
-    int newbufline[] = new int[bufsize + BUFFER_SIZE];
-    int newbufcolumn[] = new int[bufsize + BUFFER_SIZE];
 
     try
     {
@@ -55,14 +63,6 @@ private void ExpandBuff(boolean wrapAround)
         System.arraycopy(buffer, 0, newbuffer, bufsize - tokenBegin, bufpos);
         buffer = newbuffer;
 
-        System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
-        System.arraycopy(bufline, 0, newbufline, bufsize - tokenBegin, bufpos);
-        bufline = newbufline;
-
-        System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
-        System.arraycopy(bufcolumn, 0, newbufcolumn, bufsize - tokenBegin, bufpos);
-        bufcolumn = newbufcolumn;
-
         maxNextCharInd = (bufpos += (bufsize - tokenBegin));
       }
       else
@@ -70,12 +70,6 @@ private void ExpandBuff(boolean wrapAround)
         System.arraycopy(buffer, tokenBegin, newbuffer, 0, bufsize - tokenBegin);
         buffer = newbuffer;
 
-        System.arraycopy(bufline, tokenBegin, newbufline, 0, bufsize - tokenBegin);
-        bufline = newbufline;
-
-        System.arraycopy(bufcolumn, tokenBegin, newbufcolumn, 0, bufsize - tokenBegin);
-        bufcolumn = newbufcolumn;
-
         maxNextCharInd = (bufpos -= tokenBegin);
       }
     }
@@ -128,7 +122,10 @@ else if ((tokenBegin - available) < BUFFER_SIZE)
       --bufpos;
       backup(0);
       if (tokenBegin == -1)
+      {
         tokenBegin = bufpos;
+        tokenBeginOffset = offset;
+      }
       throw e;
     }
   }
@@ -140,50 +137,11 @@ public final char BeginToken() throws java.io.IOException
     tokenBegin = -1;
     char c = readChar();
     tokenBegin = bufpos;
+    tokenBeginOffset = offset;
 
     return c;
   }
 
-  private final void UpdateLineColumn(char c)
-  {
-    column++;
-
-    if (prevCharIsLF)
-    {
-      prevCharIsLF = false;
-      line += (column = 1);
-    }
-    else if (prevCharIsCR)
-    {
-      prevCharIsCR = false;
-      if (c == '\n')
-      {
-        prevCharIsLF = true;
-      }
-      else
-        line += (column = 1);
-    }
-
-    switch (c)
-    {
-      case '\r' :
-        prevCharIsCR = true;
-        break;
-      case '\n' :
-        prevCharIsLF = true;
-        break;
-//        case '\t' :
-//            column--;
-//            column += (8 - (column & 07));
-//            break;
-      default :
-        break;
-    }
-
-    bufline[bufpos] = line;
-    bufcolumn[bufpos] = column;
-  }
-
   /** Read a character. */
   @Override
 public final char readChar() throws java.io.IOException
@@ -195,6 +153,7 @@ public final char readChar() throws java.io.IOException
       if (++bufpos == bufsize)
         bufpos = 0;
 
+      ++offset;
       return buffer[bufpos];
     }
 
@@ -203,7 +162,9 @@ public final char readChar() throws java.io.IOException
 
     char c = buffer[bufpos];
 
-    UpdateLineColumn(c);
+    ++offset;
+    if (trackLineColumn)
+      lineIndex.add(c);
     return c;
   }
 
@@ -214,7 +175,7 @@ public final char readChar() throws java.io.IOException
    * @see #getEndColumn
    */
   public final int getColumn() {
-    return bufcolumn[bufpos];
+    return getEndColumn();
   }
 
   @Override
@@ -224,37 +185,60 @@ public final int getColumn() {
    * @see #getEndLine
    */
   public final int getLine() {
-    return bufline[bufpos];
+    return getEndLine();
   }
 
   /** Get token end column number. */
   @Override
 public final int getEndColumn() {
-    return bufcolumn[bufpos];
+    return columnAt(offset);
   }
 
   /** Get token end line number. */
   @Override
 public final int getEndLine() {
-    return bufline[bufpos];
+    return lineAt(offset);
   }
 
   /** Get token beginning column number. */
   @Override
 public final int getBeginColumn() {
-    return bufcolumn[tokenBegin];
+    return columnAt(tokenBeginOffset);
   }
 
   /** Get token beginning line number. */
   @Override
 public final int getBeginLine() {
-    return bufline[tokenBegin];
+    return lineAt(tokenBeginOffset);
+  }
+
+  private int lineAt(int off)
+  {
+    if (!trackLineColumn)
+      return -1;
+
+    int l = lineIndex.getLine(off);
+    if (off >= adjustOffset)
+      l += adjustLineDelta;
+    return l;
+  }
+
+  private int columnAt(int off)
+  {
+    if (!trackLineColumn)
+      return -1;
+
+    int c = lineIndex.getColumn(off);
+    if (off >= adjustOffset && lineIndex.getLine(off) == adjustLine)
+      c += adjustColumnDelta;
+    return c;
   }
 
   /** Backup a number of characters. */
   @Override
 public final void backup(int amount) {
     inBuf += amount;
+    offset -= amount;
     if ((bufpos -= amount) < 0)
       bufpos += bufsize;
   }
@@ -269,13 +253,10 @@ public final void backup(int amount) {
   public CssCharStream(java.io.Reader dstream, int startline, int startcolumn, int buffersize)
   {
     inputStream = dstream;
-    line = startline;
-    column = startcolumn - 1;
+    lineIndex = new LineIndex(startline, startcolumn);
 
     available = bufsize = buffersize;
     buffer = new char[buffersize];
-    bufline = new int[buffersize];
-    bufcolumn = new int[buffersize];
   }
 
   /**
@@ -294,8 +275,17 @@ public CssCharStream(java.io.Reader dstream, int startline, int startcolumn)
 public final String GetImage()
   {
     if (bufpos >= tokenBegin)
-      return new String(buffer, tokenBegin, bufpos - tokenBegin + 1);
-    return new String(buffer, tokenBegin, bufsize - tokenBegin) + new String(buffer, 0, bufpos + 1);
+    {
+      final int length = bufpos - tokenBegin + 1;
+      final String whitespace = ParserUtils.whitespaceImage(buffer, tokenBegin, length);
+      if (whitespace != null)
+        return whitespace;
+      return new String(buffer, tokenBegin, length);
+    }
+    return new StringBuilder(bufsize - tokenBegin + bufpos + 1)
+                .append(buffer, tokenBegin, bufsize - tokenBegin)
+                .append(buffer, 0, bufpos + 1)
+                .toString();
   }
 
   /** Get the suffix. */
@@ -320,57 +310,24 @@ public final char[] GetSuffix(int len)
 public void Done()
   {
     buffer = null;
-    bufline = null;
-    bufcolumn = null;
   }
 
   /**
    * Method to adjust line and column numbers for the start of a token.
+   * All following lines are shifted by the same number of lines, the columns
+   * are shifted until the end of the line the token starts in.
    * @param newLine the new line
    * @param newCol the new column
    */
   public void adjustBeginLineColumn(int newLine, int newCol)
   {
-    int start = tokenBegin;
-    int len;
-
-    if (bufpos >= tokenBegin)
-    {
-      len = bufpos - tokenBegin + inBuf + 1;
-    }
-    else
-    {
-      len = bufsize - tokenBegin + bufpos + 1 + inBuf;
-    }
-
-    int i = 0, j = 0, k = 0;
-    int nextColDiff = 0, columnDiff = 0;
-
-    while (i < len && bufline[j = start % bufsize] == bufline[k = ++start % bufsize])
-    {
-      bufline[j] = newLine;
-      nextColDiff = columnDiff + bufcolumn[k] - bufcolumn[j];
-      bufcolumn[j] = newCol + columnDiff;
-      columnDiff = nextColDiff;
-      i++;
-    }
-
-    if (i < len)
-    {
-      bufline[j] = newLine++;
-      bufcolumn[j] = newCol + columnDiff;
-
-      while (i++ < len)
-      {
-        if (bufline[j = start % bufsize] != bufline[++start % bufsize])
-          bufline[j] = newLine++;
-        else
-          bufline[j] = newLine;
-      }
-    }
+    if (!trackLineColumn)
+      return;
 
-    line = bufline[j];
-    column = bufcolumn[j];
+    adjustOffset = tokenBeginOffset;
+    adjustLine = lineIndex.getLine(tokenBeginOffset);
+    adjustLineDelta = newLine - adjustLine;
+    adjustColumnDelta = newCol - lineIndex.getColumn(tokenBeginOffset);
   }
 
   @Override
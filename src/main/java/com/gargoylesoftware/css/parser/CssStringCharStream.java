@@ -0,0 +1,256 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.io.IOException;
+
+import com.gargoylesoftware.css.parser.javacc.CharStream;
+
+/**
+ * Implementation of {@link CharStream} working directly on a String or a char array.
+ * In contrast to {@link CssCharStream} there is no reader, no ring buffer and no
+ * copying of the input; token images are created from the source on request and
+ * the line/column numbers are calculated from a small line index.
+ * If line/column tracking is disabled the line and column getters are returning -1.
+ *
+ * @author Ronald Brill
+ */
+public final class CssStringCharStream implements CharStream {
+
+    private static final IOException END_OF_STREAM = new EndOfStreamException();
+
+    private final String string_;
+    private final char[] chars_;
+    private final int length_;
+
+    private int pos_ = -1;
+    private int tokenBegin_;
+
+    private final LineIndex lineIndex_;
+
+    private int tabSize_ = 1;
+    private boolean trackLineColumn_ = true;
+
+    /**
+     * Ctor.
+     * @param string the string to read from
+     */
+    public CssStringCharStream(final String string) {
+        this(string, 1, 1);
+    }
+
+    /**
+     * Ctor.
+     * @param string the string to read from
+     * @param startLine the line number of the first character
+     * @param startColumn the column number of the first character
+     */
+    public CssStringCharStream(final String string, final int startLine, final int startColumn) {
+        string_ = string;
+        chars_ = null;
+        length_ = string.length();
+        lineIndex_ = new LineIndex(startLine, startColumn);
+    }
+
+    /**
+     * Ctor. The array is used as is, changing the content while parsing
+     * results in undefined behavior.
+     * @param chars the characters to read from
+     * @param length the number of characters to read
+     */
+    public CssStringCharStream(final char[] chars, final int length) {
+        this(chars, length, 1, 1);
+    }
+
+    /**
+     * Ctor. The array is used as is, changing the content while parsing
+     * results in undefined behavior.
+     * @param chars the characters to read from
+     * @param length the number of characters to read
+     * @param startLine the line number of the first character
+     * @param startColumn the column number of the first character
+     */
+    public CssStringCharStream(final char[] chars, final int length, final int startLine, final int startColumn) {
+        string_ = null;
+        chars_ = chars;
+        length_ = length;
+        lineIndex_ = new LineIndex(startLine, startColumn);
+    }
+
+    private char charAt(final int pos) {
+        if (chars_ != null) {
+            return chars_[pos];
+        }
+        return string_.charAt(pos);
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        if (pos_ + 1 >= length_) {
+            // same behavior as the reader based streams, the position stays at the last char
+            if (tokenBegin_ == -1) {
+                tokenBegin_ = pos_;
+            }
+            throw END_OF_STREAM;
+        }
+        return charAt(++pos_);
+    }
+
+    @Override
+    public char BeginToken() throws IOException {
+        tokenBegin_ = -1;
+        final char c = readChar();
+        tokenBegin_ = pos_;
+        return c;
+    }
+
+    @Override
+    public void backup(final int amount) {
+        pos_ -= amount;
+    }
+
+    @Override
+    public String GetImage() {
+        final int length = pos_ - tokenBegin_ + 1;
+        if (chars_ != null) {
+            final String whitespace = ParserUtils.whitespaceImage(chars_, tokenBegin_, length);
+            if (whitespace != null) {
+                return whitespace;
+            }
+            return new String(chars_, tokenBegin_, length);
+        }
+        final String whitespace = ParserUtils.whitespaceImage(string_, tokenBegin_, length);
+        if (whitespace != null) {
+            return whitespace;
+        }
+        return string_.substring(tokenBegin_, pos_ + 1);
+    }
+
+    @Override
+    public char[] GetSuffix(final int len) {
+        final char[] ret = new char[len];
+        if (chars_ != null) {
+            System.arraycopy(chars_, pos_ - len + 1, ret, 0, len);
+        }
+        else {
+            string_.getChars(pos_ - len + 1, pos_ + 1, ret, 0);
+        }
+        return ret;
+    }
+
+    @Override
+    public void Done() {
+        // nothing to release
+    }
+
+    /**
+     * @deprecated
+     * @see #getEndColumn
+     */
+    @Override
+    @Deprecated
+    public int getColumn() {
+        return getEndColumn();
+    }
+
+    /**
+     * @deprecated
+     * @see #getEndLine
+     */
+    @Override
+    @Deprecated
+    public int getLine() {
+        return getEndLine();
+    }
+
+    @Override
+    public int getEndColumn() {
+        return columnAt(pos_);
+    }
+
+    @Override
+    public int getEndLine() {
+        return lineAt(pos_);
+    }
+
+    @Override
+    public int getBeginColumn() {
+        return columnAt(tokenBegin_);
+    }
+
+    @Override
+    public int getBeginLine() {
+        return lineAt(tokenBegin_);
+    }
+
+    private int lineAt(final int pos) {
+        if (!trackLineColumn_) {
+            return -1;
+        }
+        updateLineIndex(pos);
+        return lineIndex_.getLine(pos);
+    }
+
+    private int columnAt(final int pos) {
+        if (!trackLineColumn_) {
+            return -1;
+        }
+        updateLineIndex(pos);
+        return lineIndex_.getColumn(pos);
+    }
+
+    private void updateLineIndex(final int pos) {
+        if (pos >= lineIndex_.getNextOffset()) {
+            if (chars_ != null) {
+                lineIndex_.addUpTo(chars_, pos);
+            }
+            else {
+                lineIndex_.addUpTo(string_, pos);
+            }
+        }
+    }
+
+    @Override
+    public void setTabSize(final int i) {
+        tabSize_ = i;
+    }
+
+    @Override
+    public int getTabSize() {
+        return tabSize_;
+    }
+
+    @Override
+    public boolean getTrackLineColumn() {
+        return trackLineColumn_;
+    }
+
+    @Override
+    public void setTrackLineColumn(final boolean trackLineColumn) {
+        trackLineColumn_ = trackLineColumn;
+    }
+
+    /**
+     * Signals the end of the input to the token manager. The token manager
+     * does not look at the exception, therefore a shared instance without
+     * stack trace is used.
+     */
+    private static final class EndOfStreamException extends IOException {
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
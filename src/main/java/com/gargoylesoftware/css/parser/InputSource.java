@@ -17,6 +17,7 @@
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.Reader;
+import java.io.StringReader;
 
 /**
  * The input supported by the parser.
@@ -26,6 +27,7 @@
 public class InputSource implements Closeable {
     private String uri_;
     private Reader reader_;
+    private String content_;
     private String media_;
     private String title_;
 
@@ -38,12 +40,32 @@ public InputSource(final Reader reader) {
     }
 
     /**
-     * @return the reader if defined
+     * Create a new input source backed by a string.
+     * The parser reads directly from the string without any copying.
+     * @param content the css content
+     */
+    public InputSource(final String content) {
+        content_ = content;
+    }
+
+    /**
+     * @return the reader if defined; for string based input sources
+     * a reader for the content is created
      */
     public Reader getReader() {
+        if (reader_ == null && content_ != null) {
+            reader_ = new StringReader(content_);
+        }
         return reader_;
     }
 
+    /**
+     * @return the content if this input source was created from a string
+     */
+    public String getContent() {
+        return content_;
+    }
+
     /**
      * @return the uri if set
      */
@@ -91,6 +113,8 @@ public void setTitle(final String title) {
 
     @Override
     public void close() throws IOException {
-        reader_.close();
+        if (reader_ != null) {
+            reader_.close();
+        }
     }
 }
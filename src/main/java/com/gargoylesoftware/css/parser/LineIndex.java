@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+/**
+ * Compact index of the line start offsets of a character stream.
+ * The line and column numbers are calculated on demand from the offset of
+ * a character; this replaces the per character line/column arrays used
+ * by the generated javacc streams.
+ *
+ * <p>The numbering follows the rules of the javacc streams: every character
+ * counts as one column, '\r', '\n' and '\r\n' are line breaks and the line
+ * break itself is the last character of the line it terminates.</p>
+ *
+ * @author Ronald Brill
+ */
+final class LineIndex {
+
+    private final int startLine_;
+    private final int startColumn_;
+
+    private int[] lineStarts_;
+    private int lineCount_;
+
+    private int nextOffset_;
+    private char prevChar_;
+
+    private int cursor_;
+
+    /**
+     * Ctor.
+     * @param startLine the line of the first character
+     * @param startColumn the column of the first character
+     */
+    LineIndex(final int startLine, final int startColumn) {
+        startLine_ = startLine;
+        startColumn_ = startColumn;
+        lineStarts_ = new int[16];
+        cursor_ = -1;
+    }
+
+    /**
+     * @return the offset of the next character to be added
+     */
+    int getNextOffset() {
+        return nextOffset_;
+    }
+
+    /**
+     * Records the next character of the stream; the characters have to be
+     * added in order.
+     * @param c the character
+     */
+    void add(final char c) {
+        if (nextOffset_ > 0
+                && (prevChar_ == '\n' || (prevChar_ == '\r' && c != '\n'))) {
+            if (lineCount_ == lineStarts_.length) {
+                final int[] newLineStarts = new int[lineCount_ * 2];
+                System.arraycopy(lineStarts_, 0, newLineStarts, 0, lineCount_);
+                lineStarts_ = newLineStarts;
+            }
+            lineStarts_[lineCount_++] = nextOffset_;
+        }
+        prevChar_ = c;
+        nextOffset_++;
+    }
+
+    /**
+     * Records the characters from the array up to (including) the given offset.
+     * @param chars the characters of the stream
+     * @param offset the last offset to add
+     */
+    void addUpTo(final char[] chars, final int offset) {
+        for (int i = nextOffset_; i <= offset; i++) {
+            add(chars[i]);
+        }
+    }
+
+    /**
+     * Records the characters from the string up to (including) the given offset.
+     * @param string the characters of the stream
+     * @param offset the last offset to add
+     */
+    void addUpTo(final String string, final int offset) {
+        for (int i = nextOffset_; i <= offset; i++) {
+            add(string.charAt(i));
+        }
+    }
+
+    /**
+     * @param offset the offset of an already added character
+     * @return the line of the character
+     */
+    int getLine(final int offset) {
+        if (offset < 0) {
+            return 0;
+        }
+        return startLine_ + lineIndexOf(offset) + 1;
+    }
+
+    /**
+     * @param offset the offset of an already added character
+     * @return the column of the character
+     */
+    int getColumn(final int offset) {
+        if (offset < 0) {
+            return 0;
+        }
+        final int idx = lineIndexOf(offset);
+        if (idx < 0) {
+            return startColumn_ + offset;
+        }
+        return offset - lineStarts_[idx] + 1;
+    }
+
+    /**
+     * @return the index of the last line start less or equal to the offset
+     * or -1 if the offset is part of the first line
+     */
+    private int lineIndexOf(final int offset) {
+        // most lookups are for the current or the next line
+        final int cursor = cursor_;
+        if ((cursor < 0 || lineStarts_[cursor] <= offset)
+                && (cursor + 1 >= lineCount_ || offset < lineStarts_[cursor + 1])) {
+            return cursor;
+        }
+
+        int low = 0;
+        int high = lineCount_ - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (lineStarts_[mid] <= offset) {
+                low = mid + 1;
+            }
+            else {
+                high = mid - 1;
+            }
+        }
+        cursor_ = high;
+        return high;
+    }
+}
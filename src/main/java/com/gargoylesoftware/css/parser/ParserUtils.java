@@ -21,9 +21,126 @@
  */
 public final class ParserUtils {
 
+    private static final int MAX_WHITESPACE_RUN = 32;
+    private static final String[] WHITESPACE_PREFIXES = {"", "\n", "\r\n"};
+    private static final char[] WHITESPACE_RUN_CHARS = {' ', '\t'};
+
+    /**
+     * The typical white space images (an optional line break followed by a
+     * run of blanks or tabs); indexed by prefix, run char and run length.
+     */
+    private static final String[][][] WHITESPACE_IMAGES;
+
+    static {
+        WHITESPACE_IMAGES = new String[WHITESPACE_PREFIXES.length][WHITESPACE_RUN_CHARS.length][];
+        for (int p = 0; p < WHITESPACE_PREFIXES.length; p++) {
+            for (int c = 0; c < WHITESPACE_RUN_CHARS.length; c++) {
+                final String[] images = new String[MAX_WHITESPACE_RUN + 1];
+                final StringBuilder sb = new StringBuilder(WHITESPACE_PREFIXES[p]);
+                for (int n = 0; n <= MAX_WHITESPACE_RUN; n++) {
+                    images[n] = sb.toString();
+                    sb.append(WHITESPACE_RUN_CHARS[c]);
+                }
+                WHITESPACE_IMAGES[p][c] = images;
+            }
+        }
+    }
+
     private ParserUtils() {
     }
 
+    /**
+     * Returns a shared string for the typical white space images (an optional line
+     * break followed by a run of blanks or tabs); this saves the creation of a string
+     * for most of the white space tokens.
+     *
+     * @param chars the buffer
+     * @param start the start of the image
+     * @param length the length of the image
+     * @return the shared string or null if there is none for this image
+     */
+    public static String whitespaceImage(final char[] chars, final int start, final int length) {
+        if (length > MAX_WHITESPACE_RUN + 2 || !isWhitespace(chars[start])) {
+            return null;
+        }
+
+        int pos = start;
+        final int end = start + length;
+        int prefix = 0;
+        if (chars[pos] == '\n') {
+            prefix = 1;
+            pos++;
+        }
+        else if (chars[pos] == '\r' && length > 1 && chars[pos + 1] == '\n') {
+            prefix = 2;
+            pos += 2;
+        }
+
+        final char c = pos < end ? chars[pos] : ' ';
+        final int runStart = pos;
+        while (pos < end && chars[pos] == c) {
+            pos++;
+        }
+        if (pos != end) {
+            return null;
+        }
+        return whitespaceImage(prefix, c, pos - runStart);
+    }
+
+    /**
+     * Returns a shared string for the typical white space images.
+     *
+     * @param string the string
+     * @param start the start of the image
+     * @param length the length of the image
+     * @return the shared string or null if there is none for this image
+     * @see #whitespaceImage(char[], int, int)
+     */
+    public static String whitespaceImage(final String string, final int start, final int length) {
+        if (length > MAX_WHITESPACE_RUN + 2 || !isWhitespace(string.charAt(start))) {
+            return null;
+        }
+
+        int pos = start;
+        final int end = start + length;
+        int prefix = 0;
+        if (string.charAt(pos) == '\n') {
+            prefix = 1;
+            pos++;
+        }
+        else if (string.charAt(pos) == '\r' && length > 1 && string.charAt(pos + 1) == '\n') {
+            prefix = 2;
+            pos += 2;
+        }
+
+        final char c = pos < end ? string.charAt(pos) : ' ';
+        final int runStart = pos;
+        while (pos < end && string.charAt(pos) == c) {
+            pos++;
+        }
+        if (pos != end) {
+            return null;
+        }
+        return whitespaceImage(prefix, c, pos - runStart);
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\n' || c == '\r' || c == '\t';
+    }
+
+    private static String whitespaceImage(final int prefix, final char runChar, final int runLength) {
+        if (runLength > MAX_WHITESPACE_RUN) {
+            return null;
+        }
+        if (runChar == ' ') {
+            return WHITESPACE_IMAGES[prefix][0][runLength];
+        }
+        if (runChar == '\t') {
+            return WHITESPACE_IMAGES[prefix][1][runLength];
+        }
+        return null;
+    }
+
     /**
      * Remove the given number of chars from start and end.
      * There is no parameter checking, the caller has to take care of this.
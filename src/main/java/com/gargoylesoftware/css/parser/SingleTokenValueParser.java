@@ -0,0 +1,284 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.util.Locale;
+
+import com.gargoylesoftware.css.parser.LexicalUnit.LexicalUnitType;
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserConstants;
+import com.gargoylesoftware.css.parser.javacc.Token;
+
+/**
+ * Hand written parser for property values consisting of a single token
+ * like '10px', 'red', '#fff', '0', '50%' or 'auto'.
+ *
+ * <p>The result is the same the <code>expr()</code> production of the grammar
+ * produces for these values. Everything this class is not sure about
+ * (escapes, comments, functions, keywords, more than one term...) is
+ * rejected; the caller has to fall back to the generated parser in this case.</p>
+ *
+ * @author Ronald Brill
+ */
+final class SingleTokenValueParser {
+
+    private SingleTokenValueParser() {
+    }
+
+    /**
+     * Parses the given property value.
+     * @param parser the parser used to create the lexical unit
+     * @param value the value
+     * @return the lexical unit or null if the value is not a simple single token value
+     */
+    static LexicalUnit parse(final AbstractCSSParser parser, final String value) {
+        final int end = trimmedLength(value);
+        if (end == 0) {
+            return null;
+        }
+
+        final char c = value.charAt(0);
+        if (c == '-' || c == '+') {
+            if (end > 1 && isNumberStart(value, 1, end)) {
+                return number(parser, value, 1, end, c);
+            }
+            if (c == '-') {
+                return ident(parser, value, end);
+            }
+            return null;
+        }
+        if (isNumberStart(value, 0, end)) {
+            return number(parser, value, 0, end, ' ');
+        }
+        if (c == '#') {
+            return hexColor(parser, value, end);
+        }
+        if (c == '"' || c == '\'') {
+            return string(parser, value, end, c);
+        }
+        return ident(parser, value, end);
+    }
+
+    private static LexicalUnit number(final AbstractCSSParser parser, final String value,
+            final int start, final int end, final char op) {
+        int pos = start;
+        while (pos < end && isDigit(value.charAt(pos))) {
+            pos++;
+        }
+        if (pos < end && value.charAt(pos) == '.') {
+            pos++;
+            if (pos == end || !isDigit(value.charAt(pos))) {
+                return null;
+            }
+            while (pos < end && isDigit(value.charAt(pos))) {
+                pos++;
+            }
+        }
+        final String num = value.substring(start, pos);
+
+        final LexicalUnit lu;
+        if (pos == end) {
+            try {
+                lu = LexicalUnitImpl.createNumber(null, parser.intValue(op, num));
+            }
+            catch (final NumberFormatException e) {
+                return locate(parser, LexicalUnitImpl.createNumber(null, parser.doubleValue(op, num)));
+            }
+            return locate(parser, lu);
+        }
+
+        if (value.charAt(pos) == '%') {
+            if (pos + 1 != end) {
+                return null;
+            }
+            return locate(parser, LexicalUnitImpl.createPercentage(null, parser.doubleValue(op, num)));
+        }
+
+        for (int i = pos; i < end; i++) {
+            if (!isAsciiLetter(value.charAt(i))) {
+                return null;
+            }
+        }
+        final String unit = value.substring(pos, end);
+        final double d = parser.doubleValue(op, num);
+        switch (unit.toLowerCase(Locale.ROOT)) {
+            case "px":
+                lu = LexicalUnitImpl.createPixel(null, d);
+                break;
+            case "cm":
+                lu = LexicalUnitImpl.createCentimeter(null, d);
+                break;
+            case "mm":
+                lu = LexicalUnitImpl.createMillimeter(null, d);
+                break;
+            case "in":
+                lu = LexicalUnitImpl.createInch(null, d);
+                break;
+            case "pt":
+                lu = LexicalUnitImpl.createPoint(null, d);
+                break;
+            case "pc":
+                lu = LexicalUnitImpl.createPica(null, d);
+                break;
+            case "em":
+                lu = LexicalUnitImpl.createEm(null, d);
+                break;
+            case "rem":
+                lu = LexicalUnitImpl.createRem(null, d);
+                break;
+            case "ex":
+                lu = LexicalUnitImpl.createEx(null, d);
+                break;
+            case "deg":
+                lu = LexicalUnitImpl.createDegree(null, d);
+                break;
+            case "rad":
+                lu = LexicalUnitImpl.createRadian(null, d);
+                break;
+            case "grad":
+                lu = LexicalUnitImpl.createGradian(null, d);
+                break;
+            case "ms":
+                lu = LexicalUnitImpl.createMillisecond(null, d);
+                break;
+            case "s":
+                lu = LexicalUnitImpl.createSecond(null, d);
+                break;
+            case "hz":
+                lu = LexicalUnitImpl.createHertz(null, d);
+                break;
+            case "khz":
+                lu = LexicalUnitImpl.createKiloHertz(null, d);
+                break;
+            case "dpi":
+                lu = LexicalUnitImpl.createDimension(null, d, "dpi");
+                break;
+            case "dpcm":
+                lu = LexicalUnitImpl.createDimension(null, d, "dpcm");
+                break;
+            default:
+                lu = LexicalUnitImpl.createDimension(null, d, unit);
+                break;
+        }
+        return locate(parser, lu);
+    }
+
+    private static LexicalUnit hexColor(final AbstractCSSParser parser, final String value, final int end) {
+        final int len = end - 1;
+        if (len != 3 && len != 6) {
+            return null;
+        }
+        for (int i = 1; i < end; i++) {
+            if (!isHexDigit(value.charAt(i))) {
+                return null;
+            }
+        }
+        final Token t = new Token(CSS3ParserConstants.HASH, value.substring(0, end));
+        t.beginLine = 1;
+        t.beginColumn = 1;
+        return locate(parser, parser.hexcolorInternal(null, t));
+    }
+
+    private static LexicalUnit string(final AbstractCSSParser parser, final String value,
+            final int end, final char quote) {
+        if (end < 2 || value.charAt(end - 1) != quote) {
+            return null;
+        }
+        for (int i = 1; i < end - 1; i++) {
+            final char c = value.charAt(i);
+            if (c == quote || c == '\\' || c == '\n' || c == '\r' || c == '\f') {
+                return null;
+            }
+        }
+        return locate(parser, LexicalUnitImpl.createString(null, value.substring(1, end - 1)));
+    }
+
+    private static LexicalUnit ident(final AbstractCSSParser parser, final String value, final int end) {
+        int pos = 0;
+        if (value.charAt(0) == '-') {
+            pos++;
+        }
+        if (pos == end || !isNameStart(value.charAt(pos))) {
+            return null;
+        }
+        for (pos++; pos < end; pos++) {
+            if (!isNameChar(value.charAt(pos))) {
+                return null;
+            }
+        }
+
+        final String ident = value.substring(0, end);
+        if ("inherit".equalsIgnoreCase(ident)) {
+            return locate(parser, new LexicalUnitImpl(null, LexicalUnitType.INHERIT, ident));
+        }
+        // these are separate tokens not accepted by the term production
+        if ("and".equalsIgnoreCase(ident)
+                || "not".equalsIgnoreCase(ident)
+                || "only".equalsIgnoreCase(ident)) {
+            return null;
+        }
+        return locate(parser, LexicalUnitImpl.createIdent(null, ident));
+    }
+
+    private static LexicalUnit locate(final AbstractCSSParser parser, final LexicalUnit lu) {
+        if (lu instanceof LexicalUnitImpl) {
+            final Token t = new Token();
+            t.beginLine = 1;
+            t.beginColumn = 1;
+            ((LexicalUnitImpl) lu).setLocator(parser.createLocator(t));
+        }
+        return lu;
+    }
+
+    /**
+     * @return the length of the value without trailing white space
+     */
+    private static int trimmedLength(final String value) {
+        int end = value.length();
+        while (end > 0 && isWhitespace(value.charAt(end - 1))) {
+            end--;
+        }
+        return end;
+    }
+
+    private static boolean isNumberStart(final String value, final int pos, final int end) {
+        final char c = value.charAt(pos);
+        return isDigit(c)
+                || (c == '.' && pos + 1 < end && isDigit(value.charAt(pos + 1)));
+    }
+
+    private static boolean isWhitespace(final char c) {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f';
+    }
+
+    private static boolean isDigit(final char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHexDigit(final char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
+    private static boolean isAsciiLetter(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isNameStart(final char c) {
+        return isAsciiLetter(c) || c == '_' || c >= '\u0080';
+    }
+
+    private static boolean isNameChar(final char c) {
+        return isNameStart(c) || isDigit(c) || c == '-';
+    }
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Splits the text of a style sheet at top-level rule boundaries into chunks
+ * that can be parsed independently.
+ *
+ * <p>The scan knows about comments, strings, escapes and unquoted urls. A chunk
+ * always ends with a '}' closing a top-level block; at this point the parser is
+ * in the same state as at the start of the style sheet (error recovery never skips
+ * over such a brace). The first chunk contains all top-level @charset and
+ * @import rules because the handling of these depends on the rules before.</p>
+ *
+ * <p>If the style sheet is not well formed (unbalanced braces, unterminated
+ * comments or strings...) the splitter gives up and the sheet has to be parsed
+ * in one piece.</p>
+ *
+ * @author Ronald Brill
+ */
+final class StyleSheetSplitter {
+
+    /**
+     * A part of the style sheet.
+     */
+    static final class Chunk {
+        private final int begin_;
+        private final int end_;
+        private final int line_;
+        private final int column_;
+
+        Chunk(final int begin, final int end, final int line, final int column) {
+            begin_ = begin;
+            end_ = end;
+            line_ = line;
+            column_ = column;
+        }
+
+        /**
+         * @return the offset of the first char
+         */
+        int getBegin() {
+            return begin_;
+        }
+
+        /**
+         * @return the offset after the last char
+         */
+        int getEnd() {
+            return end_;
+        }
+
+        /**
+         * @return the line of the first char
+         */
+        int getLine() {
+            return line_;
+        }
+
+        /**
+         * @return the column of the first char
+         */
+        int getColumn() {
+            return column_;
+        }
+    }
+
+    private StyleSheetSplitter() {
+    }
+
+    /**
+     * Splits the given style sheet.
+     *
+     * @param css the style sheet text
+     * @param chunkSize the minimal size of a chunk
+     * @return the chunks in document order or null if the style sheet can't be
+     *         split into more than one chunk
+     */
+    static List<Chunk> split(final String css, final int chunkSize) {
+        final int length = css.length();
+
+        // candidates for the chunk borders: offset, line and column after every top-level block
+        int[] borders = new int[64];
+        int borderCount = 0;
+        int line = 1;
+        int lineStart = 0;
+        int depth = 0;
+
+        // the first chunk has to include all of these rules
+        int firstChunkMinEnd = 0;
+
+        int i = 0;
+        while (i < length) {
+            final char c = css.charAt(i);
+            switch (c) {
+                case '\n':
+                    line++;
+                    lineStart = i + 1;
+                    i++;
+                    break;
+
+                case '\r':
+                    if (i + 1 < length && css.charAt(i + 1) == '\n') {
+                        i++;
+                    }
+                    line++;
+                    lineStart = i + 1;
+                    i++;
+                    break;
+
+                case '/':
+                    if (i + 1 < length && css.charAt(i + 1) == '*') {
+                        final int end = css.indexOf("*/", i + 2);
+                        if (end < 0) {
+                            return null;
+                        }
+                        for (int j = i + 2; j < end; j++) {
+                            final char ch = css.charAt(j);
+                            if (ch == '\n' || (ch == '\r' && css.charAt(j + 1) != '\n')) {
+                                line++;
+                                lineStart = j + 1;
+                            }
+                        }
+                        i = end + 2;
+                    }
+                    else {
+                        i++;
+                    }
+                    break;
+
+                case '"':
+                case '\'':
+                    i = skipString(css, i, c);
+                    if (i < 0) {
+                        return null;
+                    }
+                    break;
+
+                case '\\':
+                    // escaped char; line breaks are not part of an escape
+                    if (i + 1 < length && "\r\n\f".indexOf(css.charAt(i + 1)) < 0) {
+                        i += 2;
+                    }
+                    else {
+                        i++;
+                    }
+                    break;
+
+                case '{':
+                    depth++;
+                    i++;
+                    break;
+
+                case '}':
+                    depth--;
+                    i++;
+                    if (depth < 0) {
+                        return null;
+                    }
+                    if (depth == 0) {
+                        if (borderCount + 3 > borders.length) {
+                            borders = Arrays.copyOf(borders, borders.length * 2);
+                        }
+                        borders[borderCount++] = i;
+                        borders[borderCount++] = line;
+                        borders[borderCount++] = i - lineStart + 1;
+                    }
+                    break;
+
+                case '@':
+                    if (depth == 0 && isOrderDependentAtRule(css, i + 1)) {
+                        firstChunkMinEnd = length;
+                        final int end = css.indexOf(';', i);
+                        if (end > -1) {
+                            firstChunkMinEnd = end + 1;
+                        }
+                    }
+                    i++;
+                    break;
+
+                default:
+                    if ((c == 'u' || c == 'U') && isUrlStart(css, i)) {
+                        i = skipUrl(css, i + 4);
+                        if (i < 0) {
+                            return null;
+                        }
+                    }
+                    else {
+                        i++;
+                    }
+                    break;
+            }
+        }
+
+        if (depth != 0) {
+            return null;
+        }
+
+        final List<Chunk> chunks = new ArrayList<>();
+        int chunkBegin = 0;
+        int chunkLine = 1;
+        int chunkColumn = 1;
+        for (int b = 0; b < borderCount; b += 3) {
+            final int border = borders[b];
+            if (border - chunkBegin >= chunkSize
+                    && border >= firstChunkMinEnd
+                    && length - border >= chunkSize) {
+                chunks.add(new Chunk(chunkBegin, border, chunkLine, chunkColumn));
+                chunkBegin = border;
+                chunkLine = borders[b + 1];
+                chunkColumn = borders[b + 2];
+            }
+        }
+        if (chunks.isEmpty()) {
+            return null;
+        }
+        chunks.add(new Chunk(chunkBegin, length, chunkLine, chunkColumn));
+        return chunks;
+    }
+
+    /**
+     * @return the offset after the closing quote or -1 if the string is not terminated
+     */
+    private static int skipString(final String css, final int start, final char quote) {
+        final int length = css.length();
+        int i = start + 1;
+        while (i < length) {
+            final char c = css.charAt(i);
+            if (c == quote) {
+                return i + 1;
+            }
+            if (c == '\\') {
+                // we don't care about line breaks inside of strings
+                if (i + 1 < length && "\r\n\f".indexOf(css.charAt(i + 1)) > -1) {
+                    return -1;
+                }
+                i += 2;
+            }
+            else if (c == '\r' || c == '\n' || c == '\f') {
+                return -1;
+            }
+            else {
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isUrlStart(final String css, final int i) {
+        return i + 3 < css.length()
+                && css.regionMatches(true, i, "url(", 0, 4)
+                && (i == 0 || !isNameChar(css.charAt(i - 1)));
+    }
+
+    /**
+     * @return the offset after the url or -1 if the url is not a valid url token
+     */
+    private static int skipUrl(final String css, final int start) {
+        final int length = css.length();
+        int i = skipBlanks(css, start);
+        if (i < length && (css.charAt(i) == '"' || css.charAt(i) == '\'')) {
+            // quoted urls are scanned as usual
+            return i;
+        }
+        while (i < length) {
+            final char c = css.charAt(i);
+            if (c == ')') {
+                return i + 1;
+            }
+            if (c == ' ' || c == '\t') {
+                i = skipBlanks(css, i);
+                if (i < length && css.charAt(i) == ')') {
+                    return i + 1;
+                }
+                return -1;
+            }
+            if (c == '\\') {
+                if (i + 1 < length && "\r\n\f".indexOf(css.charAt(i + 1)) < 0) {
+                    i += 2;
+                    continue;
+                }
+                return -1;
+            }
+            if (!isUrlChar(c)) {
+                return -1;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    private static int skipBlanks(final String css, final int start) {
+        int i = start;
+        while (i < css.length() && (css.charAt(i) == ' ' || css.charAt(i) == '\t')) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * @return true if the char is allowed in an unquoted url
+     */
+    private static boolean isUrlChar(final char c) {
+        return c == '!' || c == '#' || c == '$' || c == '%' || c == '&'
+                || (c >= '*' && c <= '[') || (c >= ']' && c <= '~') || c >= '\u0080';
+    }
+
+    /**
+     * @return true if the at-rule name starting at the given offset is charset or import
+     *         or contains escapes
+     */
+    private static boolean isOrderDependentAtRule(final String css, final int start) {
+        int end = start;
+        while (end < css.length()) {
+            final char c = css.charAt(end);
+            if (c == '\\') {
+                return true;
+            }
+            if (!isNameChar(c)) {
+                break;
+            }
+            end++;
+        }
+        final int nameLength = end - start;
+        return (nameLength == 6 && css.regionMatches(true, start, "import", 0, 6))
+                || (nameLength == 7 && css.regionMatches(true, start, "charset", 0, 7));
+    }
+
+    private static boolean isNameChar(final char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9')
+                || c == '-' || c == '_' || c >= '\u0080';
+    }
+}
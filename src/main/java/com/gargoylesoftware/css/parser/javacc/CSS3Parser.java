@@ -61,6 +61,19 @@ protected String getGrammarUri()
         return "http://www.w3.org/TR/WD-css3-syntax-20030813";
     }
 
+    /**
+     * Enables/disables the recycling of white space tokens. If enabled, the token
+     * manager reuses the white space tokens the parser has passed for new tokens.
+     * Only white space tokens are recycled, because the parser never holds a
+     * reference to one of them while processing the following tokens.
+     *
+     * @param recycling the new state
+     */
+    public void setTokenRecycling(final boolean recycling)
+    {
+        token_source.setRecyclingParser(recycling ? this : null);
+    }
+
 //
 // stylesheet
 //  : [ CHARSET_SYM STRING ';' ]?
@@ -1334,9 +1347,10 @@ final public char unaryOperator() throws ParseException {
 //
   final public void styleRule() throws ParseException {SelectorList selList = null;
     boolean start = false;
-    Token t;
+    Locator locator;
     try {
-t = token;
+// don't keep a token, it might be recycled
+            locator = createLocator(getToken(1));
       selList = selectorList();
       jj_consume_token(LBRACE);
       label_39:
@@ -1353,7 +1367,7 @@ final public char unaryOperator() throws ParseException {
         jj_consume_token(S);
       }
 start = true;
-            handleStartSelector(selList, createLocator(t.next));
+            handleStartSelector(selList, locator);
       styleDeclaration();
       switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
       case RBRACE:{
@@ -1851,10 +1865,11 @@ final public char unaryOperator() throws ParseException {
     String arg;
     Selector sel;
     boolean doubleColon = false;
+    Token colon;
     Locator locator;
     try {
       jj_consume_token(COLON);
-locator = createLocator(token);
+colon = token; locator = createLocator(token);
       switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
       case COLON:{
         jj_consume_token(COLON);
@@ -1869,7 +1884,7 @@ final public char unaryOperator() throws ParseException {
       case IDENT:{
         t = jj_consume_token(IDENT);
 String s = unescape(t.image, false);
-                if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { s }, locator);} 
+                if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { s }, colon);} 
                 if ("first-line".equals(s)
                     || "first-letter".equals(s)
                     || "before".equals(s)
@@ -1910,7 +1925,7 @@ final public char unaryOperator() throws ParseException {
           jj_consume_token(S);
         }
         jj_consume_token(RROUND);
-if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { function + arg + ")" }, locator);} 
+if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { function + arg + ")" }, colon);} 
                     return new PseudoClassCondition(function + arg + ")", locator, doubleColon);
         }
       case FUNCTION_LANG:{
@@ -1945,7 +1960,7 @@ final public char unaryOperator() throws ParseException {
           jj_consume_token(S);
         }
         jj_consume_token(RROUND);
-if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { "lang(" + lang + ")" }, locator);} 
+if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { "lang(" + lang + ")" }, colon);} 
                     return new LangCondition(lang, locator);
         }
       case FUNCTION:{
@@ -2027,7 +2042,7 @@ final public char unaryOperator() throws ParseException {
           }
         }
         jj_consume_token(RROUND);
-if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { function + args.toString().trim() + ")" }, locator);} 
+if (pseudoElementFound) { throw toCSSParseException("duplicatePseudo", new String[] { function + args.toString().trim() + ")" }, colon);} 
                     return new PseudoClassCondition(function + args.toString().trim() + ")", locator, doubleColon);
         }
       default:
@@ -2110,13 +2125,13 @@ final public void styleDeclaration() throws ParseException {
   LexicalUnit e;
   Token t;
   boolean priority = false;
-  Locator starHack = null;
+  Token starHack = null;
   Locator locator = null;
     try {
       switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
       case ASTERISK:{
         jj_consume_token(ASTERISK);
-starHack = createLocator(token);
+starHack = token;
         break;
         }
       default:
@@ -2152,8 +2167,7 @@ final public void styleDeclaration() throws ParseException {
       switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
       case UNKNOWN:{
         t = jj_consume_token(UNKNOWN);
-locator = createLocator(t);
-            CSSParseException cpe = toCSSParseException("invalidDeclarationInvalidChar", new String[] {t.image}, locator);
+CSSParseException cpe = toCSSParseException("invalidDeclarationInvalidChar", new String[] {t.image}, t);
             getErrorHandler().error(cpe);
             error_skipdecl();
         break;
@@ -2227,6 +2241,7 @@ final public boolean prio() throws ParseException {
         case COMMA:
         case HASH:
         case EMS:
+        case REM:
         case EXS:
         case LENGTH_PX:
         case LENGTH_CM:
@@ -2248,7 +2263,7 @@ final public boolean prio() throws ParseException {
         case UNICODE_RANGE:
         case URI:
         case FUNCTION:
-        case 106:{
+        case 107:{
           ;
           break;
           }
@@ -2276,7 +2291,7 @@ final public boolean prio() throws ParseException {
 //
 // term
 //  : unary_operator?
-//    [ NUMBER | PERCENTAGE | LENGTH | EMS | EXS | ANGLE | TIME | FREQ | function ]
+//    [ NUMBER | PERCENTAGE | LENGTH | EMS | REM | EXS | ANGLE | TIME | FREQ | function ]
 //  | STRING | IDENT | URI | hexcolor | DIMENSION
 //  S*
 //  ;
@@ -2302,6 +2317,7 @@ final public boolean prio() throws ParseException {
     switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
     case NUMBER:
     case EMS:
+    case REM:
     case EXS:
     case LENGTH_PX:
     case LENGTH_CM:
@@ -2323,104 +2339,109 @@ final public boolean prio() throws ParseException {
       switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
       case NUMBER:{
         t = jj_consume_token(NUMBER);
-try
+if (isIntValue(t))
                 {
-                    value = LexicalUnitImpl.createNumber(prev, intValue(op, t.image));
+                    value = LexicalUnitImpl.createNumber(prev, intValue(op, t));
                 }
-                catch (NumberFormatException e)
+                else
                 {
-                    value = LexicalUnitImpl.createNumber(prev, doubleValue(op, t.image));
+                    value = LexicalUnitImpl.createNumber(prev, doubleValue(op, t));
                 }
         break;
         }
       case PERCENTAGE:{
         t = jj_consume_token(PERCENTAGE);
-value = LexicalUnitImpl.createPercentage(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createPercentage(prev, doubleValue(op, t));
         break;
         }
       case LENGTH_PX:{
         t = jj_consume_token(LENGTH_PX);
-value = LexicalUnitImpl.createPixel(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createPixel(prev, doubleValue(op, t));
         break;
         }
       case LENGTH_CM:{
         t = jj_consume_token(LENGTH_CM);
-value = LexicalUnitImpl.createCentimeter(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createCentimeter(prev, doubleValue(op, t));
         break;
         }
       case LENGTH_MM:{
         t = jj_consume_token(LENGTH_MM);
-value = LexicalUnitImpl.createMillimeter(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createMillimeter(prev, doubleValue(op, t));
         break;
         }
       case LENGTH_IN:{
         t = jj_consume_token(LENGTH_IN);
-value = LexicalUnitImpl.createInch(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createInch(prev, doubleValue(op, t));
         break;
         }
       case LENGTH_PT:{
         t = jj_consume_token(LENGTH_PT);
-value = LexicalUnitImpl.createPoint(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createPoint(prev, doubleValue(op, t));
         break;
         }
       case LENGTH_PC:{
         t = jj_consume_token(LENGTH_PC);
-value = LexicalUnitImpl.createPica(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createPica(prev, doubleValue(op, t));
         break;
         }
       case EMS:{
         t = jj_consume_token(EMS);
-value = LexicalUnitImpl.createEm(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createEm(prev, doubleValue(op, t));
+        break;
+        }
+      case REM:{
+        t = jj_consume_token(REM);
+value = LexicalUnitImpl.createRem(prev, doubleValue(op, t));
         break;
         }
       case EXS:{
         t = jj_consume_token(EXS);
-value = LexicalUnitImpl.createEx(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createEx(prev, doubleValue(op, t));
         break;
         }
       case ANGLE_DEG:{
         t = jj_consume_token(ANGLE_DEG);
-value = LexicalUnitImpl.createDegree(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createDegree(prev, doubleValue(op, t));
         break;
         }
       case ANGLE_RAD:{
         t = jj_consume_token(ANGLE_RAD);
-value = LexicalUnitImpl.createRadian(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createRadian(prev, doubleValue(op, t));
         break;
         }
       case ANGLE_GRAD:{
         t = jj_consume_token(ANGLE_GRAD);
-value = LexicalUnitImpl.createGradian(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createGradian(prev, doubleValue(op, t));
         break;
         }
       case TIME_MS:{
         t = jj_consume_token(TIME_MS);
-value = LexicalUnitImpl.createMillisecond(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createMillisecond(prev, doubleValue(op, t));
         break;
         }
       case TIME_S:{
         t = jj_consume_token(TIME_S);
-value = LexicalUnitImpl.createSecond(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createSecond(prev, doubleValue(op, t));
         break;
         }
       case FREQ_HZ:{
         t = jj_consume_token(FREQ_HZ);
-value = LexicalUnitImpl.createHertz(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createHertz(prev, doubleValue(op, t));
         break;
         }
       case FREQ_KHZ:{
         t = jj_consume_token(FREQ_KHZ);
-value = LexicalUnitImpl.createKiloHertz(prev, doubleValue(op, t.image));
+value = LexicalUnitImpl.createKiloHertz(prev, doubleValue(op, t));
         break;
         }
       case RESOLUTION_DPI:{
         t = jj_consume_token(RESOLUTION_DPI);
-value = LexicalUnitImpl.createDimension(prev, doubleValue(op, t.image), "dpi");
+value = LexicalUnitImpl.createDimension(prev, doubleValue(op, t), "dpi");
         break;
         }
       case RESOLUTION_DPCM:{
         t = jj_consume_token(RESOLUTION_DPCM);
-value = LexicalUnitImpl.createDimension(prev, doubleValue(op, t.image), "dpcm");
+value = LexicalUnitImpl.createDimension(prev, doubleValue(op, t), "dpcm");
         break;
         }
       case FUNCTION:{
@@ -2439,8 +2460,8 @@ final public boolean prio() throws ParseException {
 value = LexicalUnitImpl.createString(prev, unescape(t.image, false));
       break;
       }
-    case 106:{
-      t = jj_consume_token(106);
+    case 107:{
+      t = jj_consume_token(107);
 value = LexicalUnitImpl.createIdent(prev, skipUnit().trim());
       break;
       }
@@ -2449,7 +2470,7 @@ final public boolean prio() throws ParseException {
       switch ((jj_ntk==-1)?jj_ntk_f():jj_ntk) {
       case COLON:{
         jj_consume_token(COLON);
-throw toCSSParseException("invalidExprColon", new String[]{ unescape(t.image, false) }, createLocator(t));
+throw toCSSParseException("invalidExprColon", new String[]{ unescape(t.image, false) }, t);
         }
       default:
         jj_la1[102] = jj_gen;
@@ -2473,11 +2494,7 @@ final public boolean prio() throws ParseException {
       }
     case DIMENSION:{
       t = jj_consume_token(DIMENSION);
-int n = getLastNumPos(t.image);
-                value = LexicalUnitImpl.createDimension(
-                    prev,
-                    doubleValue(op, t.image.substring(0, n+1)),
-                    t.image.substring(n+1));
+value = LexicalUnitImpl.createDimension(prev, doubleValue(op, t), dimensionUnit(t));
       break;
       }
     case INHERIT:{
@@ -2547,6 +2564,7 @@ final public boolean prio() throws ParseException {
     case PLUS:
     case HASH:
     case EMS:
+    case REM:
     case EXS:
     case LENGTH_PX:
     case LENGTH_CM:
@@ -2568,7 +2586,7 @@ final public boolean prio() throws ParseException {
     case UNICODE_RANGE:
     case URI:
     case FUNCTION:
-    case 106:{
+    case 107:{
       param = term(null);
 body = param;
       label_65:
@@ -2584,6 +2602,7 @@ final public boolean prio() throws ParseException {
         case COMMA:
         case HASH:
         case EMS:
+        case REM:
         case EXS:
         case LENGTH_PX:
         case LENGTH_CM:
@@ -2605,7 +2624,7 @@ final public boolean prio() throws ParseException {
         case UNICODE_RANGE:
         case URI:
         case FUNCTION:
-        case 106:{
+        case 107:{
           ;
           break;
           }
@@ -2724,15 +2743,18 @@ final public boolean prio() throws ParseException {
     int nesting = 0;
     Token t = getToken(0);
     if (t.image != null) {
-        sb.append(t.image);
+        appendImage(t, sb);
     }
 
     do {
+        if (token.next == null) {
+            token_source.skipChars(sb);
+        }
         t = getNextToken();
         if (t.kind == EOF) {
             break;
         }
-        sb.append(t.image);
+        appendImage(t, sb);
         appendUnit(t, sb);
 
         if (t.kind == LBRACE) {
@@ -2753,9 +2775,12 @@ else if (t.kind == RBRACE) {
     Token oldToken = null;
     while (t.kind != SEMICOLON && t.kind != RBRACE && t.kind != EOF ) {
         oldToken = t;
-        sb.append(oldToken.image);
+        appendImage(oldToken, sb);
         appendUnit(t, sb);
 
+        if (token.next == null) {
+            token_source.skipChars(sb);
+        }
         t = getNextToken();
     }
     if (t.kind != EOF) {
@@ -2769,6 +2794,10 @@ void appendUnit(Token t, StringBuilder sb) throws ParseException {if (t.kind ==
       sb.append("ems");
       return;
     }
+    if (t.kind == REM) {
+      sb.append("rem");
+      return;
+    }
     if (t.kind == EXS) {
       sb.append("ex");
       return;
@@ -2846,6 +2875,9 @@ void error_skipblock(String msgKey, CSSParseException e) throws ParseException {
     Token t;
     int nesting = 0;
     do {
+        if (token.next == null) {
+            token_source.skipChars(null);
+        }
         t = getNextToken();
         if (t.kind == LBRACE) {
             nesting++;
@@ -2870,6 +2902,9 @@ else if (t.kind == RBRACE) {
     Token oldToken = token;
     while (t.kind != SEMICOLON && t.kind != RBRACE && t.kind != EOF) {
         oldToken = t;
+        if (token.next == null) {
+            token_source.skipChars(null);
+        }
         t = getNextToken();
     }
     if (t.kind != EOF) {
@@ -2879,6 +2914,9 @@ else if (t.kind == RBRACE) {
 
   void error_skipAtRule() throws ParseException {Token t = null;
     do {
+        if (token.next == null) {
+            token_source.skipChars(null);
+        }
         t = getNextToken();
     }
     while (t.kind != SEMICOLON && t.kind != EOF);
@@ -2892,92 +2930,6 @@ private boolean jj_2_1(int xla)
     finally { jj_save(0, xla); }
   }
 
-  private boolean jj_3R_73()
- {
-    if (jj_3R_76()) return true;
-    return false;
-  }
-
-  private boolean jj_3R_78()
- {
-    if (jj_scan_token(PLUS)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_75()
- {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_78()) {
-    jj_scanpos = xsp;
-    if (jj_3R_79()) {
-    jj_scanpos = xsp;
-    if (jj_3R_80()) return true;
-    }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_80()
- {
-    if (jj_scan_token(TILDE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_89()
- {
-    if (jj_scan_token(LSQUARE)) return true;
-    return false;
-  }
-
-  private boolean jj_3R_72()
- {
-    if (jj_scan_token(S)) return true;
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_75()) jj_scanpos = xsp;
-    return false;
-  }
-
-  private boolean jj_3R_71()
- {
-    if (jj_scan_token(TILDE)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_scan_token(1)) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_68()
- {
-    Token xsp;
-    xsp = jj_scanpos;
-    if (jj_3R_73()) {
-    jj_scanpos = xsp;
-    if (jj_3R_74()) return true;
-    }
-    return false;
-  }
-
-  private boolean jj_3R_70()
- {
-    if (jj_scan_token(GREATER)) return true;
-    Token xsp;
-    while (true) {
-      xsp = jj_scanpos;
-      if (jj_scan_token(1)) { jj_scanpos = xsp; break; }
-    }
-    return false;
-  }
-
-  private boolean jj_3R_90()
- {
-    if (jj_scan_token(COLON)) return true;
-    return false;
-  }
-
   private boolean jj_3R_69()
  {
     if (jj_scan_token(PLUS)) return true;
@@ -3059,12 +3011,6 @@ private boolean jj_3R_82()
     return false;
   }
 
-  private boolean jj_3R_79()
- {
-    if (jj_scan_token(GREATER)) return true;
-    return false;
-  }
-
   private boolean jj_3_1()
  {
     if (jj_3R_67()) return true;
@@ -3078,6 +3024,12 @@ private boolean jj_3R_87()
     return false;
   }
 
+  private boolean jj_3R_79()
+ {
+    if (jj_scan_token(GREATER)) return true;
+    return false;
+  }
+
   private boolean jj_3R_74()
  {
     Token xsp;
@@ -3106,6 +3058,92 @@ private boolean jj_3R_76()
     return false;
   }
 
+  private boolean jj_3R_73()
+ {
+    if (jj_3R_76()) return true;
+    return false;
+  }
+
+  private boolean jj_3R_78()
+ {
+    if (jj_scan_token(PLUS)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_75()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_78()) {
+    jj_scanpos = xsp;
+    if (jj_3R_79()) {
+    jj_scanpos = xsp;
+    if (jj_3R_80()) return true;
+    }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_80()
+ {
+    if (jj_scan_token(TILDE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_89()
+ {
+    if (jj_scan_token(LSQUARE)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_72()
+ {
+    if (jj_scan_token(S)) return true;
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_75()) jj_scanpos = xsp;
+    return false;
+  }
+
+  private boolean jj_3R_68()
+ {
+    Token xsp;
+    xsp = jj_scanpos;
+    if (jj_3R_73()) {
+    jj_scanpos = xsp;
+    if (jj_3R_74()) return true;
+    }
+    return false;
+  }
+
+  private boolean jj_3R_90()
+ {
+    if (jj_scan_token(COLON)) return true;
+    return false;
+  }
+
+  private boolean jj_3R_71()
+ {
+    if (jj_scan_token(TILDE)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_scan_token(1)) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
+  private boolean jj_3R_70()
+ {
+    if (jj_scan_token(GREATER)) return true;
+    Token xsp;
+    while (true) {
+      xsp = jj_scanpos;
+      if (jj_scan_token(1)) { jj_scanpos = xsp; break; }
+    }
+    return false;
+  }
+
   /** Generated Token Manager. */
   public CSS3ParserTokenManager token_source;
   /** Current token. */
@@ -3137,7 +3175,7 @@ private static void jj_la1_init_2() {
 	   jj_la1_2 = new int[] {0x0,0x0,0x0,0x0,0x2000,0x1d04,0x1f04,0x1f04,0x0,0x0,0x0,0x3f04,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf04,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0xf04,0x0,0xf04,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x0,0x70,0x0,0x70,0x70,0x11,0x0,0x0,0x0,0x0,0x80,0x0,0x0,0x104,0x104,0x104,0x104,0x104,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x2,0x0,0x0,0x0,0x0,0x0,0x0,0x11,0x0,0x11,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4000,0x0,0x0,0xffff8191,0x80,0x11,0xffff8000,0x0,0xffff8100,0x0,0x0,0xffff8193,0x82,0x0,0x82,0xffff8111,0x104,};
 	}
 	private static void jj_la1_init_3() {
-	   jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x100,0x100,0x100,0x0,0x0,0x0,0x100,0x0,0x0,0x10,0x0,0x0,0x0,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x100,0x0,0x100,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x2,0x0,0x2,0xe0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x49b,0x0,0x0,0x81,0x0,0x49b,0x0,0x0,0x49b,0x0,0x0,0x0,0x49b,0x0,};
+	   jj_la1_3 = new int[] {0x0,0x0,0x0,0x0,0x0,0x200,0x200,0x200,0x0,0x0,0x0,0x200,0x0,0x0,0x20,0x0,0x0,0x0,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x200,0x0,0x200,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x4,0x0,0x4,0x1c0,0x0,0x0,0x0,0x0,0x0,0x0,0x0,0x400,0x0,0x937,0x0,0x0,0x103,0x0,0x937,0x0,0x0,0x937,0x0,0x0,0x0,0x937,0x0,};
 	}
   final private JJCalls[] jj_2_rtns = new JJCalls[1];
   private boolean jj_rescan = false;
@@ -3305,7 +3343,7 @@ private void jj_add_error_token(int kind, int pos) {
   /** Generate ParseException. */
   public ParseException generateParseException() {
 	 jj_expentries.clear();
-	 boolean[] la1tokens = new boolean[107];
+	 boolean[] la1tokens = new boolean[108];
 	 if (jj_kind >= 0) {
 	   la1tokens[jj_kind] = true;
 	   jj_kind = -1;
@@ -3328,7 +3366,7 @@ public ParseException generateParseException() {
 		 }
 	   }
 	 }
-	 for (int i = 0; i < 107; i++) {
+	 for (int i = 0; i < 108; i++) {
 	   if (la1tokens[i]) {
 		 jj_expentry = new int[1];
 		 jj_expentry[0] = i;
@@ -163,57 +163,59 @@ public interface CSS3ParserConstants {
   /** RegularExpression Id. */
   int EMS = 79;
   /** RegularExpression Id. */
-  int EXS = 80;
+  int REM = 80;
   /** RegularExpression Id. */
-  int LENGTH_PX = 81;
+  int EXS = 81;
   /** RegularExpression Id. */
-  int LENGTH_CM = 82;
+  int LENGTH_PX = 82;
   /** RegularExpression Id. */
-  int LENGTH_MM = 83;
+  int LENGTH_CM = 83;
   /** RegularExpression Id. */
-  int LENGTH_IN = 84;
+  int LENGTH_MM = 84;
   /** RegularExpression Id. */
-  int LENGTH_PT = 85;
+  int LENGTH_IN = 85;
   /** RegularExpression Id. */
-  int LENGTH_PC = 86;
+  int LENGTH_PT = 86;
   /** RegularExpression Id. */
-  int ANGLE_DEG = 87;
+  int LENGTH_PC = 87;
   /** RegularExpression Id. */
-  int ANGLE_RAD = 88;
+  int ANGLE_DEG = 88;
   /** RegularExpression Id. */
-  int ANGLE_GRAD = 89;
+  int ANGLE_RAD = 89;
   /** RegularExpression Id. */
-  int TIME_MS = 90;
+  int ANGLE_GRAD = 90;
   /** RegularExpression Id. */
-  int TIME_S = 91;
+  int TIME_MS = 91;
   /** RegularExpression Id. */
-  int FREQ_HZ = 92;
+  int TIME_S = 92;
   /** RegularExpression Id. */
-  int FREQ_KHZ = 93;
+  int FREQ_HZ = 93;
   /** RegularExpression Id. */
-  int RESOLUTION_DPI = 94;
+  int FREQ_KHZ = 94;
   /** RegularExpression Id. */
-  int RESOLUTION_DPCM = 95;
+  int RESOLUTION_DPI = 95;
   /** RegularExpression Id. */
-  int PERCENTAGE = 96;
+  int RESOLUTION_DPCM = 96;
   /** RegularExpression Id. */
-  int DIMENSION = 97;
+  int PERCENTAGE = 97;
   /** RegularExpression Id. */
-  int H_PLACEHOLDER = 98;
+  int DIMENSION = 98;
   /** RegularExpression Id. */
-  int UNICODE_RANGE = 99;
+  int H_PLACEHOLDER = 99;
   /** RegularExpression Id. */
-  int URI = 100;
+  int UNICODE_RANGE = 100;
   /** RegularExpression Id. */
-  int FUNCTION_NOT = 101;
+  int URI = 101;
   /** RegularExpression Id. */
-  int FUNCTION_LANG = 102;
+  int FUNCTION_NOT = 102;
   /** RegularExpression Id. */
-  int FUNCTION = 103;
+  int FUNCTION_LANG = 103;
   /** RegularExpression Id. */
-  int ATKEYWORD = 104;
+  int FUNCTION = 104;
   /** RegularExpression Id. */
-  int UNKNOWN = 105;
+  int ATKEYWORD = 105;
+  /** RegularExpression Id. */
+  int UNKNOWN = 106;
 
   /** Lexical state. */
   int DEFAULT = 0;
@@ -302,6 +304,7 @@ public interface CSS3ParserConstants {
     "<CHARSET_SYM>",
     "<IMPORTANT_SYM>",
     "<EMS>",
+    "<REM>",
     "<EXS>",
     "<LENGTH_PX>",
     "<LENGTH_CM>",
@@ -40,6 +40,414 @@
 
 /** Token Manager. */
 @SuppressWarnings("all") public class CSS3ParserTokenManager implements CSS3ParserConstants {
+    // the number of passed tokens that are not recycled; the parser
+    // might still look back at them (e.g. to rescan a lookahead)
+    private static final int RECYCLE_DELAY = 4;
+    private static final int MAX_RECYCLED = 64;
+
+    private CSS3Parser recyclingParser_;
+    // the oldest token not yet passed to the delay ring
+    private Token unchecked_;
+    private final Token[] delayRing_ = new Token[RECYCLE_DELAY];
+    private int delayPos_;
+    private final Token[] recycled_ = new Token[MAX_RECYCLED];
+    private int recycledCount_;
+    private long reusedTokens_;
+
+    /**
+     * @return the number of tokens created by reusing a recycled token
+     */
+    long getReusedTokens()
+    {
+        return reusedTokens_;
+    }
+
+    void setRecyclingParser(final CSS3Parser parser)
+    {
+        recyclingParser_ = parser;
+        unchecked_ = null;
+        java.util.Arrays.fill(delayRing_, null);
+        java.util.Arrays.fill(recycled_, null);
+        recycledCount_ = 0;
+    }
+
+    /**
+     * Creates the token for the next match; reuses a recycled token if possible.
+     */
+    Token newToken(final int kind)
+    {
+        if (recyclingParser_ == null)
+        {
+            return Token.newToken(kind);
+        }
+
+        collectPassedTokens();
+
+        final Token t;
+        if (recycledCount_ > 0 && !NumericToken.isNumericKind(kind))
+        {
+            recycledCount_--;
+            t = recycled_[recycledCount_];
+            recycled_[recycledCount_] = null;
+            t.next = null;
+            t.specialToken = null;
+            reusedTokens_++;
+        }
+        else
+        {
+            t = Token.newToken(kind);
+        }
+
+        if (unchecked_ == null)
+        {
+            unchecked_ = t;
+        }
+        return t;
+    }
+
+    /**
+     * Moves all tokens before the current token of the parser through the delay ring;
+     * the white space tokens leaving the ring are recycled.
+     */
+    private void collectPassedTokens()
+    {
+        final Token current = recyclingParser_.token;
+        while (unchecked_ != null && unchecked_ != current)
+        {
+            final Token passed = unchecked_;
+            unchecked_ = passed.next;
+
+            final Token old = delayRing_[delayPos_];
+            delayRing_[delayPos_] = passed;
+            delayPos_ = (delayPos_ + 1) % RECYCLE_DELAY;
+
+            if (old != null && old.kind == S && recycledCount_ < MAX_RECYCLED)
+            {
+                recycled_[recycledCount_++] = old;
+            }
+        }
+    }
+
+    void CommonTokenAction(final Token t)
+    {
+        if (t instanceof NumericToken)
+        {
+            ((NumericToken) t).parseImage();
+        }
+    }
+
+    // true if the last call of skipChars() stopped in the middle of a word
+    private boolean inWord_;
+    // the number of chars read by skipChars()
+    private int skipPos_;
+
+    /**
+     * Fast path for the error recovery of the parser; reads the input up to the next
+     * token the recovery has to look at without creating tokens. Stops in front of
+     * '{', '}', ';', at the end of the input and at constructs the token manager has
+     * to handle (escapes, url(, !important, unterminated comments); these are
+     * tokenized up to the end of the word.
+     * Has to be called only if the parser has no pending lookahead tokens.
+     *
+     * @param text if not null the images of the skipped tokens are appended
+     *        (in this case words with digits are not skipped because the image
+     *        of numeric tokens differs from the input)
+     */
+    void skipChars(final StringBuilder text)
+    {
+        try
+        {
+            if (inWord_)
+            {
+                final char c = skipRead();
+                skipBackup(1);
+                if (!isSkipWhitespace(c) && c != '{' && c != '}' && c != ';')
+                {
+                    return;
+                }
+                inWord_ = false;
+            }
+
+            for (;;)
+            {
+                // a token boundary; nothing before has to be read again
+                final char c = input_stream.BeginToken();
+                skipPos_ = 1;
+                if (c == '{' || c == '}' || c == ';')
+                {
+                    skipBackup(1);
+                    return;
+                }
+
+                if (isSkipWhitespace(c))
+                {
+                    if (text != null)
+                    {
+                        text.append(c);
+                    }
+                }
+                else if (c == '"' || c == '\'')
+                {
+                    skipString(c, text);
+                }
+                else if (c == '/' && isCommentStart())
+                {
+                    if (!skipComment())
+                    {
+                        return;
+                    }
+                }
+                else if (!skipWord(c, text))
+                {
+                    inWord_ = true;
+                    return;
+                }
+            }
+        }
+        catch (final java.io.IOException e)
+        {
+            // end of input, the token manager creates the EOF token
+            inWord_ = false;
+        }
+    }
+
+    /**
+     * Skips a string; an unterminated string is a single char token
+     * (the quote) followed by the content.
+     */
+    private void skipString(final char quote, final StringBuilder text)
+    {
+        final int textLength = text == null ? 0 : text.length();
+        try
+        {
+            for (;;)
+            {
+                char c = skipRead();
+                if (c == quote)
+                {
+                    return;
+                }
+                if (c == '\n' || c == '\r' || c == '\f')
+                {
+                    break;
+                }
+                if (text != null)
+                {
+                    text.append(c);
+                }
+
+                if (c == '\\')
+                {
+                    c = skipRead();
+                    if (text != null)
+                    {
+                        text.append(c);
+                    }
+
+                    if (c == '\r')
+                    {
+                        skipOptional('\n', text);
+                    }
+                    else if (isSkipHex(c))
+                    {
+                        skipUnicodeEscape(text);
+                    }
+                }
+            }
+        }
+        catch (final java.io.IOException e)
+        {
+            // unterminated
+        }
+
+        skipBackup(skipPos_ - 1);
+        if (text != null)
+        {
+            text.setLength(textLength);
+            text.append(quote);
+        }
+    }
+
+    /**
+     * Skips the rest of an unicode escape (up to 5 more hex digits and one white space).
+     */
+    private void skipUnicodeEscape(final StringBuilder text) throws java.io.IOException
+    {
+        for (int i = 0; i < 5; i++)
+        {
+            final char c = skipRead();
+            if (!isSkipHex(c))
+            {
+                skipBackup(1);
+                break;
+            }
+            if (text != null)
+            {
+                text.append(c);
+            }
+        }
+
+        final char c = skipRead();
+        if (!isSkipWhitespace(c))
+        {
+            skipBackup(1);
+            return;
+        }
+        if (text != null)
+        {
+            text.append(c);
+        }
+        if (c == '\r')
+        {
+            skipOptional('\n', text);
+        }
+    }
+
+    private void skipOptional(final char expected, final StringBuilder text) throws java.io.IOException
+    {
+        final char c = skipRead();
+        if (c != expected)
+        {
+            skipBackup(1);
+            return;
+        }
+        if (text != null)
+        {
+            text.append(c);
+        }
+    }
+
+    /**
+     * Reads the '*' if the last read char was the start of a comment.
+     */
+    private boolean isCommentStart()
+    {
+        try
+        {
+            if (skipRead() == '*')
+            {
+                return true;
+            }
+            skipBackup(1);
+        }
+        catch (final java.io.IOException e)
+        {
+            // end of input
+        }
+        return false;
+    }
+
+    /**
+     * Skips the rest of a comment.
+     * @return false if the comment is unterminated and has to be handled by the token manager
+     */
+    private boolean skipComment()
+    {
+        boolean star = false;
+        try
+        {
+            for (;;)
+            {
+                final char c = skipRead();
+                if (star && c == '/')
+                {
+                    return true;
+                }
+                star = c == '*';
+            }
+        }
+        catch (final java.io.IOException e)
+        {
+            skipBackup(skipPos_);
+            return false;
+        }
+    }
+
+    /**
+     * Skips the chars up to the next white space, brace, semicolon, string or comment.
+     * @return false if the word contains a construct the token manager has to handle;
+     *         the input is reset to the start of the word in this case
+     */
+    private boolean skipWord(final char first, final StringBuilder text) throws java.io.IOException
+    {
+        final int textLength = text == null ? 0 : text.length();
+        // the number of chars of 'url' at the end of the word
+        int url = 0;
+        char c = first;
+        for (;;)
+        {
+            if (c == '\\' || c == '!' || (c == '(' && url == 3)
+                    || (text != null && c >= '0' && c <= '9'))
+            {
+                skipBackup(skipPos_);
+                if (text != null)
+                {
+                    text.setLength(textLength);
+                }
+                return false;
+            }
+
+            if (text != null)
+            {
+                text.append(c);
+            }
+            if (c == 'u' || c == 'U')
+            {
+                url = 1;
+            }
+            else if ((url == 1 && (c == 'r' || c == 'R')) || (url == 2 && (c == 'l' || c == 'L')))
+            {
+                url++;
+            }
+            else
+            {
+                url = 0;
+            }
+
+            try
+            {
+                c = skipRead();
+            }
+            catch (final java.io.IOException e)
+            {
+                return true;
+            }
+
+            if (isSkipWhitespace(c) || c == '{' || c == '}' || c == ';' || c == '"' || c == '\'')
+            {
+                skipBackup(1);
+                return true;
+            }
+            if (c == '/' && isCommentStart())
+            {
+                skipBackup(2);
+                return true;
+            }
+        }
+    }
+
+    private char skipRead() throws java.io.IOException
+    {
+        final char c = input_stream.readChar();
+        skipPos_++;
+        return c;
+    }
+
+    private void skipBackup(final int amount)
+    {
+        input_stream.backup(amount);
+        skipPos_ -= amount;
+    }
+
+    private static boolean isSkipWhitespace(final char c)
+    {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f';
+    }
+
+    private static boolean isSkipHex(final char c)
+    {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
 
   /** Debug output. */
   public  java.io.PrintStream debugStream = System.out;
@@ -50,72 +458,72 @@ private final int jjStopStringLiteralDfa_0(int pos, long active0, long active1){
    {
       case 0:
          if ((active0 & 0x800000000000000L) != 0L)
-            return 1361;
-         if ((active0 & 0x40000L) != 0L)
+            return 1401;
+         if ((active0 & 0x2a0000L) != 0L || (active1 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 0;
-            return 1362;
+            return 1402;
          }
-         if ((active0 & 0x2a0000L) != 0L || (active1 & 0x40000000000L) != 0L)
+         if ((active0 & 0x40000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 0;
-            return 1363;
+            return 1403;
          }
          if ((active0 & 0x2000000000000L) != 0L || (active1 & 0x1L) != 0L)
-            return 729;
+            return 766;
          return -1;
       case 1:
-         if ((active0 & 0x40000L) != 0L)
+         if ((active0 & 0x2a0000L) != 0L || (active1 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 1;
-            return 1364;
+            return 1402;
          }
-         if ((active0 & 0x2a0000L) != 0L || (active1 & 0x40000000000L) != 0L)
+         if ((active0 & 0x40000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 1;
-            return 1363;
+            return 1404;
          }
          return -1;
       case 2:
-         if ((active0 & 0x20000L) != 0L)
-            return 1363;
-         if ((active0 & 0x40000L) != 0L)
-            return 1365;
-         if ((active0 & 0x280000L) != 0L || (active1 & 0x40000000000L) != 0L)
+         if ((active0 & 0x280000L) != 0L || (active1 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 2;
-            return 1363;
+            return 1402;
          }
+         if ((active0 & 0x40000L) != 0L)
+            return 1405;
+         if ((active0 & 0x20000L) != 0L)
+            return 1402;
          return -1;
       case 3:
-         if ((active0 & 0x80000L) != 0L)
-            return 1363;
-         if ((active0 & 0x200000L) != 0L || (active1 & 0x40000000000L) != 0L)
+         if ((active0 & 0x200000L) != 0L || (active1 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 3;
-            return 1363;
+            return 1402;
          }
+         if ((active0 & 0x80000L) != 0L)
+            return 1402;
          return -1;
       case 4:
-         if ((active0 & 0x200000L) != 0L || (active1 & 0x40000000000L) != 0L)
+         if ((active0 & 0x200000L) != 0L || (active1 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 4;
-            return 1363;
+            return 1402;
          }
          return -1;
       case 5:
-         if ((active0 & 0x200000L) != 0L || (active1 & 0x40000000000L) != 0L)
+         if ((active0 & 0x200000L) != 0L || (active1 & 0x80000000000L) != 0L)
          {
             jjmatchedKind = 22;
             jjmatchedPos = 5;
-            return 1363;
+            return 1402;
          }
          return -1;
       default :
@@ -153,7 +561,7 @@ private int jjMoveStringLiteralDfa0_0(){
          }
          return jjMoveStringLiteralDfa1_0(0x2000000000000L, 0x0L);
       case 46:
-         return jjStartNfaWithStates_0(0, 59, 1361);
+         return jjStartNfaWithStates_0(0, 59, 1401);
       case 47:
          {
          jjmatchedKind = 63;
@@ -188,7 +596,7 @@ private int jjMoveStringLiteralDfa0_0(){
          return jjMoveStringLiteralDfa1_0(0x80000L, 0x0L);
       case 80:
       case 112:
-         return jjMoveStringLiteralDfa1_0(0x0L, 0x40000000000L);
+         return jjMoveStringLiteralDfa1_0(0x0L, 0x80000000000L);
       case 124:
          return jjMoveStringLiteralDfa1_0(0x8000000000000L, 0x0L);
       case 125:
@@ -239,7 +647,7 @@ else if ((active0 & 0x40000000000000L) != 0L)
          return jjMoveStringLiteralDfa2_0(active0, 0x40000L, active1, 0L);
       case 82:
       case 114:
-         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x40000000000L);
+         return jjMoveStringLiteralDfa2_0(active0, 0L, active1, 0x80000000000L);
       default :
          break;
    }
@@ -264,7 +672,7 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
       case 68:
       case 100:
          if ((active0 & 0x20000L) != 0L)
-            return jjStartNfaWithStates_0(2, 17, 1363);
+            return jjStartNfaWithStates_0(2, 17, 1402);
          break;
       case 72:
       case 104:
@@ -274,11 +682,11 @@ private int jjMoveStringLiteralDfa2_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa3_0(active0, 0x80000L, active1, 0L);
       case 79:
       case 111:
-         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x40000000000L);
+         return jjMoveStringLiteralDfa3_0(active0, 0L, active1, 0x80000000000L);
       case 84:
       case 116:
          if ((active0 & 0x40000L) != 0L)
-            return jjStartNfaWithStates_0(2, 18, 1365);
+            return jjStartNfaWithStates_0(2, 18, 1405);
          break;
       default :
          break;
@@ -304,11 +712,11 @@ private int jjMoveStringLiteralDfa3_0(long old0, long active0, long old1, long a
          return jjMoveStringLiteralDfa4_0(active0, 0x200000L, active1, 0L);
       case 71:
       case 103:
-         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x40000000000L);
+         return jjMoveStringLiteralDfa4_0(active0, 0L, active1, 0x80000000000L);
       case 89:
       case 121:
          if ((active0 & 0x80000L) != 0L)
-            return jjStartNfaWithStates_0(3, 19, 1363);
+            return jjStartNfaWithStates_0(3, 19, 1402);
          break;
       default :
          break;
@@ -327,7 +735,7 @@ private int jjMoveStringLiteralDfa4_0(long old0, long active0, long old1, long a
    {
       case 73:
       case 105:
-         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x40000000000L);
+         return jjMoveStringLiteralDfa5_0(active0, 0L, active1, 0x80000000000L);
       case 82:
       case 114:
          return jjMoveStringLiteralDfa5_0(active0, 0x200000L, active1, 0L);
@@ -348,7 +756,7 @@ private int jjMoveStringLiteralDfa5_0(long old0, long active0, long old1, long a
    {
       case 68:
       case 100:
-         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x40000000000L);
+         return jjMoveStringLiteralDfa6_0(active0, 0L, active1, 0x80000000000L);
       case 73:
       case 105:
          return jjMoveStringLiteralDfa6_0(active0, 0x200000L, active1, 0L);
@@ -368,13 +776,13 @@ private int jjMoveStringLiteralDfa6_0(long old0, long active0, long old1, long a
    switch(curChar)
    {
       case 58:
-         if ((active1 & 0x40000000000L) != 0L)
-            return jjStopAtPos(6, 106);
+         if ((active1 & 0x80000000000L) != 0L)
+            return jjStopAtPos(6, 107);
          break;
       case 84:
       case 116:
          if ((active0 & 0x200000L) != 0L)
-            return jjStartNfaWithStates_0(6, 21, 1363);
+            return jjStartNfaWithStates_0(6, 21, 1402);
          break;
       default :
          break;
@@ -398,7 +806,7 @@ private int jjStartNfaWithStates_0(int pos, int kind, int state)
 private int jjMoveNfa_0(int startState, int curPos)
 {
    int startsAt = 0;
-   jjnewStateCnt = 1361;
+   jjnewStateCnt = 1401;
    int i = 1;
    jjstateSet[0] = startState;
    int kind = 0x7fffffff;
@@ -410,6717 +818,8686 @@ private int jjMoveNfa_0(int startState, int curPos)
       {
          long l = 1L << curChar;
          do
+         {
+            kind = jjMoveNfa_0_0to63(jjstateSet[--i], l, kind);
+         } while(i != startsAt);
+      }
+      else if (curChar < 128)
+      {
+         long l = 1L << (curChar & 077);
+         do
+         {
+            kind = jjMoveNfa_0_64to127(jjstateSet[--i], l, kind);
+         } while(i != startsAt);
+      }
+      else
+      {
+         int hiByte = (curChar >> 8);
+         int i1 = hiByte >> 6;
+         long l1 = 1L << (hiByte & 077);
+         int i2 = (curChar & 0xff) >> 6;
+         long l2 = 1L << (curChar & 077);
+         do
          {
             switch(jjstateSet[--i])
             {
-               case 1364:
-                  if ((0x3ff200000000000L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 40)
-                  {
-                     if (kind > 103)
-                        kind = 103;
-                  }
-                  if ((0x3ff200000000000L & l) != 0L)
+               case 1404:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                   {
                      if (kind > 22)
                         kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
+                     { jjCheckNAddTwoStates(767, 768); }
                   }
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1362:
-                  if ((0x3ff200000000000L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 40)
-                  {
-                     if (kind > 103)
-                        kind = 103;
-                  }
-                  if ((0x3ff200000000000L & l) != 0L)
+               case 0:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1732, 1736); }
+                  break;
+               case 1405:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                   {
                      if (kind > 22)
                         kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
+                     { jjCheckNAddTwoStates(767, 768); }
                   }
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1363:
-                  if ((0x3ff200000000000L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 40)
-                  {
-                     if (kind > 103)
-                        kind = 103;
-                  }
-                  if ((0x3ff200000000000L & l) != 0L)
+               case 766:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                   {
                      if (kind > 22)
                         kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
+                     { jjCheckNAddTwoStates(767, 768); }
                   }
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1365:
-                  if ((0x3ff200000000000L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 40)
-                  {
-                     if (kind > 103)
-                        kind = 103;
-                  }
-                  if ((0x3ff200000000000L & l) != 0L)
+               case 1403:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                   {
                      if (kind > 22)
                         kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  else if (curChar == 40)
-                  {
-                     if (kind > 101)
-                        kind = 101;
+                     { jjCheckNAddTwoStates(767, 768); }
                   }
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1361:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(3, 6); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(691, 692); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(686, 690); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(682, 685); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(7, 9); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(10, 12); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(13, 15); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(16, 18); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(19, 21); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(22, 24); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(25, 27); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(28, 30); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(31, 33); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(34, 36); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(37, 39); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(40, 42); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(43, 45); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(46, 48); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(49, 51); }
-                  if ((0x3ff000000000000L & l) != 0L)
-                  {
-                     if (kind > 24)
-                        kind = 24;
-                     { jjCheckNAdd(258); }
-                  }
-                  if ((0x3ff000000000000L & l) != 0L)
+               case 1402:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
                   {
-                     if (kind > 20)
-                        kind = 20;
-                     { jjCheckNAdd(257); }
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
                   }
-                  break;
-               case 0:
-                  if ((0x3ff000000000000L & l) != 0L)
-                  {
-                     if (kind > 20)
-                        kind = 20;
-                     { jjCheckNAddStates(52, 150); }
-                  }
-                  else if ((0x100003600L & l) != 0L)
-                  {
-                     if (kind > 1)
-                        kind = 1;
-                     { jjCheckNAddStates(151, 160); }
-                  }
-                  else if (curChar == 45)
-                     { jjAddStates(161, 164); }
-                  else if (curChar == 46)
-                     { jjCheckNAddStates(165, 185); }
-                  else if (curChar == 33)
-                     { jjCheckNAddStates(186, 189); }
-                  else if (curChar == 35)
-                     { jjCheckNAddTwoStates(49, 50); }
-                  else if (curChar == 44)
-                  {
-                     if (kind > 71)
-                        kind = 71;
-                  }
-                  else if (curChar == 62)
-                  {
-                     if (kind > 69)
-                        kind = 69;
-                  }
-                  else if (curChar == 43)
-                  {
-                     if (kind > 68)
-                        kind = 68;
-                  }
-                  else if (curChar == 39)
-                     { jjCheckNAddStates(190, 192); }
-                  else if (curChar == 34)
-                     { jjCheckNAddStates(193, 195); }
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
                   break;
                case 1:
-                  if ((0xfffffffbffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(193, 195); }
+               case 7:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 2:
-                  if (curChar == 34 && kind > 25)
-                     kind = 25;
+               case 23:
+               case 29:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 4:
-                  if ((0x3400L & l) != 0L)
-                     { jjCheckNAddStates(193, 195); }
+               case 49:
+               case 51:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
                   break;
-               case 5:
-                  if (curChar == 10)
-                     { jjCheckNAddStates(193, 195); }
+               case 71:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjAddStates(1778, 1779); }
                   break;
-               case 6:
-               case 10:
-                  if (curChar == 13)
-                     { jjCheckNAdd(5); }
+               case 73:
+               case 74:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddTwoStates(74, 75); }
                   break;
-               case 7:
-                  if ((0xfc00ffffffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(193, 195); }
+               case 732:
+               case 733:
+               case 735:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
                   break;
-               case 8:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(196, 205); }
+               case 767:
+               case 769:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
                   break;
-               case 9:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(206, 210); }
+               case 785:
+               case 789:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 11:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(193, 195); }
+               case 786:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(52, 54); }
+                  break;
+               case 1164:
+               case 1165:
+               case 1167:
+                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
+                  break;
+               case 1247:
+               case 1251:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(1590, 1593); }
+                  break;
+               case 1268:
+               case 1274:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(1609, 1611); }
+                  break;
+               case 1290:
+               case 1296:
+                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
+               default : if (i1 == 0 || l1 == 0 || i2 == 0 ||  l2 == 0) break; else break;
+            }
+         } while(i != startsAt);
+      }
+      if (kind != 0x7fffffff)
+      {
+         jjmatchedKind = kind;
+         jjmatchedPos = curPos;
+         kind = 0x7fffffff;
+      }
+      ++curPos;
+      if ((i = jjnewStateCnt) == (startsAt = 1401 - (jjnewStateCnt = startsAt)))
+         return curPos;
+      try { curChar = input_stream.readChar(); }
+      catch(java.io.IOException e) { return curPos; }
+   }
+}
+
+private int jjMoveNfa_0_64to127(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1404:
+               case 0:
+               case 1405:
+               case 766:
+               case 1403:
+               case 1402:
+               case 1:
+               case 3:
+               case 7:
+               case 8:
+               case 9:
                case 12:
                case 14:
                case 17:
                case 21:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(9); }
-                  break;
                case 13:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 14;
-                  break;
                case 15:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 16;
-                  break;
                case 16:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 17;
-                  break;
                case 18:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 19;
-                  break;
                case 19:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 20;
-                  break;
                case 20:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 21;
-                  break;
-               case 22:
-                  if (curChar == 39)
-                     { jjCheckNAddStates(190, 192); }
-                  break;
                case 23:
-                  if ((0xffffff7fffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(190, 192); }
-                  break;
-               case 24:
-                  if (curChar == 39 && kind > 25)
-                     kind = 25;
-                  break;
-               case 26:
-                  if ((0x3400L & l) != 0L)
-                     { jjCheckNAddStates(190, 192); }
-                  break;
-               case 27:
-                  if (curChar == 10)
-                     { jjCheckNAddStates(190, 192); }
-                  break;
-               case 28:
-               case 32:
-                  if (curChar == 13)
-                     { jjCheckNAdd(27); }
-                  break;
+               case 25:
                case 29:
-                  if ((0xfc00ffffffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(190, 192); }
-                  break;
                case 30:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(211, 220); }
-                  break;
                case 31:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(221, 225); }
-                  break;
-               case 33:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(190, 192); }
-                  break;
                case 34:
                case 36:
                case 39:
                case 43:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(31); }
-                  break;
                case 35:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 36;
-                  break;
                case 37:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 38;
-                  break;
                case 38:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 39;
-                  break;
                case 40:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 41;
-                  break;
                case 41:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 42;
-                  break;
                case 42:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 43;
-                  break;
-               case 45:
-                  if (curChar == 43 && kind > 68)
-                     kind = 68;
-                  break;
-               case 46:
-                  if (curChar == 62 && kind > 69)
-                     kind = 69;
-                  break;
-               case 47:
-                  if (curChar == 44 && kind > 71)
-                     kind = 71;
-                  break;
-               case 48:
-                  if (curChar == 35)
-                     { jjCheckNAddTwoStates(49, 50); }
-                  break;
+               case 44:
                case 49:
-                  if ((0x3ff200000000000L & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
-                  break;
+               case 50:
                case 51:
-                  if ((0xfc00ffffffffcbffL & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
-                  break;
                case 52:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddStates(226, 234); }
-                  break;
                case 53:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddStates(235, 238); }
-                  break;
-               case 54:
-                  if (curChar != 10)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
-                  break;
-               case 55:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 54;
-                  break;
-               case 56:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
-                  break;
                case 57:
                case 59:
                case 62:
                case 66:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(53); }
-                  break;
                case 58:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 59;
-                  break;
                case 60:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 61;
-                  break;
                case 61:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 62;
-                  break;
                case 63:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 64;
-                  break;
                case 64:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 65;
-                  break;
                case 65:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 66;
-                  break;
-               case 67:
-                  if (curChar == 33)
-                     { jjCheckNAddStates(186, 189); }
-                  break;
-               case 68:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(186, 189); }
-                  break;
-               case 69:
-                  if (curChar == 47)
-                     jjstateSet[jjnewStateCnt++] = 70;
-                  break;
-               case 70:
-                  if (curChar == 42)
-                     { jjCheckNAddTwoStates(71, 72); }
-                  break;
                case 71:
-                  if ((0xfffffbffffffffffL & l) != 0L)
-                     { jjCheckNAddTwoStates(71, 72); }
-                  break;
-               case 72:
-                  if (curChar == 42)
-                     { jjCheckNAddStates(239, 241); }
-                  break;
                case 73:
-                  if ((0xffff7bffffffffffL & l) != 0L)
-                     { jjCheckNAddTwoStates(74, 75); }
-                  break;
                case 74:
-                  if ((0xfffffbffffffffffL & l) != 0L)
-                     { jjCheckNAddTwoStates(74, 75); }
-                  break;
-               case 75:
-                  if (curChar == 42)
-                     { jjCheckNAddStates(242, 244); }
-                  break;
-               case 76:
-                  if (curChar == 47)
-                     { jjCheckNAddStates(186, 189); }
-                  break;
-               case 87:
-                  if (curChar != 52)
-                     break;
-                  if (kind > 78)
-                     kind = 78;
-                  { jjAddStates(245, 246); }
-                  break;
-               case 88:
-                  if (curChar == 10 && kind > 78)
-                     kind = 78;
-                  break;
-               case 89:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 88;
-                  break;
-               case 90:
-                  if ((0x100003600L & l) != 0L && kind > 78)
-                     kind = 78;
-                  break;
-               case 91:
-                  if (curChar == 53)
-                     { jjCheckNAdd(87); }
-                  break;
-               case 92:
-                  if (curChar == 55)
-                     { jjCheckNAdd(87); }
-                  break;
-               case 93:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(247, 251); }
-                  break;
-               case 94:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(91, 92); }
-                  break;
-               case 95:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(252, 254); }
-                  break;
-               case 96:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(255, 258); }
-                  break;
-               case 99:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(85, 86); }
-                  break;
-               case 100:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 99;
-                  break;
-               case 101:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(85, 86); }
-                  break;
-               case 102:
-                  if (curChar == 52)
-                     { jjCheckNAdd(98); }
-                  break;
-               case 103:
-                  if (curChar == 54)
-                     { jjCheckNAdd(98); }
-                  break;
-               case 104:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(259, 263); }
-                  break;
-               case 105:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(102, 103); }
-                  break;
-               case 106:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(264, 266); }
-                  break;
-               case 107:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(267, 270); }
-                  break;
-               case 109:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(271, 274); }
-                  break;
-               case 110:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(84, 97); }
-                  break;
-               case 111:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 110;
-                  break;
-               case 112:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(84, 97); }
-                  break;
-               case 113:
-                  if (curChar == 52)
-                     { jjCheckNAdd(109); }
-                  break;
-               case 114:
-                  if (curChar == 54)
-                     { jjCheckNAdd(109); }
-                  break;
-               case 115:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(275, 279); }
-                  break;
-               case 116:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(113, 114); }
-                  break;
-               case 117:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(280, 282); }
-                  break;
-               case 118:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(283, 286); }
-                  break;
-               case 120:
-                  if (curChar == 52)
-                     { jjCheckNAddStates(287, 290); }
-                  break;
-               case 121:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(83, 108); }
-                  break;
-               case 122:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 121;
-                  break;
-               case 123:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(83, 108); }
-                  break;
-               case 124:
-                  if (curChar == 53)
-                     { jjCheckNAdd(120); }
-                  break;
-               case 125:
-                  if (curChar == 55)
-                     { jjCheckNAdd(120); }
-                  break;
-               case 126:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(291, 295); }
-                  break;
-               case 127:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(124, 125); }
-                  break;
-               case 128:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(296, 298); }
-                  break;
-               case 129:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(299, 302); }
-                  break;
-               case 131:
-                  if (curChar == 50)
-                     { jjCheckNAddStates(303, 306); }
-                  break;
-               case 132:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(82, 119); }
-                  break;
-               case 133:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 132;
-                  break;
-               case 134:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(82, 119); }
-                  break;
-               case 135:
-                  if (curChar == 53)
-                     { jjCheckNAdd(131); }
-                  break;
-               case 136:
-                  if (curChar == 55)
-                     { jjCheckNAdd(131); }
-                  break;
-               case 137:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(307, 311); }
-                  break;
-               case 138:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(135, 136); }
-                  break;
-               case 139:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(312, 314); }
-                  break;
-               case 140:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(315, 318); }
-                  break;
-               case 142:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(319, 322); }
-                  break;
-               case 143:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(81, 130); }
-                  break;
-               case 144:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 143;
-                  break;
-               case 145:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(81, 130); }
-                  break;
-               case 146:
-                  if (curChar == 53)
-                     { jjCheckNAdd(142); }
-                  break;
-               case 147:
-                  if (curChar == 55)
-                     { jjCheckNAdd(142); }
-                  break;
-               case 148:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(323, 327); }
-                  break;
-               case 149:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(146, 147); }
-                  break;
-               case 150:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(328, 330); }
-                  break;
-               case 151:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(331, 334); }
-                  break;
-               case 153:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(335, 338); }
-                  break;
-               case 154:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(80, 141); }
+               case 77:
+               case 78:
+               case 79:
+               case 80:
+               case 81:
+               case 82:
+               case 83:
+               case 84:
+               case 85:
+               case 86:
+               case 97:
+               case 98:
+               case 108:
+               case 119:
+               case 130:
+               case 141:
+               case 152:
+               case 163:
+               case 164:
+               case 174:
+               case 185:
+               case 186:
+               case 187:
+               case 189:
+               case 200:
+               case 211:
+               case 212:
+               case 213:
+               case 214:
+               case 216:
+               case 227:
+                  return jjMoveNfa_0_64to127_1404(state, l, kind);
+               case 228:
+               case 238:
+               case 260:
+               case 261:
+               case 262:
+               case 263:
+               case 273:
+               case 285:
+               case 286:
+               case 287:
+               case 288:
+               case 289:
+               case 299:
+               case 310:
+               case 322:
+               case 323:
+               case 324:
+               case 335:
+               case 347:
+               case 348:
+               case 349:
+               case 360:
+               case 372:
+               case 373:
+               case 374:
+               case 375:
+               case 385:
+               case 397:
+               case 398:
+               case 399:
+               case 400:
+               case 410:
+               case 411:
+               case 422:
+               case 423:
+               case 424:
+               case 425:
+               case 435:
+               case 447:
+               case 448:
+               case 449:
+               case 460:
+               case 472:
+               case 473:
+               case 474:
+               case 485:
+               case 497:
+               case 498:
+               case 499:
+               case 500:
+               case 511:
+               case 522:
+               case 534:
+               case 535:
+               case 536:
+               case 537:
+               case 548:
+               case 559:
+               case 571:
+               case 572:
+               case 573:
+               case 574:
+               case 575:
+               case 586:
+               case 597:
+               case 608:
+               case 620:
+               case 621:
+               case 622:
+               case 633:
+               case 634:
+               case 645:
+               case 646:
+               case 658:
+               case 659:
+               case 660:
+               case 661:
+               case 671:
+               case 683:
+               case 684:
+               case 685:
+               case 686:
+               case 687:
+               case 697:
+               case 708:
+               case 709:
+               case 720:
+               case 721:
+               case 722:
+               case 724:
+               case 725:
+               case 726:
+               case 727:
+               case 732:
+               case 733:
+                  return jjMoveNfa_0_64to127_228(state, l, kind);
+               case 734:
+               case 735:
+               case 736:
+               case 737:
+               case 741:
+               case 743:
+               case 746:
+               case 750:
+               case 742:
+               case 744:
+               case 745:
+               case 747:
+               case 748:
+               case 749:
+               case 751:
+               case 752:
+               case 753:
+               case 755:
+               case 757:
+               case 760:
+               case 764:
+               case 756:
+               case 758:
+               case 759:
+               case 761:
+               case 762:
+               case 763:
+               case 767:
+               case 768:
+               case 769:
+               case 770:
+               case 771:
+               case 775:
+               case 777:
+               case 780:
+               case 784:
+               case 776:
+               case 778:
+               case 779:
+               case 781:
+               case 782:
+               case 783:
+               case 785:
+               case 786:
+               case 788:
+               case 789:
+               case 790:
+               case 791:
+               case 795:
+               case 797:
+               case 800:
+               case 804:
+               case 796:
+               case 798:
+               case 799:
+               case 801:
+               case 802:
+               case 803:
+               case 805:
+               case 806:
+               case 807:
+               case 809:
+               case 811:
+               case 814:
+               case 818:
+               case 810:
+               case 812:
+               case 813:
+               case 815:
+               case 816:
+               case 817:
+               case 819:
+               case 820:
+               case 821:
+               case 823:
+               case 825:
+               case 828:
+               case 832:
+               case 824:
+               case 826:
+               case 827:
+               case 829:
+               case 830:
+               case 831:
+               case 833:
+               case 834:
+               case 835:
+               case 836:
+               case 837:
+               case 838:
+               case 839:
+               case 840:
+               case 841:
+               case 852:
+               case 863:
+               case 874:
+               case 885:
+               case 886:
+               case 896:
+               case 897:
+               case 898:
+               case 899:
+               case 900:
+               case 911:
+               case 922:
+                  return jjMoveNfa_0_64to127_734(state, l, kind);
+               case 933:
+               case 934:
+               case 935:
+               case 936:
+               case 937:
+               case 938:
+               case 949:
+               case 960:
+               case 971:
+               case 982:
+               case 983:
+               case 984:
+               case 985:
+               case 987:
+               case 988:
+               case 989:
+               case 990:
+               case 991:
+               case 1002:
+               case 1013:
+               case 1024:
+               case 1035:
+               case 1046:
+               case 1047:
+               case 1057:
+               case 1068:
+               case 1079:
+               case 1080:
+               case 1081:
+               case 1082:
+               case 1083:
+               case 1084:
+               case 1085:
+               case 1086:
+               case 1097:
+               case 1108:
+               case 1119:
+               case 1130:
+               case 1141:
+               case 1152:
+               case 1164:
+               case 1165:
+               case 1166:
+               case 1167:
+               case 1168:
+               case 1169:
+               case 1173:
+               case 1175:
+               case 1178:
+               case 1182:
+               case 1174:
+               case 1176:
+               case 1177:
+               case 1179:
+               case 1180:
+               case 1181:
+               case 1183:
+               case 1184:
+               case 1185:
+               case 1187:
+               case 1189:
+               case 1192:
+               case 1196:
+               case 1188:
+               case 1190:
+               case 1191:
+               case 1193:
+               case 1194:
+               case 1195:
+               case 1197:
+               case 1198:
+               case 1208:
+               case 1219:
+               case 1230:
+               case 1232:
+               case 1234:
+               case 1235:
+               case 1236:
+               case 1237:
+               case 1238:
+               case 1239:
+               case 1240:
+               case 1241:
+               case 1242:
+               case 1243:
+               case 1244:
+               case 1245:
+               case 1247:
+               case 1250:
+               case 1251:
+               case 1252:
+               case 1253:
+               case 1257:
+               case 1259:
+               case 1262:
+               case 1266:
+                  return jjMoveNfa_0_64to127_933(state, l, kind);
+               case 1258:
+               case 1260:
+               case 1261:
+               case 1263:
+               case 1264:
+               case 1265:
+               case 1268:
+               case 1270:
+               case 1274:
+               case 1275:
+               case 1276:
+               case 1279:
+               case 1281:
+               case 1284:
+               case 1288:
+               case 1280:
+               case 1282:
+               case 1283:
+               case 1285:
+               case 1286:
+               case 1287:
+               case 1290:
+               case 1292:
+               case 1296:
+               case 1297:
+               case 1298:
+               case 1301:
+               case 1303:
+               case 1306:
+               case 1310:
+               case 1302:
+               case 1304:
+               case 1305:
+               case 1307:
+               case 1308:
+               case 1309:
+               case 1312:
+               case 1313:
+               case 1314:
+               case 1320:
+                  return jjMoveNfa_0_64to127_1258(state, l, kind);
+      default : return kind;
+   }
+}
+
+private int jjMoveNfa_0_64to127_1404(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1404:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 770); }
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
+                  else if (curChar == 92)
+                     { jjCheckNAddStates(1728, 1731); }
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 188;
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 790); }
+                  break;
+               case 0:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddStates(1732, 1736); }
+                  }
+                  else if (curChar == 92)
+                     { jjCheckNAddStates(1737, 1748); }
+                  else if (curChar == 64)
+                     { jjCheckNAddStates(1749, 1761); }
+                  else if (curChar == 123)
+                  {
+                     if (kind > 55)
+                        kind = 55;
+                  }
+                  if ((0x20000000200000L & l) != 0L)
+                     { jjAddStates(1762, 1763); }
+                  else if ((0x100000001000L & l) != 0L)
+                     { jjCheckNAddTwoStates(212, 238); }
+                  else if ((0x400000004000L & l) != 0L)
+                     { jjCheckNAddTwoStates(186, 200); }
+                  break;
+               case 1405:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 770); }
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 790); }
+                  break;
+               case 766:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 820); }
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 806); }
+                  break;
+               case 1403:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 770); }
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
+                  else if (curChar == 92)
+                     { jjCheckNAddStates(1764, 1767); }
+                  if ((0x800000008000L & l) != 0L)
+                     { jjCheckNAddTwoStates(187, 189); }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 790); }
+                  break;
+               case 1402:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 770); }
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
+                  else if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 790); }
+                  break;
+               case 1:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     { jjCheckNAddStates(202, 204); }
+                  break;
+               case 3:
+                  if (curChar == 92)
+                     { jjAddStates(1768, 1771); }
+                  break;
+               case 7:
+                  if ((0xffffff81ffffff81L & l) != 0L)
+                     { jjCheckNAddStates(202, 204); }
+                  break;
+               case 8:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(205, 214); }
+                  break;
+               case 9:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(215, 219); }
+                  break;
+               case 12:
+               case 14:
+               case 17:
+               case 21:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(9); }
+                  break;
+               case 13:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
+                  break;
+               case 15:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 16;
+                  break;
+               case 16:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 17;
+                  break;
+               case 18:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 19;
+                  break;
+               case 19:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 20;
+                  break;
+               case 20:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 21;
+                  break;
+               case 23:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     { jjCheckNAddStates(199, 201); }
+                  break;
+               case 25:
+                  if (curChar == 92)
+                     { jjAddStates(1772, 1775); }
+                  break;
+               case 29:
+                  if ((0xffffff81ffffff81L & l) != 0L)
+                     { jjCheckNAddStates(199, 201); }
+                  break;
+               case 30:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(220, 229); }
+                  break;
+               case 31:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(230, 234); }
+                  break;
+               case 34:
+               case 36:
+               case 39:
+               case 43:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(31); }
+                  break;
+               case 35:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 36;
+                  break;
+               case 37:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 38;
+                  break;
+               case 38:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 39;
+                  break;
+               case 40:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 41;
+                  break;
+               case 41:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 42;
+                  break;
+               case 42:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 43;
+                  break;
+               case 44:
+                  if (curChar == 123 && kind > 55)
+                     kind = 55;
+                  break;
+               case 49:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
+                  break;
+               case 50:
+                  if (curChar == 92)
+                     { jjAddStates(1776, 1777); }
+                  break;
+               case 51:
+                  if ((0xffffff81ffffff81L & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
+                  break;
+               case 52:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddStates(235, 243); }
+                  break;
+               case 53:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddStates(244, 247); }
+                  break;
+               case 57:
+               case 59:
+               case 62:
+               case 66:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(53); }
+                  break;
+               case 58:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 59;
+                  break;
+               case 60:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 61;
+                  break;
+               case 61:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 62;
+                  break;
+               case 63:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 64;
+                  break;
+               case 64:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 65;
+                  break;
+               case 65:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 66;
+                  break;
+               case 71:
+                  { jjAddStates(1778, 1779); }
+                  break;
+               case 73:
+               case 74:
+                  { jjCheckNAddTwoStates(74, 75); }
+                  break;
+               case 77:
+                  if ((0x20000000200L & l) != 0L)
+                     { jjCheckNAddTwoStates(78, 163); }
+                  break;
+               case 78:
+                  if ((0x200000002000L & l) != 0L)
+                     { jjCheckNAddTwoStates(79, 152); }
+                  break;
+               case 79:
+                  if ((0x1000000010000L & l) != 0L)
+                     { jjCheckNAddTwoStates(80, 141); }
+                  break;
+               case 80:
+                  if ((0x800000008000L & l) != 0L)
+                     { jjCheckNAddTwoStates(81, 130); }
+                  break;
+               case 81:
+                  if ((0x4000000040000L & l) != 0L)
+                     { jjCheckNAddTwoStates(82, 119); }
+                  break;
+               case 82:
+                  if ((0x10000000100000L & l) != 0L)
+                     { jjAddStates(1780, 1781); }
+                  break;
+               case 83:
+                  if ((0x200000002L & l) != 0L)
+                     { jjCheckNAddTwoStates(84, 97); }
+                  break;
+               case 84:
+                  if ((0x400000004000L & l) != 0L)
+                     { jjCheckNAddTwoStates(85, 86); }
+                  break;
+               case 85:
+                  if ((0x10000000100000L & l) != 0L && kind > 78)
+                     kind = 78;
+                  break;
+               case 86:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1782, 1785); }
+                  break;
+               case 97:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1786, 1789); }
+                  break;
+               case 98:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddStates(1790, 1793); }
+                  break;
+               case 108:
+                  if (curChar == 92)
+                     { jjAddStates(1794, 1796); }
+                  break;
+               case 119:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1797, 1800); }
+                  break;
+               case 130:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1801, 1804); }
+                  break;
+               case 141:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1805, 1808); }
+                  break;
+               case 152:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1809, 1812); }
+                  break;
+               case 163:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1813, 1816); }
+                  break;
+               case 164:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjCheckNAddStates(1817, 1820); }
+                  break;
+               case 174:
+                  if (curChar == 92)
+                     { jjAddStates(1821, 1824); }
+                  break;
+               case 185:
+                  if ((0x400000004000L & l) != 0L)
+                     { jjCheckNAddTwoStates(186, 200); }
+                  break;
+               case 186:
+                  if ((0x800000008000L & l) != 0L)
+                     { jjCheckNAddTwoStates(187, 189); }
+                  break;
+               case 187:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 188;
+                  break;
+               case 189:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1728, 1731); }
+                  break;
+               case 200:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1764, 1767); }
+                  break;
+               case 211:
+                  if ((0x100000001000L & l) != 0L)
+                     { jjCheckNAddTwoStates(212, 238); }
+                  break;
+               case 212:
+                  if ((0x200000002L & l) != 0L)
+                     { jjCheckNAddTwoStates(213, 227); }
+                  break;
+               case 213:
+                  if ((0x400000004000L & l) != 0L)
+                     { jjCheckNAddTwoStates(214, 216); }
+                  break;
+               case 214:
+                  if ((0x8000000080L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 215;
+                  break;
+               case 216:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1825, 1828); }
+                  break;
+               case 227:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1829, 1832); }
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_64to127_228(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 228:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddStates(1833, 1836); }
+                  break;
+               case 238:
+                  if (curChar == 92)
+                     { jjAddStates(1837, 1839); }
+                  break;
+               case 260:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddTwoStates(261, 262); }
+                  break;
+               case 261:
+                  if ((0x200000002000L & l) != 0L && kind > 79)
+                     kind = 79;
+                  break;
+               case 262:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1840, 1843); }
+                  break;
+               case 263:
+                  if ((0x1000000010L & l) == 0L)
+                     break;
+                  if (kind > 79)
+                     kind = 79;
+                  { jjAddStates(1844, 1845); }
+                  break;
+               case 273:
+                  if (curChar == 92)
+                     { jjAddStates(1846, 1848); }
+                  break;
+               case 285:
+                  if ((0x4000000040000L & l) != 0L)
+                     { jjAddStates(1849, 1850); }
+                  break;
+               case 286:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddTwoStates(287, 288); }
+                  break;
+               case 287:
+                  if ((0x200000002000L & l) != 0L && kind > 80)
+                     kind = 80;
+                  break;
+               case 288:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1851, 1854); }
+                  break;
+               case 289:
+                  if ((0x1000000010L & l) == 0L)
+                     break;
+                  if (kind > 80)
+                     kind = 80;
+                  { jjAddStates(1855, 1856); }
+                  break;
+               case 299:
+                  if (curChar == 92)
+                     { jjAddStates(1857, 1859); }
+                  break;
+               case 310:
+                  if (curChar == 92)
+                     { jjAddStates(1860, 1863); }
+                  break;
+               case 322:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddTwoStates(323, 324); }
+                  break;
+               case 323:
+                  if ((0x100000001000000L & l) != 0L && kind > 81)
+                     kind = 81;
+                  break;
+               case 324:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1864, 1867); }
+                  break;
+               case 335:
+                  if (curChar == 92)
+                     { jjAddStates(1868, 1870); }
+                  break;
+               case 347:
+                  if ((0x1000000010000L & l) != 0L)
+                     { jjCheckNAddTwoStates(348, 349); }
+                  break;
+               case 348:
+                  if ((0x100000001000000L & l) != 0L && kind > 82)
+                     kind = 82;
+                  break;
+               case 349:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1871, 1874); }
+                  break;
+               case 360:
+                  if (curChar == 92)
+                     { jjAddStates(1875, 1878); }
+                  break;
+               case 372:
+                  if ((0x800000008L & l) != 0L)
+                     { jjCheckNAddTwoStates(373, 374); }
+                  break;
+               case 373:
+                  if ((0x200000002000L & l) != 0L && kind > 83)
+                     kind = 83;
+                  break;
+               case 374:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1879, 1882); }
+                  break;
+               case 375:
+                  if ((0x1000000010L & l) == 0L)
+                     break;
+                  if (kind > 83)
+                     kind = 83;
+                  { jjAddStates(1883, 1884); }
+                  break;
+               case 385:
+                  if (curChar == 92)
+                     { jjAddStates(1885, 1887); }
+                  break;
+               case 397:
+                  if ((0x200000002000L & l) != 0L)
+                     { jjCheckNAddTwoStates(398, 399); }
+                  break;
+               case 398:
+                  if ((0x200000002000L & l) != 0L && kind > 84)
+                     kind = 84;
+                  break;
+               case 399:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1888, 1891); }
+                  break;
+               case 400:
+                  if ((0x1000000010L & l) == 0L)
+                     break;
+                  if (kind > 84)
+                     kind = 84;
+                  { jjAddStates(1892, 1893); }
+                  break;
+               case 410:
+                  if (curChar == 92)
+                     { jjAddStates(1894, 1897); }
+                  break;
+               case 411:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjCheckNAddStates(1898, 1901); }
+                  break;
+               case 422:
+                  if ((0x20000000200L & l) != 0L)
+                     { jjCheckNAddTwoStates(423, 424); }
+                  break;
+               case 423:
+                  if ((0x400000004000L & l) != 0L && kind > 85)
+                     kind = 85;
+                  break;
+               case 424:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1902, 1905); }
+                  break;
+               case 425:
+                  if ((0x2000000020L & l) == 0L)
+                     break;
+                  if (kind > 85)
+                     kind = 85;
+                  { jjAddStates(1906, 1907); }
+                  break;
+               case 435:
+                  if (curChar == 92)
+                     { jjAddStates(1908, 1911); }
+                  break;
+               case 447:
+                  if ((0x1000000010000L & l) != 0L)
+                     { jjCheckNAddTwoStates(448, 449); }
+                  break;
+               case 448:
+                  if ((0x10000000100000L & l) != 0L && kind > 86)
+                     kind = 86;
+                  break;
+               case 449:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1912, 1915); }
+                  break;
+               case 460:
+                  if (curChar == 92)
+                     { jjAddStates(1916, 1919); }
+                  break;
+               case 472:
+                  if ((0x1000000010000L & l) != 0L)
+                     { jjAddStates(1920, 1921); }
+                  break;
+               case 473:
+                  if ((0x800000008L & l) != 0L && kind > 87)
+                     kind = 87;
+                  break;
+               case 474:
+                  if (curChar == 92)
+                     { jjAddStates(1922, 1924); }
+                  break;
+               case 485:
+                  if (curChar == 92)
+                     { jjAddStates(1925, 1928); }
+                  break;
+               case 497:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjAddStates(1929, 1930); }
+                  break;
+               case 498:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddTwoStates(499, 500); }
+                  break;
+               case 499:
+                  if ((0x8000000080L & l) != 0L && kind > 88)
+                     kind = 88;
+                  break;
+               case 500:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1931, 1934); }
+                  break;
+               case 511:
+                  if (curChar == 92)
+                     { jjAddStates(1935, 1937); }
+                  break;
+               case 522:
+                  if (curChar == 92)
+                     { jjAddStates(1938, 1940); }
+                  break;
+               case 534:
+                  if ((0x4000000040000L & l) != 0L)
+                     { jjAddStates(1941, 1942); }
+                  break;
+               case 535:
+                  if ((0x200000002L & l) != 0L)
+                     { jjAddStates(1943, 1944); }
+                  break;
+               case 536:
+                  if ((0x1000000010L & l) != 0L && kind > 89)
+                     kind = 89;
+                  break;
+               case 537:
+                  if (curChar == 92)
+                     { jjAddStates(1945, 1947); }
+                  break;
+               case 548:
+                  if (curChar == 92)
+                     { jjAddStates(1948, 1950); }
+                  break;
+               case 559:
+                  if (curChar == 92)
+                     { jjAddStates(1951, 1954); }
+                  break;
+               case 571:
+                  if ((0x8000000080L & l) != 0L)
+                     { jjCheckNAddTwoStates(572, 597); }
+                  break;
+               case 572:
+                  if ((0x4000000040000L & l) != 0L)
+                     { jjAddStates(1955, 1956); }
+                  break;
+               case 573:
+                  if ((0x200000002L & l) != 0L)
+                     { jjAddStates(1957, 1958); }
+                  break;
+               case 574:
+                  if ((0x1000000010L & l) != 0L && kind > 90)
+                     kind = 90;
+                  break;
+               case 575:
+                  if (curChar == 92)
+                     { jjAddStates(1959, 1961); }
+                  break;
+               case 586:
+                  if (curChar == 92)
+                     { jjAddStates(1962, 1964); }
+                  break;
+               case 597:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1965, 1968); }
+                  break;
+               case 608:
+                  if (curChar == 92)
+                     { jjAddStates(1969, 1972); }
+                  break;
+               case 620:
+                  if ((0x200000002000L & l) != 0L)
+                     { jjCheckNAddTwoStates(621, 622); }
+                  break;
+               case 621:
+                  if ((0x8000000080000L & l) != 0L && kind > 91)
+                     kind = 91;
+                  break;
+               case 622:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1973, 1976); }
+                  break;
+               case 633:
+                  if (curChar == 92)
+                     { jjAddStates(1977, 1980); }
+                  break;
+               case 634:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjCheckNAddStates(1981, 1984); }
+                  break;
+               case 645:
+                  if ((0x8000000080000L & l) != 0L && kind > 92)
+                     kind = 92;
+                  break;
+               case 646:
+                  if (curChar == 92)
+                     { jjAddStates(1985, 1988); }
+                  break;
+               case 658:
+                  if ((0x10000000100L & l) != 0L)
+                     { jjCheckNAddTwoStates(659, 660); }
+                  break;
+               case 659:
+                  if ((0x400000004000000L & l) != 0L && kind > 93)
+                     kind = 93;
+                  break;
+               case 660:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1989, 1992); }
+                  break;
+               case 661:
+                  if ((0x200000002L & l) == 0L)
+                     break;
+                  if (kind > 93)
+                     kind = 93;
+                  { jjAddStates(1993, 1994); }
+                  break;
+               case 671:
+                  if (curChar == 92)
+                     { jjAddStates(1995, 1998); }
+                  break;
+               case 683:
+                  if ((0x80000000800L & l) != 0L)
+                     { jjCheckNAddTwoStates(684, 697); }
+                  break;
+               case 684:
+                  if ((0x10000000100L & l) != 0L)
+                     { jjCheckNAddTwoStates(685, 686); }
+                  break;
+               case 685:
+                  if ((0x400000004000000L & l) != 0L && kind > 94)
+                     kind = 94;
+                  break;
+               case 686:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1999, 2002); }
+                  break;
+               case 687:
+                  if ((0x200000002L & l) == 0L)
+                     break;
+                  if (kind > 94)
+                     kind = 94;
+                  { jjAddStates(2003, 2004); }
+                  break;
+               case 697:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2005, 2008); }
+                  break;
+               case 708:
+                  if (curChar == 92)
+                     { jjAddStates(2009, 2012); }
+                  break;
+               case 709:
+                  if ((0x400000004L & l) != 0L)
+                     { jjCheckNAddStates(2013, 2016); }
+                  break;
+               case 720:
+                  if ((0x20000000200L & l) != 0L && kind > 95)
+                     kind = 95;
+                  break;
+               case 721:
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 720;
+                  break;
+               case 722:
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 721;
+                  break;
+               case 724:
+                  if ((0x200000002000L & l) != 0L && kind > 96)
+                     kind = 96;
+                  break;
+               case 725:
+                  if ((0x800000008L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 724;
+                  break;
+               case 726:
+                  if ((0x1000000010000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 725;
+                  break;
+               case 727:
+                  if ((0x1000000010L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 726;
+                  break;
+               case 732:
+               case 733:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_64to127_734(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 734:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(735, 736); }
+                  break;
+               case 735:
+                  if ((0xffffff81ffffff81L & l) == 0L)
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
+                  break;
+               case 736:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(996, 1004); }
+                  break;
+               case 737:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(1005, 1008); }
+                  break;
+               case 741:
+               case 743:
+               case 746:
+               case 750:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(737); }
+                  break;
+               case 742:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 743;
+                  break;
+               case 744:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 745;
+                  break;
+               case 745:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 746;
+                  break;
+               case 747:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 748;
+                  break;
+               case 748:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 749;
+                  break;
+               case 749:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 750;
+                  break;
+               case 751:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(735, 752); }
+                  break;
+               case 752:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(1009, 1017); }
+                  break;
+               case 753:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(1018, 1021); }
+                  break;
+               case 755:
+               case 757:
+               case 760:
+               case 764:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(753); }
+                  break;
+               case 756:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 757;
+                  break;
+               case 758:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 759;
+                  break;
+               case 759:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 760;
+                  break;
+               case 761:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 762;
+                  break;
+               case 762:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 763;
+                  break;
+               case 763:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 764;
+                  break;
+               case 767:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
+                  break;
+               case 768:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 770); }
+                  break;
+               case 769:
+                  if ((0xffffff81ffffff81L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
+                  break;
+               case 770:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1022, 1030); }
+                  break;
+               case 771:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1031, 1034); }
+                  break;
+               case 775:
+               case 777:
+               case 780:
+               case 784:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(771); }
+                  break;
+               case 776:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 777;
+                  break;
+               case 778:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 779;
+                  break;
+               case 779:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 780;
+                  break;
+               case 781:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 782;
+                  break;
+               case 782:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 783;
+                  break;
+               case 783:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 784;
+                  break;
+               case 785:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  break;
+               case 786:
+                  if ((0x7fffffe87fffffeL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  break;
+               case 788:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 790); }
+                  break;
+               case 789:
+                  if ((0xffffff81ffffff81L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  break;
+               case 790:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1035, 1044); }
+                  break;
+               case 791:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1045, 1049); }
+                  break;
+               case 795:
+               case 797:
+               case 800:
+               case 804:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(791); }
+                  break;
+               case 796:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 797;
+                  break;
+               case 798:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 799;
+                  break;
+               case 799:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 800;
+                  break;
+               case 801:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 802;
+                  break;
+               case 802:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 803;
+                  break;
+               case 803:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 804;
+                  break;
+               case 805:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(789, 806); }
+                  break;
+               case 806:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1050, 1059); }
+                  break;
+               case 807:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1060, 1064); }
+                  break;
+               case 809:
+               case 811:
+               case 814:
+               case 818:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(807); }
+                  break;
+               case 810:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 811;
+                  break;
+               case 812:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 813;
+                  break;
+               case 813:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 814;
+                  break;
+               case 815:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 816;
+                  break;
+               case 816:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 817;
+                  break;
+               case 817:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 818;
+                  break;
+               case 819:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(769, 820); }
+                  break;
+               case 820:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1065, 1073); }
+                  break;
+               case 821:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1074, 1077); }
+                  break;
+               case 823:
+               case 825:
+               case 828:
+               case 832:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(821); }
+                  break;
+               case 824:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 825;
+                  break;
+               case 826:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 827;
+                  break;
+               case 827:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 828;
+                  break;
+               case 829:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 830;
+                  break;
+               case 830:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 831;
+                  break;
+               case 831:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 832;
+                  break;
+               case 833:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1732, 1736); }
+                  break;
+               case 834:
+                  if (curChar == 64)
+                     { jjCheckNAddStates(1749, 1761); }
+                  break;
+               case 835:
+                  if ((0x20000000200L & l) != 0L)
+                     { jjCheckNAddTwoStates(836, 885); }
+                  break;
+               case 836:
+                  if ((0x200000002000L & l) != 0L)
+                     { jjCheckNAddTwoStates(837, 874); }
+                  break;
+               case 837:
+                  if ((0x1000000010000L & l) != 0L)
+                     { jjCheckNAddTwoStates(838, 863); }
+                  break;
+               case 838:
+                  if ((0x800000008000L & l) != 0L)
+                     { jjCheckNAddTwoStates(839, 852); }
+                  break;
+               case 839:
+                  if ((0x4000000040000L & l) != 0L)
+                     { jjCheckNAddTwoStates(840, 841); }
+                  break;
+               case 840:
+                  if ((0x10000000100000L & l) != 0L && kind > 73)
+                     kind = 73;
+                  break;
+               case 841:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2017, 2020); }
+                  break;
+               case 852:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2021, 2024); }
+                  break;
+               case 863:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2025, 2028); }
+                  break;
+               case 874:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2029, 2032); }
+                  break;
+               case 885:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2033, 2036); }
+                  break;
+               case 886:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjCheckNAddStates(2037, 2040); }
+                  break;
+               case 896:
+                  if ((0x1000000010000L & l) != 0L)
+                     { jjAddStates(2041, 2042); }
+                  break;
+               case 897:
+                  if ((0x200000002L & l) != 0L)
+                     { jjCheckNAddTwoStates(898, 911); }
+                  break;
+               case 898:
+                  if ((0x8000000080L & l) != 0L)
+                     { jjAddStates(2043, 2044); }
+                  break;
+               case 899:
+                  if ((0x2000000020L & l) != 0L && kind > 74)
+                     kind = 74;
+                  break;
+               case 900:
+                  if (curChar == 92)
+                     { jjAddStates(2045, 2047); }
+                  break;
+               case 911:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2048, 2051); }
+                  break;
+               case 922:
+                  if (curChar == 92)
+                     { jjAddStates(2052, 2054); }
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_64to127_933(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 933:
+                  if ((0x200000002000L & l) != 0L)
+                     { jjCheckNAddTwoStates(934, 971); }
+                  break;
+               case 934:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjAddStates(2055, 2056); }
+                  break;
+               case 935:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjCheckNAddTwoStates(936, 949); }
+                  break;
+               case 936:
+                  if ((0x20000000200L & l) != 0L)
+                     { jjAddStates(2057, 2058); }
+                  break;
+               case 937:
+                  if ((0x200000002L & l) != 0L && kind > 75)
+                     kind = 75;
+                  break;
+               case 938:
+                  if (curChar == 92)
+                     { jjAddStates(2059, 2061); }
+                  break;
+               case 949:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2062, 2065); }
+                  break;
+               case 960:
+                  if (curChar == 92)
+                     { jjAddStates(2066, 2068); }
+                  break;
+               case 971:
+                  if (curChar == 92)
+                     { jjAddStates(2069, 2071); }
+                  break;
+               case 982:
+                  if ((0x4000000040L & l) != 0L)
+                     { jjCheckNAddTwoStates(983, 1057); }
+                  break;
+               case 983:
+                  if ((0x800000008000L & l) != 0L)
+                     { jjCheckNAddTwoStates(984, 1046); }
+                  break;
+               case 984:
+                  if ((0x400000004000L & l) != 0L)
+                     { jjCheckNAddTwoStates(985, 1035); }
+                  break;
+               case 985:
+                  if ((0x10000000100000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 986;
+                  break;
+               case 987:
+                  if ((0x4000000040L & l) != 0L)
+                     { jjAddStates(2072, 2073); }
+                  break;
+               case 988:
+                  if ((0x200000002L & l) != 0L)
+                     { jjAddStates(2074, 2075); }
+                  break;
+               case 989:
+                  if ((0x800000008L & l) != 0L)
+                     { jjAddStates(2076, 2077); }
+                  break;
+               case 990:
+                  if ((0x2000000020L & l) != 0L && kind > 76)
+                     kind = 76;
+                  break;
+               case 991:
+                  if (curChar == 92)
+                     { jjAddStates(2078, 2080); }
+                  break;
+               case 1002:
+                  if (curChar == 92)
+                     { jjAddStates(2081, 2083); }
+                  break;
+               case 1013:
+                  if (curChar == 92)
+                     { jjAddStates(2084, 2086); }
+                  break;
+               case 1024:
+                  if (curChar == 92)
+                     { jjAddStates(2087, 2089); }
+                  break;
+               case 1035:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2090, 2093); }
+                  break;
+               case 1046:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2094, 2097); }
+                  break;
+               case 1047:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddStates(2098, 2101); }
+                  break;
+               case 1057:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2102, 2105); }
+                  break;
+               case 1068:
+                  if (curChar == 92)
+                     { jjAddStates(2106, 2108); }
+                  break;
+               case 1079:
+                  if ((0x800000008L & l) != 0L)
+                     { jjCheckNAddTwoStates(1080, 1141); }
+                  break;
+               case 1080:
+                  if ((0x10000000100L & l) != 0L)
+                     { jjAddStates(2109, 2110); }
+                  break;
+               case 1081:
+                  if ((0x200000002L & l) != 0L)
+                     { jjCheckNAddTwoStates(1082, 1119); }
+                  break;
+               case 1082:
+                  if ((0x4000000040000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1083, 1108); }
+                  break;
+               case 1083:
+                  if ((0x8000000080000L & l) != 0L)
+                     { jjAddStates(2111, 2112); }
+                  break;
+               case 1084:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddTwoStates(1085, 1086); }
+                  break;
+               case 1085:
+                  if ((0x10000000100000L & l) != 0L && kind > 77)
+                     kind = 77;
+                  break;
+               case 1086:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2113, 2116); }
+                  break;
+               case 1097:
+                  if (curChar == 92)
+                     { jjAddStates(2117, 2119); }
+                  break;
+               case 1108:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2120, 2123); }
+                  break;
+               case 1119:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2124, 2127); }
+                  break;
+               case 1130:
+                  if (curChar == 92)
+                     { jjAddStates(2128, 2130); }
+                  break;
+               case 1141:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2131, 2134); }
+                  break;
+               case 1152:
+                  if (curChar == 92)
+                     { jjAddStates(2135, 2137); }
+                  break;
+               case 1164:
+               case 1165:
+                  if ((0x7fffffe87fffffeL & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
+                  break;
+               case 1166:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(1167, 1168); }
+                  break;
+               case 1167:
+                  if ((0xffffff81ffffff81L & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
+                  break;
+               case 1168:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1495, 1503); }
+                  break;
+               case 1169:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1504, 1507); }
+                  break;
+               case 1173:
+               case 1175:
+               case 1178:
+               case 1182:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(1169); }
+                  break;
+               case 1174:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1175;
+                  break;
+               case 1176:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1177;
+                  break;
+               case 1177:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1178;
+                  break;
+               case 1179:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1180;
+                  break;
+               case 1180:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1181;
+                  break;
+               case 1181:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1182;
+                  break;
+               case 1183:
+                  if (curChar == 92)
+                     { jjCheckNAddTwoStates(1167, 1184); }
+                  break;
+               case 1184:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1508, 1516); }
+                  break;
+               case 1185:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1517, 1520); }
+                  break;
+               case 1187:
+               case 1189:
+               case 1192:
+               case 1196:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(1185); }
+                  break;
+               case 1188:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1189;
+                  break;
+               case 1190:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1191;
+                  break;
+               case 1191:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1192;
+                  break;
+               case 1193:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1194;
+                  break;
+               case 1194:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1195;
+                  break;
+               case 1195:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1196;
+                  break;
+               case 1197:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2138, 2141); }
+                  break;
+               case 1198:
+                  if ((0x1000000010L & l) != 0L)
+                     { jjCheckNAddStates(2142, 2145); }
+                  break;
+               case 1208:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2146, 2149); }
+                  break;
+               case 1219:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(2150, 2153); }
+                  break;
+               case 1230:
+                  if ((0x20000000200000L & l) != 0L)
+                     { jjAddStates(1762, 1763); }
+                  break;
+               case 1232:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddTwoStates(1233, 1240); }
+                  break;
+               case 1234:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  jjstateSet[jjnewStateCnt++] = 1235;
+                  break;
+               case 1235:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1565, 1568); }
+                  break;
+               case 1236:
+                  if ((0x7e0000007eL & l) != 0L && kind > 100)
+                     kind = 100;
+                  break;
+               case 1237:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAdd(1236); }
+                  break;
+               case 1238:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddTwoStates(1236, 1237); }
+                  break;
+               case 1239:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1569, 1571); }
+                  break;
+               case 1240:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1572, 1576); }
+                  break;
+               case 1241:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAdd(1233); }
+                  break;
+               case 1242:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddTwoStates(1241, 1233); }
+                  break;
+               case 1243:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1577, 1579); }
+                  break;
+               case 1244:
+                  if ((0x7e0000007eL & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1580, 1583); }
+                  break;
+               case 1245:
+                  if ((0x100000001000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1246;
+                  break;
+               case 1247:
+                  if ((0x7fffffffefffffffL & l) != 0L)
+                     { jjCheckNAddStates(1590, 1593); }
+                  break;
+               case 1250:
+                  if (curChar == 92)
+                     { jjAddStates(2154, 2155); }
+                  break;
+               case 1251:
+                  if ((0xffffff81ffffff81L & l) != 0L)
+                     { jjCheckNAddStates(1590, 1593); }
+                  break;
+               case 1252:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1594, 1603); }
+                  break;
+               case 1253:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1604, 1608); }
+                  break;
+               case 1257:
+               case 1259:
+               case 1262:
+               case 1266:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(1253); }
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_64to127_1258(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1258:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1259;
+                  break;
+               case 1260:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1261;
+                  break;
+               case 1261:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1262;
+                  break;
+               case 1263:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1264;
                   break;
-               case 155:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 154;
+               case 1264:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1265;
                   break;
-               case 156:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(80, 141); }
+               case 1265:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1266;
                   break;
-               case 157:
-                  if (curChar == 53)
-                     { jjCheckNAdd(153); }
+               case 1268:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 158:
-                  if (curChar == 55)
-                     { jjCheckNAdd(153); }
+               case 1270:
+                  if (curChar == 92)
+                     { jjAddStates(2156, 2159); }
                   break;
-               case 159:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(339, 343); }
+               case 1274:
+                  if ((0xffffff81ffffff81L & l) != 0L)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 160:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(157, 158); }
+               case 1275:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1612, 1621); }
+                  break;
+               case 1276:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1622, 1626); }
+                  break;
+               case 1279:
+               case 1281:
+               case 1284:
+               case 1288:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(1276); }
+                  break;
+               case 1280:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1281;
+                  break;
+               case 1282:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1283;
+                  break;
+               case 1283:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1284;
+                  break;
+               case 1285:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1286;
+                  break;
+               case 1286:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1287;
+                  break;
+               case 1287:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1288;
+                  break;
+               case 1290:
+                  if ((0xffffffffefffffffL & l) != 0L)
+                     { jjCheckNAddStates(1627, 1629); }
+                  break;
+               case 1292:
+                  if (curChar == 92)
+                     { jjAddStates(2160, 2163); }
+                  break;
+               case 1296:
+                  if ((0xffffff81ffffff81L & l) != 0L)
+                     { jjCheckNAddStates(1627, 1629); }
+                  break;
+               case 1297:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1630, 1639); }
+                  break;
+               case 1298:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAddStates(1640, 1644); }
+                  break;
+               case 1301:
+               case 1303:
+               case 1306:
+               case 1310:
+                  if ((0x7e0000007eL & l) != 0L)
+                     { jjCheckNAdd(1298); }
+                  break;
+               case 1302:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1303;
+                  break;
+               case 1304:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1305;
+                  break;
+               case 1305:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1306;
+                  break;
+               case 1307:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1308;
+                  break;
+               case 1308:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1309;
                   break;
+               case 1309:
+                  if ((0x7e0000007eL & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1310;
+                  break;
+               case 1312:
+                  if ((0x4000000040000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1245;
+                  break;
+               case 1313:
+                  if (curChar == 92)
+                     { jjCheckNAddStates(1737, 1748); }
+                  break;
+               case 1314:
+                  if ((0x2000000020L & l) != 0L)
+                     { jjCheckNAddStates(2164, 2167); }
+                  break;
+               case 1320:
+                  if ((0x800000008L & l) != 0L)
+                     { jjCheckNAddStates(2168, 2171); }
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1401:
+               case 1404:
+               case 0:
+               case 1405:
+               case 1403:
+               case 1402:
+               case 1:
+               case 2:
+               case 4:
+               case 5:
+               case 6:
+               case 10:
+               case 7:
+               case 8:
+               case 9:
+               case 11:
+               case 12:
+               case 14:
+               case 17:
+               case 21:
+               case 13:
+               case 15:
+               case 16:
+               case 18:
+               case 19:
+               case 20:
+               case 22:
+               case 23:
+               case 24:
+               case 26:
+               case 27:
+               case 28:
+               case 32:
+               case 29:
+               case 30:
+               case 31:
+               case 33:
+               case 34:
+               case 36:
+               case 39:
+               case 43:
+               case 35:
+               case 37:
+               case 38:
+               case 40:
+               case 41:
+               case 42:
+               case 45:
+               case 46:
+               case 47:
+               case 48:
+               case 49:
+               case 51:
+               case 52:
+               case 53:
+               case 54:
+               case 55:
+               case 56:
+               case 57:
+               case 59:
+               case 62:
+               case 66:
+               case 58:
+               case 60:
+               case 61:
+               case 63:
+               case 64:
+               case 65:
+               case 67:
+               case 68:
+                  return jjMoveNfa_0_0to63_1401(state, l, kind);
+               case 69:
+               case 70:
+               case 71:
+               case 72:
+               case 73:
+               case 74:
+               case 75:
+               case 76:
+               case 87:
+               case 88:
+               case 89:
+               case 90:
+               case 91:
+               case 92:
+               case 93:
+               case 94:
+               case 95:
+               case 96:
+               case 99:
+               case 100:
+               case 101:
+               case 102:
+               case 103:
+               case 104:
+               case 105:
+               case 106:
+               case 107:
+               case 109:
+               case 110:
+               case 111:
+               case 112:
+               case 113:
+               case 114:
+               case 115:
+               case 116:
+               case 117:
+               case 118:
+               case 120:
+               case 121:
+               case 122:
+               case 123:
+               case 124:
+               case 125:
+               case 126:
+               case 127:
+               case 128:
+               case 129:
+               case 131:
+               case 132:
+               case 133:
+               case 134:
+               case 135:
+               case 136:
+               case 137:
+               case 138:
+               case 139:
+               case 140:
+               case 142:
+               case 143:
+               case 144:
+               case 145:
+               case 146:
+               case 147:
+               case 148:
+               case 149:
+               case 150:
+               case 151:
+               case 153:
+               case 154:
+               case 155:
+               case 156:
+               case 157:
+               case 158:
+               case 159:
+               case 160:
                case 161:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(344, 346); }
-                  break;
                case 162:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(347, 350); }
-                  break;
                case 165:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(79, 152); }
-                  break;
                case 166:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 165;
-                  break;
                case 167:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(79, 152); }
-                  break;
                case 168:
-                  if (curChar == 52)
-                     { jjCheckNAdd(164); }
-                  break;
                case 169:
-                  if (curChar == 54)
-                     { jjCheckNAdd(164); }
-                  break;
                case 170:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(351, 355); }
-                  break;
                case 171:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(168, 169); }
-                  break;
                case 172:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(356, 358); }
-                  break;
                case 173:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(359, 362); }
-                  break;
                case 175:
-                  if (curChar == 57)
-                     { jjCheckNAddStates(363, 366); }
-                  break;
                case 176:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(78, 163); }
-                  break;
                case 177:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 176;
-                  break;
                case 178:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(78, 163); }
-                  break;
                case 179:
-                  if (curChar == 52)
-                     { jjCheckNAdd(175); }
-                  break;
                case 180:
-                  if (curChar == 54)
-                     { jjCheckNAdd(175); }
-                  break;
                case 181:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(367, 371); }
-                  break;
                case 182:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(179, 180); }
-                  break;
                case 183:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(372, 374); }
-                  break;
                case 184:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(375, 378); }
-                  break;
                case 188:
-                  if (curChar == 40 && kind > 101)
-                     kind = 101;
-                  break;
                case 190:
-                  if (curChar == 52)
-                     { jjCheckNAddStates(379, 381); }
-                  break;
                case 191:
-                  if (curChar == 10)
-                     { jjCheckNAdd(188); }
-                  break;
                case 192:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 191;
-                  break;
+                  return jjMoveNfa_0_0to63_69(state, l, kind);
                case 193:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAdd(188); }
-                  break;
                case 194:
-                  if (curChar == 53)
-                     { jjCheckNAdd(190); }
-                  break;
                case 195:
-                  if (curChar == 55)
-                     { jjCheckNAdd(190); }
-                  break;
                case 196:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(382, 386); }
-                  break;
                case 197:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(194, 195); }
-                  break;
                case 198:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(387, 389); }
-                  break;
                case 199:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(390, 393); }
-                  break;
                case 201:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(394, 397); }
-                  break;
                case 202:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(187, 189); }
-                  break;
                case 203:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 202;
-                  break;
                case 204:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(187, 189); }
-                  break;
                case 205:
-                  if (curChar == 53)
-                     { jjCheckNAdd(201); }
-                  break;
                case 206:
-                  if (curChar == 55)
-                     { jjCheckNAdd(201); }
-                  break;
                case 207:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(398, 402); }
-                  break;
                case 208:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(205, 206); }
-                  break;
                case 209:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(403, 405); }
-                  break;
                case 210:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(406, 409); }
-                  break;
                case 215:
-                  if (curChar == 40 && kind > 102)
-                     kind = 102;
-                  break;
                case 217:
-                  if (curChar == 55)
-                     { jjCheckNAddStates(410, 412); }
-                  break;
                case 218:
-                  if (curChar == 10)
-                     { jjCheckNAdd(215); }
-                  break;
                case 219:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 218;
-                  break;
                case 220:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAdd(215); }
-                  break;
                case 221:
-                  if (curChar == 52)
-                     { jjCheckNAdd(217); }
-                  break;
                case 222:
-                  if (curChar == 54)
-                     { jjCheckNAdd(217); }
-                  break;
                case 223:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(413, 417); }
-                  break;
                case 224:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(221, 222); }
-                  break;
                case 225:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(418, 420); }
-                  break;
                case 226:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(421, 424); }
-                  break;
                case 229:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(214, 216); }
-                  break;
                case 230:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 229;
-                  break;
                case 231:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(214, 216); }
-                  break;
                case 232:
-                  if (curChar == 52)
-                     { jjCheckNAdd(228); }
-                  break;
                case 233:
-                  if (curChar == 54)
-                     { jjCheckNAdd(228); }
-                  break;
                case 234:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(425, 429); }
-                  break;
                case 235:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(232, 233); }
-                  break;
                case 236:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(430, 432); }
-                  break;
                case 237:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(433, 436); }
-                  break;
                case 239:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(437, 440); }
-                  break;
                case 240:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(213, 227); }
-                  break;
                case 241:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 240;
-                  break;
                case 242:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(213, 227); }
-                  break;
                case 243:
-                  if (curChar == 52)
-                     { jjCheckNAdd(239); }
-                  break;
                case 244:
-                  if (curChar == 54)
-                     { jjCheckNAdd(239); }
-                  break;
                case 245:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(441, 445); }
-                  break;
                case 246:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(243, 244); }
-                  break;
                case 247:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(446, 448); }
-                  break;
                case 248:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(449, 452); }
-                  break;
                case 249:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 1)
-                     kind = 1;
-                  { jjCheckNAddStates(151, 160); }
-                  break;
                case 250:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 1)
-                     kind = 1;
-                  { jjCheckNAdd(250); }
-                  break;
                case 251:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 2)
-                     kind = 2;
-                  { jjCheckNAdd(251); }
-                  break;
                case 252:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(252, 44); }
-                  break;
                case 253:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(253, 45); }
-                  break;
                case 254:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(254, 46); }
-                  break;
                case 255:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(255, 47); }
-                  break;
                case 256:
-                  if (curChar == 46)
-                     { jjCheckNAddStates(165, 185); }
-                  break;
                case 257:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 20)
-                     kind = 20;
-                  { jjCheckNAdd(257); }
-                  break;
                case 258:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 24)
-                     kind = 24;
-                  { jjCheckNAdd(258); }
-                  break;
                case 259:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(49, 51); }
-                  break;
                case 264:
-                  if (curChar == 10 && kind > 79)
-                     kind = 79;
-                  break;
                case 265:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 264;
-                  break;
                case 266:
-                  if ((0x100003600L & l) != 0L && kind > 79)
-                     kind = 79;
-                  break;
                case 267:
-                  if (curChar == 52)
-                     { jjCheckNAdd(263); }
-                  break;
                case 268:
-                  if (curChar == 54)
-                     { jjCheckNAdd(263); }
-                  break;
                case 269:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(453, 457); }
-                  break;
                case 270:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(267, 268); }
-                  break;
-               case 271:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(458, 460); }
-                  break;
+               case 271:
                case 272:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(461, 464); }
-                  break;
                case 274:
-                  if (curChar == 53)
-                     { jjCheckNAddStates(465, 468); }
-                  break;
                case 275:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(261, 262); }
-                  break;
                case 276:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 275;
-                  break;
                case 277:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(261, 262); }
-                  break;
                case 278:
-                  if (curChar == 52)
-                     { jjCheckNAdd(274); }
-                  break;
                case 279:
-                  if (curChar == 54)
-                     { jjCheckNAdd(274); }
-                  break;
                case 280:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(469, 473); }
-                  break;
                case 281:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(278, 279); }
-                  break;
                case 282:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(474, 476); }
-                  break;
                case 283:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(477, 480); }
-                  break;
                case 284:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(46, 48); }
-                  break;
-               case 288:
-                  if (curChar != 56)
-                     break;
-                  if (kind > 80)
-                     kind = 80;
-                  { jjAddStates(481, 482); }
-                  break;
-               case 289:
-                  if (curChar == 10 && kind > 80)
-                     kind = 80;
-                  break;
                case 290:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 289;
-                  break;
                case 291:
-                  if ((0x100003600L & l) != 0L && kind > 80)
-                     kind = 80;
-                  break;
                case 292:
-                  if (curChar == 53)
-                     { jjCheckNAdd(288); }
-                  break;
                case 293:
-                  if (curChar == 55)
-                     { jjCheckNAdd(288); }
-                  break;
                case 294:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(483, 487); }
-                  break;
                case 295:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(292, 293); }
-                  break;
                case 296:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(488, 490); }
-                  break;
                case 297:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(491, 494); }
-                  break;
-               case 299:
-                  if (curChar == 53)
-                     { jjCheckNAddStates(495, 498); }
-                  break;
+               case 298:
                case 300:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(286, 287); }
-                  break;
                case 301:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 300;
-                  break;
                case 302:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(286, 287); }
-                  break;
                case 303:
-                  if (curChar == 52)
-                     { jjCheckNAdd(299); }
-                  break;
                case 304:
-                  if (curChar == 54)
-                     { jjCheckNAdd(299); }
-                  break;
                case 305:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(499, 503); }
-                  break;
                case 306:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(303, 304); }
-                  break;
                case 307:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(504, 506); }
-                  break;
                case 308:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(507, 510); }
-                  break;
                case 309:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(43, 45); }
-                  break;
+                  return jjMoveNfa_0_0to63_193(state, l, kind);
+               case 311:
+               case 312:
                case 313:
-                  if (curChar != 56)
-                     break;
-                  if (kind > 81)
-                     kind = 81;
-                  { jjAddStates(511, 512); }
-                  break;
                case 314:
-                  if (curChar == 10 && kind > 81)
-                     kind = 81;
-                  break;
                case 315:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 314;
-                  break;
                case 316:
-                  if ((0x100003600L & l) != 0L && kind > 81)
-                     kind = 81;
-                  break;
                case 317:
-                  if (curChar == 53)
-                     { jjCheckNAdd(313); }
-                  break;
                case 318:
-                  if (curChar == 55)
-                     { jjCheckNAdd(313); }
-                  break;
                case 319:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(513, 517); }
-                  break;
                case 320:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(317, 318); }
-                  break;
                case 321:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(518, 520); }
-                  break;
-               case 322:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(521, 524); }
-                  break;
-               case 324:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(525, 528); }
-                  break;
                case 325:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(311, 312); }
-                  break;
                case 326:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 325;
-                  break;
                case 327:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(311, 312); }
-                  break;
                case 328:
-                  if (curChar == 53)
-                     { jjCheckNAdd(324); }
-                  break;
                case 329:
-                  if (curChar == 55)
-                     { jjCheckNAdd(324); }
-                  break;
                case 330:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(529, 533); }
-                  break;
                case 331:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(328, 329); }
-                  break;
                case 332:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(534, 536); }
-                  break;
                case 333:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(537, 540); }
-                  break;
                case 334:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(40, 42); }
-                  break;
+               case 336:
+               case 337:
+               case 338:
                case 339:
-                  if (curChar == 10 && kind > 82)
-                     kind = 82;
-                  break;
                case 340:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 339;
-                  break;
                case 341:
-                  if ((0x100003600L & l) != 0L && kind > 82)
-                     kind = 82;
-                  break;
                case 342:
-                  if (curChar == 52)
-                     { jjCheckNAdd(338); }
-                  break;
                case 343:
-                  if (curChar == 54)
-                     { jjCheckNAdd(338); }
-                  break;
                case 344:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(541, 545); }
-                  break;
                case 345:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(342, 343); }
-                  break;
                case 346:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(546, 548); }
-                  break;
-               case 347:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(549, 552); }
-                  break;
-               case 349:
-                  if (curChar == 51)
-                     { jjCheckNAddStates(553, 556); }
-                  break;
                case 350:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(336, 337); }
-                  break;
                case 351:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 350;
-                  break;
                case 352:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(336, 337); }
-                  break;
                case 353:
-                  if (curChar == 52)
-                     { jjCheckNAdd(349); }
-                  break;
                case 354:
-                  if (curChar == 54)
-                     { jjCheckNAdd(349); }
-                  break;
                case 355:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(557, 561); }
-                  break;
                case 356:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(353, 354); }
-                  break;
                case 357:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(562, 564); }
-                  break;
                case 358:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(565, 568); }
-                  break;
                case 359:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(37, 39); }
-                  break;
+               case 361:
+               case 362:
+               case 363:
                case 364:
-                  if (curChar == 10 && kind > 83)
-                     kind = 83;
-                  break;
                case 365:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 364;
-                  break;
                case 366:
-                  if ((0x100003600L & l) != 0L && kind > 83)
-                     kind = 83;
-                  break;
                case 367:
-                  if (curChar == 52)
-                     { jjCheckNAdd(363); }
-                  break;
                case 368:
-                  if (curChar == 54)
-                     { jjCheckNAdd(363); }
-                  break;
                case 369:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(569, 573); }
-                  break;
                case 370:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(367, 368); }
-                  break;
                case 371:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(574, 576); }
-                  break;
-               case 372:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(577, 580); }
-                  break;
-               case 375:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(361, 362); }
-                  break;
                case 376:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 375;
-                  break;
                case 377:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(361, 362); }
-                  break;
                case 378:
-                  if (curChar == 52)
-                     { jjCheckNAdd(374); }
-                  break;
                case 379:
-                  if (curChar == 54)
-                     { jjCheckNAdd(374); }
-                  break;
                case 380:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(581, 585); }
-                  break;
                case 381:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(378, 379); }
-                  break;
                case 382:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(586, 588); }
-                  break;
                case 383:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(589, 592); }
-                  break;
                case 384:
+               case 386:
+               case 387:
+               case 388:
+               case 389:
+               case 390:
+               case 391:
+               case 392:
+               case 393:
+               case 394:
+               case 395:
+               case 396:
+               case 401:
+               case 402:
+               case 403:
+               case 404:
+               case 405:
+               case 406:
+               case 407:
+               case 408:
+               case 409:
+               case 412:
+               case 413:
+               case 414:
+               case 415:
+               case 416:
+               case 417:
+               case 418:
+               case 419:
+               case 420:
+               case 421:
+               case 426:
+               case 427:
+               case 428:
+               case 429:
+               case 430:
+               case 431:
+               case 432:
+                  return jjMoveNfa_0_0to63_311(state, l, kind);
+               case 433:
+               case 434:
+               case 436:
+               case 437:
+               case 438:
+               case 439:
+               case 440:
+               case 441:
+               case 442:
+               case 443:
+               case 444:
+               case 445:
+               case 446:
+               case 450:
+               case 451:
+               case 452:
+               case 453:
+               case 454:
+               case 455:
+               case 456:
+               case 457:
+               case 458:
+               case 459:
+               case 461:
+               case 462:
+               case 463:
+               case 464:
+               case 465:
+               case 466:
+               case 467:
+               case 468:
+               case 469:
+               case 470:
+               case 471:
+               case 475:
+               case 476:
+               case 477:
+               case 478:
+               case 479:
+               case 480:
+               case 481:
+               case 482:
+               case 483:
+               case 484:
+               case 486:
+               case 487:
+               case 488:
+               case 489:
+               case 490:
+               case 491:
+               case 492:
+               case 493:
+               case 494:
+               case 495:
+               case 496:
+               case 501:
+               case 502:
+               case 503:
+               case 504:
+               case 505:
+               case 506:
+               case 507:
+               case 508:
+               case 509:
+               case 510:
+               case 512:
+               case 513:
+               case 514:
+               case 515:
+               case 516:
+               case 517:
+               case 518:
+               case 519:
+               case 520:
+               case 521:
+               case 523:
+               case 524:
+               case 525:
+               case 526:
+               case 527:
+               case 528:
+               case 529:
+               case 530:
+               case 531:
+               case 532:
+               case 533:
+               case 538:
+               case 539:
+               case 540:
+               case 541:
+               case 542:
+               case 543:
+               case 544:
+               case 545:
+               case 546:
+               case 547:
+               case 549:
+               case 550:
+                  return jjMoveNfa_0_0to63_433(state, l, kind);
+               case 551:
+               case 552:
+               case 553:
+               case 554:
+               case 555:
+               case 556:
+               case 557:
+               case 558:
+               case 560:
+               case 561:
+               case 562:
+               case 563:
+               case 564:
+               case 565:
+               case 566:
+               case 567:
+               case 568:
+               case 569:
+               case 570:
+               case 576:
+               case 577:
+               case 578:
+               case 579:
+               case 580:
+               case 581:
+               case 582:
+               case 583:
+               case 584:
+               case 585:
+               case 587:
+               case 588:
+               case 589:
+               case 590:
+               case 591:
+               case 592:
+               case 593:
+               case 594:
+               case 595:
+               case 596:
+               case 598:
+               case 599:
+               case 600:
+               case 601:
+               case 602:
+               case 603:
+               case 604:
+               case 605:
+               case 606:
+               case 607:
+               case 609:
+               case 610:
+               case 611:
+               case 612:
+               case 613:
+               case 614:
+               case 615:
+               case 616:
+               case 617:
+               case 618:
+               case 619:
+               case 623:
+               case 624:
+               case 625:
+               case 626:
+               case 627:
+               case 628:
+               case 629:
+               case 630:
+               case 631:
+               case 632:
+               case 635:
+               case 636:
+               case 637:
+               case 638:
+               case 639:
+               case 640:
+               case 641:
+               case 642:
+               case 643:
+               case 644:
+               case 647:
+               case 648:
+               case 649:
+               case 650:
+               case 651:
+               case 652:
+               case 653:
+               case 654:
+               case 655:
+               case 656:
+               case 657:
+               case 662:
+               case 663:
+               case 664:
+               case 665:
+               case 666:
+               case 667:
+               case 668:
+                  return jjMoveNfa_0_0to63_551(state, l, kind);
+               case 669:
+               case 670:
+               case 672:
+               case 673:
+               case 674:
+               case 675:
+               case 676:
+               case 677:
+               case 678:
+               case 679:
+               case 680:
+               case 681:
+               case 682:
+               case 688:
+               case 689:
+               case 690:
+               case 691:
+               case 692:
+               case 693:
+               case 694:
+               case 695:
+               case 696:
+               case 698:
+               case 699:
+               case 700:
+               case 701:
+               case 702:
+               case 703:
+               case 704:
+               case 705:
+               case 706:
+               case 707:
+               case 710:
+               case 711:
+               case 712:
+               case 713:
+               case 714:
+               case 715:
+               case 716:
+               case 717:
+               case 718:
+               case 719:
+               case 723:
+               case 728:
+               case 729:
+               case 730:
+               case 731:
+               case 733:
+               case 735:
+               case 736:
+               case 737:
+               case 738:
+               case 739:
+               case 754:
+               case 740:
+               case 741:
+               case 743:
+               case 746:
+               case 750:
+               case 742:
+               case 744:
+               case 745:
+               case 747:
+               case 748:
+               case 749:
+               case 752:
+               case 753:
+               case 755:
+               case 757:
+               case 760:
+               case 764:
+               case 756:
+               case 758:
+               case 759:
+               case 761:
+               case 762:
+               case 763:
+               case 765:
+               case 767:
+               case 769:
+               case 770:
+               case 771:
+               case 772:
+               case 773:
+               case 822:
+               case 774:
+               case 775:
+               case 777:
+               case 780:
+               case 784:
+               case 776:
+               case 778:
+               case 779:
+               case 781:
+               case 782:
+               case 783:
+               case 786:
+               case 787:
+                  return jjMoveNfa_0_0to63_669(state, l, kind);
+               case 789:
+               case 790:
+               case 791:
+               case 792:
+               case 793:
+               case 808:
+               case 794:
+               case 795:
+               case 797:
+               case 800:
+               case 804:
+               case 796:
+               case 798:
+               case 799:
+               case 801:
+               case 802:
+               case 803:
+               case 806:
+               case 807:
+               case 809:
+               case 811:
+               case 814:
+               case 818:
+               case 810:
+               case 812:
+               case 813:
+               case 815:
+               case 816:
+               case 817:
+               case 820:
+               case 821:
+               case 823:
+               case 825:
+               case 828:
+               case 832:
+               case 824:
+               case 826:
+               case 827:
+               case 829:
+               case 830:
+               case 831:
+               case 842:
+               case 843:
+               case 844:
+               case 845:
+               case 846:
+               case 847:
+               case 848:
+               case 849:
+               case 850:
+               case 851:
+               case 853:
+               case 854:
+               case 855:
+               case 856:
+               case 857:
+               case 858:
+               case 859:
+               case 860:
+               case 861:
+               case 862:
+               case 864:
+               case 865:
+               case 866:
+               case 867:
+               case 868:
+               case 869:
+               case 870:
+               case 871:
+               case 872:
+               case 873:
+               case 875:
+               case 876:
+               case 877:
+               case 878:
+               case 879:
+               case 880:
+               case 881:
+               case 882:
+               case 883:
+               case 884:
+               case 887:
+               case 888:
+               case 889:
+               case 890:
+               case 891:
+               case 892:
+               case 893:
+               case 894:
+               case 895:
+               case 901:
+               case 902:
+               case 903:
+               case 904:
+               case 905:
+               case 906:
+               case 907:
+               case 908:
+               case 909:
+               case 910:
+               case 912:
+               case 913:
+               case 914:
+               case 915:
+               case 916:
+                  return jjMoveNfa_0_0to63_789(state, l, kind);
+               case 917:
+               case 918:
+               case 919:
+               case 920:
+               case 921:
+               case 923:
+               case 924:
+               case 925:
+               case 926:
+               case 927:
+               case 928:
+               case 929:
+               case 930:
+               case 931:
+               case 932:
+               case 939:
+               case 940:
+               case 941:
+               case 942:
+               case 943:
+               case 944:
+               case 945:
+               case 946:
+               case 947:
+               case 948:
+               case 950:
+               case 951:
+               case 952:
+               case 953:
+               case 954:
+               case 955:
+               case 956:
+               case 957:
+               case 958:
+               case 959:
+               case 961:
+               case 962:
+               case 963:
+               case 964:
+               case 965:
+               case 966:
+               case 967:
+               case 968:
+               case 969:
+               case 970:
+               case 972:
+               case 973:
+               case 974:
+               case 975:
+               case 976:
+               case 977:
+               case 978:
+               case 979:
+               case 980:
+               case 981:
+               case 986:
+               case 992:
+               case 993:
+               case 994:
+               case 995:
+               case 996:
+               case 997:
+               case 998:
+               case 999:
+               case 1000:
+               case 1001:
+               case 1003:
+               case 1004:
+               case 1005:
+               case 1006:
+               case 1007:
+               case 1008:
+               case 1009:
+               case 1010:
+               case 1011:
+               case 1012:
+               case 1014:
+               case 1015:
+               case 1016:
+               case 1017:
+               case 1018:
+               case 1019:
+               case 1020:
+               case 1021:
+               case 1022:
+               case 1023:
+               case 1025:
+               case 1026:
+               case 1027:
+               case 1028:
+               case 1029:
+               case 1030:
+               case 1031:
+               case 1032:
+               case 1033:
+               case 1034:
+               case 1036:
+               case 1037:
+               case 1038:
+                  return jjMoveNfa_0_0to63_917(state, l, kind);
+               case 1039:
+               case 1040:
+               case 1041:
+               case 1042:
+               case 1043:
+               case 1044:
+               case 1045:
+               case 1048:
+               case 1049:
+               case 1050:
+               case 1051:
+               case 1052:
+               case 1053:
+               case 1054:
+               case 1055:
+               case 1056:
+               case 1058:
+               case 1059:
+               case 1060:
+               case 1061:
+               case 1062:
+               case 1063:
+               case 1064:
+               case 1065:
+               case 1066:
+               case 1067:
+               case 1069:
+               case 1070:
+               case 1071:
+               case 1072:
+               case 1073:
+               case 1074:
+               case 1075:
+               case 1076:
+               case 1077:
+               case 1078:
+               case 1087:
+               case 1088:
+               case 1089:
+               case 1090:
+               case 1091:
+               case 1092:
+               case 1093:
+               case 1094:
+               case 1095:
+               case 1096:
+               case 1098:
+               case 1099:
+               case 1100:
+               case 1101:
+               case 1102:
+               case 1103:
+               case 1104:
+               case 1105:
+               case 1106:
+               case 1107:
+               case 1109:
+               case 1110:
+               case 1111:
+               case 1112:
+               case 1113:
+               case 1114:
+               case 1115:
+               case 1116:
+               case 1117:
+               case 1118:
+               case 1120:
+               case 1121:
+               case 1122:
+               case 1123:
+               case 1124:
+               case 1125:
+               case 1126:
+               case 1127:
+               case 1128:
+               case 1129:
+               case 1131:
+               case 1132:
+               case 1133:
+               case 1134:
+               case 1135:
+               case 1136:
+               case 1137:
+               case 1138:
+               case 1139:
+               case 1140:
+               case 1142:
+               case 1143:
+               case 1144:
+               case 1145:
+               case 1146:
+               case 1147:
+               case 1148:
+               case 1149:
+               case 1150:
+               case 1151:
+               case 1153:
+               case 1154:
+               case 1155:
+               case 1156:
+                  return jjMoveNfa_0_0to63_1039(state, l, kind);
+               case 1157:
+               case 1158:
+               case 1159:
+               case 1160:
+               case 1161:
+               case 1162:
+               case 1163:
+               case 1165:
+               case 1167:
+               case 1168:
+               case 1169:
+               case 1170:
+               case 1171:
+               case 1186:
+               case 1172:
+               case 1173:
+               case 1175:
+               case 1178:
+               case 1182:
+               case 1174:
+               case 1176:
+               case 1177:
+               case 1179:
+               case 1180:
+               case 1181:
+               case 1184:
+               case 1185:
+               case 1187:
+               case 1189:
+               case 1192:
+               case 1196:
+               case 1188:
+               case 1190:
+               case 1191:
+               case 1193:
+               case 1194:
+               case 1195:
+               case 1199:
+               case 1200:
+               case 1201:
+               case 1202:
+               case 1203:
+               case 1204:
+               case 1205:
+               case 1206:
+               case 1207:
+               case 1209:
+               case 1210:
+               case 1211:
+               case 1212:
+               case 1213:
+               case 1214:
+               case 1215:
+               case 1216:
+               case 1217:
+               case 1218:
+               case 1220:
+               case 1221:
+               case 1222:
+               case 1223:
+               case 1224:
+               case 1225:
+               case 1226:
+               case 1227:
+               case 1228:
+               case 1229:
+               case 1231:
+               case 1232:
+               case 1233:
+               case 1234:
+               case 1235:
+               case 1236:
+               case 1237:
+               case 1238:
+               case 1239:
+               case 1240:
+               case 1241:
+               case 1242:
+               case 1243:
+               case 1244:
+               case 1246:
+               case 1247:
+               case 1248:
+               case 1249:
+               case 1251:
+               case 1252:
+               case 1253:
+               case 1254:
+               case 1255:
+               case 1256:
+               case 1257:
+               case 1259:
+               case 1262:
+               case 1266:
+                  return jjMoveNfa_0_0to63_1157(state, l, kind);
+               case 1258:
+               case 1260:
+               case 1261:
+               case 1263:
+               case 1264:
+               case 1265:
+               case 1267:
+               case 1268:
+               case 1269:
+               case 1271:
+               case 1272:
+               case 1273:
+               case 1277:
+               case 1274:
+               case 1275:
+               case 1276:
+               case 1278:
+               case 1279:
+               case 1281:
+               case 1284:
+               case 1288:
+               case 1280:
+               case 1282:
+               case 1283:
+               case 1285:
+               case 1286:
+               case 1287:
+               case 1289:
+               case 1290:
+               case 1291:
+               case 1293:
+               case 1294:
+               case 1295:
+               case 1299:
+               case 1296:
+               case 1297:
+               case 1298:
+               case 1300:
+               case 1301:
+               case 1303:
+               case 1306:
+               case 1310:
+               case 1302:
+               case 1304:
+               case 1305:
+               case 1307:
+               case 1308:
+               case 1309:
+               case 1311:
+               case 1315:
+               case 1316:
+               case 1317:
+               case 1318:
+               case 1319:
+               case 1321:
+               case 1322:
+               case 1323:
+               case 1324:
+               case 1325:
+               case 1326:
+               case 1327:
+               case 1328:
+               case 1329:
+               case 1330:
+               case 1331:
+               case 1332:
+               case 1333:
+               case 1334:
+               case 1335:
+               case 1336:
+               case 1337:
+               case 1338:
+               case 1339:
+               case 1340:
+               case 1341:
+               case 1342:
+               case 1343:
+               case 1344:
+               case 1345:
+               case 1346:
+               case 1347:
+               case 1348:
+               case 1349:
+               case 1350:
+               case 1351:
+               case 1352:
+               case 1353:
+               case 1354:
+               case 1355:
+               case 1356:
+               case 1357:
+               case 1358:
+               case 1359:
+               case 1360:
+               case 1361:
+               case 1362:
+               case 1363:
+               case 1364:
+               case 1365:
+               case 1366:
+               case 1367:
+               case 1368:
+               case 1369:
+               case 1370:
+                  return jjMoveNfa_0_0to63_1258(state, l, kind);
+               case 1371:
+               case 1372:
+               case 1373:
+               case 1374:
+               case 1375:
+               case 1376:
+               case 1377:
+               case 1378:
+               case 1379:
+               case 1380:
+               case 1381:
+               case 1382:
+               case 1383:
+               case 1384:
+               case 1385:
+               case 1386:
+               case 1387:
+               case 1388:
+               case 1389:
+               case 1390:
+               case 1391:
+               case 1392:
+               case 1393:
+               case 1394:
+               case 1395:
+               case 1396:
+               case 1397:
+               case 1398:
+               case 1399:
+               case 1400:
+                  return jjMoveNfa_0_0to63_1371(state, l, kind);
+      default : return kind;
+   }
+}
+
+private int jjMoveNfa_0_0to63_1401(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1401:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(34, 36); }
-                  break;
-               case 389:
-                  if (curChar == 10 && kind > 84)
-                     kind = 84;
-                  break;
-               case 390:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 389;
-                  break;
-               case 391:
-                  if ((0x100003600L & l) != 0L && kind > 84)
-                     kind = 84;
-                  break;
-               case 392:
-                  if (curChar == 52)
-                     { jjCheckNAdd(388); }
-                  break;
-               case 393:
-                  if (curChar == 54)
-                     { jjCheckNAdd(388); }
-                  break;
-               case 394:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(593, 597); }
-                  break;
-               case 395:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(392, 393); }
-                  break;
-               case 396:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(598, 600); }
-                  break;
-               case 397:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(601, 604); }
-                  break;
-               case 399:
-                  if (curChar == 57)
-                     { jjCheckNAddStates(605, 608); }
-                  break;
-               case 400:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(386, 387); }
-                  break;
-               case 401:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 400;
-                  break;
-               case 402:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(386, 387); }
-                  break;
-               case 403:
-                  if (curChar == 52)
-                     { jjCheckNAdd(399); }
-                  break;
-               case 404:
-                  if (curChar == 54)
-                     { jjCheckNAdd(399); }
-                  break;
-               case 405:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(609, 613); }
-                  break;
-               case 406:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(403, 404); }
-                  break;
-               case 407:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(614, 616); }
-                  break;
-               case 408:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(617, 620); }
-                  break;
-               case 409:
+                     { jjCheckNAddStates(0, 3); }
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(31, 33); }
-                  break;
-               case 413:
-                  if (curChar != 52)
-                     break;
-                  if (kind > 85)
-                     kind = 85;
-                  { jjAddStates(621, 622); }
-                  break;
-               case 414:
-                  if (curChar == 10 && kind > 85)
-                     kind = 85;
-                  break;
-               case 415:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 414;
-                  break;
-               case 416:
-                  if ((0x100003600L & l) != 0L && kind > 85)
-                     kind = 85;
-                  break;
-               case 417:
-                  if (curChar == 53)
-                     { jjCheckNAdd(413); }
-                  break;
-               case 418:
-                  if (curChar == 55)
-                     { jjCheckNAdd(413); }
-                  break;
-               case 419:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(623, 627); }
-                  break;
-               case 420:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(417, 418); }
-                  break;
-               case 421:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(628, 630); }
-                  break;
-               case 422:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(631, 634); }
-                  break;
-               case 424:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(635, 638); }
-                  break;
-               case 425:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(411, 412); }
-                  break;
-               case 426:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 425;
-                  break;
-               case 427:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(411, 412); }
-                  break;
-               case 428:
-                  if (curChar == 53)
-                     { jjCheckNAdd(424); }
-                  break;
-               case 429:
-                  if (curChar == 55)
-                     { jjCheckNAdd(424); }
-                  break;
-               case 430:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(639, 643); }
-                  break;
-               case 431:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(428, 429); }
-                  break;
-               case 432:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(644, 646); }
-                  break;
-               case 433:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(647, 650); }
-                  break;
-               case 434:
+                     { jjCheckNAddTwoStates(728, 729); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(723, 727); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(719, 722); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(4, 6); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(7, 9); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(10, 12); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(13, 15); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(16, 18); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(19, 21); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(22, 24); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(25, 27); }
                   if ((0x3ff000000000000L & l) != 0L)
                      { jjCheckNAddStates(28, 30); }
-                  break;
-               case 438:
-                  if (curChar != 51)
-                     break;
-                  if (kind > 86)
-                     kind = 86;
-                  { jjAddStates(651, 652); }
-                  break;
-               case 439:
-                  if (curChar == 10 && kind > 86)
-                     kind = 86;
-                  break;
-               case 440:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 439;
-                  break;
-               case 441:
-                  if ((0x100003600L & l) != 0L && kind > 86)
-                     kind = 86;
-                  break;
-               case 442:
-                  if (curChar == 52)
-                     { jjCheckNAdd(438); }
-                  break;
-               case 443:
-                  if (curChar == 54)
-                     { jjCheckNAdd(438); }
-                  break;
-               case 444:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(653, 657); }
-                  break;
-               case 445:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(442, 443); }
-                  break;
-               case 446:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(658, 660); }
-                  break;
-               case 447:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(661, 664); }
-                  break;
-               case 449:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(665, 668); }
-                  break;
-               case 450:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(436, 437); }
-                  break;
-               case 451:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 450;
-                  break;
-               case 452:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(436, 437); }
-                  break;
-               case 453:
-                  if (curChar == 53)
-                     { jjCheckNAdd(449); }
-                  break;
-               case 454:
-                  if (curChar == 55)
-                     { jjCheckNAdd(449); }
-                  break;
-               case 455:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(669, 673); }
-                  break;
-               case 456:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(453, 454); }
-                  break;
-               case 457:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(674, 676); }
-                  break;
-               case 458:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(677, 680); }
-                  break;
-               case 459:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(25, 27); }
-                  break;
-               case 464:
-                  if (curChar != 55)
-                     break;
-                  if (kind > 87)
-                     kind = 87;
-                  { jjAddStates(681, 682); }
-                  break;
-               case 465:
-                  if (curChar == 10 && kind > 87)
-                     kind = 87;
-                  break;
-               case 466:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 465;
+                     { jjCheckNAddStates(31, 33); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(34, 36); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(37, 39); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(40, 42); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(43, 45); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(46, 48); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(49, 51); }
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 24)
+                        kind = 24;
+                     { jjCheckNAdd(258); }
+                  }
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 20)
+                        kind = 20;
+                     { jjCheckNAdd(257); }
+                  }
                   break;
-               case 467:
-                  if ((0x100003600L & l) != 0L && kind > 87)
-                     kind = 87;
+               case 1404:
+                  if ((0x3ff200000000000L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 40)
+                  {
+                     if (kind > 104)
+                        kind = 104;
+                  }
+                  if ((0x3ff200000000000L & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
                   break;
-               case 468:
-                  if (curChar == 52)
-                     { jjCheckNAdd(464); }
+               case 0:
+                  if ((0x3ff000000000000L & l) != 0L)
+                  {
+                     if (kind > 20)
+                        kind = 20;
+                     { jjCheckNAddStates(55, 158); }
+                  }
+                  else if ((0x100003600L & l) != 0L)
+                  {
+                     if (kind > 1)
+                        kind = 1;
+                     { jjCheckNAddStates(159, 168); }
+                  }
+                  else if (curChar == 45)
+                     { jjAddStates(169, 172); }
+                  else if (curChar == 46)
+                     { jjCheckNAddStates(173, 194); }
+                  else if (curChar == 33)
+                     { jjCheckNAddStates(195, 198); }
+                  else if (curChar == 35)
+                     { jjCheckNAddTwoStates(49, 50); }
+                  else if (curChar == 44)
+                  {
+                     if (kind > 71)
+                        kind = 71;
+                  }
+                  else if (curChar == 62)
+                  {
+                     if (kind > 69)
+                        kind = 69;
+                  }
+                  else if (curChar == 43)
+                  {
+                     if (kind > 68)
+                        kind = 68;
+                  }
+                  else if (curChar == 39)
+                     { jjCheckNAddStates(199, 201); }
+                  else if (curChar == 34)
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 469:
-                  if (curChar == 54)
-                     { jjCheckNAdd(464); }
+               case 1405:
+                  if ((0x3ff200000000000L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 40)
+                  {
+                     if (kind > 104)
+                        kind = 104;
+                  }
+                  if ((0x3ff200000000000L & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
+                  else if (curChar == 40)
+                  {
+                     if (kind > 102)
+                        kind = 102;
+                  }
                   break;
-               case 470:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(683, 687); }
+               case 1403:
+                  if ((0x3ff200000000000L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 40)
+                  {
+                     if (kind > 104)
+                        kind = 104;
+                  }
+                  if ((0x3ff200000000000L & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
                   break;
-               case 471:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(468, 469); }
+               case 1402:
+                  if ((0x3ff200000000000L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
+                  else if (curChar == 40)
+                  {
+                     if (kind > 104)
+                        kind = 104;
+                  }
+                  if ((0x3ff200000000000L & l) != 0L)
+                  {
+                     if (kind > 22)
+                        kind = 22;
+                     { jjCheckNAddTwoStates(767, 768); }
+                  }
                   break;
-               case 472:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(688, 690); }
+               case 1:
+                  if ((0xfffffffbffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 473:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(691, 694); }
+               case 2:
+                  if (curChar == 34 && kind > 25)
+                     kind = 25;
                   break;
-               case 475:
-                  if (curChar == 53)
-                     { jjCheckNAddStates(695, 698); }
+               case 4:
+                  if ((0x3400L & l) != 0L)
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 476:
+               case 5:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(462, 463); }
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 477:
+               case 6:
+               case 10:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 476;
-                  break;
-               case 478:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(462, 463); }
-                  break;
-               case 479:
-                  if (curChar == 52)
-                     { jjCheckNAdd(475); }
-                  break;
-               case 480:
-                  if (curChar == 54)
-                     { jjCheckNAdd(475); }
-                  break;
-               case 481:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(699, 703); }
-                  break;
-               case 482:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(479, 480); }
-                  break;
-               case 483:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(704, 706); }
-                  break;
-               case 484:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(707, 710); }
+                     { jjCheckNAdd(5); }
                   break;
-               case 486:
-                  if (curChar == 52)
-                     { jjCheckNAddStates(711, 714); }
+               case 7:
+                  if ((0xfc00ffffffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 487:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(461, 474); }
+               case 8:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(205, 214); }
                   break;
-               case 488:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 487;
+               case 9:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(215, 219); }
                   break;
-               case 489:
+               case 11:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(461, 474); }
-                  break;
-               case 490:
-                  if (curChar == 52)
-                     { jjCheckNAdd(486); }
-                  break;
-               case 491:
-                  if (curChar == 54)
-                     { jjCheckNAdd(486); }
-                  break;
-               case 492:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(715, 719); }
-                  break;
-               case 493:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(490, 491); }
-                  break;
-               case 494:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(720, 722); }
-                  break;
-               case 495:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(723, 726); }
+                     { jjCheckNAddStates(202, 204); }
                   break;
-               case 496:
+               case 12:
+               case 14:
+               case 17:
+               case 21:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(22, 24); }
-                  break;
-               case 501:
-                  if (curChar != 52)
-                     break;
-                  if (kind > 88)
-                     kind = 88;
-                  { jjAddStates(727, 728); }
+                     { jjCheckNAdd(9); }
                   break;
-               case 502:
-                  if (curChar == 10 && kind > 88)
-                     kind = 88;
+               case 13:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 14;
                   break;
-               case 503:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 502;
+               case 15:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 16;
                   break;
-               case 504:
-                  if ((0x100003600L & l) != 0L && kind > 88)
-                     kind = 88;
+               case 16:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 17;
                   break;
-               case 505:
-                  if (curChar == 52)
-                     { jjCheckNAdd(501); }
+               case 18:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 19;
                   break;
-               case 506:
-                  if (curChar == 54)
-                     { jjCheckNAdd(501); }
+               case 19:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 20;
                   break;
-               case 507:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(729, 733); }
+               case 20:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 21;
                   break;
-               case 508:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(505, 506); }
+               case 22:
+                  if (curChar == 39)
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 509:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(734, 736); }
+               case 23:
+                  if ((0xffffff7fffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 510:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(737, 740); }
+               case 24:
+                  if (curChar == 39 && kind > 25)
+                     kind = 25;
                   break;
-               case 512:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(741, 744); }
+               case 26:
+                  if ((0x3400L & l) != 0L)
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 513:
+               case 27:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(499, 500); }
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 514:
+               case 28:
+               case 32:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 513;
+                     { jjCheckNAdd(27); }
                   break;
-               case 515:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(499, 500); }
+               case 29:
+                  if ((0xfc00ffffffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 516:
-                  if (curChar == 52)
-                     { jjCheckNAdd(512); }
+               case 30:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(220, 229); }
                   break;
-               case 517:
-                  if (curChar == 54)
-                     { jjCheckNAdd(512); }
+               case 31:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(230, 234); }
                   break;
-               case 518:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(745, 749); }
+               case 33:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddStates(199, 201); }
                   break;
-               case 519:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(516, 517); }
+               case 34:
+               case 36:
+               case 39:
+               case 43:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(31); }
                   break;
-               case 520:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(750, 752); }
+               case 35:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 36;
                   break;
-               case 521:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(753, 756); }
+               case 37:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 38;
                   break;
-               case 523:
-                  if (curChar == 50)
-                     { jjCheckNAddStates(757, 760); }
+               case 38:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 39;
                   break;
-               case 524:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(498, 511); }
+               case 40:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 41;
                   break;
-               case 525:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 524;
+               case 41:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 42;
                   break;
-               case 526:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(498, 511); }
+               case 42:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 43;
                   break;
-               case 527:
-                  if (curChar == 53)
-                     { jjCheckNAdd(523); }
+               case 45:
+                  if (curChar == 43 && kind > 68)
+                     kind = 68;
                   break;
-               case 528:
-                  if (curChar == 55)
-                     { jjCheckNAdd(523); }
+               case 46:
+                  if (curChar == 62 && kind > 69)
+                     kind = 69;
                   break;
-               case 529:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(761, 765); }
+               case 47:
+                  if (curChar == 44 && kind > 71)
+                     kind = 71;
                   break;
-               case 530:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(527, 528); }
+               case 48:
+                  if (curChar == 35)
+                     { jjCheckNAddTwoStates(49, 50); }
                   break;
-               case 531:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(766, 768); }
+               case 49:
+                  if ((0x3ff200000000000L & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
                   break;
-               case 532:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(769, 772); }
+               case 51:
+                  if ((0xfc00ffffffffcbffL & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
                   break;
-               case 533:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(19, 21); }
+               case 52:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddStates(235, 243); }
                   break;
-               case 539:
-                  if (curChar != 52)
+               case 53:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 89)
-                     kind = 89;
-                  { jjAddStates(773, 774); }
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddStates(244, 247); }
                   break;
-               case 540:
-                  if (curChar == 10 && kind > 89)
-                     kind = 89;
+               case 54:
+                  if (curChar != 10)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
                   break;
-               case 541:
+               case 55:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 540;
-                  break;
-               case 542:
-                  if ((0x100003600L & l) != 0L && kind > 89)
-                     kind = 89;
+                     jjstateSet[jjnewStateCnt++] = 54;
                   break;
-               case 543:
-                  if (curChar == 52)
-                     { jjCheckNAdd(539); }
+               case 56:
+                  if ((0x100003600L & l) == 0L)
+                     break;
+                  if (kind > 72)
+                     kind = 72;
+                  { jjCheckNAddTwoStates(49, 50); }
                   break;
-               case 544:
-                  if (curChar == 54)
-                     { jjCheckNAdd(539); }
+               case 57:
+               case 59:
+               case 62:
+               case 66:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(53); }
                   break;
-               case 545:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(775, 779); }
+               case 58:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 59;
                   break;
-               case 546:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(543, 544); }
+               case 60:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 61;
                   break;
-               case 547:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(780, 782); }
+               case 61:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 62;
                   break;
-               case 548:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(783, 786); }
+               case 63:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 64;
                   break;
-               case 550:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(787, 790); }
+               case 64:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 65;
                   break;
-               case 551:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(537, 538); }
+               case 65:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 66;
                   break;
-               case 552:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 551;
+               case 67:
+                  if (curChar == 33)
+                     { jjCheckNAddStates(195, 198); }
                   break;
-               case 553:
+               case 68:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(537, 538); }
+                     { jjCheckNAddStates(195, 198); }
                   break;
-               case 554:
-                  if (curChar == 52)
-                     { jjCheckNAdd(550); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_69(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 69:
+                  if (curChar == 47)
+                     jjstateSet[jjnewStateCnt++] = 70;
                   break;
-               case 555:
-                  if (curChar == 54)
-                     { jjCheckNAdd(550); }
+               case 70:
+                  if (curChar == 42)
+                     { jjCheckNAddTwoStates(71, 72); }
                   break;
-               case 556:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(791, 795); }
+               case 71:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     { jjCheckNAddTwoStates(71, 72); }
                   break;
-               case 557:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(554, 555); }
+               case 72:
+                  if (curChar == 42)
+                     { jjCheckNAddStates(248, 250); }
                   break;
-               case 558:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(796, 798); }
+               case 73:
+                  if ((0xffff7bffffffffffL & l) != 0L)
+                     { jjCheckNAddTwoStates(74, 75); }
                   break;
-               case 559:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(799, 802); }
+               case 74:
+                  if ((0xfffffbffffffffffL & l) != 0L)
+                     { jjCheckNAddTwoStates(74, 75); }
                   break;
-               case 561:
-                  if (curChar == 50)
-                     { jjCheckNAddStates(803, 806); }
+               case 75:
+                  if (curChar == 42)
+                     { jjCheckNAddStates(251, 253); }
                   break;
-               case 562:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(536, 549); }
+               case 76:
+                  if (curChar == 47)
+                     { jjCheckNAddStates(195, 198); }
                   break;
-               case 563:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 562;
+               case 87:
+                  if (curChar != 52)
+                     break;
+                  if (kind > 78)
+                     kind = 78;
+                  { jjAddStates(254, 255); }
                   break;
-               case 564:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(536, 549); }
+               case 88:
+                  if (curChar == 10 && kind > 78)
+                     kind = 78;
+                  break;
+               case 89:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 88;
                   break;
-               case 565:
+               case 90:
+                  if ((0x100003600L & l) != 0L && kind > 78)
+                     kind = 78;
+                  break;
+               case 91:
                   if (curChar == 53)
-                     { jjCheckNAdd(561); }
+                     { jjCheckNAdd(87); }
                   break;
-               case 566:
+               case 92:
                   if (curChar == 55)
-                     { jjCheckNAdd(561); }
+                     { jjCheckNAdd(87); }
                   break;
-               case 567:
+               case 93:
                   if (curChar == 48)
-                     { jjCheckNAddStates(807, 811); }
+                     { jjCheckNAddStates(256, 260); }
                   break;
-               case 568:
+               case 94:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(565, 566); }
+                     { jjCheckNAddTwoStates(91, 92); }
                   break;
-               case 569:
+               case 95:
                   if (curChar == 48)
-                     { jjCheckNAddStates(812, 814); }
+                     { jjCheckNAddStates(261, 263); }
                   break;
-               case 570:
+               case 96:
                   if (curChar == 48)
-                     { jjCheckNAddStates(815, 818); }
-                  break;
-               case 572:
-                  if (curChar == 55)
-                     { jjCheckNAddStates(819, 822); }
+                     { jjCheckNAddStates(264, 267); }
                   break;
-               case 573:
+               case 99:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(535, 560); }
+                     { jjCheckNAddTwoStates(85, 86); }
                   break;
-               case 574:
+               case 100:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 573;
+                     jjstateSet[jjnewStateCnt++] = 99;
                   break;
-               case 575:
+               case 101:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(535, 560); }
+                     { jjCheckNAddTwoStates(85, 86); }
                   break;
-               case 576:
+               case 102:
                   if (curChar == 52)
-                     { jjCheckNAdd(572); }
+                     { jjCheckNAdd(98); }
                   break;
-               case 577:
+               case 103:
                   if (curChar == 54)
-                     { jjCheckNAdd(572); }
-                  break;
-               case 578:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(823, 827); }
-                  break;
-               case 579:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(576, 577); }
-                  break;
-               case 580:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(828, 830); }
+                     { jjCheckNAdd(98); }
                   break;
-               case 581:
+               case 104:
                   if (curChar == 48)
-                     { jjCheckNAddStates(831, 834); }
-                  break;
-               case 582:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(16, 18); }
-                  break;
-               case 586:
-                  if (curChar != 51)
-                     break;
-                  if (kind > 90)
-                     kind = 90;
-                  { jjAddStates(835, 836); }
-                  break;
-               case 587:
-                  if (curChar == 10 && kind > 90)
-                     kind = 90;
-                  break;
-               case 588:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 587;
-                  break;
-               case 589:
-                  if ((0x100003600L & l) != 0L && kind > 90)
-                     kind = 90;
-                  break;
-               case 590:
-                  if (curChar == 53)
-                     { jjCheckNAdd(586); }
+                     { jjCheckNAddStates(268, 272); }
                   break;
-               case 591:
-                  if (curChar == 55)
-                     { jjCheckNAdd(586); }
-                  break;
-               case 592:
+               case 105:
                   if (curChar == 48)
-                     { jjCheckNAddStates(837, 841); }
+                     { jjCheckNAddTwoStates(102, 103); }
                   break;
-               case 593:
+               case 106:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(590, 591); }
+                     { jjCheckNAddStates(273, 275); }
                   break;
-               case 594:
+               case 107:
                   if (curChar == 48)
-                     { jjCheckNAddStates(842, 844); }
+                     { jjCheckNAddStates(276, 279); }
                   break;
-               case 595:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(845, 848); }
+               case 109:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(280, 283); }
                   break;
-               case 598:
+               case 110:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(584, 585); }
+                     { jjCheckNAddTwoStates(84, 97); }
                   break;
-               case 599:
+               case 111:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 598;
+                     jjstateSet[jjnewStateCnt++] = 110;
                   break;
-               case 600:
+               case 112:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(584, 585); }
+                     { jjCheckNAddTwoStates(84, 97); }
                   break;
-               case 601:
+               case 113:
                   if (curChar == 52)
-                     { jjCheckNAdd(597); }
+                     { jjCheckNAdd(109); }
                   break;
-               case 602:
+               case 114:
                   if (curChar == 54)
-                     { jjCheckNAdd(597); }
+                     { jjCheckNAdd(109); }
                   break;
-               case 603:
+               case 115:
                   if (curChar == 48)
-                     { jjCheckNAddStates(849, 853); }
+                     { jjCheckNAddStates(284, 288); }
                   break;
-               case 604:
+               case 116:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(601, 602); }
+                     { jjCheckNAddTwoStates(113, 114); }
                   break;
-               case 605:
+               case 117:
                   if (curChar == 48)
-                     { jjCheckNAddStates(854, 856); }
+                     { jjCheckNAddStates(289, 291); }
                   break;
-               case 606:
+               case 118:
                   if (curChar == 48)
-                     { jjCheckNAddStates(857, 860); }
-                  break;
-               case 607:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(13, 15); }
+                     { jjCheckNAddStates(292, 295); }
                   break;
-               case 610:
-                  if (curChar != 51)
-                     break;
-                  if (kind > 91)
-                     kind = 91;
-                  { jjAddStates(861, 862); }
+               case 120:
+                  if (curChar == 52)
+                     { jjCheckNAddStates(296, 299); }
                   break;
-               case 611:
-                  if (curChar == 10 && kind > 91)
-                     kind = 91;
+               case 121:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(83, 108); }
                   break;
-               case 612:
+               case 122:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 611;
+                     jjstateSet[jjnewStateCnt++] = 121;
                   break;
-               case 613:
-                  if ((0x100003600L & l) != 0L && kind > 91)
-                     kind = 91;
+               case 123:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(83, 108); }
                   break;
-               case 614:
+               case 124:
                   if (curChar == 53)
-                     { jjCheckNAdd(610); }
+                     { jjCheckNAdd(120); }
                   break;
-               case 615:
+               case 125:
                   if (curChar == 55)
-                     { jjCheckNAdd(610); }
+                     { jjCheckNAdd(120); }
                   break;
-               case 616:
+               case 126:
                   if (curChar == 48)
-                     { jjCheckNAddStates(863, 867); }
+                     { jjCheckNAddStates(300, 304); }
                   break;
-               case 617:
+               case 127:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(614, 615); }
+                     { jjCheckNAddTwoStates(124, 125); }
                   break;
-               case 618:
+               case 128:
                   if (curChar == 48)
-                     { jjCheckNAddStates(868, 870); }
+                     { jjCheckNAddStates(305, 307); }
                   break;
-               case 619:
+               case 129:
                   if (curChar == 48)
-                     { jjCheckNAddStates(871, 874); }
+                     { jjCheckNAddStates(308, 311); }
                   break;
-               case 620:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(10, 12); }
+               case 131:
+                  if (curChar == 50)
+                     { jjCheckNAddStates(312, 315); }
                   break;
-               case 625:
-                  if (curChar == 10 && kind > 92)
-                     kind = 92;
+               case 132:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(82, 119); }
                   break;
-               case 626:
+               case 133:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 625;
+                     jjstateSet[jjnewStateCnt++] = 132;
                   break;
-               case 627:
-                  if ((0x100003600L & l) != 0L && kind > 92)
-                     kind = 92;
+               case 134:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(82, 119); }
                   break;
-               case 628:
+               case 135:
                   if (curChar == 53)
-                     { jjCheckNAdd(624); }
+                     { jjCheckNAdd(131); }
                   break;
-               case 629:
+               case 136:
                   if (curChar == 55)
-                     { jjCheckNAdd(624); }
+                     { jjCheckNAdd(131); }
                   break;
-               case 630:
+               case 137:
                   if (curChar == 48)
-                     { jjCheckNAddStates(875, 879); }
+                     { jjCheckNAddStates(316, 320); }
                   break;
-               case 631:
+               case 138:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(628, 629); }
+                     { jjCheckNAddTwoStates(135, 136); }
                   break;
-               case 632:
+               case 139:
                   if (curChar == 48)
-                     { jjCheckNAddStates(880, 882); }
+                     { jjCheckNAddStates(321, 323); }
                   break;
-               case 633:
+               case 140:
                   if (curChar == 48)
-                     { jjCheckNAddStates(883, 886); }
+                     { jjCheckNAddStates(324, 327); }
                   break;
-               case 635:
-                  if (curChar == 56)
-                     { jjCheckNAddStates(887, 890); }
+               case 142:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(328, 331); }
                   break;
-               case 636:
+               case 143:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(622, 623); }
+                     { jjCheckNAddTwoStates(81, 130); }
                   break;
-               case 637:
+               case 144:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 636;
+                     jjstateSet[jjnewStateCnt++] = 143;
                   break;
-               case 638:
+               case 145:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(622, 623); }
+                     { jjCheckNAddTwoStates(81, 130); }
                   break;
-               case 639:
-                  if (curChar == 52)
-                     { jjCheckNAdd(635); }
+               case 146:
+                  if (curChar == 53)
+                     { jjCheckNAdd(142); }
                   break;
-               case 640:
-                  if (curChar == 54)
-                     { jjCheckNAdd(635); }
+               case 147:
+                  if (curChar == 55)
+                     { jjCheckNAdd(142); }
                   break;
-               case 641:
+               case 148:
                   if (curChar == 48)
-                     { jjCheckNAddStates(891, 895); }
+                     { jjCheckNAddStates(332, 336); }
                   break;
-               case 642:
+               case 149:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(639, 640); }
+                     { jjCheckNAddTwoStates(146, 147); }
                   break;
-               case 643:
+               case 150:
                   if (curChar == 48)
-                     { jjCheckNAddStates(896, 898); }
+                     { jjCheckNAddStates(337, 339); }
                   break;
-               case 644:
+               case 151:
                   if (curChar == 48)
-                     { jjCheckNAddStates(899, 902); }
+                     { jjCheckNAddStates(340, 343); }
                   break;
-               case 645:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(7, 9); }
+               case 153:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(344, 347); }
                   break;
-               case 651:
-                  if (curChar == 10 && kind > 93)
-                     kind = 93;
+               case 154:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(80, 141); }
                   break;
-               case 652:
+               case 155:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 651;
+                     jjstateSet[jjnewStateCnt++] = 154;
                   break;
-               case 653:
-                  if ((0x100003600L & l) != 0L && kind > 93)
-                     kind = 93;
+               case 156:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(80, 141); }
                   break;
-               case 654:
+               case 157:
                   if (curChar == 53)
-                     { jjCheckNAdd(650); }
+                     { jjCheckNAdd(153); }
                   break;
-               case 655:
+               case 158:
                   if (curChar == 55)
-                     { jjCheckNAdd(650); }
+                     { jjCheckNAdd(153); }
                   break;
-               case 656:
+               case 159:
                   if (curChar == 48)
-                     { jjCheckNAddStates(903, 907); }
+                     { jjCheckNAddStates(348, 352); }
                   break;
-               case 657:
+               case 160:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(654, 655); }
+                     { jjCheckNAddTwoStates(157, 158); }
                   break;
-               case 658:
+               case 161:
                   if (curChar == 48)
-                     { jjCheckNAddStates(908, 910); }
+                     { jjCheckNAddStates(353, 355); }
                   break;
-               case 659:
+               case 162:
                   if (curChar == 48)
-                     { jjCheckNAddStates(911, 914); }
-                  break;
-               case 661:
-                  if (curChar == 56)
-                     { jjCheckNAddStates(915, 918); }
+                     { jjCheckNAddStates(356, 359); }
                   break;
-               case 662:
+               case 165:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(648, 649); }
+                     { jjCheckNAddTwoStates(79, 152); }
                   break;
-               case 663:
+               case 166:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 662;
+                     jjstateSet[jjnewStateCnt++] = 165;
                   break;
-               case 664:
+               case 167:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(648, 649); }
+                     { jjCheckNAddTwoStates(79, 152); }
                   break;
-               case 665:
+               case 168:
                   if (curChar == 52)
-                     { jjCheckNAdd(661); }
+                     { jjCheckNAdd(164); }
                   break;
-               case 666:
+               case 169:
                   if (curChar == 54)
-                     { jjCheckNAdd(661); }
+                     { jjCheckNAdd(164); }
                   break;
-               case 667:
+               case 170:
                   if (curChar == 48)
-                     { jjCheckNAddStates(919, 923); }
+                     { jjCheckNAddStates(360, 364); }
                   break;
-               case 668:
+               case 171:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(665, 666); }
+                     { jjCheckNAddTwoStates(168, 169); }
                   break;
-               case 669:
+               case 172:
                   if (curChar == 48)
-                     { jjCheckNAddStates(924, 926); }
+                     { jjCheckNAddStates(365, 367); }
                   break;
-               case 670:
+               case 173:
                   if (curChar == 48)
-                     { jjCheckNAddStates(927, 930); }
+                     { jjCheckNAddStates(368, 371); }
                   break;
-               case 673:
+               case 175:
+                  if (curChar == 57)
+                     { jjCheckNAddStates(372, 375); }
+                  break;
+               case 176:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(647, 660); }
+                     { jjCheckNAddTwoStates(78, 163); }
                   break;
-               case 674:
+               case 177:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 673;
+                     jjstateSet[jjnewStateCnt++] = 176;
                   break;
-               case 675:
+               case 178:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(647, 660); }
+                     { jjCheckNAddTwoStates(78, 163); }
                   break;
-               case 676:
+               case 179:
                   if (curChar == 52)
-                     { jjCheckNAdd(672); }
+                     { jjCheckNAdd(175); }
                   break;
-               case 677:
+               case 180:
                   if (curChar == 54)
-                     { jjCheckNAdd(672); }
+                     { jjCheckNAdd(175); }
                   break;
-               case 678:
+               case 181:
                   if (curChar == 48)
-                     { jjCheckNAddStates(931, 935); }
+                     { jjCheckNAddStates(376, 380); }
                   break;
-               case 679:
+               case 182:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(676, 677); }
+                     { jjCheckNAddTwoStates(179, 180); }
                   break;
-               case 680:
+               case 183:
                   if (curChar == 48)
-                     { jjCheckNAddStates(936, 938); }
+                     { jjCheckNAddStates(381, 383); }
                   break;
-               case 681:
+               case 184:
                   if (curChar == 48)
-                     { jjCheckNAddStates(939, 942); }
+                     { jjCheckNAddStates(384, 387); }
                   break;
-               case 682:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(682, 685); }
+               case 188:
+                  if (curChar == 40 && kind > 102)
+                     kind = 102;
                   break;
-               case 686:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(686, 690); }
+               case 190:
+                  if (curChar == 52)
+                     { jjCheckNAddStates(388, 390); }
                   break;
-               case 691:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(691, 692); }
+               case 191:
+                  if (curChar == 10)
+                     { jjCheckNAdd(188); }
                   break;
-               case 692:
-                  if (curChar == 37 && kind > 96)
-                     kind = 96;
+               case 192:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 191;
                   break;
-               case 693:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(3, 6); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_193(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 193:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAdd(188); }
                   break;
-               case 694:
-                  if (curChar == 45)
-                     { jjCheckNAddTwoStates(695, 714); }
+               case 194:
+                  if (curChar == 53)
+                     { jjCheckNAdd(190); }
                   break;
-               case 696:
-                  if ((0x3ff200000000000L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 195:
+                  if (curChar == 55)
+                     { jjCheckNAdd(190); }
                   break;
-               case 698:
-                  if ((0xfc00ffffffffcbffL & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 196:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(391, 395); }
                   break;
-               case 699:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(943, 951); }
+               case 197:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(194, 195); }
                   break;
-               case 700:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(952, 955); }
+               case 198:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(396, 398); }
                   break;
-               case 701:
-                  if (curChar != 10)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 199:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(399, 402); }
                   break;
-               case 702:
-               case 717:
+               case 201:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(403, 406); }
+                  break;
+               case 202:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(187, 189); }
+                  break;
+               case 203:
                   if (curChar == 13)
-                     { jjCheckNAdd(701); }
+                     jjstateSet[jjnewStateCnt++] = 202;
                   break;
-               case 703:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 204:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(187, 189); }
                   break;
-               case 704:
-               case 706:
-               case 709:
-               case 713:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(700); }
+               case 205:
+                  if (curChar == 53)
+                     { jjCheckNAdd(201); }
                   break;
-               case 705:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 706;
+               case 206:
+                  if (curChar == 55)
+                     { jjCheckNAdd(201); }
                   break;
-               case 707:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 708;
+               case 207:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(407, 411); }
                   break;
-               case 708:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 709;
+               case 208:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(205, 206); }
                   break;
-               case 710:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 711;
+               case 209:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(412, 414); }
                   break;
-               case 711:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 712;
+               case 210:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(415, 418); }
                   break;
-               case 712:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 713;
+               case 215:
+                  if (curChar == 40 && kind > 103)
+                     kind = 103;
                   break;
-               case 715:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(956, 964); }
+               case 217:
+                  if (curChar == 55)
+                     { jjCheckNAddStates(419, 421); }
                   break;
-               case 716:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(965, 968); }
+               case 218:
+                  if (curChar == 10)
+                     { jjCheckNAdd(215); }
                   break;
-               case 718:
-               case 720:
-               case 723:
-               case 727:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(716); }
+               case 219:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 218;
                   break;
-               case 719:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 720;
+               case 220:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAdd(215); }
                   break;
-               case 721:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 722;
+               case 221:
+                  if (curChar == 52)
+                     { jjCheckNAdd(217); }
                   break;
-               case 722:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 723;
+               case 222:
+                  if (curChar == 54)
+                     { jjCheckNAdd(217); }
                   break;
-               case 724:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 725;
+               case 223:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(422, 426); }
                   break;
-               case 725:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 726;
+               case 224:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(221, 222); }
                   break;
-               case 726:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 727;
+               case 225:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(427, 429); }
                   break;
-               case 728:
-                  if (curChar == 45)
-                     { jjAddStates(161, 164); }
+               case 226:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(430, 433); }
                   break;
-               case 730:
-                  if ((0x3ff200000000000L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 229:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(214, 216); }
                   break;
-               case 732:
-                  if ((0xfc00ffffffffcbffL & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 230:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 229;
+                  break;
+               case 231:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(214, 216); }
+                  break;
+               case 232:
+                  if (curChar == 52)
+                     { jjCheckNAdd(228); }
                   break;
-               case 733:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(969, 977); }
+               case 233:
+                  if (curChar == 54)
+                     { jjCheckNAdd(228); }
                   break;
-               case 734:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(978, 981); }
+               case 234:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(434, 438); }
                   break;
-               case 735:
-                  if (curChar != 10)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 235:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(232, 233); }
                   break;
-               case 736:
-               case 785:
-                  if (curChar == 13)
-                     { jjCheckNAdd(735); }
+               case 236:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(439, 441); }
                   break;
-               case 737:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 237:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(442, 445); }
                   break;
-               case 738:
-               case 740:
-               case 743:
-               case 747:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(734); }
+               case 239:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(446, 449); }
                   break;
-               case 739:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 740;
+               case 240:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(213, 227); }
                   break;
-               case 741:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 742;
+               case 241:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 240;
                   break;
-               case 742:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 743;
+               case 242:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(213, 227); }
                   break;
-               case 744:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 745;
+               case 243:
+                  if (curChar == 52)
+                     { jjCheckNAdd(239); }
                   break;
-               case 745:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 746;
+               case 244:
+                  if (curChar == 54)
+                     { jjCheckNAdd(239); }
                   break;
-               case 746:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 747;
+               case 245:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(450, 454); }
                   break;
-               case 749:
-                  if ((0x3ff200000000000L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
+               case 246:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(243, 244); }
                   break;
-               case 750:
-                  if (curChar == 40 && kind > 103)
-                     kind = 103;
+               case 247:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(455, 457); }
                   break;
-               case 752:
-                  if ((0xfc00ffffffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
+               case 248:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(458, 461); }
                   break;
-               case 753:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(982, 991); }
+               case 249:
+                  if ((0x100003600L & l) == 0L)
+                     break;
+                  if (kind > 1)
+                     kind = 1;
+                  { jjCheckNAddStates(159, 168); }
                   break;
-               case 754:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(992, 996); }
+               case 250:
+                  if ((0x100003600L & l) == 0L)
+                     break;
+                  if (kind > 1)
+                     kind = 1;
+                  { jjCheckNAdd(250); }
                   break;
-               case 755:
-                  if (curChar == 10)
-                     { jjCheckNAddStates(0, 2); }
+               case 251:
+                  if ((0x100003600L & l) == 0L)
+                     break;
+                  if (kind > 2)
+                     kind = 2;
+                  { jjCheckNAdd(251); }
                   break;
-               case 756:
-               case 771:
-                  if (curChar == 13)
-                     { jjCheckNAdd(755); }
+               case 252:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(252, 44); }
                   break;
-               case 757:
+               case 253:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
+                     { jjCheckNAddTwoStates(253, 45); }
                   break;
-               case 758:
-               case 760:
-               case 763:
-               case 767:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(754); }
+               case 254:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(254, 46); }
                   break;
-               case 759:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 760;
+               case 255:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(255, 47); }
                   break;
-               case 761:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 762;
+               case 256:
+                  if (curChar == 46)
+                     { jjCheckNAddStates(173, 194); }
                   break;
-               case 762:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 763;
+               case 257:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 20)
+                     kind = 20;
+                  { jjCheckNAdd(257); }
                   break;
-               case 764:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 765;
+               case 258:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 24)
+                     kind = 24;
+                  { jjCheckNAdd(258); }
                   break;
-               case 765:
+               case 259:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 766;
+                     { jjCheckNAddStates(49, 51); }
                   break;
-               case 766:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 767;
+               case 264:
+                  if (curChar == 10 && kind > 79)
+                     kind = 79;
                   break;
-               case 769:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(997, 1006); }
+               case 265:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 264;
                   break;
-               case 770:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1007, 1011); }
+               case 266:
+                  if ((0x100003600L & l) != 0L && kind > 79)
+                     kind = 79;
                   break;
-               case 772:
-               case 774:
-               case 777:
-               case 781:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(770); }
+               case 267:
+                  if (curChar == 52)
+                     { jjCheckNAdd(263); }
                   break;
-               case 773:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 774;
+               case 268:
+                  if (curChar == 54)
+                     { jjCheckNAdd(263); }
                   break;
-               case 775:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 776;
+               case 269:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(462, 466); }
                   break;
-               case 776:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 777;
+               case 270:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(267, 268); }
                   break;
-               case 778:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 779;
+               case 271:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(467, 469); }
                   break;
-               case 779:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 780;
+               case 272:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(470, 473); }
                   break;
-               case 780:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 781;
+               case 274:
+                  if (curChar == 53)
+                     { jjCheckNAddStates(474, 477); }
                   break;
-               case 783:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(1012, 1020); }
+               case 275:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(261, 262); }
                   break;
-               case 784:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(1021, 1024); }
+               case 276:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 275;
                   break;
-               case 786:
-               case 788:
-               case 791:
-               case 795:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(784); }
+               case 277:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(261, 262); }
                   break;
-               case 787:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 788;
+               case 278:
+                  if (curChar == 52)
+                     { jjCheckNAdd(274); }
                   break;
-               case 789:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 790;
+               case 279:
+                  if (curChar == 54)
+                     { jjCheckNAdd(274); }
                   break;
-               case 790:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 791;
+               case 280:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(478, 482); }
+                  break;
+               case 281:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(278, 279); }
                   break;
-               case 792:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 793;
+               case 282:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(483, 485); }
                   break;
-               case 793:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 794;
+               case 283:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(486, 489); }
                   break;
-               case 794:
+               case 284:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 795;
-                  break;
-               case 805:
-                  if (curChar != 52)
-                     break;
-                  if (kind > 73)
-                     kind = 73;
-                  { jjAddStates(1025, 1026); }
+                     { jjCheckNAddStates(46, 48); }
                   break;
-               case 806:
-                  if (curChar == 10 && kind > 73)
-                     kind = 73;
+               case 290:
+                  if (curChar == 10 && kind > 80)
+                     kind = 80;
                   break;
-               case 807:
+               case 291:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 806;
+                     jjstateSet[jjnewStateCnt++] = 290;
                   break;
-               case 808:
-                  if ((0x100003600L & l) != 0L && kind > 73)
-                     kind = 73;
+               case 292:
+                  if ((0x100003600L & l) != 0L && kind > 80)
+                     kind = 80;
                   break;
-               case 809:
-                  if (curChar == 53)
-                     { jjCheckNAdd(805); }
+               case 293:
+                  if (curChar == 52)
+                     { jjCheckNAdd(289); }
                   break;
-               case 810:
-                  if (curChar == 55)
-                     { jjCheckNAdd(805); }
+               case 294:
+                  if (curChar == 54)
+                     { jjCheckNAdd(289); }
                   break;
-               case 811:
+               case 295:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1027, 1031); }
+                     { jjCheckNAddStates(490, 494); }
                   break;
-               case 812:
+               case 296:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(809, 810); }
+                     { jjCheckNAddTwoStates(293, 294); }
                   break;
-               case 813:
+               case 297:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1032, 1034); }
+                     { jjCheckNAddStates(495, 497); }
                   break;
-               case 814:
+               case 298:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1035, 1038); }
+                     { jjCheckNAddStates(498, 501); }
                   break;
-               case 816:
-                  if (curChar == 50)
-                     { jjCheckNAddStates(1039, 1042); }
+               case 300:
+                  if (curChar == 53)
+                     { jjCheckNAddStates(502, 505); }
                   break;
-               case 817:
+               case 301:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(803, 804); }
+                     { jjCheckNAddTwoStates(287, 288); }
                   break;
-               case 818:
+               case 302:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 817;
+                     jjstateSet[jjnewStateCnt++] = 301;
                   break;
-               case 819:
+               case 303:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(803, 804); }
+                     { jjCheckNAddTwoStates(287, 288); }
                   break;
-               case 820:
-                  if (curChar == 53)
-                     { jjCheckNAdd(816); }
+               case 304:
+                  if (curChar == 52)
+                     { jjCheckNAdd(300); }
                   break;
-               case 821:
-                  if (curChar == 55)
-                     { jjCheckNAdd(816); }
+               case 305:
+                  if (curChar == 54)
+                     { jjCheckNAdd(300); }
                   break;
-               case 822:
+               case 306:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1043, 1047); }
+                     { jjCheckNAddStates(506, 510); }
                   break;
-               case 823:
+               case 307:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(820, 821); }
+                     { jjCheckNAddTwoStates(304, 305); }
                   break;
-               case 824:
+               case 308:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1048, 1050); }
+                     { jjCheckNAddStates(511, 513); }
                   break;
-               case 825:
+               case 309:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1051, 1054); }
+                     { jjCheckNAddStates(514, 517); }
                   break;
-               case 827:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(1055, 1058); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_311(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 311:
+                  if (curChar == 50)
+                     { jjCheckNAddStates(518, 521); }
                   break;
-               case 828:
+               case 312:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(802, 815); }
+                     { jjCheckNAddTwoStates(286, 299); }
                   break;
-               case 829:
+               case 313:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 828;
+                     jjstateSet[jjnewStateCnt++] = 312;
                   break;
-               case 830:
+               case 314:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(802, 815); }
+                     { jjCheckNAddTwoStates(286, 299); }
                   break;
-               case 831:
+               case 315:
                   if (curChar == 53)
-                     { jjCheckNAdd(827); }
+                     { jjCheckNAdd(311); }
                   break;
-               case 832:
+               case 316:
                   if (curChar == 55)
-                     { jjCheckNAdd(827); }
+                     { jjCheckNAdd(311); }
                   break;
-               case 833:
+               case 317:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1059, 1063); }
+                     { jjCheckNAddStates(522, 526); }
                   break;
-               case 834:
+               case 318:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(831, 832); }
+                     { jjCheckNAddTwoStates(315, 316); }
                   break;
-               case 835:
+               case 319:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1064, 1066); }
+                     { jjCheckNAddStates(527, 529); }
                   break;
-               case 836:
+               case 320:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1067, 1070); }
+                     { jjCheckNAddStates(530, 533); }
                   break;
-               case 838:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(1071, 1074); }
+               case 321:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(43, 45); }
                   break;
-               case 839:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(801, 826); }
+               case 325:
+                  if (curChar != 56)
+                     break;
+                  if (kind > 81)
+                     kind = 81;
+                  { jjAddStates(534, 535); }
                   break;
-               case 840:
+               case 326:
+                  if (curChar == 10 && kind > 81)
+                     kind = 81;
+                  break;
+               case 327:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 839;
+                     jjstateSet[jjnewStateCnt++] = 326;
                   break;
-               case 841:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(801, 826); }
+               case 328:
+                  if ((0x100003600L & l) != 0L && kind > 81)
+                     kind = 81;
                   break;
-               case 842:
+               case 329:
                   if (curChar == 53)
-                     { jjCheckNAdd(838); }
+                     { jjCheckNAdd(325); }
                   break;
-               case 843:
+               case 330:
                   if (curChar == 55)
-                     { jjCheckNAdd(838); }
+                     { jjCheckNAdd(325); }
                   break;
-               case 844:
+               case 331:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1075, 1079); }
+                     { jjCheckNAddStates(536, 540); }
                   break;
-               case 845:
+               case 332:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(842, 843); }
+                     { jjCheckNAddTwoStates(329, 330); }
                   break;
-               case 846:
+               case 333:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1080, 1082); }
+                     { jjCheckNAddStates(541, 543); }
                   break;
-               case 847:
+               case 334:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1083, 1086); }
+                     { jjCheckNAddStates(544, 547); }
                   break;
-               case 850:
+               case 336:
+                  if (curChar == 53)
+                     { jjCheckNAddStates(548, 551); }
+                  break;
+               case 337:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(800, 837); }
+                     { jjCheckNAddTwoStates(323, 324); }
                   break;
-               case 851:
+               case 338:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 850;
+                     jjstateSet[jjnewStateCnt++] = 337;
                   break;
-               case 852:
+               case 339:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(800, 837); }
+                     { jjCheckNAddTwoStates(323, 324); }
                   break;
-               case 853:
+               case 340:
                   if (curChar == 52)
-                     { jjCheckNAdd(849); }
+                     { jjCheckNAdd(336); }
                   break;
-               case 854:
+               case 341:
                   if (curChar == 54)
-                     { jjCheckNAdd(849); }
+                     { jjCheckNAdd(336); }
                   break;
-               case 855:
+               case 342:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1087, 1091); }
+                     { jjCheckNAddStates(552, 556); }
                   break;
-               case 856:
+               case 343:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(853, 854); }
+                     { jjCheckNAddTwoStates(340, 341); }
                   break;
-               case 857:
+               case 344:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1092, 1094); }
+                     { jjCheckNAddStates(557, 559); }
                   break;
-               case 858:
+               case 345:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1095, 1098); }
+                     { jjCheckNAddStates(560, 563); }
                   break;
-               case 864:
-                  if (curChar != 53)
+               case 346:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(40, 42); }
+                  break;
+               case 350:
+                  if (curChar != 56)
                      break;
-                  if (kind > 74)
-                     kind = 74;
-                  { jjAddStates(1099, 1100); }
+                  if (kind > 82)
+                     kind = 82;
+                  { jjAddStates(564, 565); }
                   break;
-               case 865:
-                  if (curChar == 10 && kind > 74)
-                     kind = 74;
+               case 351:
+                  if (curChar == 10 && kind > 82)
+                     kind = 82;
                   break;
-               case 866:
+               case 352:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 865;
+                     jjstateSet[jjnewStateCnt++] = 351;
                   break;
-               case 867:
-                  if ((0x100003600L & l) != 0L && kind > 74)
-                     kind = 74;
+               case 353:
+                  if ((0x100003600L & l) != 0L && kind > 82)
+                     kind = 82;
                   break;
-               case 868:
-                  if (curChar == 52)
-                     { jjCheckNAdd(864); }
+               case 354:
+                  if (curChar == 53)
+                     { jjCheckNAdd(350); }
                   break;
-               case 869:
-                  if (curChar == 54)
-                     { jjCheckNAdd(864); }
+               case 355:
+                  if (curChar == 55)
+                     { jjCheckNAdd(350); }
                   break;
-               case 870:
+               case 356:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1101, 1105); }
+                     { jjCheckNAddStates(566, 570); }
                   break;
-               case 871:
+               case 357:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(868, 869); }
+                     { jjCheckNAddTwoStates(354, 355); }
                   break;
-               case 872:
+               case 358:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1106, 1108); }
+                     { jjCheckNAddStates(571, 573); }
                   break;
-               case 873:
+               case 359:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1109, 1112); }
+                     { jjCheckNAddStates(574, 577); }
                   break;
-               case 875:
-                  if (curChar == 55)
-                     { jjCheckNAddStates(1113, 1116); }
+               case 361:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(578, 581); }
                   break;
-               case 876:
+               case 362:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(862, 863); }
+                     { jjCheckNAddTwoStates(348, 349); }
                   break;
-               case 877:
+               case 363:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 876;
+                     jjstateSet[jjnewStateCnt++] = 362;
                   break;
-               case 878:
+               case 364:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(862, 863); }
+                     { jjCheckNAddTwoStates(348, 349); }
                   break;
-               case 879:
+               case 365:
+                  if (curChar == 53)
+                     { jjCheckNAdd(361); }
+                  break;
+               case 366:
+                  if (curChar == 55)
+                     { jjCheckNAdd(361); }
+                  break;
+               case 367:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(582, 586); }
+                  break;
+               case 368:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(365, 366); }
+                  break;
+               case 369:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(587, 589); }
+                  break;
+               case 370:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(590, 593); }
+                  break;
+               case 371:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(37, 39); }
+                  break;
+               case 376:
+                  if (curChar == 10 && kind > 83)
+                     kind = 83;
+                  break;
+               case 377:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 376;
+                  break;
+               case 378:
+                  if ((0x100003600L & l) != 0L && kind > 83)
+                     kind = 83;
+                  break;
+               case 379:
                   if (curChar == 52)
-                     { jjCheckNAdd(875); }
+                     { jjCheckNAdd(375); }
                   break;
-               case 880:
+               case 380:
                   if (curChar == 54)
-                     { jjCheckNAdd(875); }
+                     { jjCheckNAdd(375); }
                   break;
-               case 881:
+               case 381:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1117, 1121); }
+                     { jjCheckNAddStates(594, 598); }
                   break;
-               case 882:
+               case 382:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(879, 880); }
+                     { jjCheckNAddTwoStates(379, 380); }
                   break;
-               case 883:
+               case 383:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1122, 1124); }
+                     { jjCheckNAddStates(599, 601); }
                   break;
-               case 884:
+               case 384:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1125, 1128); }
+                     { jjCheckNAddStates(602, 605); }
                   break;
-               case 886:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(1129, 1132); }
+               case 386:
+                  if (curChar == 51)
+                     { jjCheckNAddStates(606, 609); }
                   break;
-               case 887:
+               case 387:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(861, 874); }
+                     { jjCheckNAddTwoStates(373, 374); }
                   break;
-               case 888:
+               case 388:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 887;
+                     jjstateSet[jjnewStateCnt++] = 387;
                   break;
-               case 889:
+               case 389:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(861, 874); }
+                     { jjCheckNAddTwoStates(373, 374); }
                   break;
-               case 890:
+               case 390:
                   if (curChar == 52)
-                     { jjCheckNAdd(886); }
+                     { jjCheckNAdd(386); }
                   break;
-               case 891:
+               case 391:
                   if (curChar == 54)
-                     { jjCheckNAdd(886); }
+                     { jjCheckNAdd(386); }
                   break;
-               case 892:
+               case 392:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1133, 1137); }
+                     { jjCheckNAddStates(610, 614); }
                   break;
-               case 893:
+               case 393:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(890, 891); }
+                     { jjCheckNAddTwoStates(390, 391); }
                   break;
-               case 894:
+               case 394:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1138, 1140); }
+                     { jjCheckNAddStates(615, 617); }
                   break;
-               case 895:
+               case 395:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1141, 1144); }
+                     { jjCheckNAddStates(618, 621); }
                   break;
-               case 902:
-                  if (curChar != 49)
-                     break;
-                  if (kind > 75)
-                     kind = 75;
-                  { jjAddStates(1145, 1146); }
+               case 396:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(34, 36); }
                   break;
-               case 903:
-                  if (curChar == 10 && kind > 75)
-                     kind = 75;
+               case 401:
+                  if (curChar == 10 && kind > 84)
+                     kind = 84;
                   break;
-               case 904:
+               case 402:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 903;
+                     jjstateSet[jjnewStateCnt++] = 401;
                   break;
-               case 905:
-                  if ((0x100003600L & l) != 0L && kind > 75)
-                     kind = 75;
+               case 403:
+                  if ((0x100003600L & l) != 0L && kind > 84)
+                     kind = 84;
                   break;
-               case 906:
+               case 404:
                   if (curChar == 52)
-                     { jjCheckNAdd(902); }
+                     { jjCheckNAdd(400); }
                   break;
-               case 907:
+               case 405:
                   if (curChar == 54)
-                     { jjCheckNAdd(902); }
+                     { jjCheckNAdd(400); }
                   break;
-               case 908:
+               case 406:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1147, 1151); }
+                     { jjCheckNAddStates(622, 626); }
                   break;
-               case 909:
+               case 407:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(906, 907); }
+                     { jjCheckNAddTwoStates(404, 405); }
                   break;
-               case 910:
+               case 408:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1152, 1154); }
+                     { jjCheckNAddStates(627, 629); }
                   break;
-               case 911:
+               case 409:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1155, 1158); }
-                  break;
-               case 913:
-                  if (curChar == 57)
-                     { jjCheckNAddStates(1159, 1162); }
+                     { jjCheckNAddStates(630, 633); }
                   break;
-               case 914:
+               case 412:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(900, 901); }
+                     { jjCheckNAddTwoStates(398, 399); }
                   break;
-               case 915:
+               case 413:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 914;
+                     jjstateSet[jjnewStateCnt++] = 412;
                   break;
-               case 916:
+               case 414:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(900, 901); }
+                     { jjCheckNAddTwoStates(398, 399); }
                   break;
-               case 917:
+               case 415:
                   if (curChar == 52)
-                     { jjCheckNAdd(913); }
+                     { jjCheckNAdd(411); }
                   break;
-               case 918:
+               case 416:
                   if (curChar == 54)
-                     { jjCheckNAdd(913); }
+                     { jjCheckNAdd(411); }
                   break;
-               case 919:
+               case 417:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1163, 1167); }
+                     { jjCheckNAddStates(634, 638); }
                   break;
-               case 920:
+               case 418:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(917, 918); }
+                     { jjCheckNAddTwoStates(415, 416); }
                   break;
-               case 921:
+               case 419:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1168, 1170); }
+                     { jjCheckNAddStates(639, 641); }
                   break;
-               case 922:
+               case 420:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1171, 1174); }
+                     { jjCheckNAddStates(642, 645); }
                   break;
-               case 924:
-                  if (curChar == 52)
-                     { jjCheckNAddStates(1175, 1178); }
+               case 421:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(31, 33); }
                   break;
-               case 925:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(899, 912); }
+               case 426:
+                  if (curChar == 10 && kind > 85)
+                     kind = 85;
                   break;
-               case 926:
+               case 427:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 925;
+                     jjstateSet[jjnewStateCnt++] = 426;
                   break;
-               case 927:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(899, 912); }
+               case 428:
+                  if ((0x100003600L & l) != 0L && kind > 85)
+                     kind = 85;
                   break;
-               case 928:
+               case 429:
                   if (curChar == 52)
-                     { jjCheckNAdd(924); }
+                     { jjCheckNAdd(425); }
                   break;
-               case 929:
+               case 430:
                   if (curChar == 54)
-                     { jjCheckNAdd(924); }
+                     { jjCheckNAdd(425); }
                   break;
-               case 930:
+               case 431:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1179, 1183); }
+                     { jjCheckNAddStates(646, 650); }
                   break;
-               case 931:
+               case 432:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(928, 929); }
+                     { jjCheckNAddTwoStates(429, 430); }
                   break;
-               case 932:
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_433(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 433:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1184, 1186); }
+                     { jjCheckNAddStates(651, 653); }
                   break;
-               case 933:
+               case 434:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1187, 1190); }
+                     { jjCheckNAddStates(654, 657); }
                   break;
-               case 935:
-                  if (curChar == 53)
-                     { jjCheckNAddStates(1191, 1194); }
+               case 436:
+                  if (curChar == 57)
+                     { jjCheckNAddStates(658, 661); }
                   break;
-               case 936:
+               case 437:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(898, 923); }
+                     { jjCheckNAddTwoStates(423, 424); }
                   break;
-               case 937:
+               case 438:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 936;
+                     jjstateSet[jjnewStateCnt++] = 437;
                   break;
-               case 938:
+               case 439:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(898, 923); }
+                     { jjCheckNAddTwoStates(423, 424); }
                   break;
-               case 939:
+               case 440:
                   if (curChar == 52)
-                     { jjCheckNAdd(935); }
+                     { jjCheckNAdd(436); }
                   break;
-               case 940:
+               case 441:
                   if (curChar == 54)
-                     { jjCheckNAdd(935); }
+                     { jjCheckNAdd(436); }
                   break;
-               case 941:
+               case 442:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1195, 1199); }
+                     { jjCheckNAddStates(662, 666); }
                   break;
-               case 942:
+               case 443:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(939, 940); }
+                     { jjCheckNAddTwoStates(440, 441); }
                   break;
-               case 943:
+               case 444:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1200, 1202); }
+                     { jjCheckNAddStates(667, 669); }
                   break;
-               case 944:
+               case 445:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1203, 1206); }
+                     { jjCheckNAddStates(670, 673); }
                   break;
-               case 949:
-                  if (curChar == 45)
-                     { jjAddStates(1207, 1208); }
+               case 446:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(28, 30); }
                   break;
-               case 955:
-                  if (curChar != 53)
+               case 450:
+                  if (curChar != 52)
                      break;
-                  if (kind > 76)
-                     kind = 76;
-                  { jjAddStates(1209, 1210); }
+                  if (kind > 86)
+                     kind = 86;
+                  { jjAddStates(674, 675); }
                   break;
-               case 956:
-                  if (curChar == 10 && kind > 76)
-                     kind = 76;
+               case 451:
+                  if (curChar == 10 && kind > 86)
+                     kind = 86;
                   break;
-               case 957:
+               case 452:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 956;
+                     jjstateSet[jjnewStateCnt++] = 451;
                   break;
-               case 958:
-                  if ((0x100003600L & l) != 0L && kind > 76)
-                     kind = 76;
+               case 453:
+                  if ((0x100003600L & l) != 0L && kind > 86)
+                     kind = 86;
                   break;
-               case 959:
-                  if (curChar == 52)
-                     { jjCheckNAdd(955); }
+               case 454:
+                  if (curChar == 53)
+                     { jjCheckNAdd(450); }
                   break;
-               case 960:
-                  if (curChar == 54)
-                     { jjCheckNAdd(955); }
+               case 455:
+                  if (curChar == 55)
+                     { jjCheckNAdd(450); }
                   break;
-               case 961:
+               case 456:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1211, 1215); }
+                     { jjCheckNAddStates(676, 680); }
                   break;
-               case 962:
+               case 457:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(959, 960); }
+                     { jjCheckNAddTwoStates(454, 455); }
                   break;
-               case 963:
+               case 458:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1216, 1218); }
+                     { jjCheckNAddStates(681, 683); }
                   break;
-               case 964:
+               case 459:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1219, 1222); }
+                     { jjCheckNAddStates(684, 687); }
                   break;
-               case 966:
-                  if (curChar == 51)
-                     { jjCheckNAddStates(1223, 1226); }
+               case 461:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(688, 691); }
                   break;
-               case 967:
+               case 462:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(953, 954); }
+                     { jjCheckNAddTwoStates(448, 449); }
                   break;
-               case 968:
+               case 463:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 967;
+                     jjstateSet[jjnewStateCnt++] = 462;
                   break;
-               case 969:
+               case 464:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(953, 954); }
+                     { jjCheckNAddTwoStates(448, 449); }
                   break;
-               case 970:
+               case 465:
+                  if (curChar == 53)
+                     { jjCheckNAdd(461); }
+                  break;
+               case 466:
+                  if (curChar == 55)
+                     { jjCheckNAdd(461); }
+                  break;
+               case 467:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(692, 696); }
+                  break;
+               case 468:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(465, 466); }
+                  break;
+               case 469:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(697, 699); }
+                  break;
+               case 470:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(700, 703); }
+                  break;
+               case 471:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(25, 27); }
+                  break;
+               case 475:
+                  if (curChar != 51)
+                     break;
+                  if (kind > 87)
+                     kind = 87;
+                  { jjAddStates(704, 705); }
+                  break;
+               case 476:
+                  if (curChar == 10 && kind > 87)
+                     kind = 87;
+                  break;
+               case 477:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 476;
+                  break;
+               case 478:
+                  if ((0x100003600L & l) != 0L && kind > 87)
+                     kind = 87;
+                  break;
+               case 479:
                   if (curChar == 52)
-                     { jjCheckNAdd(966); }
+                     { jjCheckNAdd(475); }
                   break;
-               case 971:
+               case 480:
                   if (curChar == 54)
-                     { jjCheckNAdd(966); }
+                     { jjCheckNAdd(475); }
                   break;
-               case 972:
+               case 481:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1227, 1231); }
+                     { jjCheckNAddStates(706, 710); }
                   break;
-               case 973:
+               case 482:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(970, 971); }
+                     { jjCheckNAddTwoStates(479, 480); }
                   break;
-               case 974:
+               case 483:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1232, 1234); }
+                     { jjCheckNAddStates(711, 713); }
                   break;
-               case 975:
+               case 484:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1235, 1238); }
+                     { jjCheckNAddStates(714, 717); }
                   break;
-               case 977:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(1239, 1242); }
+               case 486:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(718, 721); }
                   break;
-               case 978:
+               case 487:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(952, 965); }
+                     { jjCheckNAddTwoStates(473, 474); }
                   break;
-               case 979:
+               case 488:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 978;
+                     jjstateSet[jjnewStateCnt++] = 487;
                   break;
-               case 980:
+               case 489:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(952, 965); }
+                     { jjCheckNAddTwoStates(473, 474); }
                   break;
-               case 981:
-                  if (curChar == 52)
-                     { jjCheckNAdd(977); }
+               case 490:
+                  if (curChar == 53)
+                     { jjCheckNAdd(486); }
                   break;
-               case 982:
-                  if (curChar == 54)
-                     { jjCheckNAdd(977); }
+               case 491:
+                  if (curChar == 55)
+                     { jjCheckNAdd(486); }
                   break;
-               case 983:
+               case 492:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1243, 1247); }
+                     { jjCheckNAddStates(722, 726); }
                   break;
-               case 984:
+               case 493:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(981, 982); }
+                     { jjCheckNAddTwoStates(490, 491); }
                   break;
-               case 985:
+               case 494:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1248, 1250); }
+                     { jjCheckNAddStates(727, 729); }
                   break;
-               case 986:
+               case 495:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1251, 1254); }
+                     { jjCheckNAddStates(730, 733); }
                   break;
-               case 988:
-                  if (curChar == 54)
-                     { jjCheckNAddStates(1255, 1258); }
+               case 496:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(22, 24); }
                   break;
-               case 989:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(951, 976); }
+               case 501:
+                  if (curChar != 55)
+                     break;
+                  if (kind > 88)
+                     kind = 88;
+                  { jjAddStates(734, 735); }
                   break;
-               case 990:
+               case 502:
+                  if (curChar == 10 && kind > 88)
+                     kind = 88;
+                  break;
+               case 503:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 989;
+                     jjstateSet[jjnewStateCnt++] = 502;
                   break;
-               case 991:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(951, 976); }
+               case 504:
+                  if ((0x100003600L & l) != 0L && kind > 88)
+                     kind = 88;
                   break;
-               case 992:
+               case 505:
                   if (curChar == 52)
-                     { jjCheckNAdd(988); }
+                     { jjCheckNAdd(501); }
                   break;
-               case 993:
+               case 506:
                   if (curChar == 54)
-                     { jjCheckNAdd(988); }
+                     { jjCheckNAdd(501); }
                   break;
-               case 994:
+               case 507:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1259, 1263); }
+                     { jjCheckNAddStates(736, 740); }
                   break;
-               case 995:
+               case 508:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(992, 993); }
+                     { jjCheckNAddTwoStates(505, 506); }
                   break;
-               case 996:
+               case 509:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1264, 1266); }
+                     { jjCheckNAddStates(741, 743); }
                   break;
-               case 997:
+               case 510:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1267, 1270); }
+                     { jjCheckNAddStates(744, 747); }
                   break;
-               case 999:
-                  if (curChar == 52)
-                     { jjCheckNAddStates(1271, 1273); }
+               case 512:
+                  if (curChar == 53)
+                     { jjCheckNAddStates(748, 751); }
                   break;
-               case 1000:
+               case 513:
                   if (curChar == 10)
-                     { jjCheckNAdd(949); }
+                     { jjCheckNAddTwoStates(499, 500); }
                   break;
-               case 1001:
+               case 514:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1000;
+                     jjstateSet[jjnewStateCnt++] = 513;
                   break;
-               case 1002:
+               case 515:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAdd(949); }
+                     { jjCheckNAddTwoStates(499, 500); }
                   break;
-               case 1003:
-                  if (curChar == 53)
-                     { jjCheckNAdd(999); }
+               case 516:
+                  if (curChar == 52)
+                     { jjCheckNAdd(512); }
                   break;
-               case 1004:
-                  if (curChar == 55)
-                     { jjCheckNAdd(999); }
+               case 517:
+                  if (curChar == 54)
+                     { jjCheckNAdd(512); }
                   break;
-               case 1005:
+               case 518:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1274, 1278); }
+                     { jjCheckNAddStates(752, 756); }
                   break;
-               case 1006:
+               case 519:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1003, 1004); }
+                     { jjCheckNAddTwoStates(516, 517); }
                   break;
-               case 1007:
+               case 520:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1279, 1281); }
+                     { jjCheckNAddStates(757, 759); }
                   break;
-               case 1008:
+               case 521:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1282, 1285); }
+                     { jjCheckNAddStates(760, 763); }
                   break;
-               case 1011:
+               case 523:
+                  if (curChar == 52)
+                     { jjCheckNAddStates(764, 767); }
+                  break;
+               case 524:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(948, 998); }
+                     { jjCheckNAddTwoStates(498, 511); }
                   break;
-               case 1012:
+               case 525:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1011;
+                     jjstateSet[jjnewStateCnt++] = 524;
                   break;
-               case 1013:
+               case 526:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(948, 998); }
+                     { jjCheckNAddTwoStates(498, 511); }
                   break;
-               case 1014:
+               case 527:
                   if (curChar == 52)
-                     { jjCheckNAdd(1010); }
+                     { jjCheckNAdd(523); }
                   break;
-               case 1015:
+               case 528:
                   if (curChar == 54)
-                     { jjCheckNAdd(1010); }
+                     { jjCheckNAdd(523); }
                   break;
-               case 1016:
+               case 529:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1286, 1290); }
+                     { jjCheckNAddStates(768, 772); }
                   break;
-               case 1017:
+               case 530:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1014, 1015); }
+                     { jjCheckNAddTwoStates(527, 528); }
                   break;
-               case 1018:
+               case 531:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1291, 1293); }
+                     { jjCheckNAddStates(773, 775); }
                   break;
-               case 1019:
+               case 532:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1294, 1297); }
+                     { jjCheckNAddStates(776, 779); }
                   break;
-               case 1021:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(1298, 1301); }
+               case 533:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(19, 21); }
                   break;
-               case 1022:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(947, 1009); }
+               case 538:
+                  if (curChar != 52)
+                     break;
+                  if (kind > 89)
+                     kind = 89;
+                  { jjAddStates(780, 781); }
                   break;
-               case 1023:
+               case 539:
+                  if (curChar == 10 && kind > 89)
+                     kind = 89;
+                  break;
+               case 540:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1022;
+                     jjstateSet[jjnewStateCnt++] = 539;
                   break;
-               case 1024:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(947, 1009); }
+               case 541:
+                  if ((0x100003600L & l) != 0L && kind > 89)
+                     kind = 89;
                   break;
-               case 1025:
-                  if (curChar == 53)
-                     { jjCheckNAdd(1021); }
+               case 542:
+                  if (curChar == 52)
+                     { jjCheckNAdd(538); }
                   break;
-               case 1026:
-                  if (curChar == 55)
-                     { jjCheckNAdd(1021); }
+               case 543:
+                  if (curChar == 54)
+                     { jjCheckNAdd(538); }
                   break;
-               case 1027:
+               case 544:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1302, 1306); }
+                     { jjCheckNAddStates(782, 786); }
                   break;
-               case 1028:
+               case 545:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1025, 1026); }
+                     { jjCheckNAddTwoStates(542, 543); }
                   break;
-               case 1029:
+               case 546:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1307, 1309); }
+                     { jjCheckNAddStates(787, 789); }
                   break;
-               case 1030:
+               case 547:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1310, 1313); }
+                     { jjCheckNAddStates(790, 793); }
                   break;
-               case 1032:
-                  if (curChar == 54)
-                     { jjCheckNAddStates(1314, 1317); }
+               case 549:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(794, 797); }
                   break;
-               case 1033:
+               case 550:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(946, 1020); }
+                     { jjCheckNAddTwoStates(536, 537); }
                   break;
-               case 1034:
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_551(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 551:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1033;
+                     jjstateSet[jjnewStateCnt++] = 550;
                   break;
-               case 1035:
+               case 552:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(946, 1020); }
+                     { jjCheckNAddTwoStates(536, 537); }
                   break;
-               case 1036:
+               case 553:
                   if (curChar == 52)
-                     { jjCheckNAdd(1032); }
+                     { jjCheckNAdd(549); }
                   break;
-               case 1037:
+               case 554:
                   if (curChar == 54)
-                     { jjCheckNAdd(1032); }
+                     { jjCheckNAdd(549); }
                   break;
-               case 1038:
+               case 555:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1318, 1322); }
+                     { jjCheckNAddStates(798, 802); }
                   break;
-               case 1039:
+               case 556:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1036, 1037); }
+                     { jjCheckNAddTwoStates(553, 554); }
                   break;
-               case 1040:
+               case 557:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1323, 1325); }
+                     { jjCheckNAddStates(803, 805); }
                   break;
-               case 1041:
+               case 558:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1326, 1329); }
+                     { jjCheckNAddStates(806, 809); }
                   break;
-               case 1050:
-                  if (curChar != 52)
-                     break;
-                  if (kind > 77)
-                     kind = 77;
-                  { jjAddStates(1330, 1331); }
+               case 560:
+                  if (curChar == 50)
+                     { jjCheckNAddStates(810, 813); }
                   break;
-               case 1051:
-                  if (curChar == 10 && kind > 77)
-                     kind = 77;
+               case 561:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(535, 548); }
                   break;
-               case 1052:
+               case 562:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1051;
+                     jjstateSet[jjnewStateCnt++] = 561;
                   break;
-               case 1053:
-                  if ((0x100003600L & l) != 0L && kind > 77)
-                     kind = 77;
+               case 563:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(535, 548); }
                   break;
-               case 1054:
+               case 564:
                   if (curChar == 53)
-                     { jjCheckNAdd(1050); }
+                     { jjCheckNAdd(560); }
                   break;
-               case 1055:
+               case 565:
                   if (curChar == 55)
-                     { jjCheckNAdd(1050); }
+                     { jjCheckNAdd(560); }
                   break;
-               case 1056:
+               case 566:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1332, 1336); }
+                     { jjCheckNAddStates(814, 818); }
                   break;
-               case 1057:
+               case 567:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1054, 1055); }
+                     { jjCheckNAddTwoStates(564, 565); }
                   break;
-               case 1058:
+               case 568:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1337, 1339); }
+                     { jjCheckNAddStates(819, 821); }
                   break;
-               case 1059:
+               case 569:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1340, 1343); }
+                     { jjCheckNAddStates(822, 825); }
                   break;
-               case 1061:
-                  if (curChar == 53)
-                     { jjCheckNAddStates(1344, 1347); }
+               case 570:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(16, 18); }
                   break;
-               case 1062:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(1048, 1049); }
+               case 576:
+                  if (curChar != 52)
+                     break;
+                  if (kind > 90)
+                     kind = 90;
+                  { jjAddStates(826, 827); }
                   break;
-               case 1063:
+               case 577:
+                  if (curChar == 10 && kind > 90)
+                     kind = 90;
+                  break;
+               case 578:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1062;
+                     jjstateSet[jjnewStateCnt++] = 577;
                   break;
-               case 1064:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1048, 1049); }
+               case 579:
+                  if ((0x100003600L & l) != 0L && kind > 90)
+                     kind = 90;
                   break;
-               case 1065:
+               case 580:
                   if (curChar == 52)
-                     { jjCheckNAdd(1061); }
+                     { jjCheckNAdd(576); }
                   break;
-               case 1066:
+               case 581:
                   if (curChar == 54)
-                     { jjCheckNAdd(1061); }
+                     { jjCheckNAdd(576); }
                   break;
-               case 1067:
+               case 582:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1348, 1352); }
+                     { jjCheckNAddStates(828, 832); }
                   break;
-               case 1068:
+               case 583:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1065, 1066); }
+                     { jjCheckNAddTwoStates(580, 581); }
                   break;
-               case 1069:
+               case 584:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1353, 1355); }
+                     { jjCheckNAddStates(833, 835); }
                   break;
-               case 1070:
+               case 585:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1356, 1359); }
+                     { jjCheckNAddStates(836, 839); }
                   break;
-               case 1072:
-                  if (curChar == 51)
-                     { jjCheckNAddStates(1360, 1363); }
+               case 587:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(840, 843); }
                   break;
-               case 1073:
+               case 588:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(1047, 1060); }
+                     { jjCheckNAddTwoStates(574, 575); }
                   break;
-               case 1074:
+               case 589:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1073;
+                     jjstateSet[jjnewStateCnt++] = 588;
                   break;
-               case 1075:
+               case 590:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1047, 1060); }
+                     { jjCheckNAddTwoStates(574, 575); }
                   break;
-               case 1076:
-                  if (curChar == 53)
-                     { jjCheckNAdd(1072); }
+               case 591:
+                  if (curChar == 52)
+                     { jjCheckNAdd(587); }
                   break;
-               case 1077:
-                  if (curChar == 55)
-                     { jjCheckNAdd(1072); }
+               case 592:
+                  if (curChar == 54)
+                     { jjCheckNAdd(587); }
                   break;
-               case 1078:
+               case 593:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1364, 1368); }
+                     { jjCheckNAddStates(844, 848); }
                   break;
-               case 1079:
+               case 594:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1076, 1077); }
+                     { jjCheckNAddTwoStates(591, 592); }
                   break;
-               case 1080:
+               case 595:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1369, 1371); }
+                     { jjCheckNAddStates(849, 851); }
                   break;
-               case 1081:
+               case 596:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1372, 1375); }
+                     { jjCheckNAddStates(852, 855); }
                   break;
-               case 1083:
+               case 598:
                   if (curChar == 50)
-                     { jjCheckNAddStates(1376, 1379); }
+                     { jjCheckNAddStates(856, 859); }
                   break;
-               case 1084:
+               case 599:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(1046, 1071); }
+                     { jjCheckNAddTwoStates(573, 586); }
                   break;
-               case 1085:
+               case 600:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1084;
+                     jjstateSet[jjnewStateCnt++] = 599;
                   break;
-               case 1086:
+               case 601:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1046, 1071); }
+                     { jjCheckNAddTwoStates(573, 586); }
                   break;
-               case 1087:
+               case 602:
                   if (curChar == 53)
-                     { jjCheckNAdd(1083); }
+                     { jjCheckNAdd(598); }
                   break;
-               case 1088:
+               case 603:
                   if (curChar == 55)
-                     { jjCheckNAdd(1083); }
+                     { jjCheckNAdd(598); }
                   break;
-               case 1089:
+               case 604:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1380, 1384); }
+                     { jjCheckNAddStates(860, 864); }
                   break;
-               case 1090:
+               case 605:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1087, 1088); }
+                     { jjCheckNAddTwoStates(602, 603); }
                   break;
-               case 1091:
+               case 606:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1385, 1387); }
+                     { jjCheckNAddStates(865, 867); }
                   break;
-               case 1092:
+               case 607:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1388, 1391); }
+                     { jjCheckNAddStates(868, 871); }
                   break;
-               case 1094:
-                  if (curChar == 49)
-                     { jjCheckNAddStates(1392, 1395); }
+               case 609:
+                  if (curChar == 55)
+                     { jjCheckNAddStates(872, 875); }
                   break;
-               case 1095:
+               case 610:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(1045, 1082); }
+                     { jjCheckNAddTwoStates(572, 597); }
                   break;
-               case 1096:
+               case 611:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1095;
+                     jjstateSet[jjnewStateCnt++] = 610;
                   break;
-               case 1097:
+               case 612:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1045, 1082); }
+                     { jjCheckNAddTwoStates(572, 597); }
                   break;
-               case 1098:
+               case 613:
                   if (curChar == 52)
-                     { jjCheckNAdd(1094); }
+                     { jjCheckNAdd(609); }
                   break;
-               case 1099:
+               case 614:
                   if (curChar == 54)
-                     { jjCheckNAdd(1094); }
+                     { jjCheckNAdd(609); }
                   break;
-               case 1100:
+               case 615:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1396, 1400); }
+                     { jjCheckNAddStates(876, 880); }
                   break;
-               case 1101:
+               case 616:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1098, 1099); }
+                     { jjCheckNAddTwoStates(613, 614); }
                   break;
-               case 1102:
+               case 617:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1401, 1403); }
+                     { jjCheckNAddStates(881, 883); }
                   break;
-               case 1103:
+               case 618:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1404, 1407); }
+                     { jjCheckNAddStates(884, 887); }
                   break;
-               case 1105:
-                  if (curChar == 56)
-                     { jjCheckNAddStates(1408, 1411); }
+               case 619:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(13, 15); }
                   break;
-               case 1106:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(1044, 1093); }
+               case 623:
+                  if (curChar != 51)
+                     break;
+                  if (kind > 91)
+                     kind = 91;
+                  { jjAddStates(888, 889); }
                   break;
-               case 1107:
+               case 624:
+                  if (curChar == 10 && kind > 91)
+                     kind = 91;
+                  break;
+               case 625:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1106;
+                     jjstateSet[jjnewStateCnt++] = 624;
                   break;
-               case 1108:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1044, 1093); }
+               case 626:
+                  if ((0x100003600L & l) != 0L && kind > 91)
+                     kind = 91;
                   break;
-               case 1109:
-                  if (curChar == 52)
-                     { jjCheckNAdd(1105); }
+               case 627:
+                  if (curChar == 53)
+                     { jjCheckNAdd(623); }
                   break;
-               case 1110:
-                  if (curChar == 54)
-                     { jjCheckNAdd(1105); }
+               case 628:
+                  if (curChar == 55)
+                     { jjCheckNAdd(623); }
                   break;
-               case 1111:
+               case 629:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1412, 1416); }
+                     { jjCheckNAddStates(890, 894); }
                   break;
-               case 1112:
+               case 630:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1109, 1110); }
+                     { jjCheckNAddTwoStates(627, 628); }
                   break;
-               case 1113:
+               case 631:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1417, 1419); }
+                     { jjCheckNAddStates(895, 897); }
                   break;
-               case 1114:
+               case 632:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1420, 1423); }
-                  break;
-               case 1116:
-                  if (curChar == 51)
-                     { jjCheckNAddStates(1424, 1427); }
+                     { jjCheckNAddStates(898, 901); }
                   break;
-               case 1117:
+               case 635:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(1043, 1104); }
+                     { jjCheckNAddTwoStates(621, 622); }
                   break;
-               case 1118:
+               case 636:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1117;
+                     jjstateSet[jjnewStateCnt++] = 635;
                   break;
-               case 1119:
+               case 637:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1043, 1104); }
+                     { jjCheckNAddTwoStates(621, 622); }
                   break;
-               case 1120:
+               case 638:
                   if (curChar == 52)
-                     { jjCheckNAdd(1116); }
+                     { jjCheckNAdd(634); }
                   break;
-               case 1121:
+               case 639:
                   if (curChar == 54)
-                     { jjCheckNAdd(1116); }
+                     { jjCheckNAdd(634); }
                   break;
-               case 1122:
+               case 640:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1428, 1432); }
+                     { jjCheckNAddStates(902, 906); }
                   break;
-               case 1123:
+               case 641:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1120, 1121); }
+                     { jjCheckNAddTwoStates(638, 639); }
                   break;
-               case 1124:
+               case 642:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1433, 1435); }
+                     { jjCheckNAddStates(907, 909); }
                   break;
-               case 1125:
+               case 643:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1436, 1439); }
+                     { jjCheckNAddStates(910, 913); }
                   break;
-               case 1126:
-                  if (curChar == 45)
-                     { jjAddStates(1440, 1441); }
+               case 644:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(10, 12); }
                   break;
-               case 1128:
-                  if ((0x3ff200000000000L & l) == 0L)
+               case 647:
+                  if (curChar != 51)
                      break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+                  if (kind > 92)
+                     kind = 92;
+                  { jjAddStates(914, 915); }
                   break;
-               case 1130:
-                  if ((0xfc00ffffffffcbffL & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+               case 648:
+                  if (curChar == 10 && kind > 92)
+                     kind = 92;
                   break;
-               case 1131:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1442, 1450); }
+               case 649:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 648;
                   break;
-               case 1132:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1451, 1454); }
+               case 650:
+                  if ((0x100003600L & l) != 0L && kind > 92)
+                     kind = 92;
                   break;
-               case 1133:
-                  if (curChar != 10)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+               case 651:
+                  if (curChar == 53)
+                     { jjCheckNAdd(647); }
                   break;
-               case 1134:
-               case 1149:
-                  if (curChar == 13)
-                     { jjCheckNAdd(1133); }
+               case 652:
+                  if (curChar == 55)
+                     { jjCheckNAdd(647); }
                   break;
-               case 1135:
-                  if ((0x100003600L & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+               case 653:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(916, 920); }
                   break;
-               case 1136:
-               case 1138:
-               case 1141:
-               case 1145:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(1132); }
+               case 654:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(651, 652); }
                   break;
-               case 1137:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1138;
+               case 655:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(921, 923); }
                   break;
-               case 1139:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1140;
+               case 656:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(924, 927); }
                   break;
-               case 1140:
+               case 657:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1141;
+                     { jjCheckNAddStates(7, 9); }
                   break;
-               case 1142:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1143;
+               case 662:
+                  if (curChar == 10 && kind > 93)
+                     kind = 93;
                   break;
-               case 1143:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1144;
+               case 663:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 662;
                   break;
-               case 1144:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1145;
+               case 664:
+                  if ((0x100003600L & l) != 0L && kind > 93)
+                     kind = 93;
                   break;
-               case 1147:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1455, 1463); }
+               case 665:
+                  if (curChar == 53)
+                     { jjCheckNAdd(661); }
                   break;
-               case 1148:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1464, 1467); }
+               case 666:
+                  if (curChar == 55)
+                     { jjCheckNAdd(661); }
+                  break;
+               case 667:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(928, 932); }
+                  break;
+               case 668:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(665, 666); }
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_669(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 669:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(933, 935); }
+                  break;
+               case 670:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(936, 939); }
+                  break;
+               case 672:
+                  if (curChar == 56)
+                     { jjCheckNAddStates(940, 943); }
+                  break;
+               case 673:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(659, 660); }
+                  break;
+               case 674:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 673;
+                  break;
+               case 675:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(659, 660); }
                   break;
-               case 1150:
-               case 1152:
-               case 1155:
-               case 1159:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(1148); }
+               case 676:
+                  if (curChar == 52)
+                     { jjCheckNAdd(672); }
                   break;
-               case 1151:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1152;
+               case 677:
+                  if (curChar == 54)
+                     { jjCheckNAdd(672); }
                   break;
-               case 1153:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1154;
+               case 678:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(944, 948); }
                   break;
-               case 1154:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1155;
+               case 679:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(676, 677); }
                   break;
-               case 1156:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1157;
+               case 680:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(949, 951); }
                   break;
-               case 1157:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1158;
+               case 681:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(952, 955); }
                   break;
-               case 1158:
+               case 682:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1159;
+                     { jjCheckNAddStates(4, 6); }
                   break;
-               case 1162:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(897, 934); }
+               case 688:
+                  if (curChar == 10 && kind > 94)
+                     kind = 94;
                   break;
-               case 1163:
+               case 689:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1162;
+                     jjstateSet[jjnewStateCnt++] = 688;
                   break;
-               case 1164:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(897, 934); }
+               case 690:
+                  if ((0x100003600L & l) != 0L && kind > 94)
+                     kind = 94;
                   break;
-               case 1165:
-                  if (curChar == 52)
-                     { jjCheckNAdd(1161); }
+               case 691:
+                  if (curChar == 53)
+                     { jjCheckNAdd(687); }
                   break;
-               case 1166:
-                  if (curChar == 54)
-                     { jjCheckNAdd(1161); }
+               case 692:
+                  if (curChar == 55)
+                     { jjCheckNAdd(687); }
                   break;
-               case 1167:
+               case 693:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1468, 1472); }
+                     { jjCheckNAddStates(956, 960); }
                   break;
-               case 1168:
+               case 694:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1165, 1166); }
+                     { jjCheckNAddTwoStates(691, 692); }
                   break;
-               case 1169:
+               case 695:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1473, 1475); }
+                     { jjCheckNAddStates(961, 963); }
                   break;
-               case 1170:
+               case 696:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1476, 1479); }
+                     { jjCheckNAddStates(964, 967); }
                   break;
-               case 1172:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(1480, 1483); }
+               case 698:
+                  if (curChar == 56)
+                     { jjCheckNAddStates(968, 971); }
                   break;
-               case 1173:
+               case 699:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(860, 885); }
+                     { jjCheckNAddTwoStates(685, 686); }
                   break;
-               case 1174:
+               case 700:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1173;
+                     jjstateSet[jjnewStateCnt++] = 699;
                   break;
-               case 1175:
+               case 701:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(860, 885); }
+                     { jjCheckNAddTwoStates(685, 686); }
                   break;
-               case 1176:
-                  if (curChar == 53)
-                     { jjCheckNAdd(1172); }
+               case 702:
+                  if (curChar == 52)
+                     { jjCheckNAdd(698); }
                   break;
-               case 1177:
-                  if (curChar == 55)
-                     { jjCheckNAdd(1172); }
+               case 703:
+                  if (curChar == 54)
+                     { jjCheckNAdd(698); }
                   break;
-               case 1178:
+               case 704:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1484, 1488); }
+                     { jjCheckNAddStates(972, 976); }
                   break;
-               case 1179:
+               case 705:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1176, 1177); }
+                     { jjCheckNAddTwoStates(702, 703); }
                   break;
-               case 1180:
+               case 706:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1489, 1491); }
+                     { jjCheckNAddStates(977, 979); }
                   break;
-               case 1181:
+               case 707:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1492, 1495); }
-                  break;
-               case 1183:
-                  if (curChar == 57)
-                     { jjCheckNAddStates(1496, 1499); }
+                     { jjCheckNAddStates(980, 983); }
                   break;
-               case 1184:
+               case 710:
                   if (curChar == 10)
-                     { jjCheckNAddTwoStates(799, 848); }
+                     { jjCheckNAddTwoStates(684, 697); }
                   break;
-               case 1185:
+               case 711:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1184;
+                     jjstateSet[jjnewStateCnt++] = 710;
                   break;
-               case 1186:
+               case 712:
                   if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(799, 848); }
+                     { jjCheckNAddTwoStates(684, 697); }
                   break;
-               case 1187:
+               case 713:
                   if (curChar == 52)
-                     { jjCheckNAdd(1183); }
+                     { jjCheckNAdd(709); }
                   break;
-               case 1188:
+               case 714:
                   if (curChar == 54)
-                     { jjCheckNAdd(1183); }
+                     { jjCheckNAdd(709); }
                   break;
-               case 1189:
+               case 715:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1500, 1504); }
+                     { jjCheckNAddStates(984, 988); }
                   break;
-               case 1190:
+               case 716:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1187, 1188); }
+                     { jjCheckNAddTwoStates(713, 714); }
                   break;
-               case 1191:
+               case 717:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1505, 1507); }
+                     { jjCheckNAddStates(989, 991); }
                   break;
-               case 1192:
+               case 718:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1508, 1511); }
+                     { jjCheckNAddStates(992, 995); }
                   break;
-               case 1194:
-                  if (curChar == 43)
-                     jjstateSet[jjnewStateCnt++] = 1195;
+               case 719:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(719, 722); }
                   break;
-               case 1195:
-                  if ((0x83ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddTwoStates(1196, 1203); }
+               case 723:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(723, 727); }
                   break;
-               case 1196:
-                  if (curChar == 45)
-                     jjstateSet[jjnewStateCnt++] = 1197;
+               case 728:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(728, 729); }
                   break;
-               case 1197:
-                  if ((0x83ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  jjstateSet[jjnewStateCnt++] = 1198;
+               case 729:
+                  if (curChar == 37 && kind > 97)
+                     kind = 97;
                   break;
-               case 1198:
-                  if ((0x83ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1512, 1515); }
+               case 730:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(0, 3); }
                   break;
-               case 1199:
-                  if ((0x83ff000000000000L & l) != 0L && kind > 99)
-                     kind = 99;
+               case 731:
+                  if (curChar == 45)
+                     { jjCheckNAddTwoStates(732, 751); }
                   break;
-               case 1200:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 733:
+                  if ((0x3ff200000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAdd(1199); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
                   break;
-               case 1201:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 735:
+                  if ((0xfc00ffffffffcbffL & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddTwoStates(1199, 1200); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
                   break;
-               case 1202:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 736:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1516, 1518); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(996, 1004); }
                   break;
-               case 1203:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 737:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1519, 1523); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(1005, 1008); }
                   break;
-               case 1204:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 738:
+                  if (curChar != 10)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAdd(1196); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
                   break;
-               case 1205:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 739:
+               case 754:
+                  if (curChar == 13)
+                     { jjCheckNAdd(738); }
+                  break;
+               case 740:
+                  if ((0x100003600L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddTwoStates(1204, 1196); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddTwoStates(733, 734); }
                   break;
-               case 1206:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 741:
+               case 743:
+               case 746:
+               case 750:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(737); }
+                  break;
+               case 742:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 743;
+                  break;
+               case 744:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 745;
+                  break;
+               case 745:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 746;
+                  break;
+               case 747:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 748;
+                  break;
+               case 748:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 749;
+                  break;
+               case 749:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 750;
+                  break;
+               case 752:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1524, 1526); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(1009, 1017); }
                   break;
-               case 1207:
-                  if ((0x83ff000000000000L & l) == 0L)
+               case 753:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1527, 1530); }
+                  if (kind > 98)
+                     kind = 98;
+                  { jjCheckNAddStates(1018, 1021); }
                   break;
-               case 1209:
-                  if (curChar == 40)
-                     { jjCheckNAddStates(1531, 1536); }
+               case 755:
+               case 757:
+               case 760:
+               case 764:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(753); }
                   break;
-               case 1210:
-                  if ((0xfffffc7a00000000L & l) != 0L)
-                     { jjCheckNAddStates(1537, 1540); }
+               case 756:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 757;
                   break;
-               case 1211:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(1211, 1212); }
+               case 758:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 759;
                   break;
-               case 1212:
-                  if (curChar == 41 && kind > 100)
-                     kind = 100;
+               case 759:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 760;
                   break;
-               case 1214:
-                  if ((0xfc00ffffffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(1537, 1540); }
+               case 761:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 762;
                   break;
-               case 1215:
+               case 762:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1541, 1550); }
+                     jjstateSet[jjnewStateCnt++] = 763;
                   break;
-               case 1216:
+               case 763:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1551, 1555); }
+                     jjstateSet[jjnewStateCnt++] = 764;
                   break;
-               case 1217:
-                  if (curChar == 10)
-                     { jjCheckNAddStates(1537, 1540); }
+               case 765:
+                  if (curChar == 45)
+                     { jjAddStates(169, 172); }
+                  break;
+               case 767:
+                  if ((0x3ff200000000000L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
+                  break;
+               case 769:
+                  if ((0xfc00ffffffffcbffL & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
+                  break;
+               case 770:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1022, 1030); }
+                  break;
+               case 771:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1031, 1034); }
                   break;
-               case 1218:
+               case 772:
+                  if (curChar != 10)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
+                  break;
+               case 773:
+               case 822:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1217;
+                     { jjCheckNAdd(772); }
                   break;
-               case 1219:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(1537, 1540); }
+               case 774:
+                  if ((0x100003600L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddTwoStates(767, 768); }
                   break;
-               case 1220:
-               case 1222:
-               case 1225:
-               case 1229:
+               case 775:
+               case 777:
+               case 780:
+               case 784:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(1216); }
+                     { jjCheckNAdd(771); }
                   break;
-               case 1221:
+               case 776:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1222;
+                     jjstateSet[jjnewStateCnt++] = 777;
                   break;
-               case 1223:
+               case 778:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1224;
+                     jjstateSet[jjnewStateCnt++] = 779;
                   break;
-               case 1224:
+               case 779:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1225;
+                     jjstateSet[jjnewStateCnt++] = 780;
                   break;
-               case 1226:
+               case 781:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1227;
+                     jjstateSet[jjnewStateCnt++] = 782;
                   break;
-               case 1227:
+               case 782:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1228;
+                     jjstateSet[jjnewStateCnt++] = 783;
                   break;
-               case 1228:
+               case 783:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1229;
+                     jjstateSet[jjnewStateCnt++] = 784;
                   break;
-               case 1230:
-                  if (curChar == 39)
-                     { jjCheckNAddStates(1556, 1558); }
+               case 786:
+                  if ((0x3ff200000000000L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1231:
-                  if ((0xffffff7fffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(1556, 1558); }
+               case 787:
+                  if (curChar == 40 && kind > 104)
+                     kind = 104;
                   break;
-               case 1232:
-                  if (curChar == 39)
-                     { jjCheckNAddTwoStates(1211, 1212); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_789(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 789:
+                  if ((0xfc00ffffffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1234:
-                  if ((0x3400L & l) != 0L)
-                     { jjCheckNAddStates(1556, 1558); }
+               case 790:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1035, 1044); }
                   break;
-               case 1235:
+               case 791:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1045, 1049); }
+                  break;
+               case 792:
                   if (curChar == 10)
-                     { jjCheckNAddStates(1556, 1558); }
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1236:
-               case 1240:
+               case 793:
+               case 808:
                   if (curChar == 13)
-                     { jjCheckNAdd(1235); }
+                     { jjCheckNAdd(792); }
                   break;
-               case 1237:
-                  if ((0xfc00ffffffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(1556, 1558); }
+               case 794:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddStates(52, 54); }
                   break;
-               case 1238:
+               case 795:
+               case 797:
+               case 800:
+               case 804:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1559, 1568); }
+                     { jjCheckNAdd(791); }
                   break;
-               case 1239:
+               case 796:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1569, 1573); }
+                     jjstateSet[jjnewStateCnt++] = 797;
                   break;
-               case 1241:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(1556, 1558); }
-                  break;
-               case 1242:
-               case 1244:
-               case 1247:
-               case 1251:
+               case 798:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(1239); }
+                     jjstateSet[jjnewStateCnt++] = 799;
                   break;
-               case 1243:
+               case 799:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1244;
+                     jjstateSet[jjnewStateCnt++] = 800;
                   break;
-               case 1245:
+               case 801:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1246;
+                     jjstateSet[jjnewStateCnt++] = 802;
                   break;
-               case 1246:
+               case 802:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1247;
+                     jjstateSet[jjnewStateCnt++] = 803;
                   break;
-               case 1248:
+               case 803:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1249;
+                     jjstateSet[jjnewStateCnt++] = 804;
                   break;
-               case 1249:
+               case 806:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1250;
+                     { jjCheckNAddStates(1050, 1059); }
                   break;
-               case 1250:
+               case 807:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1251;
-                  break;
-               case 1252:
-                  if (curChar == 34)
-                     { jjCheckNAddStates(1574, 1576); }
+                     { jjCheckNAddStates(1060, 1064); }
                   break;
-               case 1253:
-                  if ((0xfffffffbffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(1574, 1576); }
-                  break;
-               case 1254:
-                  if (curChar == 34)
-                     { jjCheckNAddTwoStates(1211, 1212); }
+               case 809:
+               case 811:
+               case 814:
+               case 818:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(807); }
                   break;
-               case 1256:
-                  if ((0x3400L & l) != 0L)
-                     { jjCheckNAddStates(1574, 1576); }
+               case 810:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 811;
                   break;
-               case 1257:
-                  if (curChar == 10)
-                     { jjCheckNAddStates(1574, 1576); }
+               case 812:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 813;
                   break;
-               case 1258:
-               case 1262:
-                  if (curChar == 13)
-                     { jjCheckNAdd(1257); }
+               case 813:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 814;
                   break;
-               case 1259:
-                  if ((0xfc00ffffffffcbffL & l) != 0L)
-                     { jjCheckNAddStates(1574, 1576); }
+               case 815:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 816;
                   break;
-               case 1260:
+               case 816:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1577, 1586); }
+                     jjstateSet[jjnewStateCnt++] = 817;
                   break;
-               case 1261:
+               case 817:
                   if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1587, 1591); }
+                     jjstateSet[jjnewStateCnt++] = 818;
                   break;
-               case 1263:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(1574, 1576); }
+               case 820:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1065, 1073); }
                   break;
-               case 1264:
-               case 1266:
-               case 1269:
-               case 1273:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAdd(1261); }
+               case 821:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 22)
+                     kind = 22;
+                  { jjCheckNAddStates(1074, 1077); }
                   break;
-               case 1265:
+               case 823:
+               case 825:
+               case 828:
+               case 832:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1266;
+                     { jjCheckNAdd(821); }
                   break;
-               case 1267:
+               case 824:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1268;
+                     jjstateSet[jjnewStateCnt++] = 825;
                   break;
-               case 1268:
+               case 826:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1269;
+                     jjstateSet[jjnewStateCnt++] = 827;
                   break;
-               case 1270:
+               case 827:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1271;
+                     jjstateSet[jjnewStateCnt++] = 828;
                   break;
-               case 1271:
+               case 829:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1272;
+                     jjstateSet[jjnewStateCnt++] = 830;
                   break;
-               case 1272:
+               case 830:
                   if ((0x3ff000000000000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1273;
-                  break;
-               case 1274:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddStates(1592, 1598); }
-                  break;
-               case 1278:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(186, 200); }
-                  break;
-               case 1279:
-                  if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1278;
-                  break;
-               case 1280:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(186, 200); }
+                     jjstateSet[jjnewStateCnt++] = 831;
                   break;
-               case 1281:
-                  if (curChar == 52)
-                     { jjCheckNAdd(1277); }
+               case 831:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 832;
                   break;
-               case 1282:
-                  if (curChar == 54)
-                     { jjCheckNAdd(1277); }
+               case 842:
+                  if (curChar != 52)
+                     break;
+                  if (kind > 73)
+                     kind = 73;
+                  { jjAddStates(1078, 1079); }
                   break;
-               case 1284:
-                  if (curChar == 10)
-                     { jjCheckNAddTwoStates(212, 238); }
+               case 843:
+                  if (curChar == 10 && kind > 73)
+                     kind = 73;
                   break;
-               case 1285:
+               case 844:
                   if (curChar == 13)
-                     jjstateSet[jjnewStateCnt++] = 1284;
+                     jjstateSet[jjnewStateCnt++] = 843;
                   break;
-               case 1286:
-                  if ((0x100003600L & l) != 0L)
-                     { jjCheckNAddTwoStates(212, 238); }
+               case 845:
+                  if ((0x100003600L & l) != 0L && kind > 73)
+                     kind = 73;
                   break;
-               case 1287:
-                  if (curChar == 52)
-                     { jjCheckNAdd(1283); }
+               case 846:
+                  if (curChar == 53)
+                     { jjCheckNAdd(842); }
                   break;
-               case 1288:
-                  if (curChar == 54)
-                     { jjCheckNAdd(1283); }
+               case 847:
+                  if (curChar == 55)
+                     { jjCheckNAdd(842); }
                   break;
-               case 1289:
+               case 848:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1599, 1603); }
+                     { jjCheckNAddStates(1080, 1084); }
                   break;
-               case 1290:
+               case 849:
                   if (curChar == 48)
-                     { jjCheckNAddTwoStates(1287, 1288); }
+                     { jjCheckNAddTwoStates(846, 847); }
                   break;
-               case 1291:
+               case 850:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1604, 1606); }
+                     { jjCheckNAddStates(1085, 1087); }
                   break;
-               case 1292:
+               case 851:
                   if (curChar == 48)
-                     { jjCheckNAddStates(1607, 1610); }
+                     { jjCheckNAddStates(1088, 1091); }
                   break;
-               case 1293:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(1611, 1615); }
+               case 853:
+                  if (curChar == 50)
+                     { jjCheckNAddStates(1092, 1095); }
                   break;
-               case 1294:
-                  if (curChar == 48)
-                     { jjCheckNAddTwoStates(1281, 1282); }
+               case 854:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(840, 841); }
                   break;
-               case 1295:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(1616, 1618); }
+               case 855:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 854;
                   break;
-               case 1296:
-                  if (curChar == 48)
-                     { jjCheckNAddStates(1619, 1622); }
+               case 856:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(840, 841); }
                   break;
-               case 1297:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 20)
-                     kind = 20;
-                  { jjCheckNAddStates(52, 150); }
+               case 857:
+                  if (curChar == 53)
+                     { jjCheckNAdd(853); }
                   break;
-               case 1298:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 20)
-                     kind = 20;
-                  { jjCheckNAdd(1298); }
+               case 858:
+                  if (curChar == 55)
+                     { jjCheckNAdd(853); }
                   break;
-               case 1299:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1299, 1300); }
+               case 859:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1096, 1100); }
                   break;
-               case 1300:
-                  if (curChar == 46)
-                     { jjCheckNAdd(257); }
+               case 860:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(857, 858); }
                   break;
-               case 1301:
-                  if ((0x3ff000000000000L & l) == 0L)
-                     break;
-                  if (kind > 24)
-                     kind = 24;
-                  { jjCheckNAdd(1301); }
+               case 861:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1101, 1103); }
                   break;
-               case 1302:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1302, 1303); }
+               case 862:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1104, 1107); }
                   break;
-               case 1303:
-                  if (curChar == 46)
-                     { jjCheckNAdd(258); }
+               case 864:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(1108, 1111); }
                   break;
-               case 1304:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1623, 1625); }
+               case 865:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(839, 852); }
                   break;
-               case 1305:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1305, 1306); }
+               case 866:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 865;
                   break;
-               case 1306:
-                  if (curChar == 46)
-                     { jjCheckNAdd(259); }
+               case 867:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(839, 852); }
                   break;
-               case 1307:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1626, 1628); }
+               case 868:
+                  if (curChar == 53)
+                     { jjCheckNAdd(864); }
                   break;
-               case 1308:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1308, 1309); }
+               case 869:
+                  if (curChar == 55)
+                     { jjCheckNAdd(864); }
                   break;
-               case 1309:
-                  if (curChar == 46)
-                     { jjCheckNAdd(284); }
+               case 870:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1112, 1116); }
                   break;
-               case 1310:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1629, 1631); }
+               case 871:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(868, 869); }
                   break;
-               case 1311:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1311, 1312); }
+               case 872:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1117, 1119); }
                   break;
-               case 1312:
-                  if (curChar == 46)
-                     { jjCheckNAdd(309); }
+               case 873:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1120, 1123); }
                   break;
-               case 1313:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1632, 1634); }
+               case 875:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1124, 1127); }
                   break;
-               case 1314:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1314, 1315); }
+               case 876:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(838, 863); }
                   break;
-               case 1315:
-                  if (curChar == 46)
-                     { jjCheckNAdd(334); }
+               case 877:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 876;
                   break;
-               case 1316:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1635, 1637); }
+               case 878:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(838, 863); }
                   break;
-               case 1317:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1317, 1318); }
+               case 879:
+                  if (curChar == 53)
+                     { jjCheckNAdd(875); }
                   break;
-               case 1318:
-                  if (curChar == 46)
-                     { jjCheckNAdd(359); }
+               case 880:
+                  if (curChar == 55)
+                     { jjCheckNAdd(875); }
                   break;
-               case 1319:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1638, 1640); }
+               case 881:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1128, 1132); }
                   break;
-               case 1320:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1320, 1321); }
+               case 882:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(879, 880); }
                   break;
-               case 1321:
-                  if (curChar == 46)
-                     { jjCheckNAdd(384); }
+               case 883:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1133, 1135); }
                   break;
-               case 1322:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1641, 1643); }
+               case 884:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1136, 1139); }
                   break;
-               case 1323:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1323, 1324); }
+               case 887:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(837, 874); }
                   break;
-               case 1324:
-                  if (curChar == 46)
-                     { jjCheckNAdd(409); }
+               case 888:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 887;
                   break;
-               case 1325:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1644, 1646); }
+               case 889:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(837, 874); }
                   break;
-               case 1326:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1326, 1327); }
+               case 890:
+                  if (curChar == 52)
+                     { jjCheckNAdd(886); }
                   break;
-               case 1327:
-                  if (curChar == 46)
-                     { jjCheckNAdd(434); }
+               case 891:
+                  if (curChar == 54)
+                     { jjCheckNAdd(886); }
                   break;
-               case 1328:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1647, 1649); }
+               case 892:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1140, 1144); }
                   break;
-               case 1329:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1329, 1330); }
+               case 893:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(890, 891); }
                   break;
-               case 1330:
-                  if (curChar == 46)
-                     { jjCheckNAdd(459); }
+               case 894:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1145, 1147); }
                   break;
-               case 1331:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1650, 1652); }
+               case 895:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1148, 1151); }
                   break;
-               case 1332:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1332, 1333); }
+               case 901:
+                  if (curChar != 53)
+                     break;
+                  if (kind > 74)
+                     kind = 74;
+                  { jjAddStates(1152, 1153); }
                   break;
-               case 1333:
-                  if (curChar == 46)
-                     { jjCheckNAdd(496); }
+               case 902:
+                  if (curChar == 10 && kind > 74)
+                     kind = 74;
                   break;
-               case 1334:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1653, 1655); }
+               case 903:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 902;
                   break;
-               case 1335:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1335, 1336); }
+               case 904:
+                  if ((0x100003600L & l) != 0L && kind > 74)
+                     kind = 74;
                   break;
-               case 1336:
-                  if (curChar == 46)
-                     { jjCheckNAdd(533); }
+               case 905:
+                  if (curChar == 52)
+                     { jjCheckNAdd(901); }
                   break;
-               case 1337:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1656, 1658); }
+               case 906:
+                  if (curChar == 54)
+                     { jjCheckNAdd(901); }
                   break;
-               case 1338:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1338, 1339); }
+               case 907:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1154, 1158); }
                   break;
-               case 1339:
-                  if (curChar == 46)
-                     { jjCheckNAdd(582); }
+               case 908:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(905, 906); }
                   break;
-               case 1340:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1659, 1661); }
+               case 909:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1159, 1161); }
                   break;
-               case 1341:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1341, 1342); }
+               case 910:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1162, 1165); }
                   break;
-               case 1342:
-                  if (curChar == 46)
-                     { jjCheckNAdd(607); }
+               case 912:
+                  if (curChar == 55)
+                     { jjCheckNAddStates(1166, 1169); }
                   break;
-               case 1343:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1662, 1664); }
+               case 913:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(899, 900); }
                   break;
-               case 1344:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1344, 1345); }
+               case 914:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 913;
                   break;
-               case 1345:
-                  if (curChar == 46)
-                     { jjCheckNAdd(620); }
+               case 915:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(899, 900); }
                   break;
-               case 1346:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1665, 1667); }
+               case 916:
+                  if (curChar == 52)
+                     { jjCheckNAdd(912); }
                   break;
-               case 1347:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1347, 1348); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_917(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 917:
+                  if (curChar == 54)
+                     { jjCheckNAdd(912); }
                   break;
-               case 1348:
-                  if (curChar == 46)
-                     { jjCheckNAdd(645); }
+               case 918:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1170, 1174); }
                   break;
-               case 1349:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1349, 685); }
+               case 919:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(916, 917); }
                   break;
-               case 1350:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1350, 1351); }
+               case 920:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1175, 1177); }
                   break;
-               case 1351:
-                  if (curChar == 46)
-                     { jjCheckNAdd(682); }
+               case 921:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1178, 1181); }
                   break;
-               case 1352:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1352, 690); }
+               case 923:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(1182, 1185); }
                   break;
-               case 1353:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1353, 1354); }
+               case 924:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(898, 911); }
+                  break;
+               case 925:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 924;
+                  break;
+               case 926:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(898, 911); }
                   break;
-               case 1354:
-                  if (curChar == 46)
-                     { jjCheckNAdd(686); }
+               case 927:
+                  if (curChar == 52)
+                     { jjCheckNAdd(923); }
                   break;
-               case 1355:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1355, 692); }
+               case 928:
+                  if (curChar == 54)
+                     { jjCheckNAdd(923); }
                   break;
-               case 1356:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1356, 1357); }
+               case 929:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1186, 1190); }
                   break;
-               case 1357:
-                  if (curChar == 46)
-                     { jjCheckNAdd(691); }
+               case 930:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(927, 928); }
                   break;
-               case 1358:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddStates(1668, 1671); }
+               case 931:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1191, 1193); }
                   break;
-               case 1359:
-                  if ((0x3ff000000000000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1359, 1360); }
+               case 932:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1194, 1197); }
                   break;
-               case 1360:
-                  if (curChar == 46)
-                     { jjCheckNAdd(693); }
+               case 939:
+                  if (curChar != 49)
+                     break;
+                  if (kind > 75)
+                     kind = 75;
+                  { jjAddStates(1198, 1199); }
                   break;
-               default : break;
-            }
-         } while(i != startsAt);
-      }
-      else if (curChar < 128)
-      {
-         long l = 1L << (curChar & 077);
-         do
-         {
-            switch(jjstateSet[--i])
-            {
-               case 1364:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 733); }
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  else if (curChar == 92)
-                     { jjCheckNAddStates(1672, 1675); }
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 188;
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 753); }
+               case 940:
+                  if (curChar == 10 && kind > 75)
+                     kind = 75;
                   break;
-               case 1362:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 733); }
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  else if (curChar == 92)
-                     { jjCheckNAddStates(1676, 1679); }
-                  if ((0x800000008000L & l) != 0L)
-                     { jjCheckNAddTwoStates(187, 189); }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 753); }
+               case 941:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 940;
                   break;
-               case 1363:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 733); }
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 753); }
+               case 942:
+                  if ((0x100003600L & l) != 0L && kind > 75)
+                     kind = 75;
                   break;
-               case 729:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 783); }
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 769); }
+               case 943:
+                  if (curChar == 52)
+                     { jjCheckNAdd(939); }
                   break;
-               case 1365:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 733); }
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  else if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 753); }
+               case 944:
+                  if (curChar == 54)
+                     { jjCheckNAdd(939); }
                   break;
-               case 0:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddStates(1680, 1684); }
-                  }
-                  else if (curChar == 92)
-                     { jjCheckNAddStates(1685, 1696); }
-                  else if (curChar == 64)
-                     { jjCheckNAddStates(1697, 1709); }
-                  else if (curChar == 123)
-                  {
-                     if (kind > 55)
-                        kind = 55;
-                  }
-                  if ((0x20000000200000L & l) != 0L)
-                     { jjAddStates(1710, 1711); }
-                  else if ((0x100000001000L & l) != 0L)
-                     { jjCheckNAddTwoStates(212, 238); }
-                  else if ((0x400000004000L & l) != 0L)
-                     { jjCheckNAddTwoStates(186, 200); }
+               case 945:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1200, 1204); }
                   break;
-               case 1:
-                  if ((0xffffffffefffffffL & l) != 0L)
-                     { jjCheckNAddStates(193, 195); }
+               case 946:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(943, 944); }
                   break;
-               case 3:
-                  if (curChar == 92)
-                     { jjAddStates(1712, 1715); }
+               case 947:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1205, 1207); }
                   break;
-               case 7:
-                  if ((0xffffff81ffffff81L & l) != 0L)
-                     { jjCheckNAddStates(193, 195); }
+               case 948:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1208, 1211); }
                   break;
-               case 8:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(196, 205); }
+               case 950:
+                  if (curChar == 57)
+                     { jjCheckNAddStates(1212, 1215); }
                   break;
-               case 9:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(206, 210); }
+               case 951:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(937, 938); }
                   break;
-               case 12:
-               case 14:
-               case 17:
-               case 21:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(9); }
+               case 952:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 951;
                   break;
-               case 13:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 14;
+               case 953:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(937, 938); }
                   break;
-               case 15:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 16;
+               case 954:
+                  if (curChar == 52)
+                     { jjCheckNAdd(950); }
                   break;
-               case 16:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 17;
+               case 955:
+                  if (curChar == 54)
+                     { jjCheckNAdd(950); }
                   break;
-               case 18:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 19;
+               case 956:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1216, 1220); }
                   break;
-               case 19:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 20;
+               case 957:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(954, 955); }
                   break;
-               case 20:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 21;
+               case 958:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1221, 1223); }
                   break;
-               case 23:
-                  if ((0xffffffffefffffffL & l) != 0L)
-                     { jjCheckNAddStates(190, 192); }
+               case 959:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1224, 1227); }
                   break;
-               case 25:
-                  if (curChar == 92)
-                     { jjAddStates(1716, 1719); }
+               case 961:
+                  if (curChar == 52)
+                     { jjCheckNAddStates(1228, 1231); }
                   break;
-               case 29:
-                  if ((0xffffff81ffffff81L & l) != 0L)
-                     { jjCheckNAddStates(190, 192); }
+               case 962:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(936, 949); }
                   break;
-               case 30:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(211, 220); }
+               case 963:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 962;
                   break;
-               case 31:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(221, 225); }
+               case 964:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(936, 949); }
                   break;
-               case 34:
-               case 36:
-               case 39:
-               case 43:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(31); }
+               case 965:
+                  if (curChar == 52)
+                     { jjCheckNAdd(961); }
                   break;
-               case 35:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 36;
+               case 966:
+                  if (curChar == 54)
+                     { jjCheckNAdd(961); }
                   break;
-               case 37:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 38;
+               case 967:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1232, 1236); }
                   break;
-               case 38:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 39;
+               case 968:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(965, 966); }
                   break;
-               case 40:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 41;
+               case 969:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1237, 1239); }
                   break;
-               case 41:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 42;
+               case 970:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1240, 1243); }
                   break;
-               case 42:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 43;
+               case 972:
+                  if (curChar == 53)
+                     { jjCheckNAddStates(1244, 1247); }
                   break;
-               case 44:
-                  if (curChar == 123 && kind > 55)
-                     kind = 55;
+               case 973:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(935, 960); }
                   break;
-               case 49:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
+               case 974:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 973;
                   break;
-               case 50:
-                  if (curChar == 92)
-                     { jjAddStates(1720, 1721); }
+               case 975:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(935, 960); }
                   break;
-               case 51:
-                  if ((0xffffff81ffffff81L & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
+               case 976:
+                  if (curChar == 52)
+                     { jjCheckNAdd(972); }
                   break;
-               case 52:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddStates(226, 234); }
+               case 977:
+                  if (curChar == 54)
+                     { jjCheckNAdd(972); }
                   break;
-               case 53:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddStates(235, 238); }
+               case 978:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1248, 1252); }
                   break;
-               case 57:
-               case 59:
-               case 62:
-               case 66:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(53); }
+               case 979:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(976, 977); }
                   break;
-               case 58:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 59;
+               case 980:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1253, 1255); }
                   break;
-               case 60:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 61;
+               case 981:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1256, 1259); }
                   break;
-               case 61:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 62;
+               case 986:
+                  if (curChar == 45)
+                     { jjAddStates(1260, 1261); }
                   break;
-               case 63:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 64;
+               case 992:
+                  if (curChar != 53)
+                     break;
+                  if (kind > 76)
+                     kind = 76;
+                  { jjAddStates(1262, 1263); }
                   break;
-               case 64:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 65;
+               case 993:
+                  if (curChar == 10 && kind > 76)
+                     kind = 76;
                   break;
-               case 65:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 66;
+               case 994:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 993;
                   break;
-               case 71:
-                  { jjAddStates(1722, 1723); }
+               case 995:
+                  if ((0x100003600L & l) != 0L && kind > 76)
+                     kind = 76;
                   break;
-               case 73:
-               case 74:
-                  { jjCheckNAddTwoStates(74, 75); }
+               case 996:
+                  if (curChar == 52)
+                     { jjCheckNAdd(992); }
                   break;
-               case 77:
-                  if ((0x20000000200L & l) != 0L)
-                     { jjCheckNAddTwoStates(78, 163); }
+               case 997:
+                  if (curChar == 54)
+                     { jjCheckNAdd(992); }
                   break;
-               case 78:
-                  if ((0x200000002000L & l) != 0L)
-                     { jjCheckNAddTwoStates(79, 152); }
+               case 998:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1264, 1268); }
                   break;
-               case 79:
-                  if ((0x1000000010000L & l) != 0L)
-                     { jjCheckNAddTwoStates(80, 141); }
+               case 999:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(996, 997); }
                   break;
-               case 80:
-                  if ((0x800000008000L & l) != 0L)
-                     { jjCheckNAddTwoStates(81, 130); }
+               case 1000:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1269, 1271); }
                   break;
-               case 81:
-                  if ((0x4000000040000L & l) != 0L)
-                     { jjCheckNAddTwoStates(82, 119); }
+               case 1001:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1272, 1275); }
                   break;
-               case 82:
-                  if ((0x10000000100000L & l) != 0L)
-                     { jjAddStates(1724, 1725); }
+               case 1003:
+                  if (curChar == 51)
+                     { jjCheckNAddStates(1276, 1279); }
                   break;
-               case 83:
-                  if ((0x200000002L & l) != 0L)
-                     { jjCheckNAddTwoStates(84, 97); }
+               case 1004:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(990, 991); }
                   break;
-               case 84:
-                  if ((0x400000004000L & l) != 0L)
-                     { jjCheckNAddTwoStates(85, 86); }
+               case 1005:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1004;
                   break;
-               case 85:
-                  if ((0x10000000100000L & l) != 0L && kind > 78)
-                     kind = 78;
+               case 1006:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(990, 991); }
                   break;
-               case 86:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1726, 1729); }
+               case 1007:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1003); }
                   break;
-               case 97:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1730, 1733); }
+               case 1008:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1003); }
                   break;
-               case 98:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddStates(1734, 1737); }
+               case 1009:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1280, 1284); }
                   break;
-               case 108:
-                  if (curChar == 92)
-                     { jjAddStates(1738, 1740); }
+               case 1010:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1007, 1008); }
                   break;
-               case 119:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1741, 1744); }
+               case 1011:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1285, 1287); }
                   break;
-               case 130:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1745, 1748); }
+               case 1012:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1288, 1291); }
                   break;
-               case 141:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1749, 1752); }
+               case 1014:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(1292, 1295); }
                   break;
-               case 152:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1753, 1756); }
+               case 1015:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(989, 1002); }
                   break;
-               case 163:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1757, 1760); }
+               case 1016:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1015;
                   break;
-               case 164:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjCheckNAddStates(1761, 1764); }
+               case 1017:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(989, 1002); }
                   break;
-               case 174:
-                  if (curChar == 92)
-                     { jjAddStates(1765, 1768); }
+               case 1018:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1014); }
                   break;
-               case 185:
-                  if ((0x400000004000L & l) != 0L)
-                     { jjCheckNAddTwoStates(186, 200); }
+               case 1019:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1014); }
                   break;
-               case 186:
-                  if ((0x800000008000L & l) != 0L)
-                     { jjCheckNAddTwoStates(187, 189); }
+               case 1020:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1296, 1300); }
                   break;
-               case 187:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 188;
+               case 1021:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1018, 1019); }
                   break;
-               case 189:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1672, 1675); }
+               case 1022:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1301, 1303); }
                   break;
-               case 200:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1676, 1679); }
+               case 1023:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1304, 1307); }
                   break;
-               case 211:
-                  if ((0x100000001000L & l) != 0L)
-                     { jjCheckNAddTwoStates(212, 238); }
+               case 1025:
+                  if (curChar == 54)
+                     { jjCheckNAddStates(1308, 1311); }
                   break;
-               case 212:
-                  if ((0x200000002L & l) != 0L)
-                     { jjCheckNAddTwoStates(213, 227); }
+               case 1026:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(988, 1013); }
                   break;
-               case 213:
-                  if ((0x400000004000L & l) != 0L)
-                     { jjCheckNAddTwoStates(214, 216); }
+               case 1027:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1026;
                   break;
-               case 214:
-                  if ((0x8000000080L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 215;
+               case 1028:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(988, 1013); }
                   break;
-               case 216:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1769, 1772); }
+               case 1029:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1025); }
                   break;
-               case 227:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1773, 1776); }
+               case 1030:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1025); }
                   break;
-               case 228:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddStates(1777, 1780); }
+               case 1031:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1312, 1316); }
                   break;
-               case 238:
-                  if (curChar == 92)
-                     { jjAddStates(1781, 1783); }
+               case 1032:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1029, 1030); }
                   break;
-               case 260:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddTwoStates(261, 262); }
+               case 1033:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1317, 1319); }
                   break;
-               case 261:
-                  if ((0x200000002000L & l) != 0L && kind > 79)
-                     kind = 79;
+               case 1034:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1320, 1323); }
                   break;
-               case 262:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1784, 1787); }
+               case 1036:
+                  if (curChar == 52)
+                     { jjCheckNAddStates(1324, 1326); }
                   break;
-               case 263:
-                  if ((0x1000000010L & l) == 0L)
-                     break;
-                  if (kind > 79)
-                     kind = 79;
-                  { jjAddStates(1788, 1789); }
+               case 1037:
+                  if (curChar == 10)
+                     { jjCheckNAdd(986); }
+                  break;
+               case 1038:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1037;
+                  break;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_1039(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1039:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAdd(986); }
                   break;
-               case 273:
-                  if (curChar == 92)
-                     { jjAddStates(1790, 1792); }
+               case 1040:
+                  if (curChar == 53)
+                     { jjCheckNAdd(1036); }
                   break;
-               case 285:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddTwoStates(286, 287); }
+               case 1041:
+                  if (curChar == 55)
+                     { jjCheckNAdd(1036); }
                   break;
-               case 286:
-                  if ((0x100000001000000L & l) != 0L && kind > 80)
-                     kind = 80;
+               case 1042:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1327, 1331); }
                   break;
-               case 287:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1793, 1796); }
+               case 1043:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1040, 1041); }
                   break;
-               case 298:
-                  if (curChar == 92)
-                     { jjAddStates(1797, 1799); }
+               case 1044:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1332, 1334); }
                   break;
-               case 310:
-                  if ((0x1000000010000L & l) != 0L)
-                     { jjCheckNAddTwoStates(311, 312); }
+               case 1045:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1335, 1338); }
                   break;
-               case 311:
-                  if ((0x100000001000000L & l) != 0L && kind > 81)
-                     kind = 81;
+               case 1048:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(985, 1035); }
                   break;
-               case 312:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1800, 1803); }
+               case 1049:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1048;
                   break;
-               case 323:
-                  if (curChar == 92)
-                     { jjAddStates(1804, 1807); }
+               case 1050:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(985, 1035); }
                   break;
-               case 335:
-                  if ((0x800000008L & l) != 0L)
-                     { jjCheckNAddTwoStates(336, 337); }
+               case 1051:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1047); }
                   break;
-               case 336:
-                  if ((0x200000002000L & l) != 0L && kind > 82)
-                     kind = 82;
+               case 1052:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1047); }
                   break;
-               case 337:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1808, 1811); }
+               case 1053:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1339, 1343); }
                   break;
-               case 338:
-                  if ((0x1000000010L & l) == 0L)
-                     break;
-                  if (kind > 82)
-                     kind = 82;
-                  { jjAddStates(1812, 1813); }
+               case 1054:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1051, 1052); }
                   break;
-               case 348:
-                  if (curChar == 92)
-                     { jjAddStates(1814, 1816); }
+               case 1055:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1344, 1346); }
                   break;
-               case 360:
-                  if ((0x200000002000L & l) != 0L)
-                     { jjCheckNAddTwoStates(361, 362); }
+               case 1056:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1347, 1350); }
                   break;
-               case 361:
-                  if ((0x200000002000L & l) != 0L && kind > 83)
-                     kind = 83;
+               case 1058:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(1351, 1354); }
                   break;
-               case 362:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1817, 1820); }
+               case 1059:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(984, 1046); }
                   break;
-               case 363:
-                  if ((0x1000000010L & l) == 0L)
-                     break;
-                  if (kind > 83)
-                     kind = 83;
-                  { jjAddStates(1821, 1822); }
+               case 1060:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1059;
                   break;
-               case 373:
-                  if (curChar == 92)
-                     { jjAddStates(1823, 1826); }
+               case 1061:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(984, 1046); }
                   break;
-               case 374:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjCheckNAddStates(1827, 1830); }
+               case 1062:
+                  if (curChar == 53)
+                     { jjCheckNAdd(1058); }
                   break;
-               case 385:
-                  if ((0x20000000200L & l) != 0L)
-                     { jjCheckNAddTwoStates(386, 387); }
+               case 1063:
+                  if (curChar == 55)
+                     { jjCheckNAdd(1058); }
                   break;
-               case 386:
-                  if ((0x400000004000L & l) != 0L && kind > 84)
-                     kind = 84;
+               case 1064:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1355, 1359); }
                   break;
-               case 387:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1831, 1834); }
+               case 1065:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1062, 1063); }
                   break;
-               case 388:
-                  if ((0x2000000020L & l) == 0L)
-                     break;
-                  if (kind > 84)
-                     kind = 84;
-                  { jjAddStates(1835, 1836); }
+               case 1066:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1360, 1362); }
                   break;
-               case 398:
-                  if (curChar == 92)
-                     { jjAddStates(1837, 1840); }
+               case 1067:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1363, 1366); }
                   break;
-               case 410:
-                  if ((0x1000000010000L & l) != 0L)
-                     { jjCheckNAddTwoStates(411, 412); }
+               case 1069:
+                  if (curChar == 54)
+                     { jjCheckNAddStates(1367, 1370); }
                   break;
-               case 411:
-                  if ((0x10000000100000L & l) != 0L && kind > 85)
-                     kind = 85;
+               case 1070:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(983, 1057); }
                   break;
-               case 412:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1841, 1844); }
+               case 1071:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1070;
                   break;
-               case 423:
-                  if (curChar == 92)
-                     { jjAddStates(1845, 1848); }
+               case 1072:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(983, 1057); }
                   break;
-               case 435:
-                  if ((0x1000000010000L & l) != 0L)
-                     { jjAddStates(1849, 1850); }
+               case 1073:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1069); }
                   break;
-               case 436:
-                  if ((0x800000008L & l) != 0L && kind > 86)
-                     kind = 86;
+               case 1074:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1069); }
                   break;
-               case 437:
-                  if (curChar == 92)
-                     { jjAddStates(1851, 1853); }
+               case 1075:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1371, 1375); }
                   break;
-               case 448:
-                  if (curChar == 92)
-                     { jjAddStates(1854, 1857); }
+               case 1076:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1073, 1074); }
                   break;
-               case 460:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjAddStates(1858, 1859); }
+               case 1077:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1376, 1378); }
                   break;
-               case 461:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddTwoStates(462, 463); }
+               case 1078:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1379, 1382); }
                   break;
-               case 462:
-                  if ((0x8000000080L & l) != 0L && kind > 87)
-                     kind = 87;
+               case 1087:
+                  if (curChar != 52)
+                     break;
+                  if (kind > 77)
+                     kind = 77;
+                  { jjAddStates(1383, 1384); }
                   break;
-               case 463:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1860, 1863); }
+               case 1088:
+                  if (curChar == 10 && kind > 77)
+                     kind = 77;
                   break;
-               case 474:
-                  if (curChar == 92)
-                     { jjAddStates(1864, 1866); }
+               case 1089:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1088;
                   break;
-               case 485:
-                  if (curChar == 92)
-                     { jjAddStates(1867, 1869); }
+               case 1090:
+                  if ((0x100003600L & l) != 0L && kind > 77)
+                     kind = 77;
                   break;
-               case 497:
-                  if ((0x4000000040000L & l) != 0L)
-                     { jjAddStates(1870, 1871); }
+               case 1091:
+                  if (curChar == 53)
+                     { jjCheckNAdd(1087); }
                   break;
-               case 498:
-                  if ((0x200000002L & l) != 0L)
-                     { jjAddStates(1872, 1873); }
+               case 1092:
+                  if (curChar == 55)
+                     { jjCheckNAdd(1087); }
                   break;
-               case 499:
-                  if ((0x1000000010L & l) != 0L && kind > 88)
-                     kind = 88;
+               case 1093:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1385, 1389); }
                   break;
-               case 500:
-                  if (curChar == 92)
-                     { jjAddStates(1874, 1876); }
+               case 1094:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1091, 1092); }
                   break;
-               case 511:
-                  if (curChar == 92)
-                     { jjAddStates(1877, 1879); }
+               case 1095:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1390, 1392); }
                   break;
-               case 522:
-                  if (curChar == 92)
-                     { jjAddStates(1880, 1883); }
+               case 1096:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1393, 1396); }
                   break;
-               case 534:
-                  if ((0x8000000080L & l) != 0L)
-                     { jjCheckNAddTwoStates(535, 560); }
+               case 1098:
+                  if (curChar == 53)
+                     { jjCheckNAddStates(1397, 1400); }
                   break;
-               case 535:
-                  if ((0x4000000040000L & l) != 0L)
-                     { jjAddStates(1884, 1885); }
+               case 1099:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(1085, 1086); }
                   break;
-               case 536:
-                  if ((0x200000002L & l) != 0L)
-                     { jjAddStates(1886, 1887); }
+               case 1100:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1099;
                   break;
-               case 537:
-                  if ((0x1000000010L & l) != 0L && kind > 89)
-                     kind = 89;
+               case 1101:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1085, 1086); }
                   break;
-               case 538:
-                  if (curChar == 92)
-                     { jjAddStates(1888, 1890); }
+               case 1102:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1098); }
                   break;
-               case 549:
-                  if (curChar == 92)
-                     { jjAddStates(1891, 1893); }
+               case 1103:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1098); }
                   break;
-               case 560:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1894, 1897); }
+               case 1104:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1401, 1405); }
                   break;
-               case 571:
-                  if (curChar == 92)
-                     { jjAddStates(1898, 1901); }
+               case 1105:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1102, 1103); }
                   break;
-               case 583:
-                  if ((0x200000002000L & l) != 0L)
-                     { jjCheckNAddTwoStates(584, 585); }
+               case 1106:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1406, 1408); }
                   break;
-               case 584:
-                  if ((0x8000000080000L & l) != 0L && kind > 90)
-                     kind = 90;
+               case 1107:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1409, 1412); }
                   break;
-               case 585:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1902, 1905); }
+               case 1109:
+                  if (curChar == 51)
+                     { jjCheckNAddStates(1413, 1416); }
                   break;
-               case 596:
-                  if (curChar == 92)
-                     { jjAddStates(1906, 1909); }
+               case 1110:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(1084, 1097); }
                   break;
-               case 597:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjCheckNAddStates(1910, 1913); }
+               case 1111:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1110;
+                  break;
+               case 1112:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1084, 1097); }
                   break;
-               case 608:
-                  if ((0x8000000080000L & l) != 0L && kind > 91)
-                     kind = 91;
+               case 1113:
+                  if (curChar == 53)
+                     { jjCheckNAdd(1109); }
                   break;
-               case 609:
-                  if (curChar == 92)
-                     { jjAddStates(1914, 1917); }
+               case 1114:
+                  if (curChar == 55)
+                     { jjCheckNAdd(1109); }
                   break;
-               case 621:
-                  if ((0x10000000100L & l) != 0L)
-                     { jjCheckNAddTwoStates(622, 623); }
+               case 1115:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1417, 1421); }
                   break;
-               case 622:
-                  if ((0x400000004000000L & l) != 0L && kind > 92)
-                     kind = 92;
+               case 1116:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1113, 1114); }
                   break;
-               case 623:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1918, 1921); }
+               case 1117:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1422, 1424); }
                   break;
-               case 624:
-                  if ((0x200000002L & l) == 0L)
-                     break;
-                  if (kind > 92)
-                     kind = 92;
-                  { jjAddStates(1922, 1923); }
+               case 1118:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1425, 1428); }
                   break;
-               case 634:
-                  if (curChar == 92)
-                     { jjAddStates(1924, 1927); }
+               case 1120:
+                  if (curChar == 50)
+                     { jjCheckNAddStates(1429, 1432); }
                   break;
-               case 646:
-                  if ((0x80000000800L & l) != 0L)
-                     { jjCheckNAddTwoStates(647, 660); }
+               case 1121:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(1083, 1108); }
                   break;
-               case 647:
-                  if ((0x10000000100L & l) != 0L)
-                     { jjCheckNAddTwoStates(648, 649); }
+               case 1122:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1121;
                   break;
-               case 648:
-                  if ((0x400000004000000L & l) != 0L && kind > 93)
-                     kind = 93;
+               case 1123:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1083, 1108); }
                   break;
-               case 649:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1928, 1931); }
+               case 1124:
+                  if (curChar == 53)
+                     { jjCheckNAdd(1120); }
                   break;
-               case 650:
-                  if ((0x200000002L & l) == 0L)
-                     break;
-                  if (kind > 93)
-                     kind = 93;
-                  { jjAddStates(1932, 1933); }
+               case 1125:
+                  if (curChar == 55)
+                     { jjCheckNAdd(1120); }
                   break;
-               case 660:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1934, 1937); }
+               case 1126:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1433, 1437); }
                   break;
-               case 671:
-                  if (curChar == 92)
-                     { jjAddStates(1938, 1941); }
+               case 1127:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1124, 1125); }
                   break;
-               case 672:
-                  if ((0x400000004L & l) != 0L)
-                     { jjCheckNAddStates(1942, 1945); }
+               case 1128:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1438, 1440); }
                   break;
-               case 683:
-                  if ((0x20000000200L & l) != 0L && kind > 94)
-                     kind = 94;
+               case 1129:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1441, 1444); }
                   break;
-               case 684:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 683;
+               case 1131:
+                  if (curChar == 49)
+                     { jjCheckNAddStates(1445, 1448); }
                   break;
-               case 685:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 684;
+               case 1132:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(1082, 1119); }
                   break;
-               case 687:
-                  if ((0x200000002000L & l) != 0L && kind > 95)
-                     kind = 95;
+               case 1133:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1132;
                   break;
-               case 688:
-                  if ((0x800000008L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 687;
+               case 1134:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1082, 1119); }
                   break;
-               case 689:
-                  if ((0x1000000010000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 688;
+               case 1135:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1131); }
                   break;
-               case 690:
-                  if ((0x1000000010L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 689;
+               case 1136:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1131); }
                   break;
-               case 695:
-               case 696:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 1137:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1449, 1453); }
                   break;
-               case 697:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(698, 699); }
+               case 1138:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1135, 1136); }
                   break;
-               case 698:
-                  if ((0xffffff81ffffff81L & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 1139:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1454, 1456); }
                   break;
-               case 699:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(943, 951); }
+               case 1140:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1457, 1460); }
                   break;
-               case 700:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(952, 955); }
+               case 1142:
+                  if (curChar == 56)
+                     { jjCheckNAddStates(1461, 1464); }
                   break;
-               case 704:
-               case 706:
-               case 709:
-               case 713:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(700); }
+               case 1143:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(1081, 1130); }
                   break;
-               case 705:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 706;
+               case 1144:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1143;
                   break;
-               case 707:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 708;
+               case 1145:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1081, 1130); }
                   break;
-               case 708:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 709;
+               case 1146:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1142); }
                   break;
-               case 710:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 711;
+               case 1147:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1142); }
                   break;
-               case 711:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 712;
+               case 1148:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1465, 1469); }
                   break;
-               case 712:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 713;
+               case 1149:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1146, 1147); }
                   break;
-               case 714:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(698, 715); }
+               case 1150:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1470, 1472); }
                   break;
-               case 715:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(956, 964); }
+               case 1151:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1473, 1476); }
                   break;
-               case 716:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddStates(965, 968); }
+               case 1153:
+                  if (curChar == 51)
+                     { jjCheckNAddStates(1477, 1480); }
                   break;
-               case 718:
-               case 720:
-               case 723:
-               case 727:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(716); }
+               case 1154:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(1080, 1141); }
                   break;
-               case 719:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 720;
+               case 1155:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1154;
                   break;
-               case 721:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 722;
+               case 1156:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1080, 1141); }
                   break;
-               case 722:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 723;
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_1157(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1157:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1153); }
                   break;
-               case 724:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 725;
+               case 1158:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1153); }
                   break;
-               case 725:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 726;
+               case 1159:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1481, 1485); }
                   break;
-               case 726:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 727;
+               case 1160:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1157, 1158); }
                   break;
-               case 730:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 1161:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1486, 1488); }
                   break;
-               case 731:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 733); }
+               case 1162:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1489, 1492); }
                   break;
-               case 732:
-                  if ((0xffffff81ffffff81L & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 1163:
+                  if (curChar == 45)
+                     { jjAddStates(1493, 1494); }
                   break;
-               case 733:
-                  if ((0x7e0000007eL & l) == 0L)
+               case 1165:
+                  if ((0x3ff200000000000L & l) == 0L)
                      break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(969, 977); }
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
                   break;
-               case 734:
-                  if ((0x7e0000007eL & l) == 0L)
+               case 1167:
+                  if ((0xfc00ffffffffcbffL & l) == 0L)
                      break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(978, 981); }
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
                   break;
-               case 738:
-               case 740:
-               case 743:
-               case 747:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(734); }
+               case 1168:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1495, 1503); }
                   break;
-               case 739:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 740;
+               case 1169:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1504, 1507); }
                   break;
-               case 741:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 742;
+               case 1170:
+                  if (curChar != 10)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
                   break;
-               case 742:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 743;
+               case 1171:
+               case 1186:
+                  if (curChar == 13)
+                     { jjCheckNAdd(1170); }
                   break;
-               case 744:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 745;
+               case 1172:
+                  if ((0x100003600L & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddTwoStates(1165, 1166); }
                   break;
-               case 745:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 746;
+               case 1173:
+               case 1175:
+               case 1178:
+               case 1182:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(1169); }
                   break;
-               case 746:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 747;
+               case 1174:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1175;
                   break;
-               case 748:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
+               case 1176:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1177;
                   break;
-               case 749:
-                  if ((0x7fffffe87fffffeL & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
+               case 1177:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1178;
                   break;
-               case 751:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 753); }
+               case 1179:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1180;
                   break;
-               case 752:
-                  if ((0xffffff81ffffff81L & l) != 0L)
-                     { jjCheckNAddStates(0, 2); }
+               case 1180:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1181;
                   break;
-               case 753:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(982, 991); }
+               case 1181:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1182;
                   break;
-               case 754:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(992, 996); }
+               case 1184:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1508, 1516); }
                   break;
-               case 758:
-               case 760:
-               case 763:
-               case 767:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(754); }
+               case 1185:
+                  if ((0x3ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 105)
+                     kind = 105;
+                  { jjCheckNAddStates(1517, 1520); }
                   break;
-               case 759:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 760;
+               case 1187:
+               case 1189:
+               case 1192:
+               case 1196:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(1185); }
                   break;
-               case 761:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 762;
+               case 1188:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1189;
                   break;
-               case 762:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 763;
+               case 1190:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1191;
                   break;
-               case 764:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 765;
+               case 1191:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1192;
                   break;
-               case 765:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 766;
+               case 1193:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1194;
                   break;
-               case 766:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 767;
+               case 1194:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1195;
                   break;
-               case 768:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(752, 769); }
+               case 1195:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1196;
                   break;
-               case 769:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(997, 1006); }
+               case 1199:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(934, 971); }
                   break;
-               case 770:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1007, 1011); }
+               case 1200:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1199;
                   break;
-               case 772:
-               case 774:
-               case 777:
-               case 781:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(770); }
+               case 1201:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(934, 971); }
                   break;
-               case 773:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 774;
+               case 1202:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1198); }
                   break;
-               case 775:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 776;
+               case 1203:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1198); }
                   break;
-               case 776:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 777;
+               case 1204:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1521, 1525); }
                   break;
-               case 778:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 779;
+               case 1205:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1202, 1203); }
                   break;
-               case 779:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 780;
+               case 1206:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1526, 1528); }
                   break;
-               case 780:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 781;
+               case 1207:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1529, 1532); }
                   break;
-               case 782:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(732, 783); }
+               case 1209:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1533, 1536); }
                   break;
-               case 783:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(1012, 1020); }
+               case 1210:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(897, 922); }
                   break;
-               case 784:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(1021, 1024); }
+               case 1211:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1210;
                   break;
-               case 786:
-               case 788:
-               case 791:
-               case 795:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(784); }
+               case 1212:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(897, 922); }
                   break;
-               case 787:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 788;
+               case 1213:
+                  if (curChar == 53)
+                     { jjCheckNAdd(1209); }
                   break;
-               case 789:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 790;
+               case 1214:
+                  if (curChar == 55)
+                     { jjCheckNAdd(1209); }
                   break;
-               case 790:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 791;
+               case 1215:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1537, 1541); }
                   break;
-               case 792:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 793;
+               case 1216:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1213, 1214); }
                   break;
-               case 793:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 794;
+               case 1217:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1542, 1544); }
                   break;
-               case 794:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 795;
+               case 1218:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1545, 1548); }
                   break;
-               case 796:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(1680, 1684); }
+               case 1220:
+                  if (curChar == 57)
+                     { jjCheckNAddStates(1549, 1552); }
                   break;
-               case 797:
-                  if (curChar == 64)
-                     { jjCheckNAddStates(1697, 1709); }
+               case 1221:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(836, 885); }
                   break;
-               case 798:
-                  if ((0x20000000200L & l) != 0L)
-                     { jjCheckNAddTwoStates(799, 848); }
+               case 1222:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1221;
                   break;
-               case 799:
-                  if ((0x200000002000L & l) != 0L)
-                     { jjCheckNAddTwoStates(800, 837); }
+               case 1223:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(836, 885); }
                   break;
-               case 800:
-                  if ((0x1000000010000L & l) != 0L)
-                     { jjCheckNAddTwoStates(801, 826); }
+               case 1224:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1220); }
                   break;
-               case 801:
-                  if ((0x800000008000L & l) != 0L)
-                     { jjCheckNAddTwoStates(802, 815); }
+               case 1225:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1220); }
                   break;
-               case 802:
-                  if ((0x4000000040000L & l) != 0L)
-                     { jjCheckNAddTwoStates(803, 804); }
+               case 1226:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1553, 1557); }
                   break;
-               case 803:
-                  if ((0x10000000100000L & l) != 0L && kind > 73)
-                     kind = 73;
+               case 1227:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1224, 1225); }
                   break;
-               case 804:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1946, 1949); }
+               case 1228:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1558, 1560); }
                   break;
-               case 815:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1950, 1953); }
+               case 1229:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1561, 1564); }
                   break;
-               case 826:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1954, 1957); }
+               case 1231:
+                  if (curChar == 43)
+                     jjstateSet[jjnewStateCnt++] = 1232;
                   break;
-               case 837:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1958, 1961); }
+               case 1232:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddTwoStates(1233, 1240); }
                   break;
-               case 848:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1962, 1965); }
+               case 1233:
+                  if (curChar == 45)
+                     jjstateSet[jjnewStateCnt++] = 1234;
                   break;
-               case 849:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjCheckNAddStates(1966, 1969); }
+               case 1234:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  jjstateSet[jjnewStateCnt++] = 1235;
                   break;
-               case 859:
-                  if ((0x1000000010000L & l) != 0L)
-                     { jjAddStates(1970, 1971); }
+               case 1235:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1565, 1568); }
                   break;
-               case 860:
-                  if ((0x200000002L & l) != 0L)
-                     { jjCheckNAddTwoStates(861, 874); }
+               case 1236:
+                  if ((0x83ff000000000000L & l) != 0L && kind > 100)
+                     kind = 100;
                   break;
-               case 861:
-                  if ((0x8000000080L & l) != 0L)
-                     { jjAddStates(1972, 1973); }
+               case 1237:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAdd(1236); }
                   break;
-               case 862:
-                  if ((0x2000000020L & l) != 0L && kind > 74)
-                     kind = 74;
+               case 1238:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddTwoStates(1236, 1237); }
                   break;
-               case 863:
-                  if (curChar == 92)
-                     { jjAddStates(1974, 1976); }
+               case 1239:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1569, 1571); }
                   break;
-               case 874:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1977, 1980); }
+               case 1240:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1572, 1576); }
                   break;
-               case 885:
-                  if (curChar == 92)
-                     { jjAddStates(1981, 1983); }
+               case 1241:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAdd(1233); }
                   break;
-               case 896:
-                  if ((0x200000002000L & l) != 0L)
-                     { jjCheckNAddTwoStates(897, 934); }
+               case 1242:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddTwoStates(1241, 1233); }
                   break;
-               case 897:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjAddStates(1984, 1985); }
+               case 1243:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1577, 1579); }
                   break;
-               case 898:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjCheckNAddTwoStates(899, 912); }
+               case 1244:
+                  if ((0x83ff000000000000L & l) == 0L)
+                     break;
+                  if (kind > 100)
+                     kind = 100;
+                  { jjCheckNAddStates(1580, 1583); }
                   break;
-               case 899:
-                  if ((0x20000000200L & l) != 0L)
-                     { jjAddStates(1986, 1987); }
+               case 1246:
+                  if (curChar == 40)
+                     { jjCheckNAddStates(1584, 1589); }
                   break;
-               case 900:
-                  if ((0x200000002L & l) != 0L && kind > 75)
-                     kind = 75;
+               case 1247:
+                  if ((0xfffffc7a00000000L & l) != 0L)
+                     { jjCheckNAddStates(1590, 1593); }
                   break;
-               case 901:
-                  if (curChar == 92)
-                     { jjAddStates(1988, 1990); }
+               case 1248:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(1248, 1249); }
                   break;
-               case 912:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1991, 1994); }
+               case 1249:
+                  if (curChar == 41 && kind > 101)
+                     kind = 101;
                   break;
-               case 923:
-                  if (curChar == 92)
-                     { jjAddStates(1995, 1997); }
+               case 1251:
+                  if ((0xfc00ffffffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(1590, 1593); }
                   break;
-               case 934:
-                  if (curChar == 92)
-                     { jjAddStates(1998, 2000); }
+               case 1252:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1594, 1603); }
                   break;
-               case 945:
-                  if ((0x4000000040L & l) != 0L)
-                     { jjCheckNAddTwoStates(946, 1020); }
+               case 1253:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1604, 1608); }
                   break;
-               case 946:
-                  if ((0x800000008000L & l) != 0L)
-                     { jjCheckNAddTwoStates(947, 1009); }
+               case 1254:
+                  if (curChar == 10)
+                     { jjCheckNAddStates(1590, 1593); }
                   break;
-               case 947:
-                  if ((0x400000004000L & l) != 0L)
-                     { jjCheckNAddTwoStates(948, 998); }
+               case 1255:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1254;
                   break;
-               case 948:
-                  if ((0x10000000100000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 949;
+               case 1256:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddStates(1590, 1593); }
                   break;
-               case 950:
-                  if ((0x4000000040L & l) != 0L)
-                     { jjAddStates(2001, 2002); }
+               case 1257:
+               case 1259:
+               case 1262:
+               case 1266:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(1253); }
                   break;
-               case 951:
-                  if ((0x200000002L & l) != 0L)
-                     { jjAddStates(2003, 2004); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_1258(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1258:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1259;
                   break;
-               case 952:
-                  if ((0x800000008L & l) != 0L)
-                     { jjAddStates(2005, 2006); }
+               case 1260:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1261;
                   break;
-               case 953:
-                  if ((0x2000000020L & l) != 0L && kind > 76)
-                     kind = 76;
+               case 1261:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1262;
                   break;
-               case 954:
-                  if (curChar == 92)
-                     { jjAddStates(2007, 2009); }
+               case 1263:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1264;
                   break;
-               case 965:
-                  if (curChar == 92)
-                     { jjAddStates(2010, 2012); }
+               case 1264:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1265;
                   break;
-               case 976:
-                  if (curChar == 92)
-                     { jjAddStates(2013, 2015); }
+               case 1265:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1266;
                   break;
-               case 987:
-                  if (curChar == 92)
-                     { jjAddStates(2016, 2018); }
+               case 1267:
+                  if (curChar == 39)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 998:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2019, 2022); }
+               case 1268:
+                  if ((0xffffff7fffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 1009:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2023, 2026); }
+               case 1269:
+                  if (curChar == 39)
+                     { jjCheckNAddTwoStates(1248, 1249); }
                   break;
-               case 1010:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddStates(2027, 2030); }
+               case 1271:
+                  if ((0x3400L & l) != 0L)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 1020:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2031, 2034); }
+               case 1272:
+                  if (curChar == 10)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 1031:
-                  if (curChar == 92)
-                     { jjAddStates(2035, 2037); }
+               case 1273:
+               case 1277:
+                  if (curChar == 13)
+                     { jjCheckNAdd(1272); }
                   break;
-               case 1042:
-                  if ((0x800000008L & l) != 0L)
-                     { jjCheckNAddTwoStates(1043, 1104); }
+               case 1274:
+                  if ((0xfc00ffffffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 1043:
-                  if ((0x10000000100L & l) != 0L)
-                     { jjAddStates(2038, 2039); }
+               case 1275:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1612, 1621); }
                   break;
-               case 1044:
-                  if ((0x200000002L & l) != 0L)
-                     { jjCheckNAddTwoStates(1045, 1082); }
+               case 1276:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1622, 1626); }
                   break;
-               case 1045:
-                  if ((0x4000000040000L & l) != 0L)
-                     { jjCheckNAddTwoStates(1046, 1071); }
+               case 1278:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddStates(1609, 1611); }
                   break;
-               case 1046:
-                  if ((0x8000000080000L & l) != 0L)
-                     { jjAddStates(2040, 2041); }
+               case 1279:
+               case 1281:
+               case 1284:
+               case 1288:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(1276); }
                   break;
-               case 1047:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddTwoStates(1048, 1049); }
+               case 1280:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1281;
                   break;
-               case 1048:
-                  if ((0x10000000100000L & l) != 0L && kind > 77)
-                     kind = 77;
+               case 1282:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1283;
                   break;
-               case 1049:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2042, 2045); }
+               case 1283:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1284;
                   break;
-               case 1060:
-                  if (curChar == 92)
-                     { jjAddStates(2046, 2048); }
+               case 1285:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1286;
                   break;
-               case 1071:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2049, 2052); }
+               case 1286:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1287;
                   break;
-               case 1082:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2053, 2056); }
+               case 1287:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1288;
                   break;
-               case 1093:
-                  if (curChar == 92)
-                     { jjAddStates(2057, 2059); }
+               case 1289:
+                  if (curChar == 34)
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
-               case 1104:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2060, 2063); }
+               case 1290:
+                  if ((0xfffffffbffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
-               case 1115:
-                  if (curChar == 92)
-                     { jjAddStates(2064, 2066); }
+               case 1291:
+                  if (curChar == 34)
+                     { jjCheckNAddTwoStates(1248, 1249); }
                   break;
-               case 1127:
-               case 1128:
-                  if ((0x7fffffe87fffffeL & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+               case 1293:
+                  if ((0x3400L & l) != 0L)
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
-               case 1129:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(1130, 1131); }
+               case 1294:
+                  if (curChar == 10)
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
-               case 1130:
-                  if ((0xffffff81ffffff81L & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+               case 1295:
+               case 1299:
+                  if (curChar == 13)
+                     { jjCheckNAdd(1294); }
                   break;
-               case 1131:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1442, 1450); }
+               case 1296:
+                  if ((0xfc00ffffffffcbffL & l) != 0L)
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
-               case 1132:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1451, 1454); }
+               case 1297:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1630, 1639); }
                   break;
-               case 1136:
-               case 1138:
-               case 1141:
-               case 1145:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(1132); }
+               case 1298:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1640, 1644); }
                   break;
-               case 1137:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1138;
+               case 1300:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddStates(1627, 1629); }
                   break;
-               case 1139:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1140;
+               case 1301:
+               case 1303:
+               case 1306:
+               case 1310:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAdd(1298); }
                   break;
-               case 1140:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1141;
+               case 1302:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1303;
                   break;
-               case 1142:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1143;
+               case 1304:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1305;
                   break;
-               case 1143:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1144;
+               case 1305:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1306;
                   break;
-               case 1144:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1145;
+               case 1307:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1308;
                   break;
-               case 1146:
-                  if (curChar == 92)
-                     { jjCheckNAddTwoStates(1130, 1147); }
+               case 1308:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1309;
                   break;
-               case 1147:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1455, 1463); }
+               case 1309:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     jjstateSet[jjnewStateCnt++] = 1310;
                   break;
-               case 1148:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddStates(1464, 1467); }
+               case 1311:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddStates(1645, 1651); }
                   break;
-               case 1150:
-               case 1152:
-               case 1155:
-               case 1159:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(1148); }
+               case 1315:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(186, 200); }
                   break;
-               case 1151:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1152;
+               case 1316:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1315;
                   break;
-               case 1153:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1154;
+               case 1317:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(186, 200); }
                   break;
-               case 1154:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1155;
+               case 1318:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1314); }
                   break;
-               case 1156:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1157;
+               case 1319:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1314); }
                   break;
-               case 1157:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1158;
+               case 1321:
+                  if (curChar == 10)
+                     { jjCheckNAddTwoStates(212, 238); }
                   break;
-               case 1158:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1159;
+               case 1322:
+                  if (curChar == 13)
+                     jjstateSet[jjnewStateCnt++] = 1321;
                   break;
-               case 1160:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2067, 2070); }
+               case 1323:
+                  if ((0x100003600L & l) != 0L)
+                     { jjCheckNAddTwoStates(212, 238); }
                   break;
-               case 1161:
-                  if ((0x1000000010L & l) != 0L)
-                     { jjCheckNAddStates(2071, 2074); }
+               case 1324:
+                  if (curChar == 52)
+                     { jjCheckNAdd(1320); }
                   break;
-               case 1171:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2075, 2078); }
+               case 1325:
+                  if (curChar == 54)
+                     { jjCheckNAdd(1320); }
                   break;
-               case 1182:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(2079, 2082); }
+               case 1326:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1652, 1656); }
                   break;
-               case 1193:
-                  if ((0x20000000200000L & l) != 0L)
-                     { jjAddStates(1710, 1711); }
+               case 1327:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1324, 1325); }
                   break;
-               case 1195:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddTwoStates(1196, 1203); }
+               case 1328:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1657, 1659); }
                   break;
-               case 1197:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  jjstateSet[jjnewStateCnt++] = 1198;
+               case 1329:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1660, 1663); }
                   break;
-               case 1198:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1512, 1515); }
+               case 1330:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1664, 1668); }
                   break;
-               case 1199:
-                  if ((0x7e0000007eL & l) != 0L && kind > 99)
-                     kind = 99;
+               case 1331:
+                  if (curChar == 48)
+                     { jjCheckNAddTwoStates(1318, 1319); }
                   break;
-               case 1200:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAdd(1199); }
+               case 1332:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1669, 1671); }
                   break;
-               case 1201:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddTwoStates(1199, 1200); }
+               case 1333:
+                  if (curChar == 48)
+                     { jjCheckNAddStates(1672, 1675); }
                   break;
-               case 1202:
-                  if ((0x7e0000007eL & l) == 0L)
+               case 1334:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1516, 1518); }
+                  if (kind > 20)
+                     kind = 20;
+                  { jjCheckNAddStates(55, 158); }
                   break;
-               case 1203:
-                  if ((0x7e0000007eL & l) == 0L)
+               case 1335:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1519, 1523); }
+                  if (kind > 20)
+                     kind = 20;
+                  { jjCheckNAdd(1335); }
                   break;
-               case 1204:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAdd(1196); }
+               case 1336:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1336, 1337); }
                   break;
-               case 1205:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddTwoStates(1204, 1196); }
+               case 1337:
+                  if (curChar == 46)
+                     { jjCheckNAdd(257); }
                   break;
-               case 1206:
-                  if ((0x7e0000007eL & l) == 0L)
+               case 1338:
+                  if ((0x3ff000000000000L & l) == 0L)
                      break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1524, 1526); }
+                  if (kind > 24)
+                     kind = 24;
+                  { jjCheckNAdd(1338); }
                   break;
-               case 1207:
-                  if ((0x7e0000007eL & l) == 0L)
-                     break;
-                  if (kind > 99)
-                     kind = 99;
-                  { jjCheckNAddStates(1527, 1530); }
+               case 1339:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1339, 1340); }
                   break;
-               case 1208:
-                  if ((0x100000001000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1209;
+               case 1340:
+                  if (curChar == 46)
+                     { jjCheckNAdd(258); }
                   break;
-               case 1210:
-                  if ((0x7fffffffefffffffL & l) != 0L)
-                     { jjCheckNAddStates(1537, 1540); }
+               case 1341:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1676, 1678); }
                   break;
-               case 1213:
-                  if (curChar == 92)
-                     { jjAddStates(2083, 2084); }
+               case 1342:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1342, 1343); }
                   break;
-               case 1214:
-                  if ((0xffffff81ffffff81L & l) != 0L)
-                     { jjCheckNAddStates(1537, 1540); }
+               case 1343:
+                  if (curChar == 46)
+                     { jjCheckNAdd(259); }
                   break;
-               case 1215:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1541, 1550); }
+               case 1344:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1679, 1681); }
                   break;
-               case 1216:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1551, 1555); }
+               case 1345:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1345, 1346); }
                   break;
-               case 1220:
-               case 1222:
-               case 1225:
-               case 1229:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(1216); }
+               case 1346:
+                  if (curChar == 46)
+                     { jjCheckNAdd(284); }
                   break;
-               case 1221:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1222;
+               case 1347:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1682, 1684); }
                   break;
-               case 1223:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1224;
+               case 1348:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1348, 1349); }
                   break;
-               case 1224:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1225;
+               case 1349:
+                  if (curChar == 46)
+                     { jjCheckNAdd(321); }
                   break;
-               case 1226:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1227;
+               case 1350:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1685, 1687); }
                   break;
-               case 1227:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1228;
+               case 1351:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1351, 1352); }
                   break;
-               case 1228:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1229;
+               case 1352:
+                  if (curChar == 46)
+                     { jjCheckNAdd(346); }
                   break;
-               case 1231:
-                  if ((0xffffffffefffffffL & l) != 0L)
-                     { jjCheckNAddStates(1556, 1558); }
+               case 1353:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1688, 1690); }
                   break;
-               case 1233:
-                  if (curChar == 92)
-                     { jjAddStates(2085, 2088); }
+               case 1354:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1354, 1355); }
                   break;
-               case 1237:
-                  if ((0xffffff81ffffff81L & l) != 0L)
-                     { jjCheckNAddStates(1556, 1558); }
+               case 1355:
+                  if (curChar == 46)
+                     { jjCheckNAdd(371); }
                   break;
-               case 1238:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1559, 1568); }
+               case 1356:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1691, 1693); }
                   break;
-               case 1239:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1569, 1573); }
+               case 1357:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1357, 1358); }
                   break;
-               case 1242:
-               case 1244:
-               case 1247:
-               case 1251:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(1239); }
+               case 1358:
+                  if (curChar == 46)
+                     { jjCheckNAdd(396); }
                   break;
-               case 1243:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1244;
+               case 1359:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1694, 1696); }
+                  break;
+               case 1360:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1360, 1361); }
                   break;
-               case 1245:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1246;
+               case 1361:
+                  if (curChar == 46)
+                     { jjCheckNAdd(421); }
                   break;
-               case 1246:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1247;
+               case 1362:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1697, 1699); }
                   break;
-               case 1248:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1249;
+               case 1363:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1363, 1364); }
                   break;
-               case 1249:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1250;
+               case 1364:
+                  if (curChar == 46)
+                     { jjCheckNAdd(446); }
                   break;
-               case 1250:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1251;
+               case 1365:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1700, 1702); }
                   break;
-               case 1253:
-                  if ((0xffffffffefffffffL & l) != 0L)
-                     { jjCheckNAddStates(1574, 1576); }
+               case 1366:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1366, 1367); }
                   break;
-               case 1255:
-                  if (curChar == 92)
-                     { jjAddStates(2089, 2092); }
+               case 1367:
+                  if (curChar == 46)
+                     { jjCheckNAdd(471); }
                   break;
-               case 1259:
-                  if ((0xffffff81ffffff81L & l) != 0L)
-                     { jjCheckNAddStates(1574, 1576); }
+               case 1368:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1703, 1705); }
                   break;
-               case 1260:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1577, 1586); }
+               case 1369:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1369, 1370); }
                   break;
-               case 1261:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAddStates(1587, 1591); }
+               case 1370:
+                  if (curChar == 46)
+                     { jjCheckNAdd(496); }
                   break;
-               case 1264:
-               case 1266:
-               case 1269:
-               case 1273:
-                  if ((0x7e0000007eL & l) != 0L)
-                     { jjCheckNAdd(1261); }
+      default : break;
+   }
+   return kind;
+}
+
+private int jjMoveNfa_0_0to63_1371(int state, long l, int kind)
+{
+   switch(state)
+   {
+               case 1371:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1706, 1708); }
                   break;
-               case 1265:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1266;
+               case 1372:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1372, 1373); }
                   break;
-               case 1267:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1268;
+               case 1373:
+                  if (curChar == 46)
+                     { jjCheckNAdd(533); }
                   break;
-               case 1268:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1269;
+               case 1374:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1709, 1711); }
                   break;
-               case 1270:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1271;
+               case 1375:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1375, 1376); }
                   break;
-               case 1271:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1272;
+               case 1376:
+                  if (curChar == 46)
+                     { jjCheckNAdd(570); }
                   break;
-               case 1272:
-                  if ((0x7e0000007eL & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1273;
+               case 1377:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1712, 1714); }
                   break;
-               case 1275:
-                  if ((0x4000000040000L & l) != 0L)
-                     jjstateSet[jjnewStateCnt++] = 1208;
+               case 1378:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1378, 1379); }
                   break;
-               case 1276:
-                  if (curChar == 92)
-                     { jjCheckNAddStates(1685, 1696); }
+               case 1379:
+                  if (curChar == 46)
+                     { jjCheckNAdd(619); }
                   break;
-               case 1277:
-                  if ((0x2000000020L & l) != 0L)
-                     { jjCheckNAddStates(2093, 2096); }
+               case 1380:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1715, 1717); }
                   break;
-               case 1283:
-                  if ((0x800000008L & l) != 0L)
-                     { jjCheckNAddStates(2097, 2100); }
+               case 1381:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1381, 1382); }
                   break;
-               default : break;
-            }
-         } while(i != startsAt);
-      }
-      else
-      {
-         int hiByte = (curChar >> 8);
-         int i1 = hiByte >> 6;
-         long l1 = 1L << (hiByte & 077);
-         int i2 = (curChar & 0xff) >> 6;
-         long l2 = 1L << (curChar & 077);
-         do
-         {
-            switch(jjstateSet[--i])
-            {
-               case 1364:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1382:
+                  if (curChar == 46)
+                     { jjCheckNAdd(644); }
                   break;
-               case 1362:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1383:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1718, 1720); }
                   break;
-               case 1363:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1384:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1384, 1385); }
                   break;
-               case 729:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1385:
+                  if (curChar == 46)
+                     { jjCheckNAdd(657); }
                   break;
-               case 1365:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                  {
-                     if (kind > 22)
-                        kind = 22;
-                     { jjCheckNAddTwoStates(730, 731); }
-                  }
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1386:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1721, 1723); }
                   break;
-               case 0:
-                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddStates(1680, 1684); }
+               case 1387:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1387, 1388); }
                   break;
-               case 1:
-               case 7:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(193, 195); }
+               case 1388:
+                  if (curChar == 46)
+                     { jjCheckNAdd(682); }
                   break;
-               case 23:
-               case 29:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(190, 192); }
+               case 1389:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1389, 722); }
                   break;
-               case 49:
-               case 51:
-                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     break;
-                  if (kind > 72)
-                     kind = 72;
-                  { jjCheckNAddTwoStates(49, 50); }
+               case 1390:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1390, 1391); }
                   break;
-               case 71:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjAddStates(1722, 1723); }
+               case 1391:
+                  if (curChar == 46)
+                     { jjCheckNAdd(719); }
                   break;
-               case 73:
-               case 74:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddTwoStates(74, 75); }
+               case 1392:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1392, 727); }
                   break;
-               case 695:
-               case 696:
-               case 698:
-                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     break;
-                  if (kind > 97)
-                     kind = 97;
-                  { jjCheckNAddTwoStates(696, 697); }
+               case 1393:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1393, 1394); }
                   break;
-               case 730:
-               case 732:
-                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     break;
-                  if (kind > 22)
-                     kind = 22;
-                  { jjCheckNAddTwoStates(730, 731); }
+               case 1394:
+                  if (curChar == 46)
+                     { jjCheckNAdd(723); }
                   break;
-               case 748:
-               case 752:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1395:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1395, 729); }
                   break;
-               case 749:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(0, 2); }
+               case 1396:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1396, 1397); }
                   break;
-               case 1127:
-               case 1128:
-               case 1130:
-                  if (!jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     break;
-                  if (kind > 104)
-                     kind = 104;
-                  { jjCheckNAddTwoStates(1128, 1129); }
+               case 1397:
+                  if (curChar == 46)
+                     { jjCheckNAdd(728); }
                   break;
-               case 1210:
-               case 1214:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(1537, 1540); }
+               case 1398:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddStates(1724, 1727); }
                   break;
-               case 1231:
-               case 1237:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(1556, 1558); }
+               case 1399:
+                  if ((0x3ff000000000000L & l) != 0L)
+                     { jjCheckNAddTwoStates(1399, 1400); }
                   break;
-               case 1253:
-               case 1259:
-                  if (jjCanMove_0(hiByte, i1, i2, l1, l2))
-                     { jjCheckNAddStates(1574, 1576); }
+               case 1400:
+                  if (curChar == 46)
+                     { jjCheckNAdd(730); }
                   break;
-               default : if (i1 == 0 || l1 == 0 || i2 == 0 ||  l2 == 0) break; else break;
-            }
-         } while(i != startsAt);
-      }
-      if (kind != 0x7fffffff)
-      {
-         jjmatchedKind = kind;
-         jjmatchedPos = curPos;
-         kind = 0x7fffffff;
-      }
-      ++curPos;
-      if ((i = jjnewStateCnt) == (startsAt = 1361 - (jjnewStateCnt = startsAt)))
-         return curPos;
-      try { curChar = input_stream.readChar(); }
-      catch(java.io.IOException e) { return curPos; }
+      default : break;
    }
+   return kind;
 }
 private int jjMoveStringLiteralDfa0_1(){
    switch(curChar)
@@ -7158,7 +9535,7 @@ private int jjMoveStringLiteralDfa1_1(long active0){
 "\72", "\52", "\57", "\55", "\75", "\133", "\135", null, null, "\176", null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
 null, null, null, null, null, null, null, null, null, null, null, null, null, null, 
-null, null, null, null, null, null, };
+null, null, null, null, null, null, null, };
 protected Token jjFillToken()
 {
    final Token t;
@@ -7185,7 +9562,7 @@ protected Token jjFillToken()
       endLine = input_stream.getEndLine();
       endColumn = input_stream.getEndColumn();
    }
-   t = Token.newToken(jjmatchedKind);
+   t = newToken(jjmatchedKind);
    t.kind = jjmatchedKind;
    t.image = curTokenImage;
 
@@ -7197,138 +9574,142 @@ protected Token jjFillToken()
    return t;
 }
 static final int[] jjnextStates = {
-   749, 750, 751, 693, 694, 695, 714, 645, 646, 671, 620, 621, 634, 607, 608, 609, 
-   582, 583, 596, 533, 534, 571, 496, 497, 522, 459, 460, 485, 434, 435, 448, 409, 
-   410, 423, 384, 385, 398, 359, 360, 373, 334, 335, 348, 309, 310, 323, 284, 285, 
-   298, 259, 260, 273, 1298, 1299, 1300, 1301, 1302, 1303, 1304, 1305, 1306, 260, 273, 1307, 
-   1308, 1309, 285, 298, 1310, 1311, 1312, 310, 1313, 1314, 1315, 335, 348, 1316, 1317, 1318, 
-   360, 1319, 1320, 1321, 385, 1322, 1323, 1324, 410, 1325, 1326, 1327, 435, 1328, 1329, 1330, 
-   460, 485, 1331, 1332, 1333, 497, 1334, 1335, 1336, 534, 1337, 1338, 1339, 583, 1340, 1341, 
-   1342, 608, 1343, 1344, 1345, 621, 1346, 1347, 1348, 646, 1349, 1350, 1351, 685, 1352, 1353, 
-   1354, 690, 1355, 1356, 1357, 692, 1358, 1359, 1360, 694, 695, 714, 671, 634, 609, 596, 
-   571, 522, 448, 423, 398, 373, 323, 250, 251, 252, 44, 253, 45, 254, 46, 255, 
-   47, 729, 748, 768, 782, 257, 258, 259, 284, 309, 334, 359, 384, 409, 434, 459, 
-   496, 533, 582, 607, 620, 645, 682, 686, 691, 693, 68, 69, 77, 174, 23, 24, 
-   25, 1, 2, 3, 1, 9, 12, 13, 15, 18, 10, 11, 2, 3, 1, 10, 
-   11, 2, 3, 23, 31, 34, 35, 37, 40, 32, 33, 24, 25, 23, 32, 33, 
-   24, 25, 49, 53, 57, 58, 60, 63, 55, 56, 50, 49, 55, 56, 50, 72, 
-   73, 76, 73, 75, 76, 89, 90, 94, 91, 92, 95, 96, 94, 91, 92, 94, 
-   91, 92, 95, 105, 102, 103, 106, 107, 105, 102, 103, 105, 102, 103, 106, 111, 
-   112, 84, 97, 116, 113, 114, 117, 118, 116, 113, 114, 116, 113, 114, 117, 122, 
-   123, 83, 108, 127, 124, 125, 128, 129, 127, 124, 125, 127, 124, 125, 128, 133, 
-   134, 82, 119, 138, 135, 136, 139, 140, 138, 135, 136, 138, 135, 136, 139, 144, 
-   145, 81, 130, 149, 146, 147, 150, 151, 149, 146, 147, 149, 146, 147, 150, 155, 
-   156, 80, 141, 160, 157, 158, 161, 162, 160, 157, 158, 160, 157, 158, 161, 171, 
-   168, 169, 172, 173, 171, 168, 169, 171, 168, 169, 172, 177, 178, 78, 163, 182, 
-   179, 180, 183, 184, 182, 179, 180, 182, 179, 180, 183, 192, 193, 188, 197, 194, 
-   195, 198, 199, 197, 194, 195, 197, 194, 195, 198, 203, 204, 187, 189, 208, 205, 
-   206, 209, 210, 208, 205, 206, 208, 205, 206, 209, 219, 220, 215, 224, 221, 222, 
-   225, 226, 224, 221, 222, 224, 221, 222, 225, 235, 232, 233, 236, 237, 235, 232, 
-   233, 235, 232, 233, 236, 241, 242, 213, 227, 246, 243, 244, 247, 248, 246, 243, 
-   244, 246, 243, 244, 247, 270, 267, 268, 271, 272, 270, 267, 268, 270, 267, 268, 
-   271, 276, 277, 261, 262, 281, 278, 279, 282, 283, 281, 278, 279, 281, 278, 279, 
-   282, 290, 291, 295, 292, 293, 296, 297, 295, 292, 293, 295, 292, 293, 296, 301, 
-   302, 286, 287, 306, 303, 304, 307, 308, 306, 303, 304, 306, 303, 304, 307, 315, 
-   316, 320, 317, 318, 321, 322, 320, 317, 318, 320, 317, 318, 321, 326, 327, 311, 
-   312, 331, 328, 329, 332, 333, 331, 328, 329, 331, 328, 329, 332, 345, 342, 343, 
-   346, 347, 345, 342, 343, 345, 342, 343, 346, 351, 352, 336, 337, 356, 353, 354, 
-   357, 358, 356, 353, 354, 356, 353, 354, 357, 370, 367, 368, 371, 372, 370, 367, 
-   368, 370, 367, 368, 371, 381, 378, 379, 382, 383, 381, 378, 379, 381, 378, 379, 
-   382, 395, 392, 393, 396, 397, 395, 392, 393, 395, 392, 393, 396, 401, 402, 386, 
-   387, 406, 403, 404, 407, 408, 406, 403, 404, 406, 403, 404, 407, 415, 416, 420, 
-   417, 418, 421, 422, 420, 417, 418, 420, 417, 418, 421, 426, 427, 411, 412, 431, 
-   428, 429, 432, 433, 431, 428, 429, 431, 428, 429, 432, 440, 441, 445, 442, 443, 
-   446, 447, 445, 442, 443, 445, 442, 443, 446, 451, 452, 436, 437, 456, 453, 454, 
-   457, 458, 456, 453, 454, 456, 453, 454, 457, 466, 467, 471, 468, 469, 472, 473, 
-   471, 468, 469, 471, 468, 469, 472, 477, 478, 462, 463, 482, 479, 480, 483, 484, 
-   482, 479, 480, 482, 479, 480, 483, 488, 489, 461, 474, 493, 490, 491, 494, 495, 
-   493, 490, 491, 493, 490, 491, 494, 503, 504, 508, 505, 506, 509, 510, 508, 505, 
-   506, 508, 505, 506, 509, 514, 515, 499, 500, 519, 516, 517, 520, 521, 519, 516, 
-   517, 519, 516, 517, 520, 525, 526, 498, 511, 530, 527, 528, 531, 532, 530, 527, 
-   528, 530, 527, 528, 531, 541, 542, 546, 543, 544, 547, 548, 546, 543, 544, 546, 
-   543, 544, 547, 552, 553, 537, 538, 557, 554, 555, 558, 559, 557, 554, 555, 557, 
-   554, 555, 558, 563, 564, 536, 549, 568, 565, 566, 569, 570, 568, 565, 566, 568, 
-   565, 566, 569, 574, 575, 535, 560, 579, 576, 577, 580, 581, 579, 576, 577, 579, 
-   576, 577, 580, 588, 589, 593, 590, 591, 594, 595, 593, 590, 591, 593, 590, 591, 
-   594, 604, 601, 602, 605, 606, 604, 601, 602, 604, 601, 602, 605, 612, 613, 617, 
-   614, 615, 618, 619, 617, 614, 615, 617, 614, 615, 618, 631, 628, 629, 632, 633, 
-   631, 628, 629, 631, 628, 629, 632, 637, 638, 622, 623, 642, 639, 640, 643, 644, 
-   642, 639, 640, 642, 639, 640, 643, 657, 654, 655, 658, 659, 657, 654, 655, 657, 
-   654, 655, 658, 663, 664, 648, 649, 668, 665, 666, 669, 670, 668, 665, 666, 668, 
-   665, 666, 669, 679, 676, 677, 680, 681, 679, 676, 677, 679, 676, 677, 680, 696, 
-   700, 704, 705, 707, 710, 702, 703, 697, 696, 702, 703, 697, 716, 718, 719, 721, 
-   724, 717, 703, 696, 697, 717, 703, 696, 697, 730, 734, 738, 739, 741, 744, 736, 
-   737, 731, 730, 736, 737, 731, 749, 754, 758, 759, 761, 764, 756, 757, 750, 751, 
-   749, 756, 757, 750, 751, 770, 772, 773, 775, 778, 771, 757, 749, 750, 751, 771, 
-   757, 749, 750, 751, 784, 786, 787, 789, 792, 785, 737, 730, 731, 785, 737, 730, 
-   731, 807, 808, 812, 809, 810, 813, 814, 812, 809, 810, 812, 809, 810, 813, 818, 
-   819, 803, 804, 823, 820, 821, 824, 825, 823, 820, 821, 823, 820, 821, 824, 829, 
-   830, 802, 815, 834, 831, 832, 835, 836, 834, 831, 832, 834, 831, 832, 835, 840, 
-   841, 801, 826, 845, 842, 843, 846, 847, 845, 842, 843, 845, 842, 843, 846, 856, 
-   853, 854, 857, 858, 856, 853, 854, 856, 853, 854, 857, 866, 867, 871, 868, 869, 
-   872, 873, 871, 868, 869, 871, 868, 869, 872, 877, 878, 862, 863, 882, 879, 880, 
-   883, 884, 882, 879, 880, 882, 879, 880, 883, 888, 889, 861, 874, 893, 890, 891, 
-   894, 895, 893, 890, 891, 893, 890, 891, 894, 904, 905, 909, 906, 907, 910, 911, 
-   909, 906, 907, 909, 906, 907, 910, 915, 916, 900, 901, 920, 917, 918, 921, 922, 
-   920, 917, 918, 920, 917, 918, 921, 926, 927, 899, 912, 931, 928, 929, 932, 933, 
-   931, 928, 929, 931, 928, 929, 932, 937, 938, 898, 923, 942, 939, 940, 943, 944, 
-   942, 939, 940, 942, 939, 940, 943, 950, 987, 957, 958, 962, 959, 960, 963, 964, 
-   962, 959, 960, 962, 959, 960, 963, 968, 969, 953, 954, 973, 970, 971, 974, 975, 
-   973, 970, 971, 973, 970, 971, 974, 979, 980, 952, 965, 984, 981, 982, 985, 986, 
-   984, 981, 982, 984, 981, 982, 985, 990, 991, 951, 976, 995, 992, 993, 996, 997, 
-   995, 992, 993, 995, 992, 993, 996, 1001, 1002, 949, 1006, 1003, 1004, 1007, 1008, 1006, 
-   1003, 1004, 1006, 1003, 1004, 1007, 1017, 1014, 1015, 1018, 1019, 1017, 1014, 1015, 1017, 1014, 
-   1015, 1018, 1023, 1024, 947, 1009, 1028, 1025, 1026, 1029, 1030, 1028, 1025, 1026, 1028, 1025, 
-   1026, 1029, 1034, 1035, 946, 1020, 1039, 1036, 1037, 1040, 1041, 1039, 1036, 1037, 1039, 1036, 
-   1037, 1040, 1052, 1053, 1057, 1054, 1055, 1058, 1059, 1057, 1054, 1055, 1057, 1054, 1055, 1058, 
-   1063, 1064, 1048, 1049, 1068, 1065, 1066, 1069, 1070, 1068, 1065, 1066, 1068, 1065, 1066, 1069, 
-   1074, 1075, 1047, 1060, 1079, 1076, 1077, 1080, 1081, 1079, 1076, 1077, 1079, 1076, 1077, 1080, 
-   1085, 1086, 1046, 1071, 1090, 1087, 1088, 1091, 1092, 1090, 1087, 1088, 1090, 1087, 1088, 1091, 
-   1096, 1097, 1045, 1082, 1101, 1098, 1099, 1102, 1103, 1101, 1098, 1099, 1101, 1098, 1099, 1102, 
-   1107, 1108, 1044, 1093, 1112, 1109, 1110, 1113, 1114, 1112, 1109, 1110, 1112, 1109, 1110, 1113, 
-   1118, 1119, 1043, 1104, 1123, 1120, 1121, 1124, 1125, 1123, 1120, 1121, 1123, 1120, 1121, 1124, 
-   1127, 1146, 1128, 1132, 1136, 1137, 1139, 1142, 1134, 1135, 1129, 1128, 1134, 1135, 1129, 1148, 
-   1150, 1151, 1153, 1156, 1149, 1135, 1128, 1129, 1149, 1135, 1128, 1129, 1168, 1165, 1166, 1169, 
-   1170, 1168, 1165, 1166, 1168, 1165, 1166, 1169, 1174, 1175, 860, 885, 1179, 1176, 1177, 1180, 
-   1181, 1179, 1176, 1177, 1179, 1176, 1177, 1180, 1185, 1186, 799, 848, 1190, 1187, 1188, 1191, 
-   1192, 1190, 1187, 1188, 1190, 1187, 1188, 1191, 1199, 1200, 1201, 1202, 1199, 1200, 1201, 1204, 
-   1196, 1205, 1206, 1207, 1204, 1196, 1205, 1204, 1196, 1205, 1206, 1210, 1230, 1252, 1212, 1213, 
-   1274, 1210, 1211, 1212, 1213, 1210, 1216, 1220, 1221, 1223, 1226, 1218, 1212, 1213, 1219, 1210, 
-   1218, 1212, 1213, 1219, 1231, 1232, 1233, 1231, 1239, 1242, 1243, 1245, 1248, 1240, 1241, 1232, 
-   1233, 1231, 1240, 1241, 1232, 1233, 1253, 1254, 1255, 1253, 1261, 1264, 1265, 1267, 1270, 1262, 
-   1263, 1254, 1255, 1253, 1262, 1263, 1254, 1255, 1210, 1230, 1252, 1211, 1212, 1213, 1274, 1290, 
-   1287, 1288, 1291, 1292, 1290, 1287, 1288, 1290, 1287, 1288, 1291, 1294, 1281, 1282, 1295, 1296, 
-   1294, 1281, 1282, 1294, 1281, 1282, 1295, 1304, 260, 273, 1307, 285, 298, 1310, 310, 323, 
-   1313, 335, 348, 1316, 360, 373, 1319, 385, 398, 1322, 410, 423, 1325, 435, 448, 1328, 
-   460, 485, 1331, 497, 522, 1334, 534, 571, 1337, 583, 596, 1340, 608, 609, 1343, 621, 
-   634, 1346, 646, 671, 1358, 694, 695, 714, 194, 195, 187, 196, 205, 206, 186, 207, 
-   730, 749, 750, 751, 731, 732, 1281, 1282, 185, 1287, 1288, 211, 752, 769, 1289, 1293, 
-   783, 798, 859, 896, 945, 1031, 1042, 1115, 1126, 1127, 1146, 1160, 1171, 1182, 1194, 1275, 
-   4, 6, 7, 8, 26, 28, 29, 30, 51, 52, 71, 72, 83, 108, 91, 92, 
-   85, 93, 102, 103, 84, 104, 100, 101, 85, 86, 113, 114, 115, 124, 125, 82, 
-   126, 135, 136, 81, 137, 146, 147, 80, 148, 157, 158, 79, 159, 168, 169, 78, 
-   170, 166, 167, 79, 152, 179, 180, 77, 181, 221, 222, 214, 223, 232, 233, 213, 
-   234, 230, 231, 214, 216, 243, 244, 245, 267, 268, 261, 269, 265, 266, 278, 279, 
-   280, 292, 293, 286, 294, 303, 304, 305, 317, 318, 311, 319, 328, 329, 310, 330, 
-   342, 343, 336, 344, 340, 341, 353, 354, 355, 367, 368, 361, 369, 365, 366, 378, 
-   379, 360, 380, 376, 377, 361, 362, 392, 393, 386, 394, 390, 391, 403, 404, 385, 
-   405, 417, 418, 411, 419, 428, 429, 410, 430, 436, 437, 442, 443, 444, 453, 454, 
-   435, 455, 461, 474, 468, 469, 462, 470, 479, 480, 481, 490, 491, 492, 498, 511, 
-   499, 500, 505, 506, 507, 516, 517, 518, 527, 528, 497, 529, 536, 549, 537, 538, 
-   543, 544, 545, 554, 555, 556, 565, 566, 535, 567, 576, 577, 534, 578, 590, 591, 
-   584, 592, 601, 602, 583, 603, 599, 600, 584, 585, 614, 615, 608, 616, 628, 629, 
-   622, 630, 626, 627, 639, 640, 621, 641, 654, 655, 648, 656, 652, 653, 665, 666, 
-   647, 667, 676, 677, 646, 678, 674, 675, 647, 660, 809, 810, 803, 811, 820, 821, 
-   802, 822, 831, 832, 801, 833, 842, 843, 800, 844, 853, 854, 799, 855, 851, 852, 
-   800, 837, 860, 885, 862, 863, 868, 869, 870, 879, 880, 861, 881, 890, 891, 892, 
-   898, 923, 900, 901, 906, 907, 908, 917, 918, 899, 919, 928, 929, 930, 939, 940, 
-   941, 951, 976, 952, 965, 953, 954, 959, 960, 961, 970, 971, 972, 981, 982, 983, 
-   992, 993, 994, 1003, 1004, 948, 1005, 1014, 1015, 947, 1016, 1012, 1013, 948, 998, 1025, 
-   1026, 946, 1027, 1036, 1037, 1038, 1044, 1093, 1047, 1060, 1054, 1055, 1048, 1056, 1065, 1066, 
-   1067, 1076, 1077, 1046, 1078, 1087, 1088, 1045, 1089, 1098, 1099, 1100, 1109, 1110, 1043, 1111, 
-   1120, 1121, 1122, 1165, 1166, 896, 1167, 1163, 1164, 897, 934, 1176, 1177, 859, 1178, 1187, 
-   1188, 798, 1189, 1214, 1215, 1234, 1236, 1237, 1238, 1256, 1258, 1259, 1260, 1279, 1280, 186, 
-   200, 1285, 1286, 212, 238, 
+   730, 731, 732, 751, 682, 683, 708, 657, 658, 671, 644, 645, 646, 619, 620, 633, 
+   570, 571, 608, 533, 534, 559, 496, 497, 522, 471, 472, 485, 446, 447, 460, 421, 
+   422, 435, 396, 397, 410, 371, 372, 385, 346, 347, 360, 321, 322, 335, 284, 285, 
+   310, 259, 260, 273, 786, 787, 788, 1335, 1336, 1337, 1338, 1339, 1340, 1341, 1342, 1343, 
+   260, 273, 1344, 1345, 1346, 285, 1347, 1348, 1349, 322, 335, 1350, 1351, 1352, 347, 1353, 
+   1354, 1355, 372, 385, 1356, 1357, 1358, 397, 1359, 1360, 1361, 422, 1362, 1363, 1364, 447, 
+   1365, 1366, 1367, 472, 1368, 1369, 1370, 497, 522, 1371, 1372, 1373, 534, 1374, 1375, 1376, 
+   571, 1377, 1378, 1379, 620, 1380, 1381, 1382, 645, 1383, 1384, 1385, 658, 1386, 1387, 1388, 
+   683, 1389, 1390, 1391, 722, 1392, 1393, 1394, 727, 1395, 1396, 1397, 729, 1398, 1399, 1400, 
+   731, 732, 751, 708, 671, 646, 633, 608, 559, 485, 460, 435, 410, 360, 310, 250, 
+   251, 252, 44, 253, 45, 254, 46, 255, 47, 766, 785, 805, 819, 257, 258, 259, 
+   284, 321, 346, 371, 396, 421, 446, 471, 496, 533, 570, 619, 644, 657, 682, 719, 
+   723, 728, 730, 68, 69, 77, 174, 23, 24, 25, 1, 2, 3, 1, 9, 12, 
+   13, 15, 18, 10, 11, 2, 3, 1, 10, 11, 2, 3, 23, 31, 34, 35, 
+   37, 40, 32, 33, 24, 25, 23, 32, 33, 24, 25, 49, 53, 57, 58, 60, 
+   63, 55, 56, 50, 49, 55, 56, 50, 72, 73, 76, 73, 75, 76, 89, 90, 
+   94, 91, 92, 95, 96, 94, 91, 92, 94, 91, 92, 95, 105, 102, 103, 106, 
+   107, 105, 102, 103, 105, 102, 103, 106, 111, 112, 84, 97, 116, 113, 114, 117, 
+   118, 116, 113, 114, 116, 113, 114, 117, 122, 123, 83, 108, 127, 124, 125, 128, 
+   129, 127, 124, 125, 127, 124, 125, 128, 133, 134, 82, 119, 138, 135, 136, 139, 
+   140, 138, 135, 136, 138, 135, 136, 139, 144, 145, 81, 130, 149, 146, 147, 150, 
+   151, 149, 146, 147, 149, 146, 147, 150, 155, 156, 80, 141, 160, 157, 158, 161, 
+   162, 160, 157, 158, 160, 157, 158, 161, 171, 168, 169, 172, 173, 171, 168, 169, 
+   171, 168, 169, 172, 177, 178, 78, 163, 182, 179, 180, 183, 184, 182, 179, 180, 
+   182, 179, 180, 183, 192, 193, 188, 197, 194, 195, 198, 199, 197, 194, 195, 197, 
+   194, 195, 198, 203, 204, 187, 189, 208, 205, 206, 209, 210, 208, 205, 206, 208, 
+   205, 206, 209, 219, 220, 215, 224, 221, 222, 225, 226, 224, 221, 222, 224, 221, 
+   222, 225, 235, 232, 233, 236, 237, 235, 232, 233, 235, 232, 233, 236, 241, 242, 
+   213, 227, 246, 243, 244, 247, 248, 246, 243, 244, 246, 243, 244, 247, 270, 267, 
+   268, 271, 272, 270, 267, 268, 270, 267, 268, 271, 276, 277, 261, 262, 281, 278, 
+   279, 282, 283, 281, 278, 279, 281, 278, 279, 282, 296, 293, 294, 297, 298, 296, 
+   293, 294, 296, 293, 294, 297, 302, 303, 287, 288, 307, 304, 305, 308, 309, 307, 
+   304, 305, 307, 304, 305, 308, 313, 314, 286, 299, 318, 315, 316, 319, 320, 318, 
+   315, 316, 318, 315, 316, 319, 327, 328, 332, 329, 330, 333, 334, 332, 329, 330, 
+   332, 329, 330, 333, 338, 339, 323, 324, 343, 340, 341, 344, 345, 343, 340, 341, 
+   343, 340, 341, 344, 352, 353, 357, 354, 355, 358, 359, 357, 354, 355, 357, 354, 
+   355, 358, 363, 364, 348, 349, 368, 365, 366, 369, 370, 368, 365, 366, 368, 365, 
+   366, 369, 382, 379, 380, 383, 384, 382, 379, 380, 382, 379, 380, 383, 388, 389, 
+   373, 374, 393, 390, 391, 394, 395, 393, 390, 391, 393, 390, 391, 394, 407, 404, 
+   405, 408, 409, 407, 404, 405, 407, 404, 405, 408, 418, 415, 416, 419, 420, 418, 
+   415, 416, 418, 415, 416, 419, 432, 429, 430, 433, 434, 432, 429, 430, 432, 429, 
+   430, 433, 438, 439, 423, 424, 443, 440, 441, 444, 445, 443, 440, 441, 443, 440, 
+   441, 444, 452, 453, 457, 454, 455, 458, 459, 457, 454, 455, 457, 454, 455, 458, 
+   463, 464, 448, 449, 468, 465, 466, 469, 470, 468, 465, 466, 468, 465, 466, 469, 
+   477, 478, 482, 479, 480, 483, 484, 482, 479, 480, 482, 479, 480, 483, 488, 489, 
+   473, 474, 493, 490, 491, 494, 495, 493, 490, 491, 493, 490, 491, 494, 503, 504, 
+   508, 505, 506, 509, 510, 508, 505, 506, 508, 505, 506, 509, 514, 515, 499, 500, 
+   519, 516, 517, 520, 521, 519, 516, 517, 519, 516, 517, 520, 525, 526, 498, 511, 
+   530, 527, 528, 531, 532, 530, 527, 528, 530, 527, 528, 531, 540, 541, 545, 542, 
+   543, 546, 547, 545, 542, 543, 545, 542, 543, 546, 551, 552, 536, 537, 556, 553, 
+   554, 557, 558, 556, 553, 554, 556, 553, 554, 557, 562, 563, 535, 548, 567, 564, 
+   565, 568, 569, 567, 564, 565, 567, 564, 565, 568, 578, 579, 583, 580, 581, 584, 
+   585, 583, 580, 581, 583, 580, 581, 584, 589, 590, 574, 575, 594, 591, 592, 595, 
+   596, 594, 591, 592, 594, 591, 592, 595, 600, 601, 573, 586, 605, 602, 603, 606, 
+   607, 605, 602, 603, 605, 602, 603, 606, 611, 612, 572, 597, 616, 613, 614, 617, 
+   618, 616, 613, 614, 616, 613, 614, 617, 625, 626, 630, 627, 628, 631, 632, 630, 
+   627, 628, 630, 627, 628, 631, 641, 638, 639, 642, 643, 641, 638, 639, 641, 638, 
+   639, 642, 649, 650, 654, 651, 652, 655, 656, 654, 651, 652, 654, 651, 652, 655, 
+   668, 665, 666, 669, 670, 668, 665, 666, 668, 665, 666, 669, 674, 675, 659, 660, 
+   679, 676, 677, 680, 681, 679, 676, 677, 679, 676, 677, 680, 694, 691, 692, 695, 
+   696, 694, 691, 692, 694, 691, 692, 695, 700, 701, 685, 686, 705, 702, 703, 706, 
+   707, 705, 702, 703, 705, 702, 703, 706, 716, 713, 714, 717, 718, 716, 713, 714, 
+   716, 713, 714, 717, 733, 737, 741, 742, 744, 747, 739, 740, 734, 733, 739, 740, 
+   734, 753, 755, 756, 758, 761, 754, 740, 733, 734, 754, 740, 733, 734, 767, 771, 
+   775, 776, 778, 781, 773, 774, 768, 767, 773, 774, 768, 786, 791, 795, 796, 798, 
+   801, 793, 794, 787, 788, 786, 793, 794, 787, 788, 807, 809, 810, 812, 815, 808, 
+   794, 786, 787, 788, 808, 794, 786, 787, 788, 821, 823, 824, 826, 829, 822, 774, 
+   767, 768, 822, 774, 767, 768, 844, 845, 849, 846, 847, 850, 851, 849, 846, 847, 
+   849, 846, 847, 850, 855, 856, 840, 841, 860, 857, 858, 861, 862, 860, 857, 858, 
+   860, 857, 858, 861, 866, 867, 839, 852, 871, 868, 869, 872, 873, 871, 868, 869, 
+   871, 868, 869, 872, 877, 878, 838, 863, 882, 879, 880, 883, 884, 882, 879, 880, 
+   882, 879, 880, 883, 893, 890, 891, 894, 895, 893, 890, 891, 893, 890, 891, 894, 
+   903, 904, 908, 905, 906, 909, 910, 908, 905, 906, 908, 905, 906, 909, 914, 915, 
+   899, 900, 919, 916, 917, 920, 921, 919, 916, 917, 919, 916, 917, 920, 925, 926, 
+   898, 911, 930, 927, 928, 931, 932, 930, 927, 928, 930, 927, 928, 931, 941, 942, 
+   946, 943, 944, 947, 948, 946, 943, 944, 946, 943, 944, 947, 952, 953, 937, 938, 
+   957, 954, 955, 958, 959, 957, 954, 955, 957, 954, 955, 958, 963, 964, 936, 949, 
+   968, 965, 966, 969, 970, 968, 965, 966, 968, 965, 966, 969, 974, 975, 935, 960, 
+   979, 976, 977, 980, 981, 979, 976, 977, 979, 976, 977, 980, 987, 1024, 994, 995, 
+   999, 996, 997, 1000, 1001, 999, 996, 997, 999, 996, 997, 1000, 1005, 1006, 990, 991, 
+   1010, 1007, 1008, 1011, 1012, 1010, 1007, 1008, 1010, 1007, 1008, 1011, 1016, 1017, 989, 1002, 
+   1021, 1018, 1019, 1022, 1023, 1021, 1018, 1019, 1021, 1018, 1019, 1022, 1027, 1028, 988, 1013, 
+   1032, 1029, 1030, 1033, 1034, 1032, 1029, 1030, 1032, 1029, 1030, 1033, 1038, 1039, 986, 1043, 
+   1040, 1041, 1044, 1045, 1043, 1040, 1041, 1043, 1040, 1041, 1044, 1054, 1051, 1052, 1055, 1056, 
+   1054, 1051, 1052, 1054, 1051, 1052, 1055, 1060, 1061, 984, 1046, 1065, 1062, 1063, 1066, 1067, 
+   1065, 1062, 1063, 1065, 1062, 1063, 1066, 1071, 1072, 983, 1057, 1076, 1073, 1074, 1077, 1078, 
+   1076, 1073, 1074, 1076, 1073, 1074, 1077, 1089, 1090, 1094, 1091, 1092, 1095, 1096, 1094, 1091, 
+   1092, 1094, 1091, 1092, 1095, 1100, 1101, 1085, 1086, 1105, 1102, 1103, 1106, 1107, 1105, 1102, 
+   1103, 1105, 1102, 1103, 1106, 1111, 1112, 1084, 1097, 1116, 1113, 1114, 1117, 1118, 1116, 1113, 
+   1114, 1116, 1113, 1114, 1117, 1122, 1123, 1083, 1108, 1127, 1124, 1125, 1128, 1129, 1127, 1124, 
+   1125, 1127, 1124, 1125, 1128, 1133, 1134, 1082, 1119, 1138, 1135, 1136, 1139, 1140, 1138, 1135, 
+   1136, 1138, 1135, 1136, 1139, 1144, 1145, 1081, 1130, 1149, 1146, 1147, 1150, 1151, 1149, 1146, 
+   1147, 1149, 1146, 1147, 1150, 1155, 1156, 1080, 1141, 1160, 1157, 1158, 1161, 1162, 1160, 1157, 
+   1158, 1160, 1157, 1158, 1161, 1164, 1183, 1165, 1169, 1173, 1174, 1176, 1179, 1171, 1172, 1166, 
+   1165, 1171, 1172, 1166, 1185, 1187, 1188, 1190, 1193, 1186, 1172, 1165, 1166, 1186, 1172, 1165, 
+   1166, 1205, 1202, 1203, 1206, 1207, 1205, 1202, 1203, 1205, 1202, 1203, 1206, 1211, 1212, 897, 
+   922, 1216, 1213, 1214, 1217, 1218, 1216, 1213, 1214, 1216, 1213, 1214, 1217, 1222, 1223, 836, 
+   885, 1227, 1224, 1225, 1228, 1229, 1227, 1224, 1225, 1227, 1224, 1225, 1228, 1236, 1237, 1238, 
+   1239, 1236, 1237, 1238, 1241, 1233, 1242, 1243, 1244, 1241, 1233, 1242, 1241, 1233, 1242, 1243, 
+   1247, 1267, 1289, 1249, 1250, 1311, 1247, 1248, 1249, 1250, 1247, 1253, 1257, 1258, 1260, 1263, 
+   1255, 1249, 1250, 1256, 1247, 1255, 1249, 1250, 1256, 1268, 1269, 1270, 1268, 1276, 1279, 1280, 
+   1282, 1285, 1277, 1278, 1269, 1270, 1268, 1277, 1278, 1269, 1270, 1290, 1291, 1292, 1290, 1298, 
+   1301, 1302, 1304, 1307, 1299, 1300, 1291, 1292, 1290, 1299, 1300, 1291, 1292, 1247, 1267, 1289, 
+   1248, 1249, 1250, 1311, 1327, 1324, 1325, 1328, 1329, 1327, 1324, 1325, 1327, 1324, 1325, 1328, 
+   1331, 1318, 1319, 1332, 1333, 1331, 1318, 1319, 1331, 1318, 1319, 1332, 1341, 260, 273, 1344, 
+   285, 310, 1347, 322, 335, 1350, 347, 360, 1353, 372, 385, 1356, 397, 410, 1359, 422, 
+   435, 1362, 447, 460, 1365, 472, 485, 1368, 497, 522, 1371, 534, 559, 1374, 571, 608, 
+   1377, 620, 633, 1380, 645, 646, 1383, 658, 671, 1386, 683, 708, 1398, 731, 732, 751, 
+   194, 195, 187, 196, 767, 786, 787, 788, 768, 769, 1318, 1319, 185, 1324, 1325, 211, 
+   789, 806, 1326, 1330, 820, 835, 896, 933, 982, 1068, 1079, 1152, 1163, 1164, 1183, 1197, 
+   1208, 1219, 1231, 1312, 205, 206, 186, 207, 4, 6, 7, 8, 26, 28, 29, 30, 
+   51, 52, 71, 72, 83, 108, 91, 92, 85, 93, 102, 103, 84, 104, 100, 101, 
+   85, 86, 113, 114, 115, 124, 125, 82, 126, 135, 136, 81, 137, 146, 147, 80, 
+   148, 157, 158, 79, 159, 168, 169, 78, 170, 166, 167, 79, 152, 179, 180, 77, 
+   181, 221, 222, 214, 223, 232, 233, 213, 234, 230, 231, 214, 216, 243, 244, 245, 
+   267, 268, 261, 269, 265, 266, 278, 279, 280, 286, 299, 293, 294, 287, 295, 291, 
+   292, 304, 305, 306, 315, 316, 285, 317, 329, 330, 323, 331, 340, 341, 342, 354, 
+   355, 348, 356, 365, 366, 347, 367, 379, 380, 373, 381, 377, 378, 390, 391, 392, 
+   404, 405, 398, 406, 402, 403, 415, 416, 397, 417, 413, 414, 398, 399, 429, 430, 
+   423, 431, 427, 428, 440, 441, 422, 442, 454, 455, 448, 456, 465, 466, 447, 467, 
+   473, 474, 479, 480, 481, 490, 491, 472, 492, 498, 511, 505, 506, 499, 507, 516, 
+   517, 518, 527, 528, 529, 535, 548, 536, 537, 542, 543, 544, 553, 554, 555, 564, 
+   565, 534, 566, 573, 586, 574, 575, 580, 581, 582, 591, 592, 593, 602, 603, 572, 
+   604, 613, 614, 571, 615, 627, 628, 621, 629, 638, 639, 620, 640, 636, 637, 621, 
+   622, 651, 652, 645, 653, 665, 666, 659, 667, 663, 664, 676, 677, 658, 678, 691, 
+   692, 685, 693, 689, 690, 702, 703, 684, 704, 713, 714, 683, 715, 711, 712, 684, 
+   697, 846, 847, 840, 848, 857, 858, 839, 859, 868, 869, 838, 870, 879, 880, 837, 
+   881, 890, 891, 836, 892, 888, 889, 837, 874, 897, 922, 899, 900, 905, 906, 907, 
+   916, 917, 898, 918, 927, 928, 929, 935, 960, 937, 938, 943, 944, 945, 954, 955, 
+   936, 956, 965, 966, 967, 976, 977, 978, 988, 1013, 989, 1002, 990, 991, 996, 997, 
+   998, 1007, 1008, 1009, 1018, 1019, 1020, 1029, 1030, 1031, 1040, 1041, 985, 1042, 1051, 1052, 
+   984, 1053, 1049, 1050, 985, 1035, 1062, 1063, 983, 1064, 1073, 1074, 1075, 1081, 1130, 1084, 
+   1097, 1091, 1092, 1085, 1093, 1102, 1103, 1104, 1113, 1114, 1083, 1115, 1124, 1125, 1082, 1126, 
+   1135, 1136, 1137, 1146, 1147, 1080, 1148, 1157, 1158, 1159, 1202, 1203, 933, 1204, 1200, 1201, 
+   934, 971, 1213, 1214, 896, 1215, 1224, 1225, 835, 1226, 1251, 1252, 1271, 1273, 1274, 1275, 
+   1293, 1295, 1296, 1297, 1316, 1317, 186, 200, 1322, 1323, 212, 238, 
 };
 private static final boolean jjCanMove_0(int hiByte, int i1, int i2, long l1, long l2)
 {
@@ -7368,6 +9749,7 @@ public Token getNextToken()
       jjmatchedKind = 0;
       jjmatchedPos = -1;
       matchedToken = jjFillToken();
+      CommonTokenAction(matchedToken);
       return matchedToken;
    }
    image = jjimage;
@@ -7383,9 +9765,9 @@ public Token getNextToken()
          jjmatchedPos = -1;
          curPos = 0;
          curPos = jjMoveStringLiteralDfa0_0();
-         if (jjmatchedPos < 0 || (jjmatchedPos == 0 && jjmatchedKind > 105))
+         if (jjmatchedPos < 0 || (jjmatchedPos == 0 && jjmatchedKind > 106))
          {
-            jjmatchedKind = 105;
+            jjmatchedKind = 106;
             jjmatchedPos = 0;
          }
          break;
@@ -7409,6 +9791,7 @@ public Token getNextToken()
            TokenLexicalActions(matchedToken);
        if (jjnewLexState[jjmatchedKind] != -1)
          curLexState = jjnewLexState[jjmatchedKind];
+           CommonTokenAction(matchedToken);
            return matchedToken;
         }
         else if ((jjtoSkip[jjmatchedKind >> 6] & (1L << (jjmatchedKind & 077))) != 0L)
@@ -7477,79 +9860,7 @@ void TokenLexicalActions(Token matchedToken)
         image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
                                                                   matchedToken.image = ParserUtils.trimBy(image, 1, 1);
          break;
-      case 79 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                         matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 80 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                         matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 81 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                               matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 82 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                               matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 83 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                               matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 84 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                               matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 85 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                               matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 86 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                               matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 87 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                                          matchedToken.image = ParserUtils.trimBy(image, 0, 3);
-         break;
-      case 88 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                                          matchedToken.image = ParserUtils.trimBy(image, 0, 3);
-         break;
-      case 89 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                                                      matchedToken.image = ParserUtils.trimBy(image, 0, 4);
-         break;
-      case 90 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                             matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 91 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                 matchedToken.image = ParserUtils.trimBy(image, 0, 1);
-         break;
-      case 92 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                             matchedToken.image = ParserUtils.trimBy(image, 0, 2);
-         break;
-      case 93 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                                         matchedToken.image = ParserUtils.trimBy(image, 0, 3);
-         break;
-      case 94 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                    matchedToken.image = ParserUtils.trimBy(image, 0, 3);
-         break;
-      case 95 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                                      matchedToken.image = ParserUtils.trimBy(image, 0, 4);
-         break;
-      case 96 :
-        image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
-                              matchedToken.image = ParserUtils.trimBy(image, 0, 1);
-         break;
-      case 100 :
+      case 101 :
         image.append(input_stream.GetSuffix(jjimageLen + (lengthOfMatch = jjmatchedPos + 1)));
                                                                             matchedToken.image = ParserUtils.trimUrl(image);
          break;
@@ -7615,7 +9926,7 @@ private void ReInitRounds()
   {
     int i;
     jjround = 0x80000001;
-    for (i = 1361; i-- > 0;)
+    for (i = 1401; i-- > 0;)
       jjrounds[i] = 0x80000000;
   }
 
@@ -7649,10 +9960,10 @@ public void SwitchTo(int lexState)
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
    -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, -1, 
-   -1, -1, -1, -1, -1, -1, -1, 
+   -1, -1, -1, -1, -1, -1, -1, -1, 
 };
 static final long[] jjtoToken = {
-   0xffff0000037e0007L, 0x7fbffffffffL, 
+   0xffff0000037e0007L, 0xff7ffffffffL, 
 };
 static final long[] jjtoSkip = {
    0x10L, 0x0L, 
@@ -7665,8 +9976,8 @@ public void SwitchTo(int lexState)
 };
     protected CharStream  input_stream;
 
-    private final int[] jjrounds = new int[1361];
-    private final int[] jjstateSet = new int[2 * 1361];
+    private final int[] jjrounds = new int[1401];
+    private final int[] jjstateSet = new int[2 * 1401];
     private final StringBuilder jjimage = new StringBuilder();
     private StringBuilder image = jjimage;
     private int jjimageLen;
@@ -0,0 +1,827 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.javacc;
+
+import java.io.IOException;
+
+import com.gargoylesoftware.css.parser.ParserUtils;
+
+/**
+ * Hand-written replacement for the generated {@link CSS3ParserTokenManager}.
+ *
+ * <p>The generated token manager simulates a NFA with some thousand states; this
+ * one dispatches on the first char of the token and uses a char class table for
+ * the rest. It produces the same tokens (kinds, images and positions), the same
+ * lexical errors and supports the token recycling of the parser. Use it by passing
+ * an instance to {@link CSS3Parser#CSS3Parser(CSS3ParserTokenManager)}.</p>
+ *
+ * <p>Like the generated one, the tokenizer follows the lexical rules of the
+ * grammar (longest match wins, for matches of the same length the token defined
+ * first in the grammar wins).</p>
+ *
+ * @author Ronald Brill
+ */
+public class CssTokenizer extends CSS3ParserTokenManager {
+
+    private static final int WHITESPACE = 0x01;
+    private static final int HEX = 0x02;
+    private static final int NAME_START = 0x04;
+    private static final int NAME_CHAR = 0x08;
+    private static final int URL_CHAR = 0x10;
+
+    /** The classes of the ascii chars; all other chars are name and url chars. */
+    private static final byte[] CHAR_CLASSES = new byte[128];
+
+    /** The kinds of the tokens consisting of one (ascii) char; 0 if there is none. */
+    private static final int[] SINGLE_CHAR_KINDS = new int[128];
+
+    /** The kind of the anonymous "progid:" token. */
+    private static final int PROGID = kindOf("\"progid:\"");
+
+    /** The units of dimensions having a token kind; the letters can be escaped. */
+    private static final String[] UNITS = {"em", "rem", "ex", "px", "cm", "mm", "in", "pt", "pc",
+        "deg", "rad", "grad", "ms", "s", "hz", "khz"};
+    private static final int[] UNIT_KINDS = {EMS, REM, EXS, LENGTH_PX, LENGTH_CM, LENGTH_MM, LENGTH_IN,
+        LENGTH_PT, LENGTH_PC, ANGLE_DEG, ANGLE_RAD, ANGLE_GRAD, TIME_MS, TIME_S, FREQ_HZ, FREQ_KHZ};
+
+    /** The at rules having a token kind; the letters can be escaped. */
+    private static final String[] AT_RULES = {"import", "page", "media", "charset"};
+    private static final int[] AT_RULE_KINDS = {IMPORT_SYM, PAGE_SYM, MEDIA_SYM, CHARSET_SYM};
+
+    static {
+        for (int c = 0; c < 128; c++) {
+            int charClass = 0;
+            if (c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f') {
+                charClass |= WHITESPACE;
+            }
+            if (c >= '0' && c <= '9') {
+                charClass |= HEX | NAME_CHAR;
+            }
+            if ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')) {
+                charClass |= HEX;
+            }
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_') {
+                charClass |= NAME_START | NAME_CHAR;
+            }
+            if (c == '-') {
+                charClass |= NAME_CHAR;
+            }
+            // [!#$%&*-[]-~]
+            if (c == '!' || (c >= '#' && c <= '&') || (c >= '*' && c <= '[') || (c >= ']' && c <= '~')) {
+                charClass |= URL_CHAR;
+            }
+            CHAR_CLASSES[c] = (byte) charClass;
+        }
+
+        SINGLE_CHAR_KINDS['{'] = LBRACE;
+        SINGLE_CHAR_KINDS['}'] = RBRACE;
+        SINGLE_CHAR_KINDS['('] = LROUND;
+        SINGLE_CHAR_KINDS[')'] = RROUND;
+        SINGLE_CHAR_KINDS['.'] = DOT;
+        SINGLE_CHAR_KINDS[';'] = SEMICOLON;
+        SINGLE_CHAR_KINDS[':'] = COLON;
+        SINGLE_CHAR_KINDS['*'] = ASTERISK;
+        SINGLE_CHAR_KINDS['/'] = SLASH;
+        SINGLE_CHAR_KINDS['-'] = MINUS;
+        SINGLE_CHAR_KINDS['='] = EQUALS;
+        SINGLE_CHAR_KINDS['['] = LSQUARE;
+        SINGLE_CHAR_KINDS[']'] = RSQUARE;
+        SINGLE_CHAR_KINDS['+'] = PLUS;
+        SINGLE_CHAR_KINDS['>'] = GREATER;
+        SINGLE_CHAR_KINDS['~'] = TILDE;
+        SINGLE_CHAR_KINDS[','] = COMMA;
+    }
+
+    /** The chars read for the current token; the stream is backed up to the end of the token. */
+    private char[] lookahead_ = new char[64];
+    private int lookaheadCount_;
+    private boolean eof_;
+
+    /** The match found so far. */
+    private int kind_;
+    private int length_;
+
+    /** The generated token manager reports the image of a string or uri token before the EOF as EOF image. */
+    private String eofImage_ = "";
+    private final StringBuilder uri_ = new StringBuilder();
+
+    /**
+     * Ctor.
+     * @param stream the stream to read from
+     */
+    public CssTokenizer(final CharStream stream) {
+        super(stream);
+    }
+
+    @Override
+    public Token getNextToken() {
+        for ( ; ;) {
+            final char first;
+            try {
+                first = input_stream.BeginToken();
+            }
+            catch (final IOException e) {
+                final Token eof = newToken(EOF);
+                eof.kind = EOF;
+                eof.image = eofImage_;
+                eof.beginLine = input_stream.getEndLine();
+                eof.endLine = eof.beginLine;
+                eof.beginColumn = input_stream.getEndColumn();
+                eof.endColumn = eof.beginColumn;
+                CommonTokenAction(eof);
+                return eof;
+            }
+            eofImage_ = "";
+
+            lookahead_[0] = first;
+            lookaheadCount_ = 1;
+            eof_ = false;
+            kind_ = UNKNOWN;
+            length_ = 1;
+
+            if (first == '/' && la(1) == '*') {
+                skipComment();
+                continue;
+            }
+
+            match(first);
+
+            input_stream.backup(lookaheadCount_ - length_);
+            return fillToken();
+        }
+    }
+
+    /**
+     * Finds the longest match for the current token.
+     * @param first the first char of the token
+     */
+    private void match(final char first) {
+        switch (first) {
+            case ' ':
+            case '\t':
+            case '\r':
+            case '\n':
+            case '\f':
+                matchWhitespace();
+                return;
+            case '0':
+            case '1':
+            case '2':
+            case '3':
+            case '4':
+            case '5':
+            case '6':
+            case '7':
+            case '8':
+            case '9':
+                matchNumber();
+                return;
+            case '.':
+                if (isDigit(la(1))) {
+                    matchNumber();
+                }
+                else {
+                    candidate(DOT, 1);
+                }
+                return;
+            case '-':
+                candidate(MINUS, 1);
+                if (la(1) == '-' && la(2) == '>') {
+                    candidate(CDC, 3);
+                }
+                matchIdentifier();
+                return;
+            case '<':
+                if (la(1) == '!' && la(2) == '-' && la(3) == '-') {
+                    candidate(CDO, 4);
+                }
+                return;
+            case '~':
+                matchOperator(TILDE, INCLUDES);
+                return;
+            case '|':
+                matchOperator(UNKNOWN, DASHMATCH);
+                return;
+            case '^':
+                matchOperator(UNKNOWN, PREFIXMATCH);
+                return;
+            case '$':
+                matchOperator(UNKNOWN, SUFFIXMATCH);
+                return;
+            case '*':
+                matchOperator(ASTERISK, SUBSTRINGMATCH);
+                return;
+            case '"':
+            case '\'':
+                final int end = string(0);
+                if (end > 0) {
+                    candidate(STRING, end);
+                }
+                return;
+            case '#':
+                final int hashEnd = nameChars(1);
+                if (hashEnd > 1) {
+                    candidate(HASH, hashEnd);
+                }
+                return;
+            case '@':
+                matchAtKeyword();
+                return;
+            case '!':
+                matchImportant();
+                return;
+            default:
+                if (first < 128) {
+                    final int kind = SINGLE_CHAR_KINDS[first];
+                    if (kind != 0) {
+                        candidate(kind, 1);
+                        return;
+                    }
+                }
+                if (isNameStart(first) || first == '\\') {
+                    matchIdentifier();
+                }
+        }
+    }
+
+    /**
+     * Takes the given match if it is longer than the match found so far or if it
+     * has the same length and is defined before it in the grammar.
+     */
+    private void candidate(final int kind, final int length) {
+        if (length > length_ || (length == length_ && kind < kind_)) {
+            kind_ = kind;
+            length_ = length;
+        }
+    }
+
+    private void matchOperator(final int kind, final int kindWithEquals) {
+        candidate(kind, 1);
+        if (la(1) == '=') {
+            candidate(kindWithEquals, 2);
+        }
+    }
+
+    /**
+     * White space; the white space before '{', '+', '>' and ',' is part of these tokens.
+     */
+    private void matchWhitespace() {
+        int end = 1;
+        while (isWhitespace(la(end))) {
+            end++;
+        }
+        candidate(S, end);
+
+        switch (la(end)) {
+            case '{':
+                candidate(LBRACE, end + 1);
+                break;
+            case '+':
+                candidate(PLUS, end + 1);
+                break;
+            case '>':
+                candidate(GREATER, end + 1);
+                break;
+            case ',':
+                candidate(COMMA, end + 1);
+                break;
+            default:
+        }
+    }
+
+    /**
+     * Numbers, percentages and dimensions.
+     */
+    private void matchNumber() {
+        int end = 0;
+        while (isDigit(la(end))) {
+            end++;
+        }
+        if (la(end) == '.' && isDigit(la(end + 1))) {
+            end += 2;
+            while (isDigit(la(end))) {
+                end++;
+            }
+        }
+        candidate(NUMBER, end);
+
+        if (la(end) == '%') {
+            candidate(PERCENTAGE, end + 1);
+            return;
+        }
+
+        final int identEnd = ident(end);
+        if (identEnd < 0) {
+            return;
+        }
+        candidate(DIMENSION, identEnd);
+
+        for (int i = 0; i < UNITS.length; i++) {
+            final int unitEnd = letters(end, UNITS[i]);
+            if (unitEnd > 0) {
+                candidate(UNIT_KINDS[i], unitEnd);
+            }
+        }
+        if (matchesIgnoreCase(end, "dpi")) {
+            candidate(RESOLUTION_DPI, end + 3);
+        }
+        if (matchesIgnoreCase(end, "dpcm")) {
+            candidate(RESOLUTION_DPCM, end + 4);
+        }
+    }
+
+    /**
+     * Identifiers, keywords, functions, urls and unicode ranges.
+     */
+    private void matchIdentifier() {
+        final int end = ident(0);
+        if (end > 0) {
+            candidate(IDENT, end);
+            if (matchesIgnoreCase(0, "and")) {
+                candidate(AND, 3);
+            }
+            else if (matchesIgnoreCase(0, "not")) {
+                candidate(NOT, 3);
+            }
+            else if (matchesIgnoreCase(0, "only")) {
+                candidate(ONLY, 4);
+            }
+            else if (matchesIgnoreCase(0, "inherit")) {
+                candidate(INHERIT, 7);
+            }
+            else if (matchesIgnoreCase(0, "progid:")) {
+                candidate(PROGID, 7);
+            }
+
+            if (la(end) == '(') {
+                candidate(FUNCTION, end + 1);
+
+                final int notEnd = letters(0, "not");
+                if (notEnd > 0 && la(notEnd) == '(') {
+                    candidate(FUNCTION_NOT, notEnd + 1);
+                }
+                final int langEnd = letters(0, "lang");
+                if (langEnd > 0 && la(langEnd) == '(') {
+                    candidate(FUNCTION_LANG, langEnd + 1);
+                }
+            }
+        }
+
+        final int first = la(0);
+        if (first == 'u' || first == 'U') {
+            if (la(1) == '+') {
+                matchUnicodeRange();
+            }
+            else if (matchesIgnoreCase(1, "rl(")) {
+                matchUri();
+            }
+        }
+    }
+
+    private void matchUnicodeRange() {
+        final int end = hexOrPlaceholders(2);
+        if (end > 2) {
+            candidate(UNICODE_RANGE, end);
+            if (la(end) == '-') {
+                final int rangeEnd = hexOrPlaceholders(end + 1);
+                if (rangeEnd > end + 1) {
+                    candidate(UNICODE_RANGE, rangeEnd);
+                }
+            }
+        }
+    }
+
+    private int hexOrPlaceholders(final int start) {
+        int end = start;
+        while (end - start < 6 && (isHex(la(end)) || la(end) == '?')) {
+            end++;
+        }
+        return end;
+    }
+
+    /**
+     * "url(" w (string | url) w ")".
+     */
+    private void matchUri() {
+        int end = 4;
+        while (isWhitespace(la(end))) {
+            end++;
+        }
+
+        final int c = la(end);
+        if (c == '"' || c == '\'') {
+            end = string(end);
+            if (end < 0) {
+                return;
+            }
+        }
+        else {
+            end = urlChars(end);
+        }
+
+        while (isWhitespace(la(end))) {
+            end++;
+        }
+        if (la(end) == ')') {
+            candidate(URI, end + 1);
+        }
+    }
+
+    private void matchAtKeyword() {
+        final int end = ident(1);
+        if (end < 0) {
+            return;
+        }
+        candidate(ATKEYWORD, end);
+
+        for (int i = 0; i < AT_RULES.length; i++) {
+            final int ruleEnd = letters(1, AT_RULES[i]);
+            if (ruleEnd > 0) {
+                candidate(AT_RULE_KINDS[i], ruleEnd);
+            }
+        }
+
+        final int fontEnd = letters(1, "font");
+        if (fontEnd > 0 && la(fontEnd) == '-') {
+            final int faceEnd = letters(fontEnd + 1, "face");
+            if (faceEnd > 0) {
+                candidate(FONT_FACE_SYM, faceEnd);
+            }
+        }
+    }
+
+    /**
+     * "!" (w | comment)* important.
+     */
+    private void matchImportant() {
+        int pos = 1;
+        for ( ; ;) {
+            final int c = la(pos);
+            if (isWhitespace(c)) {
+                pos++;
+            }
+            else if (c == '/' && la(pos + 1) == '*') {
+                final int commentEnd = commentEnd(pos + 2);
+                if (commentEnd < 0) {
+                    return;
+                }
+                pos = commentEnd;
+            }
+            else {
+                break;
+            }
+        }
+
+        final int end = letters(pos, "important");
+        if (end > 0) {
+            candidate(IMPORTANT_SYM, end);
+        }
+    }
+
+    /**
+     * @param start the position after the opening "/*"
+     * @return the position after the closing "*&#47;" or -1
+     */
+    private int commentEnd(final int start) {
+        int pos = start;
+        for ( ; ;) {
+            final int c = la(pos);
+            if (c < 0) {
+                return -1;
+            }
+            pos++;
+            if (c == '*' && la(pos) == '/') {
+                return pos + 1;
+            }
+        }
+    }
+
+    /**
+     * Comments are skipped without reading them into the lookahead buffer.
+     */
+    private void skipComment() {
+        int previous = 0;
+        int c = '*';
+        for ( ; ;) {
+            final int current = c;
+            try {
+                c = input_stream.readChar();
+            }
+            catch (final IOException e) {
+                int errorLine = input_stream.getEndLine();
+                int errorColumn = input_stream.getEndColumn();
+                if (current == '\n' || current == '\r') {
+                    errorLine++;
+                    errorColumn = 0;
+                }
+                else {
+                    errorColumn++;
+                }
+                throw new TokenMgrError(true, COMMENT, errorLine, errorColumn, "", current,
+                        TokenMgrError.LEXICAL_ERROR);
+            }
+            if (previous == '*' && c == '/') {
+                return;
+            }
+            previous = c;
+        }
+    }
+
+    /**
+     * @param start the position of the quote
+     * @return the position after the closing quote or -1
+     */
+    private int string(final int start) {
+        final int quote = la(start);
+        int pos = start + 1;
+        for ( ; ;) {
+            final int c = la(pos);
+            if (c == quote) {
+                return pos + 1;
+            }
+            if (c < 0 || c == '\n' || c == '\r' || c == '\f') {
+                return -1;
+            }
+            if (c == '\\') {
+                final int next = la(pos + 1);
+                if (next == '\n' || next == '\f') {
+                    pos += 2;
+                }
+                else if (next == '\r') {
+                    pos += la(pos + 2) == '\n' ? 3 : 2;
+                }
+                else {
+                    pos = escape(pos);
+                    if (pos < 0) {
+                        return -1;
+                    }
+                }
+            }
+            else {
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * @param start the start position
+     * @return the end of the identifier starting at the given position or -1
+     */
+    private int ident(final int start) {
+        int pos = start;
+        if (la(pos) == '-') {
+            pos++;
+        }
+
+        final int c = la(pos);
+        if (isNameStart(c)) {
+            pos++;
+        }
+        else if (c == '\\') {
+            pos = escape(pos);
+            if (pos < 0) {
+                return -1;
+            }
+        }
+        else {
+            return -1;
+        }
+        return nameChars(pos);
+    }
+
+    private int nameChars(final int start) {
+        int pos = start;
+        for ( ; ;) {
+            final int c = la(pos);
+            if (isNameChar(c)) {
+                pos++;
+            }
+            else if (c == '\\') {
+                final int end = escape(pos);
+                if (end < 0) {
+                    return pos;
+                }
+                pos = end;
+            }
+            else {
+                return pos;
+            }
+        }
+    }
+
+    private int urlChars(final int start) {
+        int pos = start;
+        for ( ; ;) {
+            final int c = la(pos);
+            if (isUrlChar(c)) {
+                pos++;
+            }
+            else if (c == '\\') {
+                final int end = escape(pos);
+                if (end < 0) {
+                    return pos;
+                }
+                pos = end;
+            }
+            else {
+                return pos;
+            }
+        }
+    }
+
+    /**
+     * unicode: \\{h}{1,6}(\r\n|[ \t\r\n\f])?; escape: {unicode}|\\[^\r\n\f0-9a-f].
+     * @param start the position of the backslash
+     * @return the end of the escape or -1
+     */
+    private int escape(final int start) {
+        final int c = la(start + 1);
+        if (isHex(c)) {
+            int pos = start + 2;
+            while (pos - start < 7 && isHex(la(pos))) {
+                pos++;
+            }
+            return optionalWhitespace(pos);
+        }
+        if (c < 0 || c == '\r' || c == '\n' || c == '\f') {
+            return -1;
+        }
+        return start + 2;
+    }
+
+    private int optionalWhitespace(final int pos) {
+        final int c = la(pos);
+        if (c == '\r' && la(pos + 1) == '\n') {
+            return pos + 2;
+        }
+        if (isWhitespace(c)) {
+            return pos + 1;
+        }
+        return pos;
+    }
+
+    /**
+     * Matches a sequence of letters; every letter can be written as escape.
+     * @param start the start position
+     * @param letters the lower case letters
+     * @return the end of the match or -1
+     */
+    private int letters(final int start, final String letters) {
+        int pos = start;
+        for (int i = 0; i < letters.length(); i++) {
+            pos = letter(pos, letters.charAt(i));
+            if (pos < 0) {
+                return -1;
+            }
+        }
+        return pos;
+    }
+
+    /**
+     * A letter like {E}: e|\\0{0,4}(45|65)(\r\n|[ \t\r\n\f])?; letters that are
+     * no hex digits can also be written as backslash followed by the letter.
+     */
+    private int letter(final int pos, final char letter) {
+        final int c = la(pos);
+        if (toLowerCase(c) == letter) {
+            return pos + 1;
+        }
+        if (c != '\\') {
+            return -1;
+        }
+
+        int hexStart = pos + 1;
+        while (hexStart - pos < 5 && la(hexStart) == '0') {
+            hexStart++;
+        }
+        final int high = la(hexStart);
+        final int low = la(hexStart + 1);
+        if (isHex(high) && isHex(low)) {
+            final int code = Character.digit(high, 16) * 16 + Character.digit(low, 16);
+            // the grammar uses 51/71 for the 'o'
+            final int upper = letter == 'o' ? 0x51 : letter - 0x20;
+            if (code == upper || code == upper + 0x20) {
+                return optionalWhitespace(hexStart + 2);
+            }
+        }
+
+        if (letter > 'f' && hexStart == pos + 1 && toLowerCase(la(pos + 1)) == letter) {
+            return pos + 2;
+        }
+        return -1;
+    }
+
+    private boolean matchesIgnoreCase(final int start, final String literal) {
+        for (int i = 0; i < literal.length(); i++) {
+            if (toLowerCase(la(start + i)) != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @param pos the position relative to the start of the token
+     * @return the char at the given position or -1 at the end of the input
+     */
+    private int la(final int pos) {
+        while (pos >= lookaheadCount_) {
+            if (eof_) {
+                return -1;
+            }
+            try {
+                final char c = input_stream.readChar();
+                if (lookaheadCount_ == lookahead_.length) {
+                    final char[] larger = new char[lookahead_.length * 2];
+                    System.arraycopy(lookahead_, 0, larger, 0, lookaheadCount_);
+                    lookahead_ = larger;
+                }
+                lookahead_[lookaheadCount_++] = c;
+            }
+            catch (final IOException e) {
+                eof_ = true;
+                return -1;
+            }
+        }
+        return lookahead_[pos];
+    }
+
+    private Token fillToken() {
+        final int kind = kind_;
+        final String literal = jjstrLiteralImages[kind];
+
+        final Token t = newToken(kind);
+        t.kind = kind;
+        t.image = literal == null ? input_stream.GetImage() : literal;
+        t.beginLine = input_stream.getBeginLine();
+        t.beginColumn = input_stream.getBeginColumn();
+        t.endLine = input_stream.getEndLine();
+        t.endColumn = input_stream.getEndColumn();
+
+        if (kind == STRING) {
+            eofImage_ = t.image;
+            t.image = t.image.substring(1, t.image.length() - 1);
+        }
+        else if (kind == URI) {
+            eofImage_ = t.image;
+            uri_.setLength(0);
+            uri_.append(t.image);
+            t.image = ParserUtils.trimUrl(uri_);
+        }
+
+        CommonTokenAction(t);
+        return t;
+    }
+
+    private static int kindOf(final String image) {
+        for (int i = 0; i < tokenImage.length; i++) {
+            if (image.equals(tokenImage[i])) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Unknown token " + image);
+    }
+
+    private static int toLowerCase(final int c) {
+        if (c >= 'A' && c <= 'Z') {
+            return c + ('a' - 'A');
+        }
+        return c;
+    }
+
+    private static boolean isWhitespace(final int c) {
+        return c >= 0 && c < 128 && (CHAR_CLASSES[c] & WHITESPACE) != 0;
+    }
+
+    private static boolean isDigit(final int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isHex(final int c) {
+        return c >= 0 && c < 128 && (CHAR_CLASSES[c] & HEX) != 0;
+    }
+
+    private static boolean isNameStart(final int c) {
+        return c >= 128 || (c >= 0 && (CHAR_CLASSES[c] & NAME_START) != 0);
+    }
+
+    private static boolean isNameChar(final int c) {
+        return c >= 128 || (c >= 0 && (CHAR_CLASSES[c] & NAME_CHAR) != 0);
+    }
+
+    private static boolean isUrlChar(final int c) {
+        return c >= 128 || (c >= 0 && (CHAR_CLASSES[c] & URL_CHAR) != 0);
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.javacc;
+
+/**
+ * Token for numbers, percentages and dimensions. The numeric value is calculated
+ * by the token manager in one pass over the image; the image is the complete
+ * matched text, {@link #getNumberLength()} marks the end of the number.
+ *
+ * @author Ronald Brill
+ */
+public class NumericToken extends Token {
+
+    /** All long values up to this are exact doubles. */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    /** Powers of ten that are exact doubles. */
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private double doubleValue_;
+    private boolean integer_;
+    private int numberLength_;
+
+    /**
+     * Ctor.
+     * @param kind the kind
+     * @param image the image
+     */
+    public NumericToken(final int kind, final String image) {
+        super(kind, image);
+    }
+
+    /**
+     * @param kind the token kind
+     * @return true if tokens of this kind are numeric tokens
+     */
+    public static boolean isNumericKind(final int kind) {
+        switch (kind) {
+            case CSS3ParserConstants.NUMBER:
+            case CSS3ParserConstants.PERCENTAGE:
+            case CSS3ParserConstants.LENGTH_PX:
+            case CSS3ParserConstants.LENGTH_CM:
+            case CSS3ParserConstants.LENGTH_MM:
+            case CSS3ParserConstants.LENGTH_IN:
+            case CSS3ParserConstants.LENGTH_PT:
+            case CSS3ParserConstants.LENGTH_PC:
+            case CSS3ParserConstants.EMS:
+            case CSS3ParserConstants.REM:
+            case CSS3ParserConstants.EXS:
+            case CSS3ParserConstants.ANGLE_DEG:
+            case CSS3ParserConstants.ANGLE_RAD:
+            case CSS3ParserConstants.ANGLE_GRAD:
+            case CSS3ParserConstants.TIME_MS:
+            case CSS3ParserConstants.TIME_S:
+            case CSS3ParserConstants.FREQ_HZ:
+            case CSS3ParserConstants.FREQ_KHZ:
+            case CSS3ParserConstants.RESOLUTION_DPI:
+            case CSS3ParserConstants.RESOLUTION_DPCM:
+            case CSS3ParserConstants.DIMENSION:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * @return the value of the number
+     */
+    public double getDoubleValue() {
+        return doubleValue_;
+    }
+
+    /**
+     * @return the value of the number; only valid if {@link #isInteger()} is true
+     */
+    public int getIntValue() {
+        return (int) doubleValue_;
+    }
+
+    /**
+     * @return true if the number has no fraction and fits into an int
+     */
+    public boolean isInteger() {
+        return integer_;
+    }
+
+    /**
+     * @return the length of the number at the start of the image
+     */
+    public int getNumberLength() {
+        return numberLength_;
+    }
+
+    /**
+     * @return the unit of a dimension token (the part of the image after the number)
+     */
+    public String getDimensionUnit() {
+        return image.substring(numberLength_);
+    }
+
+    /**
+     * Calculates the value and the length of the number from the image.
+     * Called by the token manager for every numeric token.
+     */
+    void parseImage() {
+        final String s = image;
+        final int length = s.length();
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        int i = 0;
+        for ( ; i < length; i++) {
+            final char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                // only the first 18 digits are used; longer numbers are parsed below
+                if (digits < 18) {
+                    mantissa = mantissa * 10 + (c - '0');
+                }
+                digits++;
+                if (fractionDigits > -1) {
+                    fractionDigits++;
+                }
+            }
+            else if (c == '.' && fractionDigits == -1) {
+                fractionDigits = 0;
+            }
+            else {
+                break;
+            }
+        }
+        numberLength_ = i;
+
+        if (digits <= 18 && mantissa <= MAX_EXACT_MANTISSA && fractionDigits < POWERS_OF_TEN.length) {
+            // exact operands; the division is correctly rounded like Double.parseDouble()
+            doubleValue_ = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+        }
+        else {
+            doubleValue_ = Double.parseDouble(s.substring(0, i));
+        }
+        integer_ = fractionDigits == -1 && doubleValue_ <= Integer.MAX_VALUE;
+    }
+}
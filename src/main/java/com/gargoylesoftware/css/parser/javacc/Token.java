@@ -117,10 +117,11 @@ public String toString()
    */
   public static Token newToken(int ofKind, String image)
   {
-    switch(ofKind)
+    if (NumericToken.isNumericKind(ofKind))
     {
-      default : return new Token(ofKind, image);
+      return new NumericToken(ofKind, image);
     }
+    return new Token(ofKind, image);
   }
 
   public static Token newToken(int ofKind)
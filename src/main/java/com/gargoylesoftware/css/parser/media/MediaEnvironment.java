@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.media;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The properties of the device used to evaluate media queries.
+ *
+ * <p>Every modification increments the {@link #getVersion() version}; this
+ * allows users like the {@link MediaQueryEvaluator} to cache results.</p>
+ *
+ * @author Ronald Brill
+ */
+public class MediaEnvironment {
+
+    private String mediaType_;
+    private double width_;
+    private double height_;
+    private double deviceWidth_;
+    private double deviceHeight_;
+    private double resolution_ = 1;
+    private int color_ = 8;
+    private int colorIndex_;
+    private int monochrome_;
+    private boolean grid_;
+    private double fontSize_ = 16;
+    private final Map<String, String> features_ = new HashMap<>();
+    private long version_;
+
+    /**
+     * Ctor.
+     * @param mediaType the media type (e.g. screen or print)
+     * @param width the width of the viewport in px
+     * @param height the height of the viewport in px
+     */
+    public MediaEnvironment(final String mediaType, final double width, final double height) {
+        mediaType_ = mediaType.toLowerCase(Locale.ROOT);
+        width_ = width;
+        height_ = height;
+        deviceWidth_ = width;
+        deviceHeight_ = height;
+
+        features_.put("prefers-color-scheme", "light");
+        features_.put("prefers-reduced-motion", "no-preference");
+        features_.put("prefers-reduced-transparency", "no-preference");
+        features_.put("prefers-contrast", "no-preference");
+        features_.put("forced-colors", "none");
+        features_.put("hover", "hover");
+        features_.put("any-hover", "hover");
+        features_.put("pointer", "fine");
+        features_.put("any-pointer", "fine");
+        features_.put("scan", "progressive");
+        features_.put("update", "fast");
+    }
+
+    /**
+     * @return the version; changes with every modification
+     */
+    public long getVersion() {
+        return version_;
+    }
+
+    /**
+     * @return the media type (lowercase)
+     */
+    public String getMediaType() {
+        return mediaType_;
+    }
+
+    /**
+     * @param mediaType the new media type
+     */
+    public void setMediaType(final String mediaType) {
+        mediaType_ = mediaType.toLowerCase(Locale.ROOT);
+        version_++;
+    }
+
+    /**
+     * @return the width of the viewport in px
+     */
+    public double getWidth() {
+        return width_;
+    }
+
+    /**
+     * @param width the new width of the viewport in px
+     */
+    public void setWidth(final double width) {
+        width_ = width;
+        version_++;
+    }
+
+    /**
+     * @return the height of the viewport in px
+     */
+    public double getHeight() {
+        return height_;
+    }
+
+    /**
+     * @param height the new height of the viewport in px
+     */
+    public void setHeight(final double height) {
+        height_ = height;
+        version_++;
+    }
+
+    /**
+     * @return the width of the device in px
+     */
+    public double getDeviceWidth() {
+        return deviceWidth_;
+    }
+
+    /**
+     * @param deviceWidth the new width of the device in px
+     */
+    public void setDeviceWidth(final double deviceWidth) {
+        deviceWidth_ = deviceWidth;
+        version_++;
+    }
+
+    /**
+     * @return the height of the device in px
+     */
+    public double getDeviceHeight() {
+        return deviceHeight_;
+    }
+
+    /**
+     * @param deviceHeight the new height of the device in px
+     */
+    public void setDeviceHeight(final double deviceHeight) {
+        deviceHeight_ = deviceHeight;
+        version_++;
+    }
+
+    /**
+     * @return the resolution in dppx
+     */
+    public double getResolution() {
+        return resolution_;
+    }
+
+    /**
+     * @param resolution the new resolution in dppx
+     */
+    public void setResolution(final double resolution) {
+        resolution_ = resolution;
+        version_++;
+    }
+
+    /**
+     * @return the number of bits per color component; 0 for monochrome devices
+     */
+    public int getColor() {
+        return color_;
+    }
+
+    /**
+     * @param color the new number of bits per color component
+     */
+    public void setColor(final int color) {
+        color_ = color;
+        version_++;
+    }
+
+    /**
+     * @return the number of entries in the color lookup table
+     */
+    public int getColorIndex() {
+        return colorIndex_;
+    }
+
+    /**
+     * @param colorIndex the new number of entries in the color lookup table
+     */
+    public void setColorIndex(final int colorIndex) {
+        colorIndex_ = colorIndex;
+        version_++;
+    }
+
+    /**
+     * @return the number of bits per pixel of a monochrome device; 0 for color devices
+     */
+    public int getMonochrome() {
+        return monochrome_;
+    }
+
+    /**
+     * @param monochrome the new number of bits per pixel of a monochrome device
+     */
+    public void setMonochrome(final int monochrome) {
+        monochrome_ = monochrome;
+        version_++;
+    }
+
+    /**
+     * @return true if this is a grid device
+     */
+    public boolean isGrid() {
+        return grid_;
+    }
+
+    /**
+     * @param grid the new grid flag
+     */
+    public void setGrid(final boolean grid) {
+        grid_ = grid;
+        version_++;
+    }
+
+    /**
+     * @return the initial font size in px; used for em and rem values
+     */
+    public double getFontSize() {
+        return fontSize_;
+    }
+
+    /**
+     * @param fontSize the new initial font size in px
+     */
+    public void setFontSize(final double fontSize) {
+        fontSize_ = fontSize;
+        version_++;
+    }
+
+    /**
+     * @return the orientation of the viewport (portrait or landscape)
+     */
+    public String getOrientation() {
+        return height_ >= width_ ? "portrait" : "landscape";
+    }
+
+    /**
+     * @param name the (lowercase) name of a media feature having a keyword value
+     *        like prefers-color-scheme or pointer
+     * @return the value or null if the feature is not supported
+     */
+    public String getFeature(final String name) {
+        return features_.get(name);
+    }
+
+    /**
+     * Sets the value of a media feature having a keyword value
+     * like prefers-color-scheme or pointer.
+     * @param name the name of the feature
+     * @param value the new value or null to remove the support for this feature
+     */
+    public void setFeature(final String name, final String value) {
+        final String key = name.toLowerCase(Locale.ROOT);
+        if (value == null) {
+            features_.remove(key);
+        }
+        else {
+            features_.put(key, value.toLowerCase(Locale.ROOT));
+        }
+        version_++;
+    }
+}
@@ -16,6 +16,7 @@
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import com.gargoylesoftware.css.dom.Property;
@@ -32,6 +33,11 @@ public class MediaQuery extends AbstractLocatable implements Serializable {
     private boolean isOnly_;
     private boolean isNot_;
 
+    // set for the shared instances created by the MediaQueryListInterner
+    private transient boolean immutable_;
+    // the cached result of toString() of an immutable instance
+    private transient String text_;
+
     /**
      * Ctor.
      * @param media the media string
@@ -64,6 +70,9 @@ public String getMedia() {
      * @return the list of properties
      */
     public List<Property> getProperties() {
+        if (immutable_) {
+            return Collections.unmodifiableList(properties_);
+        }
         return properties_;
     }
 
@@ -72,9 +81,26 @@ public List<Property> getProperties() {
      * @param mp the property to add
      */
     public void addMediaProperty(final Property mp) {
+        if (immutable_) {
+            throw new UnsupportedOperationException("The media query is shared and can't be modified.");
+        }
         properties_.add(mp);
     }
 
+    /**
+     * @return true if this is a shared media query that can't be modified
+     */
+    public boolean isImmutable() {
+        return immutable_;
+    }
+
+    /**
+     * Marks this media query as shared.
+     */
+    void setImmutable() {
+        immutable_ = true;
+    }
+
     /**
      * @return the is only flag
      */
@@ -89,8 +115,36 @@ public boolean isNot() {
         return isNot_;
     }
 
+    /**
+     * Immutable queries are equal if they have the same text; mutable queries
+     * are only equal to themselves because their text can change.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MediaQuery)) {
+            return false;
+        }
+        final MediaQuery other = (MediaQuery) obj;
+        return immutable_ && other.immutable_ && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        if (immutable_) {
+            return toString().hashCode();
+        }
+        return System.identityHashCode(this);
+    }
+
     @Override
     public String toString() {
+        if (text_ != null) {
+            return text_;
+        }
+
         final StringBuilder sb = new StringBuilder();
 
         if (isOnly_) {
@@ -107,6 +161,10 @@ public String toString() {
                 .append(prop.toString())
                 .append(')');
         }
-        return sb.toString();
+        final String text = sb.toString();
+        if (immutable_) {
+            text_ = text;
+        }
+        return text;
     }
 }
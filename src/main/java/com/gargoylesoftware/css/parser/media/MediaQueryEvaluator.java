@@ -0,0 +1,340 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.media;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.gargoylesoftware.css.dom.CSSValueImpl;
+import com.gargoylesoftware.css.dom.MediaListImpl;
+import com.gargoylesoftware.css.dom.Property;
+import com.gargoylesoftware.css.parser.LexicalUnit;
+import com.gargoylesoftware.css.parser.LexicalUnit.LexicalUnitType;
+
+/**
+ * Evaluates media queries against a {@link MediaEnvironment}.
+ *
+ * <p>The results for media lists are cached as long as the version of the
+ * environment does not change. The key is the immutable
+ * {@link MediaListImpl#getMediaQueryList() media query list} of a media list,
+ * therefore all lists with the same queries share one entry and modified lists
+ * are evaluated again. The least recently used results are removed if the
+ * cache is full.</p>
+ *
+ * @author Ronald Brill
+ */
+public class MediaQueryEvaluator {
+
+    private static final double PX_PER_INCH = 96;
+    private static final int MAX_CACHE_SIZE = 256;
+
+    private final MediaEnvironment environment_;
+    private final Map<MediaQueryList, Boolean> cache_;
+    private long cacheVersion_;
+
+    /**
+     * Ctor.
+     * @param environment the environment
+     */
+    public MediaQueryEvaluator(final MediaEnvironment environment) {
+        environment_ = environment;
+        cacheVersion_ = environment.getVersion();
+        cache_ = new LinkedHashMap<MediaQueryList, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<MediaQueryList, Boolean> eldest) {
+                return size() > MAX_CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * @return the environment
+     */
+    public MediaEnvironment getEnvironment() {
+        return environment_;
+    }
+
+    /**
+     * Removes all cached results.
+     */
+    public void clearCache() {
+        cache_.clear();
+    }
+
+    /**
+     * @param mediaList the media list
+     * @return true if the list is empty or at least one of the queries matches
+     */
+    public boolean matches(final MediaListImpl mediaList) {
+        if (mediaList == null || mediaList.getLength() == 0) {
+            return true;
+        }
+
+        final long version = environment_.getVersion();
+        if (cacheVersion_ != version) {
+            cache_.clear();
+            cacheVersion_ = version;
+        }
+
+        final MediaQueryList mediaQueryList = mediaList.getMediaQueryList();
+        final Boolean cached = cache_.get(mediaQueryList);
+        if (cached != null) {
+            return cached.booleanValue();
+        }
+
+        boolean result = false;
+        final List<MediaQuery> mediaQueries = mediaQueryList.getMediaQueries();
+        for (int i = 0; i < mediaQueries.size(); i++) {
+            if (matches(mediaQueries.get(i))) {
+                result = true;
+                break;
+            }
+        }
+        cache_.put(mediaQueryList, Boolean.valueOf(result));
+        return result;
+    }
+
+    /**
+     * @param mediaQuery the media query
+     * @return true if the query matches; not cached
+     */
+    public boolean matches(final MediaQuery mediaQuery) {
+        boolean result = matchesMediaType(mediaQuery.getMedia());
+        final List<Property> properties = mediaQuery.getProperties();
+        for (int i = 0; i < properties.size(); i++) {
+            final Boolean match = matchesFeature(properties.get(i));
+            if (match == null) {
+                // unknown or invalid features make the whole query 'not all'
+                return false;
+            }
+            result &= match.booleanValue();
+        }
+        return mediaQuery.isNot() ? !result : result;
+    }
+
+    private boolean matchesMediaType(final String media) {
+        return media == null
+                || "all".equalsIgnoreCase(media)
+                || environment_.getMediaType().equalsIgnoreCase(media);
+    }
+
+    /**
+     * @return the result or null if the feature is unknown or the value is invalid
+     */
+    private Boolean matchesFeature(final Property property) {
+        String name = property.getName().toLowerCase(Locale.ROOT);
+        int range = 0;
+        if (name.startsWith("min-")) {
+            range = 1;
+            name = name.substring(4);
+        }
+        else if (name.startsWith("max-")) {
+            range = -1;
+            name = name.substring(4);
+        }
+
+        final CSSValueImpl value = property.getValue();
+        if (range != 0 && value == null) {
+            return null;
+        }
+
+        final double actual;
+        final double expected;
+        switch (name) {
+            case "width":
+                actual = environment_.getWidth();
+                expected = value == null ? Double.NaN : toPx(lexicalUnit(value));
+                break;
+            case "height":
+                actual = environment_.getHeight();
+                expected = value == null ? Double.NaN : toPx(lexicalUnit(value));
+                break;
+            case "device-width":
+                actual = environment_.getDeviceWidth();
+                expected = value == null ? Double.NaN : toPx(lexicalUnit(value));
+                break;
+            case "device-height":
+                actual = environment_.getDeviceHeight();
+                expected = value == null ? Double.NaN : toPx(lexicalUnit(value));
+                break;
+            case "aspect-ratio":
+                actual = environment_.getWidth() / environment_.getHeight();
+                expected = value == null ? Double.NaN : toRatio(value);
+                break;
+            case "device-aspect-ratio":
+                actual = environment_.getDeviceWidth() / environment_.getDeviceHeight();
+                expected = value == null ? Double.NaN : toRatio(value);
+                break;
+            case "resolution":
+                actual = environment_.getResolution();
+                expected = value == null ? Double.NaN : toDppx(lexicalUnit(value));
+                break;
+            case "color":
+                actual = environment_.getColor();
+                expected = value == null ? Double.NaN : toInteger(lexicalUnit(value));
+                break;
+            case "color-index":
+                actual = environment_.getColorIndex();
+                expected = value == null ? Double.NaN : toInteger(lexicalUnit(value));
+                break;
+            case "monochrome":
+                actual = environment_.getMonochrome();
+                expected = value == null ? Double.NaN : toInteger(lexicalUnit(value));
+                break;
+            case "grid":
+                if (range != 0) {
+                    return null;
+                }
+                actual = environment_.isGrid() ? 1 : 0;
+                expected = value == null ? Double.NaN : toInteger(lexicalUnit(value));
+                break;
+            case "orientation":
+                if (range != 0) {
+                    return null;
+                }
+                return matchesKeyword(environment_.getOrientation(), value);
+            default:
+                if (range != 0) {
+                    return null;
+                }
+                final String feature = environment_.getFeature(name);
+                if (feature == null) {
+                    return null;
+                }
+                return matchesKeyword(feature, value);
+        }
+
+        if (value == null) {
+            // boolean context
+            return Boolean.valueOf(actual != 0);
+        }
+        if (Double.isNaN(expected)) {
+            return null;
+        }
+        if (range > 0) {
+            return Boolean.valueOf(actual >= expected);
+        }
+        if (range < 0) {
+            return Boolean.valueOf(actual <= expected);
+        }
+        return Boolean.valueOf(actual == expected);
+    }
+
+    private static Boolean matchesKeyword(final String actual, final CSSValueImpl value) {
+        if (value == null) {
+            // boolean context
+            return Boolean.valueOf(!"none".equals(actual) && !"no-preference".equals(actual));
+        }
+        final LexicalUnit lu = lexicalUnit(value);
+        if (lu == null || lu.getLexicalUnitType() != LexicalUnitType.IDENT) {
+            return null;
+        }
+        return Boolean.valueOf(actual.equalsIgnoreCase(lu.getStringValue()));
+    }
+
+    private static LexicalUnit lexicalUnit(final CSSValueImpl value) {
+        final Object lu = value.getValue();
+        if (lu instanceof LexicalUnit) {
+            return (LexicalUnit) lu;
+        }
+        return null;
+    }
+
+    private double toPx(final LexicalUnit lu) {
+        if (lu == null) {
+            return Double.NaN;
+        }
+        final double value = lu.getDoubleValue();
+        switch (lu.getLexicalUnitType()) {
+            case PIXEL:
+                return value;
+            case EM:
+            case REM:
+                return value * environment_.getFontSize();
+            case EX:
+                return value * environment_.getFontSize() / 2;
+            case INCH:
+                return value * PX_PER_INCH;
+            case CENTIMETER:
+                return value * PX_PER_INCH / 2.54;
+            case MILLIMETER:
+                return value * PX_PER_INCH / 25.4;
+            case POINT:
+                return value * PX_PER_INCH / 72;
+            case PICA:
+                return value * PX_PER_INCH / 6;
+            case INTEGER:
+                return lu.getIntegerValue() == 0 ? 0 : Double.NaN;
+            default:
+                return Double.NaN;
+        }
+    }
+
+    private static double toDppx(final LexicalUnit lu) {
+        if (lu == null || lu.getLexicalUnitType() != LexicalUnitType.DIMENSION) {
+            return Double.NaN;
+        }
+        final double value = lu.getDoubleValue();
+        final String unit = lu.getDimensionUnitText().toLowerCase(Locale.ROOT);
+        switch (unit) {
+            case "dppx":
+            case "x":
+                return value;
+            case "dpi":
+                return value / PX_PER_INCH;
+            case "dpcm":
+                return value * 2.54 / PX_PER_INCH;
+            default:
+                return Double.NaN;
+        }
+    }
+
+    private static double toInteger(final LexicalUnit lu) {
+        if (lu == null || lu.getLexicalUnitType() != LexicalUnitType.INTEGER) {
+            return Double.NaN;
+        }
+        return lu.getIntegerValue();
+    }
+
+    private static double toRatio(final CSSValueImpl value) {
+        // a single number or number / number
+        if (value.getLength() == 0) {
+            return toNumber(lexicalUnit(value));
+        }
+        if (value.getLength() != 3) {
+            return Double.NaN;
+        }
+        final LexicalUnit slash = lexicalUnit(value.item(1));
+        if (slash == null || slash.getLexicalUnitType() != LexicalUnitType.OPERATOR_SLASH) {
+            return Double.NaN;
+        }
+        return toNumber(lexicalUnit(value.item(0))) / toNumber(lexicalUnit(value.item(2)));
+    }
+
+    private static double toNumber(final LexicalUnit lu) {
+        if (lu == null) {
+            return Double.NaN;
+        }
+        if (lu.getLexicalUnitType() == LexicalUnitType.INTEGER) {
+            return lu.getIntegerValue();
+        }
+        if (lu.getLexicalUnitType() == LexicalUnitType.REAL) {
+            return lu.getDoubleValue();
+        }
+        return Double.NaN;
+    }
+}
@@ -15,8 +15,10 @@
 package com.gargoylesoftware.css.parser.media;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import com.gargoylesoftware.css.dom.Property;
 import com.gargoylesoftware.css.parser.AbstractLocatable;
 
 /**
@@ -27,6 +29,9 @@
 public class MediaQueryList extends AbstractLocatable {
 
     private final List<MediaQuery> mediaQueries_;
+    private boolean immutable_;
+    // the cached text of an immutable list
+    private String text_;
 
     /**
      * Ctor.
@@ -46,6 +51,9 @@ public int getLength() {
      * @return the list of media queries
      */
     public List<MediaQuery> getMediaQueries() {
+        if (immutable_) {
+            return Collections.unmodifiableList(mediaQueries_);
+        }
         return mediaQueries_;
     }
 
@@ -54,9 +62,98 @@ public List<MediaQuery> getMediaQueries() {
      * @param mediaQuery the media query to add
      */
     public void add(final MediaQuery mediaQuery) {
+        if (immutable_) {
+            throw new UnsupportedOperationException("The media query list is shared and can't be modified.");
+        }
         mediaQueries_.add(mediaQuery);
     }
 
+    /**
+     * @return true if this is a shared list that can't be modified
+     */
+    public boolean isImmutable() {
+        return immutable_;
+    }
+
+    /**
+     * Marks this list and all the media queries as shared.
+     */
+    void setImmutable() {
+        for (MediaQuery mediaQuery : mediaQueries_) {
+            mediaQuery.setImmutable();
+        }
+        immutable_ = true;
+    }
+
+    /**
+     * @param mediaQueries the media queries
+     * @return a new immutable list containing copies of the given queries (immutable
+     *         queries are not copied)
+     */
+    public static MediaQueryList immutableCopyOf(final List<MediaQuery> mediaQueries) {
+        final MediaQueryList result = new MediaQueryList();
+        for (MediaQuery mediaQuery : mediaQueries) {
+            if (mediaQuery.isImmutable()) {
+                result.add(mediaQuery);
+                continue;
+            }
+            final MediaQuery copy = new MediaQuery(mediaQuery.getMedia(), mediaQuery.isOnly(), mediaQuery.isNot());
+            copy.setLocator(mediaQuery.getLocator());
+            for (Property property : mediaQuery.getProperties()) {
+                copy.addMediaProperty(property);
+            }
+            result.add(copy);
+        }
+        result.setImmutable();
+        return result;
+    }
+
+    /**
+     * @return the text of all media queries; cached for immutable lists
+     */
+    String getText() {
+        if (text_ != null) {
+            return text_;
+        }
+
+        final StringBuilder sb = new StringBuilder();
+        for (MediaQuery mediaQuery : mediaQueries_) {
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(mediaQuery.toString());
+        }
+        final String text = sb.toString();
+        if (immutable_) {
+            text_ = text;
+        }
+        return text;
+    }
+
+    /**
+     * Immutable lists are equal if they contain the same media queries; the locators
+     * are ignored. Mutable lists are only equal to themselves because they can change.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MediaQueryList)) {
+            return false;
+        }
+        final MediaQueryList other = (MediaQueryList) obj;
+        return immutable_ && other.immutable_ && getText().equals(other.getText());
+    }
+
+    @Override
+    public int hashCode() {
+        if (immutable_) {
+            return getText().hashCode();
+        }
+        return System.identityHashCode(this);
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
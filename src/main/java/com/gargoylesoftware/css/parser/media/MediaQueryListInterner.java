@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.media;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Creates canonical instances of media query lists.
+ *
+ * <p>Style sheets usually repeat the same few media queries many times. All equal
+ * lists (and all equal queries inside of them) are replaced by one shared immutable
+ * instance; the shared instances keep the locator of the first occurrence.
+ * This class is thread safe.</p>
+ *
+ * @author Ronald Brill
+ */
+public class MediaQueryListInterner {
+
+    // the keys are the texts because the parsed lists and queries are mutable
+    private final Map<String, MediaQueryList> lists_ = new ConcurrentHashMap<>();
+    private final Map<String, MediaQuery> queries_ = new ConcurrentHashMap<>();
+
+    /**
+     * @param mediaQueryList the list
+     * @return the canonical instance of the list; the given list must not be
+     *         modified afterwards because the queries might be shared
+     */
+    public MediaQueryList intern(final MediaQueryList mediaQueryList) {
+        final String key = mediaQueryList.getText();
+        final MediaQueryList existing = lists_.get(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        final MediaQueryList canonical = new MediaQueryList();
+        canonical.setLocator(mediaQueryList.getLocator());
+        for (MediaQuery mediaQuery : mediaQueryList.getMediaQueries()) {
+            canonical.add(intern(mediaQuery));
+        }
+        canonical.setImmutable();
+
+        final MediaQueryList raced = lists_.putIfAbsent(key, canonical);
+        if (raced != null) {
+            return raced;
+        }
+        return canonical;
+    }
+
+    private MediaQuery intern(final MediaQuery mediaQuery) {
+        final String key = mediaQuery.toString();
+        final MediaQuery existing = queries_.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        if (mediaQuery.isImmutable()) {
+            final MediaQuery raced = queries_.putIfAbsent(key, mediaQuery);
+            return raced == null ? mediaQuery : raced;
+        }
+
+        final MediaQuery canonical = new MediaQuery(mediaQuery.getMedia(), mediaQuery.isOnly(), mediaQuery.isNot());
+        canonical.setLocator(mediaQuery.getLocator());
+        canonical.getProperties().addAll(mediaQuery.getProperties());
+        canonical.setImmutable();
+
+        final MediaQuery raced = queries_.putIfAbsent(key, canonical);
+        return raced == null ? canonical : raced;
+    }
+
+    /**
+     * @return the number of distinct lists
+     */
+    public int size() {
+        return lists_.size();
+    }
+
+    /**
+     * Removes all canonical instances.
+     */
+    public void clear() {
+        lists_.clear();
+        queries_.clear();
+    }
+}
@@ -14,6 +14,8 @@
  */
 package com.gargoylesoftware.css.parser.selector;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 
 import com.gargoylesoftware.css.parser.AbstractLocatable;
@@ -25,12 +27,30 @@ public abstract class AbstractSelector extends AbstractLocatable implements Sele
 
 	private static final long serialVersionUID = 1L;
 	private SelectorSpecificity specificity_;
+    // not serialized; -1 until calculated
+    private transient int packedSpecificity_ = -1;
 
     @Override
     public SelectorSpecificity getSelectorSpecificity() {
         if (specificity_ == null) {
-            specificity_ = new SelectorSpecificity(this);
+            specificity_ = new SelectorSpecificity(getPackedSpecificity());
         }
         return specificity_;
     }
+
+    @Override
+    public int getPackedSpecificity() {
+        // int writes are atomic; in the worst case the value is calculated twice
+        int packed = packedSpecificity_;
+        if (packed < 0) {
+            packed = SelectorSpecificity.calculate(this);
+            packedSpecificity_ = packed;
+        }
+        return packed;
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        packedSpecificity_ = -1;
+    }
 }
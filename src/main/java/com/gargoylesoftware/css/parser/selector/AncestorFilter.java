@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.selector;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import com.gargoylesoftware.css.parser.condition.Condition;
+
+/**
+ * A counting bloom filter of the tag names, ids and classes of the
+ * ancestors of the element currently visited during a walk of the document
+ * tree.
+ *
+ * <p>The walker has to call {@link #pushElement(String, String, String[])}
+ * when entering an element and {@link #popElement()} when leaving it; if the
+ * filter is used to check the candidates for an element, the filter contains
+ * exactly the ancestors of this element.</p>
+ *
+ * <p>Every selector has a signature ({@link #getAncestorHashes(Selector)})
+ * made of the hashes of all tag names, ids and classes the ancestors of a
+ * matching element must have. If one of these hashes is not in the filter, the
+ * selector can't match and the expensive walk up the tree is not required.
+ * Because this is a bloom filter false positives are possible, false negatives
+ * are not.</p>
+ *
+ * <p>This class is not thread safe.</p>
+ *
+ * @author Ronald Brill
+ */
+public class AncestorFilter {
+
+    private static final int[] NO_HASHES = new int[0];
+
+    private static final int BITS = 12;
+    private static final int SIZE = 1 << BITS;
+    private static final int MASK = SIZE - 1;
+    private static final int MAX_COUNT = 0xFF;
+
+    private static final int TAG_SALT = 0x1F3D5B79;
+    private static final int ID_SALT = 0x2B7E1516;
+    private static final int CLASS_SALT = 0x5851F42D;
+
+    private final byte[] counters_ = new byte[SIZE];
+
+    // the hashes of all pushed elements
+    private int[] hashes_ = new int[64];
+    private int hashCount_;
+
+    // the number of hashes per pushed element
+    private int[] elementHashCounts_ = new int[16];
+    private int depth_;
+
+    /**
+     * Adds an element; has to be called when the walk enters the element.
+     * @param localName the local name of the element (case insensitive)
+     * @param id the id of the element or null
+     * @param classes the classes of the element or null
+     */
+    public void pushElement(final String localName, final String id, final String[] classes) {
+        final int start = hashCount_;
+        if (localName != null) {
+            addHash(hashTag(localName.toLowerCase(Locale.ROOT)));
+        }
+        if (id != null) {
+            addHash(hashId(id));
+        }
+        if (classes != null) {
+            for (String clazz : classes) {
+                if (clazz != null) {
+                    addHash(hashClass(clazz));
+                }
+            }
+        }
+
+        if (depth_ == elementHashCounts_.length) {
+            elementHashCounts_ = Arrays.copyOf(elementHashCounts_, depth_ * 2);
+        }
+        elementHashCounts_[depth_++] = hashCount_ - start;
+    }
+
+    /**
+     * Removes the element pushed last; has to be called when the walk leaves the element.
+     */
+    public void popElement() {
+        if (depth_ == 0) {
+            throw new IllegalStateException("No element to pop.");
+        }
+
+        final int count = elementHashCounts_[--depth_];
+        for (int i = 0; i < count; i++) {
+            final int hash = hashes_[--hashCount_];
+            decrement(hash & MASK);
+            decrement((hash >>> BITS) & MASK);
+        }
+    }
+
+    /**
+     * @return the number of elements in the filter
+     */
+    public int getDepth() {
+        return depth_;
+    }
+
+    /**
+     * Removes all elements.
+     */
+    public void clear() {
+        Arrays.fill(counters_, (byte) 0);
+        hashCount_ = 0;
+        depth_ = 0;
+    }
+
+    /**
+     * Checks if a selector with the given ancestor signature is able to match
+     * an element having the elements of this filter as ancestors.
+     * @param ancestorHashes the signature as returned by {@link #getAncestorHashes(Selector)}
+     * @return false if the selector will never match, true if it might match
+     */
+    public boolean mightMatch(final int[] ancestorHashes) {
+        for (int hash : ancestorHashes) {
+            if (counters_[hash & MASK] == 0 || counters_[(hash >>> BITS) & MASK] == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Calculates the hashes of all tag names, ids and classes required
+     * for the ancestors of an element matching the given selector.
+     * @param selector the selector
+     * @return the hashes; never null
+     */
+    public static int[] getAncestorHashes(final Selector selector) {
+        int[] result = NO_HASHES;
+        int count = 0;
+
+        // true if the next simple selector is an ancestor of the subject
+        boolean ancestor = false;
+        Selector current = selector;
+        while (current != null) {
+            final SimpleSelector simple;
+            final boolean nextIsAncestor;
+            switch (current.getSelectorType()) {
+                case DESCENDANT_SELECTOR:
+                    simple = current.getSimpleSelector();
+                    if (simple.getSelectorType() == Selector.SelectorType.PSEUDO_ELEMENT_SELECTOR) {
+                        // pseudo element of the same element; no combinator
+                        current = ((DescendantSelector) current).getAncestorSelector();
+                        continue;
+                    }
+                    nextIsAncestor = true;
+                    current = ((DescendantSelector) current).getAncestorSelector();
+                    break;
+                case CHILD_SELECTOR:
+                    simple = current.getSimpleSelector();
+                    nextIsAncestor = true;
+                    current = ((ChildSelector) current).getAncestorSelector();
+                    break;
+                case DIRECT_ADJACENT_SELECTOR:
+                    simple = current.getSimpleSelector();
+                    nextIsAncestor = false;
+                    current = ((DirectAdjacentSelector) current).getSelector();
+                    break;
+                case GENERAL_ADJACENT_SELECTOR:
+                    simple = current.getSimpleSelector();
+                    nextIsAncestor = false;
+                    current = ((GeneralAdjacentSelector) current).getSelector();
+                    break;
+                default:
+                    simple = current.getSimpleSelector();
+                    nextIsAncestor = false;
+                    current = null;
+                    break;
+            }
+
+            // simple selectors connected to the right part by a descendant or child
+            // combinator are ancestors of the subject; siblings are ignored
+            if (ancestor && simple != null
+                    && simple.getSelectorType() == Selector.SelectorType.ELEMENT_NODE_SELECTOR) {
+                final ElementSelector elementSelector = (ElementSelector) simple;
+                final String localName = elementSelector.getLocalNameLowerCase();
+                if (localName != null) {
+                    result = add(result, count++, hashTag(localName));
+                }
+                final List<Condition> conditions = elementSelector.getConditions();
+                if (conditions != null) {
+                    for (Condition condition : conditions) {
+                        if (condition.getConditionType() == Condition.ConditionType.ID_CONDITION) {
+                            result = add(result, count++, hashId(condition.getValue()));
+                        }
+                        else if (condition.getConditionType() == Condition.ConditionType.CLASS_CONDITION) {
+                            result = add(result, count++, hashClass(condition.getValue()));
+                        }
+                    }
+                }
+            }
+            ancestor = nextIsAncestor;
+        }
+
+        if (count == result.length) {
+            return result;
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private static int[] add(final int[] hashes, final int count, final int hash) {
+        int[] result = hashes;
+        if (count == result.length) {
+            result = Arrays.copyOf(result, Math.max(4, count * 2));
+        }
+        result[count] = hash;
+        return result;
+    }
+
+    private void addHash(final int hash) {
+        if (hashCount_ == hashes_.length) {
+            hashes_ = Arrays.copyOf(hashes_, hashCount_ * 2);
+        }
+        hashes_[hashCount_++] = hash;
+        increment(hash & MASK);
+        increment((hash >>> BITS) & MASK);
+    }
+
+    private void increment(final int index) {
+        final int count = counters_[index] & 0xFF;
+        // a saturated counter is never decremented
+        if (count < MAX_COUNT) {
+            counters_[index] = (byte) (count + 1);
+        }
+    }
+
+    private void decrement(final int index) {
+        final int count = counters_[index] & 0xFF;
+        if (count < MAX_COUNT) {
+            counters_[index] = (byte) (count - 1);
+        }
+    }
+
+    static int hashTag(final String localName) {
+        return mix(TAG_SALT ^ localName.hashCode());
+    }
+
+    static int hashId(final String id) {
+        return mix(ID_SALT ^ id.hashCode());
+    }
+
+    static int hashClass(final String className) {
+        return mix(CLASS_SALT ^ className.hashCode());
+    }
+
+    private static int mix(final int value) {
+        int h = value;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.selector;
+
+/**
+ * Gives a {@link SelectorMatcher} access to the elements of a document tree.
+ * The matcher is not bound to a specific DOM implementation; all navigation
+ * and all element properties are accessed using this adapter.
+ *
+ * @param <E> the element type
+ *
+ * @author Ronald Brill
+ */
+public interface ElementAdapter<E> {
+
+    /**
+     * @param element the element
+     * @return the local name of the element in lowercase
+     */
+    String getLocalName(E element);
+
+    /**
+     * @param element the element
+     * @return the id of the element or null
+     */
+    String getId(E element);
+
+    /**
+     * @param element the element
+     * @param className the class name
+     * @return true if the class attribute of the element contains the given class name
+     */
+    boolean hasClass(E element, String className);
+
+    /**
+     * @param element the element
+     * @param name the attribute name in lowercase
+     * @return the value of the attribute or null if the element has no such attribute
+     */
+    String getAttribute(E element, String name);
+
+    /**
+     * @param element the element
+     * @return the parent element or null
+     */
+    E getParent(E element);
+
+    /**
+     * @param element the element
+     * @return the previous sibling element or null
+     */
+    E getPreviousSibling(E element);
+
+    /**
+     * @param element the element
+     * @return the language of the element (maybe inherited from the ancestors) or null
+     */
+    String getLanguage(E element);
+
+    /**
+     * Checks a pseudo class condition. This is used for all pseudo classes
+     * the matcher is not able to evaluate itself.
+     * @param element the element
+     * @param pseudoClass the pseudo class as found in the selector (e.g. 'hover' or 'nth-child(2n+1)')
+     * @return true if the element matches the pseudo class
+     */
+    boolean matchesPseudoClass(E element, String pseudoClass);
+}
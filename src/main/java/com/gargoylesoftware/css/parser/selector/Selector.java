@@ -47,4 +47,12 @@ enum SelectorType {
      * @return the selector specificity
      */
     SelectorSpecificity getSelectorSpecificity();
+
+    /**
+     * @return the selector specificity packed into an int
+     * @see SelectorSpecificity#getValue()
+     */
+    default int getPackedSpecificity() {
+        return SelectorSpecificity.calculate(this);
+    }
 }
@@ -0,0 +1,478 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.selector;
+
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Predicate;
+
+import com.gargoylesoftware.css.parser.CSSException;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.condition.Condition;
+import com.gargoylesoftware.css.util.ThrowCssExceptionErrorHandler;
+
+/**
+ * A selector compiled into a form that can be matched efficiently against
+ * many elements.
+ *
+ * <p>The selector is split into its compound selectors; they are stored
+ * right-to-left together with the combinators between them. Matching starts
+ * with the subject (the rightmost compound) and walks up the tree
+ * (or back over the siblings) only if the subject matches. Inside a compound
+ * the tag name is checked first, followed by the conditions ordered by
+ * their cost (id, class, attribute, lang, pseudo class, negation).
+ * All names the matcher compares case insensitive are lowercased
+ * at compile time.</p>
+ *
+ * <p>A matcher is immutable and can be shared between threads as long
+ * as the {@link ElementAdapter} is thread safe.</p>
+ *
+ * @param <E> the element type
+ *
+ * @author Ronald Brill
+ */
+public final class SelectorMatcher<E> {
+
+    private static final int COST_ID = 0;
+    private static final int COST_CLASS = 1;
+    private static final int COST_ATTRIBUTE_EXISTS = 2;
+    private static final int COST_ATTRIBUTE_VALUE = 3;
+    private static final int COST_LANG = 4;
+    private static final int COST_PSEUDO_CLASS = 5;
+    private static final int COST_NOT = 6;
+
+    private final Selector selector_;
+    private final ElementAdapter<E> adapter_;
+
+    // index 0 is the subject of the selector
+    private final Compound<E>[] compounds_;
+    // combinators_[i] connects compounds_[i] with compounds_[i + 1]
+    private final Selector.SelectorType[] combinators_;
+    private final String pseudoElement_;
+    private final boolean neverMatches_;
+
+    @SuppressWarnings("unchecked")
+    private SelectorMatcher(final Selector selector, final ElementAdapter<E> adapter) {
+        selector_ = selector;
+        adapter_ = adapter;
+
+        final List<Compound<E>> compounds = new ArrayList<>();
+        final List<Selector.SelectorType> combinators = new ArrayList<>();
+        String pseudoElement = null;
+        boolean neverMatches = false;
+
+        Selector current = selector;
+        while (current != null) {
+            switch (current.getSelectorType()) {
+                case ELEMENT_NODE_SELECTOR:
+                    compounds.add(compileCompound((ElementSelector) current));
+                    current = null;
+                    break;
+                case PSEUDO_ELEMENT_SELECTOR:
+                    // a pseudo element without an element selector
+                    if (compounds.isEmpty() && pseudoElement == null) {
+                        pseudoElement = ((PseudoElementSelector) current).getLocalName();
+                    }
+                    else {
+                        neverMatches = true;
+                    }
+                    compounds.add(new Compound<E>(null, Collections.<ConditionCheck<E>>emptyList()));
+                    current = null;
+                    break;
+                case DESCENDANT_SELECTOR:
+                    final DescendantSelector descendant = (DescendantSelector) current;
+                    final SimpleSelector simple = descendant.getSimpleSelector();
+                    if (simple.getSelectorType() == Selector.SelectorType.PSEUDO_ELEMENT_SELECTOR) {
+                        // the parser attaches pseudo elements as descendant of the element they belong to
+                        // this is only valid for the subject of the selector
+                        if (compounds.isEmpty() && pseudoElement == null) {
+                            pseudoElement = ((PseudoElementSelector) simple).getLocalName();
+                        }
+                        else {
+                            neverMatches = true;
+                        }
+                    }
+                    else {
+                        addCompound(compounds, combinators, simple, Selector.SelectorType.DESCENDANT_SELECTOR);
+                    }
+                    current = descendant.getAncestorSelector();
+                    break;
+                case CHILD_SELECTOR:
+                    final ChildSelector child = (ChildSelector) current;
+                    if (!addCompound(compounds, combinators, child.getSimpleSelector(),
+                            Selector.SelectorType.CHILD_SELECTOR)) {
+                        neverMatches = true;
+                    }
+                    current = child.getAncestorSelector();
+                    break;
+                case DIRECT_ADJACENT_SELECTOR:
+                    final DirectAdjacentSelector direct = (DirectAdjacentSelector) current;
+                    if (!addCompound(compounds, combinators, direct.getSimpleSelector(),
+                            Selector.SelectorType.DIRECT_ADJACENT_SELECTOR)) {
+                        neverMatches = true;
+                    }
+                    current = direct.getSelector();
+                    break;
+                case GENERAL_ADJACENT_SELECTOR:
+                    final GeneralAdjacentSelector general = (GeneralAdjacentSelector) current;
+                    if (!addCompound(compounds, combinators, general.getSimpleSelector(),
+                            Selector.SelectorType.GENERAL_ADJACENT_SELECTOR)) {
+                        neverMatches = true;
+                    }
+                    current = general.getSelector();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported selector type '"
+                            + current.getSelectorType() + "'.");
+            }
+        }
+
+        final Compound<E>[] compoundArray = newArray(Compound.class, compounds.size());
+        compounds_ = compounds.toArray(compoundArray);
+        combinators_ = combinators.toArray(new Selector.SelectorType[combinators.size()]);
+        pseudoElement_ = pseudoElement == null ? null : pseudoElement.toLowerCase(Locale.ROOT);
+        neverMatches_ = neverMatches;
+    }
+
+    /**
+     * Compiles the given selector.
+     * @param selector the selector
+     * @param adapter the adapter used to access the elements
+     * @param <E> the element type
+     * @return the compiled matcher
+     */
+    public static <E> SelectorMatcher<E> compile(final Selector selector, final ElementAdapter<E> adapter) {
+        if (selector == null) {
+            throw new IllegalArgumentException("Selector is required.");
+        }
+        if (adapter == null) {
+            throw new IllegalArgumentException("ElementAdapter is required.");
+        }
+        return new SelectorMatcher<>(selector, adapter);
+    }
+
+    /**
+     * @return the selector this matcher was compiled from
+     */
+    public Selector getSelector() {
+        return selector_;
+    }
+
+    /**
+     * @return the (lowercase) name of the pseudo element of the selector or null
+     */
+    public String getPseudoElement() {
+        return pseudoElement_;
+    }
+
+    /**
+     * Checks if the selector matches the given element. Selectors addressing
+     * a pseudo element never match the element itself.
+     * @param element the element
+     * @return true if the selector matches
+     */
+    public boolean matches(final E element) {
+        return matches(element, null);
+    }
+
+    /**
+     * Checks if the selector matches the given pseudo element of the given element.
+     * @param element the element
+     * @param pseudoElement the pseudo element (e.g. 'before' or '::before');
+     *        null to check the element itself
+     * @return true if the selector matches
+     */
+    public boolean matches(final E element, final String pseudoElement) {
+        if (neverMatches_ || element == null) {
+            return false;
+        }
+
+        if (pseudoElement == null) {
+            if (pseudoElement_ != null) {
+                return false;
+            }
+        }
+        else if (pseudoElement_ == null || !pseudoElementMatches(pseudoElement)) {
+            return false;
+        }
+
+        return compounds_[0].matches(element, adapter_) && matchesFrom(0, element);
+    }
+
+    private boolean pseudoElementMatches(final String pseudoElement) {
+        int start = 0;
+        while (start < pseudoElement.length() && pseudoElement.charAt(start) == ':') {
+            start++;
+        }
+        return pseudoElement_.length() == pseudoElement.length() - start
+                && pseudoElement.regionMatches(true, start, pseudoElement_, 0, pseudoElement_.length());
+    }
+
+    /**
+     * Checks the compounds left of the given index; the element already matches
+     * the compound at the index.
+     */
+    private boolean matchesFrom(final int index, final E element) {
+        if (index == combinators_.length) {
+            return true;
+        }
+
+        final int next = index + 1;
+        final Compound<E> compound = compounds_[next];
+        switch (combinators_[index]) {
+            case CHILD_SELECTOR:
+                final E parent = adapter_.getParent(element);
+                return parent != null && compound.matches(parent, adapter_) && matchesFrom(next, parent);
+            case DESCENDANT_SELECTOR:
+                for (E ancestor = adapter_.getParent(element);
+                        ancestor != null;
+                        ancestor = adapter_.getParent(ancestor)) {
+                    if (compound.matches(ancestor, adapter_) && matchesFrom(next, ancestor)) {
+                        return true;
+                    }
+                }
+                return false;
+            case DIRECT_ADJACENT_SELECTOR:
+                final E prev = adapter_.getPreviousSibling(element);
+                return prev != null && compound.matches(prev, adapter_) && matchesFrom(next, prev);
+            case GENERAL_ADJACENT_SELECTOR:
+                for (E sibling = adapter_.getPreviousSibling(element);
+                        sibling != null;
+                        sibling = adapter_.getPreviousSibling(sibling)) {
+                    if (compound.matches(sibling, adapter_) && matchesFrom(next, sibling)) {
+                        return true;
+                    }
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private boolean addCompound(final List<Compound<E>> compounds,
+            final List<Selector.SelectorType> combinators,
+            final SimpleSelector simple, final Selector.SelectorType combinator) {
+        if (simple.getSelectorType() == Selector.SelectorType.ELEMENT_NODE_SELECTOR) {
+            compounds.add(compileCompound((ElementSelector) simple));
+        }
+        else {
+            // pseudo elements are only allowed at the end of the selector
+            compounds.add(new Compound<E>(null, Collections.<ConditionCheck<E>>emptyList()));
+            combinators.add(combinator);
+            return false;
+        }
+        combinators.add(combinator);
+        return true;
+    }
+
+    private Compound<E> compileCompound(final ElementSelector elementSelector) {
+        final List<ConditionCheck<E>> checks = new ArrayList<>();
+        final List<Condition> conditions = elementSelector.getConditions();
+        if (conditions != null) {
+            for (Condition condition : conditions) {
+                checks.add(compileCondition(condition));
+            }
+            // stable sort, conditions of the same cost are checked in source order
+            checks.sort((c1, c2) -> Integer.compare(c1.cost_, c2.cost_));
+        }
+        return new Compound<>(elementSelector.getLocalNameLowerCase(), checks);
+    }
+
+    private ConditionCheck<E> compileCondition(final Condition condition) {
+        final ElementAdapter<E> adapter = adapter_;
+        final String value = condition.getValue();
+
+        switch (condition.getConditionType()) {
+            case ID_CONDITION:
+                return new ConditionCheck<>(COST_ID, e -> value.equals(adapter.getId(e)));
+
+            case CLASS_CONDITION:
+                return new ConditionCheck<>(COST_CLASS, e -> adapter.hasClass(e, value));
+
+            case LANG_CONDITION:
+                return new ConditionCheck<>(COST_LANG, e -> langMatches(adapter.getLanguage(e), value));
+
+            case PSEUDO_CLASS_CONDITION:
+                final Predicate<E> negation = compileNegation(value);
+                if (negation != null) {
+                    return new ConditionCheck<>(COST_NOT, negation);
+                }
+                return new ConditionCheck<>(COST_PSEUDO_CLASS, e -> adapter.matchesPseudoClass(e, value));
+
+            default:
+                break;
+        }
+
+        final String name = condition.getLocalName().toLowerCase(Locale.ROOT);
+        if (value == null) {
+            return new ConditionCheck<>(COST_ATTRIBUTE_EXISTS, e -> adapter.getAttribute(e, name) != null);
+        }
+
+        final Predicate<String> valueCheck;
+        switch (condition.getConditionType()) {
+            case ATTRIBUTE_CONDITION:
+                valueCheck = value::equals;
+                break;
+            case ONE_OF_ATTRIBUTE_CONDITION:
+                valueCheck = v -> oneOfMatches(v, value);
+                break;
+            case BEGIN_HYPHEN_ATTRIBUTE_CONDITION:
+                valueCheck = v -> v.startsWith(value)
+                                    && (v.length() == value.length() || v.charAt(value.length()) == '-');
+                break;
+            case PREFIX_ATTRIBUTE_CONDITION:
+                valueCheck = v -> !value.isEmpty() && v.startsWith(value);
+                break;
+            case SUFFIX_ATTRIBUTE_CONDITION:
+                valueCheck = v -> !value.isEmpty() && v.endsWith(value);
+                break;
+            case SUBSTRING_ATTRIBUTE_CONDITION:
+                valueCheck = v -> !value.isEmpty() && v.contains(value);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported condition type '"
+                        + condition.getConditionType() + "'.");
+        }
+        return new ConditionCheck<>(COST_ATTRIBUTE_VALUE, e -> {
+            final String attValue = adapter.getAttribute(e, name);
+            return attValue != null && valueCheck.test(attValue);
+        });
+    }
+
+    /**
+     * The parser delivers the negation pseudo class as string; compile the
+     * argument to be able to evaluate it without the help of the adapter.
+     * Returns null if this is not a negation or the argument is not supported.
+     */
+    private Predicate<E> compileNegation(final String pseudoClass) {
+        if (pseudoClass == null
+                || pseudoClass.length() < 5
+                || !pseudoClass.regionMatches(true, 0, "not(", 0, 4)
+                || pseudoClass.charAt(pseudoClass.length() - 1) != ')') {
+            return null;
+        }
+
+        final String argument = pseudoClass.substring(4, pseudoClass.length() - 1);
+        final SelectorList selectors;
+        try {
+            final CSSOMParser parser = new CSSOMParser();
+            parser.setErrorHandler(ThrowCssExceptionErrorHandler.INSTANCE);
+            selectors = parser.parseSelectors(argument);
+        }
+        catch (final CSSException e) {
+            return null;
+        }
+        catch (final IOException e) {
+            return null;
+        }
+        if (selectors == null || selectors.size() != 1) {
+            return null;
+        }
+
+        final SelectorMatcher<E> argumentMatcher = new SelectorMatcher<>(selectors.get(0), adapter_);
+        if (argumentMatcher.compounds_.length != 1 || argumentMatcher.pseudoElement_ != null) {
+            return null;
+        }
+        return e -> !argumentMatcher.matches(e);
+    }
+
+    /**
+     * Creates an array of a generic type.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] newArray(final Class<?> componentType, final int length) {
+        return (T[]) Array.newInstance(componentType, length);
+    }
+
+    private static boolean langMatches(final String lang, final String value) {
+        if (lang == null) {
+            return false;
+        }
+        return lang.regionMatches(true, 0, value, 0, value.length())
+                && (lang.length() == value.length() || lang.charAt(value.length()) == '-');
+    }
+
+    private static boolean oneOfMatches(final String attValue, final String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (Character.isWhitespace(value.charAt(i))) {
+                return false;
+            }
+        }
+
+        int pos = attValue.indexOf(value);
+        while (pos > -1) {
+            final int end = pos + value.length();
+            if ((pos == 0 || Character.isWhitespace(attValue.charAt(pos - 1)))
+                    && (end == attValue.length() || Character.isWhitespace(attValue.charAt(end)))) {
+                return true;
+            }
+            pos = attValue.indexOf(value, pos + 1);
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return selector_.toString();
+    }
+
+    /**
+     * A condition together with its cost.
+     */
+    private static final class ConditionCheck<E> {
+        private final int cost_;
+        private final Predicate<E> predicate_;
+
+        ConditionCheck(final int cost, final Predicate<E> predicate) {
+            cost_ = cost;
+            predicate_ = predicate;
+        }
+    }
+
+    /**
+     * A compound selector (tag name plus conditions).
+     */
+    private static final class Compound<E> {
+        private final String localName_;
+        private final Predicate<E>[] checks_;
+
+        Compound(final String localName, final List<ConditionCheck<E>> checks) {
+            localName_ = localName;
+            checks_ = newArray(Predicate.class, checks.size());
+            for (int i = 0; i < checks_.length; i++) {
+                checks_[i] = checks.get(i).predicate_;
+            }
+        }
+
+        boolean matches(final E element, final ElementAdapter<E> adapter) {
+            if (localName_ != null && !localName_.equals(adapter.getLocalName(element))) {
+                return false;
+            }
+            for (Predicate<E> check : checks_) {
+                if (!check.test(element)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -14,9 +14,14 @@
  */
 package com.gargoylesoftware.css.parser.selector;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serializable;
 
 import com.gargoylesoftware.css.parser.condition.Condition;
+import com.gargoylesoftware.css.util.LangUtils;
 
 /**
  * Calculates a selector's specificity.
@@ -38,116 +43,150 @@ public class SelectorSpecificity implements Comparable<SelectorSpecificity>, Ser
      */
     public static final SelectorSpecificity DEFAULT_STYLE_ATTRIBUTE = new SelectorSpecificity(0, 0, 0, 0);
 
-    private int fieldA_;
-    private int fieldB_;
-    private int fieldC_;
-    private int fieldD_;
+    private static final int SHIFT_A = 24;
+    private static final int SHIFT_B = 16;
+    private static final int SHIFT_C = 8;
+    private static final int SHIFT_D = 0;
+    private static final int MAX_A = 0x7F;
+    private static final int MAX = 0xFF;
+
+    // the serialized form is still the one of the former fields a, b, c and d
+    private static final ObjectStreamField[] serialPersistentFields = {
+        new ObjectStreamField("fieldA_", int.class),
+        new ObjectStreamField("fieldB_", int.class),
+        new ObjectStreamField("fieldC_", int.class),
+        new ObjectStreamField("fieldD_", int.class)
+    };
+
+    // a, b, c and d packed into one int; see getValue()
+    private int value_;
 
     /**
      * Ctor.
      * @param selector the selector to read from
      */
     public SelectorSpecificity(final Selector selector) {
-        readSelectorSpecificity(selector);
+        value_ = selector.getPackedSpecificity();
+    }
+
+    /**
+     * Ctor.
+     * @param value the packed specificity as returned by {@link #getValue()}
+     */
+    SelectorSpecificity(final int value) {
+        value_ = value;
     }
 
     private SelectorSpecificity(final int a, final int b, final int c, final int d) {
-        fieldA_ = a;
-        fieldB_ = b;
-        fieldC_ = c;
-        fieldD_ = d;
+        value_ = pack(a, b, c, d);
     }
 
-    private void readSelectorSpecificity(final Selector selector) {
+    private static int pack(final int a, final int b, final int c, final int d) {
+        return (Math.min(a, MAX_A) << SHIFT_A)
+                | (Math.min(b, MAX) << SHIFT_B)
+                | (Math.min(c, MAX) << SHIFT_C)
+                | Math.min(d, MAX);
+    }
+
+    /**
+     * Returns the specificity packed into a single int; comparing two of these
+     * values gives the same result as comparing the SelectorSpecificity objects.
+     * Every part uses 8 bits (7 bits for the first one); values exceeding
+     * this are truncated to the maximum.
+     *
+     * @return the packed specificity
+     */
+    public int getValue() {
+        return value_;
+    }
+
+    /**
+     * Calculates the packed specificity of the given selector.
+     * @param selector the selector to read from
+     * @return the packed specificity
+     * @see #getValue()
+     */
+    public static int calculate(final Selector selector) {
+        return readSelectorSpecificity(0, selector);
+    }
+
+    private static int readSelectorSpecificity(final int value, final Selector selector) {
         switch (selector.getSelectorType()) {
             case DESCENDANT_SELECTOR:
                 final DescendantSelector ds = (DescendantSelector) selector;
-                readSelectorSpecificity(ds.getAncestorSelector());
-                readSelectorSpecificity(ds.getSimpleSelector());
-                return;
+                return readSelectorSpecificity(
+                        readSelectorSpecificity(value, ds.getAncestorSelector()), ds.getSimpleSelector());
             case CHILD_SELECTOR:
                 final ChildSelector cs = (ChildSelector) selector;
-                readSelectorSpecificity(cs.getAncestorSelector());
-                readSelectorSpecificity(cs.getSimpleSelector());
-                return;
+                return readSelectorSpecificity(
+                        readSelectorSpecificity(value, cs.getAncestorSelector()), cs.getSimpleSelector());
             case ELEMENT_NODE_SELECTOR:
                 final ElementSelector es = (ElementSelector) selector;
+                int result = value;
                 if (es.getLocalName() != null) {
-                    fieldD_++;
+                    result = increment(result, SHIFT_D, MAX);
                 }
                 if (es.getConditions() != null) {
                     for (Condition condition : es.getConditions()) {
-                        readSelectorSpecificity(condition);
+                        result = readSelectorSpecificity(result, condition);
                     }
                 }
-                return;
+                return result;
             case PSEUDO_ELEMENT_SELECTOR:
                 final PseudoElementSelector pes = (PseudoElementSelector) selector;
                 final String pesName = pes.getLocalName();
                 if (pesName != null) {
-                    fieldD_++;
+                    return increment(value, SHIFT_D, MAX);
                 }
-                return;
+                return value;
             case DIRECT_ADJACENT_SELECTOR:
                 final DirectAdjacentSelector das = (DirectAdjacentSelector) selector;
-                readSelectorSpecificity(das.getSelector());
-                readSelectorSpecificity(das.getSimpleSelector());
-                return;
+                return readSelectorSpecificity(
+                        readSelectorSpecificity(value, das.getSelector()), das.getSimpleSelector());
             case GENERAL_ADJACENT_SELECTOR:
                 final GeneralAdjacentSelector gas = (GeneralAdjacentSelector) selector;
-                readSelectorSpecificity(gas.getSelector());
-                readSelectorSpecificity(gas.getSimpleSelector());
-                return;
+                return readSelectorSpecificity(
+                        readSelectorSpecificity(value, gas.getSelector()), gas.getSimpleSelector());
             default:
                 throw new RuntimeException("Unhandled CSS selector type for specificity computation: '"
                         + selector.getSelectorType() + "'.");
         }
     }
 
-    private void readSelectorSpecificity(final Condition condition) {
+    private static int readSelectorSpecificity(final int value, final Condition condition) {
         switch (condition.getConditionType()) {
             case ID_CONDITION:
-                fieldB_++;
-                return;
+                return increment(value, SHIFT_B, MAX);
             case CLASS_CONDITION:
-                fieldC_++;
-                return;
             case ATTRIBUTE_CONDITION:
-                fieldC_++;
-                return;
             case SUBSTRING_ATTRIBUTE_CONDITION:
-                fieldC_++;
-                return;
             case SUFFIX_ATTRIBUTE_CONDITION:
-                fieldC_++;
-                return;
             case PREFIX_ATTRIBUTE_CONDITION:
-                fieldC_++;
-                return;
             case BEGIN_HYPHEN_ATTRIBUTE_CONDITION:
-                fieldC_++;
-                return;
             case ONE_OF_ATTRIBUTE_CONDITION:
-                fieldC_++;
-                return;
             case PSEUDO_CLASS_CONDITION:
-                fieldC_++;
-                return;
             case LANG_CONDITION:
-                fieldC_++;
-                return;
+                return increment(value, SHIFT_C, MAX);
             default:
                 throw new RuntimeException("Unhandled CSS condition type for specifity computation: '"
                         + condition.getConditionType() + "'.");
         }
     }
 
+    private static int increment(final int value, final int shift, final int max) {
+        if (((value >>> shift) & MAX) < max) {
+            return value + (1 << shift);
+        }
+        return value;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public String toString() {
-        return fieldA_ + "," + fieldB_ + "," + fieldC_ + "," + fieldD_;
+        return (value_ >>> SHIFT_A) + "," + ((value_ >>> SHIFT_B) & MAX) + ","
+                + ((value_ >>> SHIFT_C) & MAX) + "," + ((value_ >>> SHIFT_D) & MAX);
     }
 
     /**
@@ -155,30 +194,12 @@ public String toString() {
      */
     @Override
     public int compareTo(final SelectorSpecificity other) {
-        if (fieldA_ != other.fieldA_) {
-            return fieldA_ - other.fieldA_;
-        }
-        else if (fieldB_ != other.fieldB_) {
-            return fieldB_ - other.fieldB_;
-        }
-        else if (fieldC_ != other.fieldC_) {
-            return fieldC_ - other.fieldC_;
-        }
-        else if (fieldD_ != other.fieldD_) {
-            return fieldD_ - other.fieldD_;
-        }
-        return 0;
+        return Integer.compare(value_, other.value_);
     }
 
     @Override
     public int hashCode() {
-        final int prime = 31;
-        int result = 1;
-        result = prime * result + fieldA_;
-        result = prime * result + fieldB_;
-        result = prime * result + fieldC_;
-        result = prime * result + fieldD_;
-        return result;
+        return LangUtils.hashCode(LangUtils.HASH_SEED, value_);
     }
 
     @Override
@@ -193,18 +214,21 @@ public boolean equals(final Object obj) {
             return false;
         }
         final SelectorSpecificity other = (SelectorSpecificity) obj;
-        if (fieldA_ != other.fieldA_) {
-            return false;
-        }
-        if (fieldB_ != other.fieldB_) {
-            return false;
-        }
-        if (fieldC_ != other.fieldC_) {
-            return false;
-        }
-        if (fieldD_ != other.fieldD_) {
-            return false;
-        }
-        return true;
+        return value_ == other.value_;
+    }
+
+    private void writeObject(final ObjectOutputStream out) throws IOException {
+        final ObjectOutputStream.PutField fields = out.putFields();
+        fields.put("fieldA_", value_ >>> SHIFT_A);
+        fields.put("fieldB_", (value_ >>> SHIFT_B) & MAX);
+        fields.put("fieldC_", (value_ >>> SHIFT_C) & MAX);
+        fields.put("fieldD_", (value_ >>> SHIFT_D) & MAX);
+        out.writeFields();
+    }
+
+    private void readObject(final ObjectInputStream in) throws IOException, ClassNotFoundException {
+        final ObjectInputStream.GetField fields = in.readFields();
+        value_ = pack(fields.get("fieldA_", 0), fields.get("fieldB_", 0),
+                fields.get("fieldC_", 0), fields.get("fieldD_", 0));
     }
 }
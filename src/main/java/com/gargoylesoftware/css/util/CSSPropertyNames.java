@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Canonical table of the property names.
+ *
+ * <p>All names defined in {@link CSSProperties} are known; every known name
+ * has a small integer id (0 up to {@link #getKnownCount()} - 1). The lookup
+ * is case insensitive and does not allocate.</p>
+ *
+ * <p>{@link #intern(String)} maps property names to shared instances; known names
+ * are mapped to the constants from {@link CSSProperties}, all other names are
+ * stored in a bounded table.</p>
+ *
+ * @author Ronald Brill
+ */
+public final class CSSPropertyNames {
+
+    /** The id of all properties not defined in {@link CSSProperties}. */
+    public static final int UNKNOWN_ID = -1;
+
+    /** The maximum number of unknown names interned. */
+    private static final int MAX_INTERNED = 4096;
+
+    private static final String[] NAMES;
+    // open addressing table; contains the id + 1 of the names, 0 marks a free slot
+    private static final int[] TABLE;
+    private static final int TABLE_MASK;
+
+    private static final ConcurrentMap<String, String> INTERNED = new ConcurrentHashMap<>();
+
+    static {
+        final TreeSet<String> names = new TreeSet<>();
+        for (final Field field : CSSProperties.class.getFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                try {
+                    names.add((String) field.get(null));
+                }
+                catch (final IllegalAccessException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        }
+        NAMES = names.toArray(new String[names.size()]);
+
+        int size = 8;
+        while (size < NAMES.length * 4) {
+            size <<= 1;
+        }
+        TABLE = new int[size];
+        TABLE_MASK = size - 1;
+        for (int id = 0; id < NAMES.length; id++) {
+            int slot = hash(NAMES[id]) & TABLE_MASK;
+            while (TABLE[slot] != 0) {
+                slot = (slot + 1) & TABLE_MASK;
+            }
+            TABLE[slot] = id + 1;
+        }
+    }
+
+    private CSSPropertyNames() {
+    }
+
+    /**
+     * @return the number of known property names
+     */
+    public static int getKnownCount() {
+        return NAMES.length;
+    }
+
+    /**
+     * @param id the property id
+     * @return the (lower case) name of the known property with the given id
+     * @throws IndexOutOfBoundsException if the id is not the id of a known property
+     */
+    public static String getName(final int id) {
+        if (id < 0 || id >= NAMES.length) {
+            throw new IndexOutOfBoundsException("Unknown property id " + id);
+        }
+        return NAMES[id];
+    }
+
+    /**
+     * @return a copy of all known property names ordered by id
+     */
+    public static String[] getKnownNames() {
+        return Arrays.copyOf(NAMES, NAMES.length);
+    }
+
+    /**
+     * Returns the id of the given property name; the lookup ignores the case.
+     *
+     * @param name the property name
+     * @return the id or {@link #UNKNOWN_ID}
+     */
+    public static int getId(final String name) {
+        if (name == null) {
+            return UNKNOWN_ID;
+        }
+        int slot = hash(name) & TABLE_MASK;
+        int entry = TABLE[slot];
+        while (entry != 0) {
+            final String candidate = NAMES[entry - 1];
+            if (candidate.length() == name.length()
+                    && candidate.regionMatches(true, 0, name, 0, name.length())) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & TABLE_MASK;
+            entry = TABLE[slot];
+        }
+        return UNKNOWN_ID;
+    }
+
+    /**
+     * Returns a canonical instance of the given property name. Known names
+     * written in lower case are mapped to the constants from {@link CSSProperties};
+     * all other names are collected in a bounded table. If this table is full
+     * the name itself is returned.
+     *
+     * @param name the property name
+     * @return the canonical instance
+     */
+    public static String intern(final String name) {
+        if (name == null) {
+            return null;
+        }
+
+        final int id = getId(name);
+        if (id != UNKNOWN_ID) {
+            final String known = NAMES[id];
+            if (known.equals(name)) {
+                return known;
+            }
+        }
+
+        final String interned = INTERNED.get(name);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED.size() >= MAX_INTERNED) {
+            return name;
+        }
+        final String previous = INTERNED.putIfAbsent(name, name);
+        return previous == null ? name : previous;
+    }
+
+    /**
+     * Case insensitive hash; only ascii letters are folded to lower case because
+     * this is enough to separate the (ascii) names of the table.
+     */
+    private static int hash(final String name) {
+        int h = 0;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.dom;
+
+import java.io.StringReader;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.dom.CSSCascade.Origin;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.SelectorEntry;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Unit tests for {@link CSSCascade}.
+ *
+ * @author Ronald Brill
+ */
+public class CSSCascadeTest {
+
+    private static CSSStyleSheetImpl parse(final String css) throws Exception {
+        final InputSource is = new InputSource(new StringReader(css));
+        return new CSSOMParser().parseStyleSheet(is, null);
+    }
+
+    /**
+     * Adds all candidates for a 'p' element with class 'a' and id 'x' to the cascade;
+     * all rules of the test sheets match such an element.
+     */
+    private static void addAll(final CSSCascade cascade, final CSSStyleSheetImpl sheet,
+            final Origin origin, final int styleSheetIndex) {
+        final Iterator<SelectorEntry> entries = sheet.buildRuleIndex()
+                .getSelectorEntriesIteratorFor("p", new String[] {"a"}, "x", null);
+        while (entries.hasNext()) {
+            cascade.add(entries.next(), origin, styleSheetIndex);
+        }
+    }
+
+    private static CSSStyleDeclarationImpl resolve(final String css) throws Exception {
+        final CSSCascade cascade = new CSSCascade();
+        addAll(cascade, parse(css), Origin.AUTHOR, 0);
+        return cascade.resolve();
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void documentOrder() throws Exception {
+        Assert.assertEquals("color: blue",
+                resolve("p { color: red } p { color: blue }").toString());
+        Assert.assertEquals("width: 1px; color: green",
+                resolve("p { color: red; width: 1px } .a { color: green } p { color: red }").toString());
+        Assert.assertEquals("COLOR: green",
+                resolve("p { color: red } p { color: blue; COLOR: green }").toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void specificity() throws Exception {
+        Assert.assertEquals("color: green",
+                resolve("#x { color: green } p.a { color: blue } .a { color: red } p { color: black }").toString());
+        Assert.assertEquals("color: blue",
+                resolve("p.a { color: blue } .a { color: red } p { color: black }").toString());
+        // the later one wins if the specificity is the same
+        Assert.assertEquals("color: red",
+                resolve("p.a { color: blue } .a.a { color: green } *#x.a, .a.a { color: red }").toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void important() throws Exception {
+        Assert.assertEquals("width: 2px; color: red !important",
+                resolve("p { color: red !important; width: 1px } #x { color: blue; width: 2px }").toString());
+        Assert.assertEquals("color: red !important",
+                resolve("#x { color: red !important } p { color: blue !important }").toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void origin() throws Exception {
+        final CSSStyleSheetImpl ua = parse("#x { color: black; width: 1px !important } p { height: 1px }");
+        final CSSStyleSheetImpl user = parse("p { color: gray !important; height: 2px }");
+        final CSSStyleSheetImpl author1 = parse("p { color: red; width: 3px !important; height: 3px }");
+        final CSSStyleSheetImpl author2 = parse("p { color: blue }");
+
+        final CSSCascade cascade = new CSSCascade();
+        addAll(cascade, author2, Origin.AUTHOR, 2);
+        addAll(cascade, author1, Origin.AUTHOR, 1);
+        addAll(cascade, user, Origin.USER, 0);
+        addAll(cascade, ua, Origin.USER_AGENT, 0);
+        Assert.assertEquals(5, cascade.size());
+
+        final CSSStyleDeclarationImpl style = cascade.resolve();
+        Assert.assertEquals("gray", style.getPropertyValue("color"));
+        Assert.assertEquals("1px", style.getPropertyValue("width"));
+        Assert.assertEquals("3px", style.getPropertyValue("height"));
+        Assert.assertNull(style.getParentRule());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void styleAttribute() throws Exception {
+        final CSSCascade cascade = new CSSCascade();
+        addAll(cascade, parse("#x.a { color: red; width: 1px !important; height: 1px }"), Origin.AUTHOR, 0);
+
+        final CSSStyleDeclarationImpl attribute = new CSSStyleDeclarationImpl(null);
+        attribute.setCssText("color: blue; width: 2px; unknown-prop: 7");
+        cascade.addStyleAttribute(attribute);
+
+        final CSSStyleDeclarationImpl style = cascade.resolve();
+        Assert.assertEquals("blue", style.getPropertyValue("color"));
+        Assert.assertEquals("1px", style.getPropertyValue("width"));
+        Assert.assertEquals("1px", style.getPropertyValue("height"));
+        Assert.assertEquals("7", style.getPropertyValue("unknown-prop"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void reuse() throws Exception {
+        final StringBuilder css = new StringBuilder();
+        for (int i = 0; i < 40; i++) {
+            if (i % 3 == 0) {
+                css.append("#x ");
+            }
+            else if (i % 3 == 1) {
+                css.append(".a ");
+            }
+            else {
+                css.append("p ");
+            }
+            css.append("{ x-").append(i % 7).append(": ").append(i).append("; color: c").append(i).append(" }\n");
+        }
+        final CSSStyleSheetImpl sheet = parse(css.toString());
+
+        final CSSCascade cascade = new CSSCascade();
+        String first = null;
+        for (int run = 0; run < 3; run++) {
+            cascade.reset();
+            addAll(cascade, sheet, Origin.AUTHOR, 0);
+            Assert.assertEquals(40, cascade.size());
+            final String result = cascade.resolve().toString();
+            if (first == null) {
+                first = result;
+            }
+            Assert.assertEquals(first, result);
+        }
+        // all properties come from the last #x rule defining them
+        Assert.assertEquals("x-0: 21; x-3: 24; x-6: 27; x-2: 30; x-5: 33; x-1: 36; x-4: 39; color: c39", first);
+    }
+
+    /**
+     * The winners are emitted at the position of the winning declaration.
+     *
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void cascadeOrder() throws Exception {
+        Assert.assertEquals("margin-left: 5px; margin: 1px",
+                resolve("p { margin: 0 } .a { margin-left: 5px } #x { margin: 1px }").toString());
+        Assert.assertEquals("margin: 1px; margin-left: 5px",
+                resolve("p { margin: 0 } #x { margin-left: 5px } .a { margin: 1px }").toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void manyUnknownProperties() throws Exception {
+        final CSSCascade cascade = new CSSCascade();
+        for (int run = 0; run < 1000; run++) {
+            cascade.reset();
+            addAll(cascade, parse("p { x-" + run + ": 1; color: red } .a { x-" + run + ": 2 }"), Origin.AUTHOR, 0);
+            Assert.assertEquals("color: red; x-" + run + ": 2", cascade.resolve().toString());
+        }
+    }
+}
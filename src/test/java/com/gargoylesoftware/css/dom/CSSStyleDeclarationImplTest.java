@@ -325,6 +325,167 @@ public void removePropertyBlank() throws Exception {
         Assert.assertEquals("", style.removeProperty("display"));
     }
 
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void duplicateProperties() throws Exception {
+        final CSSStyleDeclarationImpl style = parseStyleDeclaration(
+                "color: red; COLOR: green !important; top: 1px; Color: blue");
+        Assert.assertEquals(4, style.getLength());
+        Assert.assertEquals("blue", style.getPropertyValue("color"));
+        Assert.assertEquals("blue", style.getPropertyValue("cOLOR"));
+        Assert.assertEquals("", style.getPropertyPriority("color"));
+        Assert.assertEquals("1px", style.getPropertyValue("TOP"));
+        Assert.assertEquals("", style.getPropertyValue("left"));
+
+        // the first one is removed
+        Assert.assertEquals("red", style.removeProperty("Color"));
+        Assert.assertEquals("COLOR: green !important; top: 1px; Color: blue", style.getCssText());
+        Assert.assertEquals("blue", style.getPropertyValue("color"));
+
+        Assert.assertEquals("green", style.removeProperty("color"));
+        Assert.assertEquals("blue", style.removeProperty("color"));
+        Assert.assertEquals("", style.removeProperty("color"));
+        Assert.assertEquals("", style.getPropertyValue("color"));
+        Assert.assertEquals("top: 1px", style.getCssText());
+
+        style.setProperty("Color", "red", null);
+        Assert.assertEquals("red", style.getPropertyValue("color"));
+        Assert.assertEquals("top: 1px; Color: red", style.getCssText());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void modifyProperties() throws Exception {
+        final CSSStyleDeclarationImpl style = parseStyleDeclaration("color: red; top: 1px");
+        Assert.assertEquals("red", style.getPropertyValue("color"));
+
+        style.getProperties().add(new Property("color", parsePropertyValue("blue"), false));
+        Assert.assertEquals("blue", style.getPropertyValue("color"));
+
+        style.getProperties().set(2, new Property("left", parsePropertyValue("2px"), false));
+        Assert.assertEquals("red", style.getPropertyValue("color"));
+        Assert.assertEquals("2px", style.getPropertyValue("left"));
+
+        style.getProperties().remove(0);
+        Assert.assertEquals("", style.getPropertyValue("color"));
+
+        style.getProperties().get(0).setName("bottom");
+        Assert.assertEquals("", style.getPropertyValue("top"));
+        Assert.assertEquals("1px", style.getPropertyValue("bottom"));
+
+        style.getProperties().clear();
+        Assert.assertEquals("", style.getPropertyValue("left"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void equalsIgnoresDuplicates() throws Exception {
+        final CSSStyleDeclarationImpl style1 = parseStyleDeclaration("color: red; top: 1px; color: blue");
+        final CSSStyleDeclarationImpl style2 = parseStyleDeclaration("COLOR: green; top: 1px; color: blue");
+        Assert.assertEquals(style1, style2);
+
+        final CSSStyleDeclarationImpl style3 = parseStyleDeclaration("color: red; top: 1px; color: blue !important");
+        Assert.assertNotEquals(style1, style3);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void renameProperty() throws Exception {
+        final CSSStyleDeclarationImpl style = parseStyleDeclaration("color: red; top: 1px");
+        Assert.assertEquals("red", style.getPropertyValue("color"));
+
+        style.getPropertyDeclaration("color").setName("width");
+        Assert.assertEquals("red", style.getPropertyValue("width"));
+        Assert.assertEquals("", style.getPropertyValue("color"));
+        Assert.assertEquals("1px", style.getPropertyValue("top"));
+
+        style.getPropertyDeclaration("width").setName("Top");
+        Assert.assertEquals("1px", style.getPropertyValue("top"));
+        Assert.assertEquals("", style.getPropertyValue("width"));
+        Assert.assertEquals("red", style.removeProperty("TOP"));
+        Assert.assertEquals("top: 1px", style.getCssText());
+    }
+
+    /**
+     * A property can be part of more than one declaration (e.g. the result
+     * of the cascade); renames are visible in all of them.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void renameSharedProperty() throws Exception {
+        final CSSStyleDeclarationImpl style = parseStyleDeclaration("color: red; top: 1px");
+        final CSSStyleDeclarationImpl shared = new CSSStyleDeclarationImpl(null);
+        shared.addProperty(style.getPropertyDeclaration("color"));
+        Assert.assertEquals("red", shared.getPropertyValue("color"));
+
+        style.getPropertyDeclaration("color").setName("width");
+        Assert.assertEquals("red", style.getPropertyValue("width"));
+        Assert.assertEquals("red", shared.getPropertyValue("width"));
+        Assert.assertEquals("", shared.getPropertyValue("color"));
+
+        // after the removal the other declaration is informed about renames
+        final Property width = style.getPropertyDeclaration("width");
+        Assert.assertEquals("red", style.removeProperty("width"));
+        width.setName("height");
+        Assert.assertEquals("red", shared.getPropertyValue("height"));
+        Assert.assertEquals("", style.getPropertyValue("height"));
+
+        final CSSStyleDeclarationImpl other = new CSSStyleDeclarationImpl(null);
+        other.addProperty(width);
+        width.setName("left");
+        Assert.assertEquals("red", other.getPropertyValue("left"));
+        Assert.assertEquals("red", shared.getPropertyValue("left"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void nonAsciiPropertyNames() throws Exception {
+        final CSSStyleDeclarationImpl style = new CSSStyleDeclarationImpl(null);
+        style.addProperty(new Property("\u0130", null, false));
+        style.addProperty(new Property("color", null, true));
+
+        // toLowerCase() and equalsIgnoreCase() are different for this
+        Assert.assertNull(style.getPropertyDeclaration("i\u0307"));
+        Assert.assertNotNull(style.getPropertyDeclaration("\u0130"));
+        Assert.assertEquals("important", style.getPropertyPriority("COLOR"));
+
+        style.addProperty(new Property("\u00e4", null, false));
+        Assert.assertNotNull(style.getPropertyDeclaration("\u00c4"));
+        Assert.assertEquals("", style.removeProperty("i\u0307"));
+        Assert.assertEquals(3, style.getLength());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void serializeAsPlainList() throws Exception {
+        final CSSStyleDeclarationImpl style = parseStyleDeclaration("color: red; top: 1px");
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(style);
+        }
+        Assert.assertFalse(new String(baos.toByteArray(), StandardCharsets.ISO_8859_1).contains("PropertyList"));
+
+        final CSSStyleDeclarationImpl copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            copy = (CSSStyleDeclarationImpl) ois.readObject();
+        }
+        Assert.assertEquals("red", copy.getPropertyValue("color"));
+        copy.getProperties().set(0, new Property("color", parsePropertyValue("blue"), false));
+        Assert.assertEquals("blue", copy.getPropertyValue("color"));
+    }
+
     private CSSStyleDeclarationImpl parseStyleDeclaration(final String value) throws IOException {
         final CSSOMParser parser = new CSSOMParser();
         return parser.parseStyleDeclaration(value);
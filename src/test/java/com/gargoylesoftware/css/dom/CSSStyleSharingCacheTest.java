@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.dom;
+
+import java.io.StringReader;
+import java.util.Iterator;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.w3c.dom.DOMException;
+
+import com.gargoylesoftware.css.dom.CSSCascade.Origin;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.SelectorEntry;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Unit tests for {@link CSSStyleSharingCache}.
+ *
+ * @author Ronald Brill
+ */
+public class CSSStyleSharingCacheTest {
+
+    private static final String CSS = "p { color: red } .a { width: 1px } .b { width: 2px }";
+
+    private static CSSStyleSheetImpl parse(final String css) throws Exception {
+        final InputSource is = new InputSource(new StringReader(css));
+        return new CSSOMParser().parseStyleSheet(is, null);
+    }
+
+    private static CSSStyleDeclarationImpl parseStyle(final String css) throws Exception {
+        return new CSSOMParser().parseStyleDeclaration(css);
+    }
+
+    private static CSSStyleDeclarationImpl resolve(final CSSStyleSharingCache cache,
+            final CSSStyleSheetImpl sheet, final String className,
+            final CSSStyleDeclarationImpl styleAttribute) {
+        final CSSCascade cascade = new CSSCascade();
+        final Iterator<SelectorEntry> entries = sheet.getRuleIndex()
+                .getSelectorEntriesIteratorFor("p", new String[] {className}, null, null);
+        while (entries.hasNext()) {
+            cascade.add(entries.next(), Origin.AUTHOR, 0);
+        }
+        cascade.addStyleAttribute(styleAttribute);
+        return cache.resolve(cascade);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void sameRules() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+        final CSSStyleSharingCache cache = new CSSStyleSharingCache(10);
+
+        final CSSStyleDeclarationImpl first = resolve(cache, sheet, "a", null);
+        Assert.assertEquals("color: red; width: 1px", first.toString());
+        Assert.assertSame(first, resolve(cache, sheet, "a", null));
+        Assert.assertEquals(1, cache.getMisses());
+        Assert.assertEquals(1, cache.getHits());
+
+        final CSSStyleDeclarationImpl other = resolve(cache, sheet, "b", null);
+        Assert.assertEquals("color: red; width: 2px", other.toString());
+        Assert.assertNotSame(first, other);
+        Assert.assertEquals(2, cache.size());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void styleAttribute() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+        final CSSStyleSharingCache cache = new CSSStyleSharingCache(10);
+
+        final CSSStyleDeclarationImpl plain = resolve(cache, sheet, "a", null);
+        final CSSStyleDeclarationImpl inline = resolve(cache, sheet, "a", parseStyle("color: blue"));
+        Assert.assertEquals("width: 1px; color: blue", inline.toString());
+        Assert.assertNotSame(plain, inline);
+
+        // the style attribute is part of the key by identity
+        final CSSStyleDeclarationImpl attribute = parseStyle("color: green");
+        final CSSStyleDeclarationImpl green = resolve(cache, sheet, "a", attribute);
+        Assert.assertSame(green, resolve(cache, sheet, "a", attribute));
+        Assert.assertNotSame(green, resolve(cache, sheet, "a", parseStyle("color: green")));
+
+        // modifications of the style attribute are detected
+        attribute.setProperty("color", "black", null);
+        Assert.assertEquals("width: 1px; color: black", resolve(cache, sheet, "a", attribute).toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void modifiedRule() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+        final CSSStyleSharingCache cache = new CSSStyleSharingCache(10);
+
+        final CSSStyleDeclarationImpl first = resolve(cache, sheet, "a", null);
+        ((CSSStyleRuleImpl) sheet.getCssRules().getRules().get(0)).getStyle().setProperty("color", "green", null);
+
+        final CSSStyleDeclarationImpl second = resolve(cache, sheet, "a", null);
+        Assert.assertNotSame(first, second);
+        Assert.assertEquals("color: green; width: 1px", second.toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void maxSize() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+        final CSSStyleSharingCache cache = new CSSStyleSharingCache(1);
+
+        final CSSStyleDeclarationImpl first = resolve(cache, sheet, "a", null);
+        resolve(cache, sheet, "b", null);
+        Assert.assertEquals(1, cache.size());
+        Assert.assertNotSame(first, resolve(cache, sheet, "a", null));
+
+        cache.clear();
+        Assert.assertEquals(0, cache.size());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void readOnly() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+        final CSSStyleDeclarationImpl style = resolve(new CSSStyleSharingCache(10), sheet, "a", null);
+        Assert.assertTrue(style.isReadOnly());
+
+        try {
+            style.setProperty("color", "blue", null);
+            Assert.fail("DOMException expected");
+        }
+        catch (final DOMException e) {
+            Assert.assertEquals(DOMException.NO_MODIFICATION_ALLOWED_ERR, e.code);
+            Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("This declaration is read only"));
+        }
+
+        try {
+            style.getProperties().clear();
+            Assert.fail("UnsupportedOperationException expected");
+        }
+        catch (final UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals("color: red; width: 1px", style.toString());
+
+        // the properties are copies, the rule is not changed
+        style.getPropertyDeclaration("color").setImportant(true);
+        Assert.assertEquals("color: red",
+                ((CSSStyleRuleImpl) sheet.getCssRules().getRules().get(0)).getStyle().toString());
+    }
+}
@@ -19,6 +19,8 @@
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Iterator;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -26,6 +28,7 @@
 
 import com.gargoylesoftware.css.parser.CSSOMParser;
 import com.gargoylesoftware.css.parser.InputSource;
+import com.gargoylesoftware.css.parser.selector.Selector;
 
 /**
  * Unit tests for {@link CSSStyleSheetImpl}.
@@ -216,4 +219,100 @@ public void getCssTextFormated() throws Exception {
 
         Assert.assertEquals("h1 { color: blue }", value.toString());
     }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void ruleIndexBuckets() throws Exception {
+        final CSSStyleSheetImpl ss = parseStyleSheet(
+                "* { color: red }"
+                + " p { color: red }"
+                + " .a, p.a { color: red }"
+                + " #main, div#main.a, :hover #main { color: red }"
+                + " [title], a[HREF^='http'] { color: red }"
+                + " :hover { color: red }"
+                + " p::before { color: red }"
+                + " div > #x::after { color: red }");
+
+        final CSSStyleSheetImpl.CSSStyleSheetRuleIndex index = new CSSStyleSheetImpl.CSSStyleSheetRuleIndex();
+        for (AbstractCSSRuleImpl rule : ss.getCssRules().getRules()) {
+            final CSSStyleRuleImpl styleRule = (CSSStyleRuleImpl) rule;
+            for (Selector selector : styleRule.getSelectors()) {
+                index.add(selector, styleRule);
+            }
+        }
+
+        Assert.assertEquals("*; *:hover",
+                selectors(index.getSelectorEntriesIteratorFor("span", null, null, null)));
+        Assert.assertEquals("*; *:hover; p; p::before",
+                selectors(index.getSelectorEntriesIteratorFor("p", null, null, null)));
+        Assert.assertEquals("*; *:hover; p; p::before; *.a; p.a",
+                selectors(index.getSelectorEntriesIteratorFor("p", new String[] {"a"}, null, null)));
+        Assert.assertEquals("*; *:hover; *#main; div#main.a; *:hover *#main",
+                selectors(index.getSelectorEntriesIteratorFor("div", null, "main", null)));
+        Assert.assertEquals("*; *:hover; div > *#x::after",
+                selectors(index.getSelectorEntriesIteratorFor("div", null, "x", null)));
+        Assert.assertEquals("*; *:hover; *[title]; a[HREF^=\"http\"]",
+                selectors(index.getSelectorEntriesIteratorFor("a", null, null, new String[] {"title", "href"})));
+
+        // without id and attribute names all these selectors are candidates
+        final String[] all = selectors(index.getSelectorEntriesIteratorFor("span", null)).split("; ");
+        Arrays.sort(all);
+        Assert.assertEquals("[*, *#main, *:hover, *:hover *#main, *[title], a[HREF^=\"http\"],"
+                + " div > *#x::after, div#main.a]", Arrays.toString(all));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void ruleIndexVisitor() throws Exception {
+        final CSSStyleSheetImpl ss = parseStyleSheet(
+                "* { color: red }"
+                + " p, div { color: red }"
+                + " .a, p.a, div.a, .b, p.b { color: red }"
+                + " #main, [title] { color: red }"
+                + " p::before { color: red }");
+
+        final CSSStyleSheetImpl.CSSStyleSheetRuleIndex index = new CSSStyleSheetImpl.CSSStyleSheetRuleIndex();
+        for (AbstractCSSRuleImpl rule : ss.getCssRules().getRules()) {
+            final CSSStyleRuleImpl styleRule = (CSSStyleRuleImpl) rule;
+            for (Selector selector : styleRule.getSelectors()) {
+                index.add(selector, styleRule);
+            }
+        }
+
+        final String[][] classes = {null, {}, {"a"}, {"b", "a"}, {"c"}};
+        final String[] elements = {null, "p", "div", "span"};
+        for (String element : elements) {
+            for (String[] clazz : classes) {
+                final Iterator<CSSStyleSheetImpl.SelectorEntry> iterator =
+                        index.getSelectorEntriesIteratorFor(element, clazz, "main", new String[] {"title"});
+                final StringBuilder visited = new StringBuilder();
+                index.forEachSelectorEntry(element, clazz, "main", new String[] {"title"}, entry -> {
+                    if (visited.length() > 0) {
+                        visited.append("; ");
+                    }
+                    visited.append(entry.getSelector());
+                });
+                Assert.assertEquals(selectors(iterator), visited.toString());
+            }
+        }
+
+        Assert.assertEquals("*; p; p::before; *.b; p.b; *.a; p.a; *#main; *[title]",
+                selectors(index.getSelectorEntriesIteratorFor("p", new String[] {"b", "a"},
+                        "main", new String[] {"title"})));
+    }
+
+    private static String selectors(final Iterator<CSSStyleSheetImpl.SelectorEntry> iterator) {
+        final StringBuilder result = new StringBuilder();
+        while (iterator.hasNext()) {
+            if (result.length() > 0) {
+                result.append("; ");
+            }
+            result.append(iterator.next().getSelector());
+        }
+        return result.toString();
+    }
 }
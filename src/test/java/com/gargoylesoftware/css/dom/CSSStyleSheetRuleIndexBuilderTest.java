@@ -0,0 +1,260 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.dom;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.CSSStyleSheetRuleIndex;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.SelectorEntry;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Unit tests for {@link CSSStyleSheetRuleIndexBuilder}.
+ *
+ * @author Ronald Brill
+ */
+public class CSSStyleSheetRuleIndexBuilderTest {
+
+    private static final String CSS =
+            "@charset 'utf-8';"
+            + " * { color: red }"
+            + " p, div.a { color: red }"
+            + " @media print { p { color: blue } #x { color: blue } @media (color) { .a { color: blue } } }"
+            + " @font-face { font-family: x }"
+            + " .a, [title] { color: red }"
+            + " @media screen { p { color: green } }"
+            + " @media print { div { color: blue } }";
+
+    private static CSSStyleSheetImpl parse(final String css) throws Exception {
+        final InputSource is = new InputSource(new StringReader(css));
+        return new CSSOMParser().parseStyleSheet(is, null);
+    }
+
+    /**
+     * Dumps the candidates for a set of elements; all entries are sorted in document order.
+     */
+    private static String dump(final CSSStyleSheetRuleIndex index) {
+        final StringBuilder result = new StringBuilder();
+        dump(index, result, "");
+        return result.toString();
+    }
+
+    private static void dump(final CSSStyleSheetRuleIndex index, final StringBuilder result, final String indent) {
+        final String[] elements = {"p", "div", "span"};
+        final String[][] classes = {null, {"a"}};
+        for (String element : elements) {
+            for (String[] clazz : classes) {
+                final List<SelectorEntry> entries = new ArrayList<>();
+                final Iterator<SelectorEntry> iterator =
+                        index.getSelectorEntriesIteratorFor(element, clazz, "x", new String[] {"title"});
+                while (iterator.hasNext()) {
+                    entries.add(iterator.next());
+                }
+                entries.sort((e1, e2) -> Long.compare(e1.getOrder(), e2.getOrder()));
+
+                result.append(indent).append(element).append(clazz == null ? "" : ".a").append(":");
+                for (SelectorEntry entry : entries) {
+                    result.append(' ').append(entry.getSelector()).append(" {")
+                        .append(entry.getRule().getStyle()).append('}');
+                }
+                result.append('\n');
+            }
+        }
+        for (CSSStyleSheetRuleIndex child : index.getChildren()) {
+            result.append(indent).append("@media ").append(child.getMediaList()).append('\n');
+            dump(child, result, indent + "  ");
+        }
+    }
+
+    private static void assertIndex(final CSSStyleSheetImpl sheet) throws Exception {
+        final CSSStyleSheetImpl fresh = parse(sheet.toString());
+        Assert.assertEquals(dump(fresh.buildRuleIndex()), dump(sheet.getRuleIndex()));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void build() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        final CSSStyleSheetRuleIndex index = sheet.buildRuleIndex();
+        Assert.assertSame(index, sheet.getRuleIndex());
+        Assert.assertSame(index, sheet.buildRuleIndex());
+
+        Assert.assertEquals(
+                "p: * {color: red} p {color: red}\n"
+                + "p.a: * {color: red} p {color: red} *.a {color: red}\n"
+                + "div: * {color: red}\n"
+                + "div.a: * {color: red} div.a {color: red} *.a {color: red}\n"
+                + "span: * {color: red}\n"
+                + "span.a: * {color: red} *.a {color: red}\n"
+                + "@media print\n"
+                + "  p: p {color: blue} *#x {color: blue}\n"
+                + "  p.a: p {color: blue} *#x {color: blue}\n"
+                + "  div: *#x {color: blue} div {color: blue}\n"
+                + "  div.a: *#x {color: blue} div {color: blue}\n"
+                + "  span: *#x {color: blue}\n"
+                + "  span.a: *#x {color: blue}\n"
+                + "  @media all and (color)\n"
+                + "    p:\n"
+                + "    p.a: *.a {color: blue}\n"
+                + "    div:\n"
+                + "    div.a: *.a {color: blue}\n"
+                + "    span:\n"
+                + "    span.a: *.a {color: blue}\n"
+                + "@media screen\n"
+                + "  p: p {color: green}\n"
+                + "  p.a: p {color: green}\n"
+                + "  div:\n"
+                + "  div.a:\n"
+                + "  span:\n"
+                + "  span.a:\n",
+                dump(index).replace(" *[title] {color: red}", ""));
+
+        sheet.resetRuleIndex();
+        Assert.assertNull(sheet.getRuleIndex());
+        Assert.assertNotSame(index, sheet.buildRuleIndex());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void insertRule() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        final CSSStyleSheetRuleIndex index = sheet.buildRuleIndex();
+
+        sheet.insertRule("p { color: black }", 1);
+        assertIndex(sheet);
+        sheet.insertRule("p, .a { color: yellow }", sheet.getCssRules().getLength());
+        assertIndex(sheet);
+        sheet.insertRule("@media print { p.a { color: yellow } }", 4);
+        assertIndex(sheet);
+        sheet.insertRule("span { color: black }", 1);
+        assertIndex(sheet);
+
+        final CSSMediaRuleImpl media = (CSSMediaRuleImpl) sheet.getCssRules().getRules().get(6);
+        Assert.assertEquals("print", media.getMediaList().getMediaText());
+        media.insertRule("p { color: white }", 0);
+        assertIndex(sheet);
+        media.insertRule("div { color: white }", 2);
+        assertIndex(sheet);
+        media.insertRule("span { color: white }", media.getCssRules().getLength());
+        assertIndex(sheet);
+
+        final CSSMediaRuleImpl nested = (CSSMediaRuleImpl) media.getCssRules().getRules().get(4);
+        nested.insertRule("p { color: gray }", 1);
+        assertIndex(sheet);
+        Assert.assertSame(nested, nested.getCssRules().getRules().get(1).getParentRule());
+
+        Assert.assertSame(index, sheet.getRuleIndex());
+        Assert.assertEquals(1, sheet.getRuleIndexBuilder().getRebuildCount());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void insertRuleManyTimes() throws Exception {
+        final CSSStyleSheetImpl sheet = parse("p { color: red } div { color: red }");
+        sheet.buildRuleIndex();
+
+        // the gap between both rules is used up after some inserts
+        for (int i = 0; i < 100; i++) {
+            sheet.insertRule("p { color: #" + (100 + i) + " }", 1);
+        }
+        assertIndex(sheet);
+        Assert.assertTrue(sheet.getRuleIndexBuilder().getRebuildCount() > 1);
+        Assert.assertTrue(sheet.getRuleIndexBuilder().getRebuildCount() < 10);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void deleteRule() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+
+        sheet.deleteRule(2);
+        assertIndex(sheet);
+
+        final CSSMediaRuleImpl media = (CSSMediaRuleImpl) sheet.getCssRules().getRules().get(2);
+        media.deleteRule(0);
+        assertIndex(sheet);
+
+        sheet.deleteRule(1);
+        assertIndex(sheet);
+        Assert.assertEquals(1, sheet.getRuleIndexBuilder().getRebuildCount());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void changeSelectors() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+
+        final CSSStyleRuleImpl rule = (CSSStyleRuleImpl) sheet.getCssRules().getRules().get(2);
+        rule.setSelectorText("span, p.a, div");
+        assertIndex(sheet);
+
+        final CSSMediaRuleImpl media = (CSSMediaRuleImpl) sheet.getCssRules().getRules().get(3);
+        ((CSSStyleRuleImpl) media.getCssRules().getRules().get(0)).setSelectorText("div.a");
+        assertIndex(sheet);
+
+        ((CSSStyleRuleImpl) sheet.getCssRules().getRules().get(1)).setCssText("p { color: black }");
+        assertIndex(sheet);
+        Assert.assertEquals(1, sheet.getRuleIndexBuilder().getRebuildCount());
+
+        media.setCssText("@media screen { span { color: white } }");
+        assertIndex(sheet);
+        Assert.assertEquals(2, sheet.getRuleIndexBuilder().getRebuildCount());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void changeMedia() throws Exception {
+        final CSSStyleSheetImpl sheet = parse(CSS);
+        sheet.buildRuleIndex();
+
+        // the first of the two print rules
+        final CSSMediaRuleImpl media = (CSSMediaRuleImpl) sheet.getCssRules().getRules().get(3);
+        media.getMediaList().setMediaText("speech");
+        Assert.assertEquals("print, speech", media.getMediaList().getMediaText());
+        assertIndex(sheet);
+        Assert.assertEquals(2, sheet.getRuleIndexBuilder().getRebuildCount());
+
+        // the other print rule is still indexed as print
+        sheet.insertRule("@media print { span { color: white } }", sheet.getCssRules().getLength());
+        assertIndex(sheet);
+
+        final CSSMediaRuleImpl screen = (CSSMediaRuleImpl) sheet.getCssRules().getRules().get(6);
+        screen.getMediaList().setMedia(Arrays.asList("print"));
+        assertIndex(sheet);
+        Assert.assertEquals(3, sheet.getRuleIndexBuilder().getRebuildCount());
+    }
+}
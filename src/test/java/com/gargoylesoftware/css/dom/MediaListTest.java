@@ -20,6 +20,8 @@
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.gargoylesoftware.css.parser.media.MediaQueryList;
+
 /**
  * Unit tests for {@link MediaListImpl}.
  *
@@ -103,4 +105,31 @@ public void getMediaTextFormated() throws Exception {
         Assert.assertEquals("newMedium", ml.toString());
         Assert.assertEquals("newMedium", ml.getMediaText());
     }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void mediaQueryListSnapshot() throws Exception {
+        final MediaListImpl ml = new MediaListImpl(null);
+        ml.setMedia(Arrays.asList("screen", "print"));
+
+        final MediaQueryList snapshot = ml.getMediaQueryList();
+        Assert.assertTrue(snapshot.isImmutable());
+        Assert.assertEquals("[screen, print]", snapshot.getMediaQueries().toString());
+        Assert.assertSame(snapshot, ml.getMediaQueryList());
+
+        ml.setMedia(Arrays.asList("speech"));
+        final MediaQueryList changed = ml.getMediaQueryList();
+        Assert.assertEquals("[speech]", changed.getMediaQueries().toString());
+        Assert.assertSame(changed, ml.getMediaQueryList());
+
+        ml.setMediaText("print and (color)");
+        Assert.assertEquals("[speech, print and (color)]", ml.getMediaQueryList().getMediaQueries().toString());
+        Assert.assertSame(ml.getMediaQueryList(), ml.getMediaQueryList());
+
+        ml.mediaQuery(1).addMediaProperty(new Property("max-width", null, false));
+        Assert.assertEquals("[speech, print and (color) and (max-width)]",
+                ml.getMediaQueryList().getMediaQueries().toString());
+    }
 }
@@ -14,11 +14,19 @@
  */
 package com.gargoylesoftware.css.dom;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Assert;
 import org.junit.Test;
 
 import com.gargoylesoftware.css.parser.LexicalUnit;
 import com.gargoylesoftware.css.parser.LexicalUnitImpl;
+import com.gargoylesoftware.css.util.CSSProperties;
+import com.gargoylesoftware.css.util.CSSPropertyNames;
 
 /**
  * Unit tests for {@link Property}.
@@ -91,4 +99,42 @@ public void constructWithParams() throws Exception {
         Assert.assertEquals("13.2cm", prop.getValue().toString());
         Assert.assertFalse(prop.isImportant());
     }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void id() throws Exception {
+        final Property prop = new Property("Color", null, false);
+        Assert.assertEquals(CSSPropertyNames.getId(CSSProperties.COLOR), prop.getId());
+
+        prop.setName("my-prop");
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, prop.getId());
+
+        prop.setName(null);
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, prop.getId());
+    }
+
+    /**
+     * The id is not part of the serialized form.
+     *
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void idSerialization() throws Exception {
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(new Property("Color", null, false));
+            oos.writeObject(new Property("my-prop", null, false));
+        }
+        Assert.assertFalse(new String(baos.toByteArray(), StandardCharsets.ISO_8859_1).contains("id_"));
+
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            final Property color = (Property) ois.readObject();
+            Assert.assertEquals(CSSPropertyNames.getId(CSSProperties.COLOR), color.getId());
+
+            final Property unknown = (Property) ois.readObject();
+            Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, unknown.getId());
+        }
+    }
 }
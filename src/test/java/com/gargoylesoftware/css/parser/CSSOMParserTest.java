@@ -14,13 +14,21 @@
  */
 package com.gargoylesoftware.css.parser;
 
+import java.io.InputStream;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import org.apache.commons.io.IOUtils;
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.gargoylesoftware.css.ErrorHandler;
 import com.gargoylesoftware.css.dom.AbstractCSSRuleImpl;
+import com.gargoylesoftware.css.dom.CSSMediaRuleImpl;
 import com.gargoylesoftware.css.dom.CSSPageRuleImpl;
 import com.gargoylesoftware.css.dom.CSSRuleListImpl;
 import com.gargoylesoftware.css.dom.CSSStyleDeclarationImpl;
@@ -531,4 +539,181 @@ public void overwriteProperties() throws Exception {
         Assert.assertEquals("background-size", prop.getName());
         Assert.assertEquals("190px 48px", prop.getValue().getCssText());
     }
+
+    /**
+     * The default ctor uses pooled parsers; make sure no state survives
+     * from one parse call to the next.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void pooledParserState() throws Exception {
+        final ErrorHandler errorHandler = new ErrorHandler();
+        final CSSOMParser parser = new CSSOMParser();
+        parser.setErrorHandler(errorHandler);
+        parser.setCreateLocators(false);
+
+        CSSStyleDeclarationImpl decl = parser.parseStyleDeclaration("color: red; *margin: 0");
+        Assert.assertEquals("color: red", decl.getCssText());
+        Assert.assertNull(decl.getProperties().get(0).getLocator());
+        Assert.assertEquals(1, errorHandler.getErrorCount());
+
+        // another parser does not see the handler and the settings of the first one
+        final CSSOMParser parser2 = new CSSOMParser();
+        parser2.setErrorHandler(new ErrorHandler());
+        decl = parser2.parseStyleDeclaration("color: red; *margin: 0");
+        Assert.assertEquals("color: red", decl.getCssText());
+        Assert.assertNotNull(decl.getProperties().get(0).getLocator());
+        Assert.assertEquals(1, errorHandler.getErrorCount());
+
+        // but the first one still uses its own
+        decl = parser.parseStyleDeclaration("*margin: 0");
+        Assert.assertEquals("", decl.getCssText());
+        Assert.assertEquals(2, errorHandler.getErrorCount());
+    }
+
+    /**
+     * Parsing the style sheet triggers a nested parse of the media (on the same thread).
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void pooledParserNested() throws Exception {
+        final CSSOMParser parser = new CSSOMParser();
+        final InputSource source = new InputSource("h1 { color: red } @media print { h2 { color: blue } }");
+        source.setMedia("screen, print");
+
+        final CSSStyleSheetImpl sheet = parser.parseStyleSheet(source, null);
+        Assert.assertEquals("screen, print", sheet.getMedia().getMediaText());
+        Assert.assertEquals(2, sheet.getCssRules().getLength());
+        Assert.assertEquals("h1 { color: red }", sheet.getCssRules().getRules().get(0).getCssText());
+        Assert.assertEquals("@media print {h2 { color: blue } }",
+                sheet.getCssRules().getRules().get(1).getCssText());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parseStyleSheetStreaming() throws Exception {
+        final String css = "@charset 'UTF-8';\n"
+                + "@import 'imp.css' print;\n"
+                + "h1 { color: red }\n"
+                + "@media print { h2 { color: blue } p { top: 0 } }\n"
+                + "@font-face { font-family: abc }\n"
+                + "@page :first { margin: 1cm }\n"
+                + "@foo bar;\n"
+                + "h3 { color: green; top: 1px }";
+
+        final CSSOMParser parser = new CSSOMParser();
+        final CSSStyleSheetImpl sheet = parser.parseStyleSheet(new InputSource(css), "http://example.com/");
+
+        final List<AbstractCSSRuleImpl> rules = new ArrayList<>();
+        parser.parseStyleSheet(new InputSource(new StringReader(css)), "http://example.com/", rule -> {
+            // the rules are not collected
+            Assert.assertEquals(0, rule.getParentStyleSheet().getCssRules().getLength());
+            Assert.assertEquals("http://example.com/", rule.getParentStyleSheet().getHref());
+            rules.add(rule);
+        });
+
+        final CSSRuleListImpl expected = sheet.getCssRules();
+        Assert.assertEquals(8, expected.getLength());
+        Assert.assertEquals(expected.getLength(), rules.size());
+        for (int i = 0; i < rules.size(); i++) {
+            Assert.assertEquals(expected.getRules().get(i).getCssText(), rules.get(i).getCssText());
+            Assert.assertNull(rules.get(i).getParentRule());
+        }
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parallelParsing() throws Exception {
+        final StringBuilder css = new StringBuilder("@charset 'UTF-8';\n@import 'imp.css';\n");
+        for (int i = 0; i < 200; i++) {
+            css.append("h").append(i).append(" { color: red; top: ").append(i).append("px }\n")
+                .append("@media print {\r\n  p.c").append(i).append(" { color: #fff }\r\n}\r")
+                .append("/* } { */ a[title='}'] { background: url(x{.png) }\t");
+            if (i % 50 == 0) {
+                // errors
+                css.append("h1 { color: red; *color: blue; } ;; % p {} @import 'late.css';\n");
+            }
+        }
+        Assert.assertTrue(StyleSheetSplitter.split(css.toString(), 4).size() > 100);
+        assertParallelParsing(css.toString(), 4);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parallelParsingRealWorld() throws Exception {
+        final String[] files = {"all.css", "bootstrap_3_3_7_min.css", "compass-homestyle.css", "home.built.css",
+            "load.php.css", "mui.css", "normalize.css", "style-V5-11.css", "style.csx.css", "www.css"};
+        for (final String file : files) {
+            try (InputStream is = getClass().getClassLoader().getResourceAsStream("realworld/" + file)) {
+                assertParallelParsing(IOUtils.toString(is, StandardCharsets.UTF_8), 1024);
+            }
+        }
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parallelParsingFallback() throws Exception {
+        // unbalanced
+        assertParallelParsing("h1 { color: red } h2 { color: blue } } h3 { top: 0 }", 4);
+        assertParallelParsing("h1 { color: red } h2 { color: blue } h3 { top: 0 ", 4);
+        // late import
+        assertParallelParsing("h1 { color: red } h2 { color: blue } @import 'x.css'; h3 { top: 0 }", 4);
+        // unterminated
+        assertParallelParsing("h1 { color: red } h2 { color: blue } h3 { top: 0 } /* h4 { }", 4);
+        assertParallelParsing("h1 { color: red } h2 { color: blue } h3 { top: 0 } h4 { content: 'a }", 4);
+    }
+
+    private static void assertParallelParsing(final String css, final int chunkSize) throws Exception {
+        final ErrorHandler errorHandler = new ErrorHandler();
+        final CSSOMParser parser = new CSSOMParser();
+        parser.setErrorHandler(errorHandler);
+        final CSSStyleSheetImpl sheet = parser.parseStyleSheet(new InputSource(css), "http://example.com/");
+
+        final ErrorHandler parallelErrorHandler = new ErrorHandler();
+        final CSSOMParser parallelParser = new CSSOMParser();
+        parallelParser.setErrorHandler(parallelErrorHandler);
+        parallelParser.setParallelParsing(ForkJoinPool.commonPool());
+        parallelParser.setParallelChunkSize(chunkSize);
+        final CSSStyleSheetImpl parallelSheet = parallelParser.parseStyleSheet(
+                new InputSource(new StringReader(css)), "http://example.com/");
+
+        Assert.assertEquals(dump(sheet.getCssRules()), dump(parallelSheet.getCssRules()));
+        Assert.assertEquals(sheet.toString(), parallelSheet.toString());
+        Assert.assertEquals("http://example.com/", parallelSheet.getHref());
+
+        Assert.assertEquals(errorHandler.getErrorCount(), parallelErrorHandler.getErrorCount());
+        Assert.assertEquals(errorHandler.getErrorMessage(), parallelErrorHandler.getErrorMessage());
+        Assert.assertEquals(errorHandler.getErrorLines(), parallelErrorHandler.getErrorLines());
+        Assert.assertEquals(errorHandler.getErrorColumns(), parallelErrorHandler.getErrorColumns());
+        Assert.assertEquals(errorHandler.getWarningMessage(), parallelErrorHandler.getWarningMessage());
+        Assert.assertEquals(errorHandler.getWarningLines(), parallelErrorHandler.getWarningLines());
+        Assert.assertEquals(errorHandler.getWarningColumns(), parallelErrorHandler.getWarningColumns());
+    }
+
+    private static String dump(final CSSRuleListImpl rules) {
+        final StringBuilder dump = new StringBuilder();
+        for (final AbstractCSSRuleImpl rule : rules.getRules()) {
+            dump.append(rule.getLocator()).append(' ').append(rule.getCssText()).append('\n');
+            if (rule.getParentStyleSheet() == null) {
+                dump.append("no parent style sheet\n");
+            }
+            if (rule instanceof CSSStyleRuleImpl) {
+                for (final Property property : ((CSSStyleRuleImpl) rule).getStyle().getProperties()) {
+                    dump.append("  ").append(property.getLocator()).append(' ').append(property).append('\n');
+                }
+            }
+            else if (rule instanceof CSSMediaRuleImpl) {
+                dump.append(dump(((CSSMediaRuleImpl) rule).getCssRules()));
+            }
+        }
+        return dump.toString();
+    }
 }
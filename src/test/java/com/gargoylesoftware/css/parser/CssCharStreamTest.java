@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.io.InputStream;
+import java.io.StringReader;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserConstants;
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserTokenManager;
+import com.gargoylesoftware.css.parser.javacc.Token;
+
+/**
+ * Tests for {@link CssCharStream}.
+ *
+ * @author Ronald Brill
+ */
+public class CssCharStreamTest {
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void lineColumn() throws Exception {
+        final CssCharStream stream = new CssCharStream(new StringReader("ab\r\ncd\re\n\nf"), 1, 1);
+        final String expected = "a1:1 b1:2 \r1:3 \n1:4 c2:1 d2:2 \r2:3 e3:1 \n3:2 \n4:1 f5:1 ";
+
+        final StringBuilder found = new StringBuilder();
+        for (int i = 0; i < 11; i++) {
+            final char c = stream.readChar();
+            found.append(c).append(stream.getEndLine()).append(':').append(stream.getEndColumn()).append(' ');
+        }
+        Assert.assertEquals(expected, found.toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void startLineColumn() throws Exception {
+        final CssCharStream stream = new CssCharStream(new StringReader("ab\ncd"), 7, 10);
+
+        Assert.assertEquals('a', stream.BeginToken());
+        Assert.assertEquals(7, stream.getBeginLine());
+        Assert.assertEquals(10, stream.getBeginColumn());
+
+        stream.readChar();
+        stream.readChar();
+        Assert.assertEquals('c', stream.BeginToken());
+        Assert.assertEquals(8, stream.getBeginLine());
+        Assert.assertEquals(1, stream.getBeginColumn());
+
+        // backup does not change the numbers
+        stream.readChar();
+        stream.backup(2);
+        Assert.assertEquals('c', stream.BeginToken());
+        Assert.assertEquals(8, stream.getBeginLine());
+        Assert.assertEquals(1, stream.getBeginColumn());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void trackLineColumnDisabled() throws Exception {
+        final CssCharStream stream = new CssCharStream(new StringReader("ab\ncd"), 1, 1);
+        stream.setTrackLineColumn(false);
+        Assert.assertFalse(stream.getTrackLineColumn());
+
+        Assert.assertEquals('a', stream.BeginToken());
+        Assert.assertEquals('b', stream.readChar());
+        Assert.assertEquals(-1, stream.getBeginLine());
+        Assert.assertEquals(-1, stream.getBeginColumn());
+        Assert.assertEquals(-1, stream.getEndLine());
+        Assert.assertEquals(-1, stream.getEndColumn());
+        Assert.assertEquals("ab", stream.GetImage());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void adjustBeginLineColumn() throws Exception {
+        final CssCharStream stream = new CssCharStream(new StringReader("ab cd\nef"), 1, 1);
+        stream.BeginToken();
+        stream.readChar();
+        Assert.assertEquals(' ', stream.BeginToken());
+        stream.adjustBeginLineColumn(5, 20);
+
+        Assert.assertEquals(5, stream.getBeginLine());
+        Assert.assertEquals(20, stream.getBeginColumn());
+
+        Assert.assertEquals('c', stream.readChar());
+        Assert.assertEquals(5, stream.getEndLine());
+        Assert.assertEquals(21, stream.getEndColumn());
+
+        stream.readChar();
+        stream.readChar();
+        Assert.assertEquals('e', stream.readChar());
+        Assert.assertEquals(6, stream.getEndLine());
+        Assert.assertEquals(1, stream.getEndColumn());
+    }
+
+    /**
+     * Uses a tiny buffer to force wrapping and expanding of the ring buffer.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void smallBuffer() throws Exception {
+        final String css;
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream("realworld/normalize.css")) {
+            css = IOUtils.toString(is, "UTF-8");
+        }
+
+        final CSS3ParserTokenManager expected = new CSS3ParserTokenManager(new CssStringCharStream(css));
+        final CSS3ParserTokenManager found =
+                new CSS3ParserTokenManager(new CssCharStream(new StringReader(css), 1, 1, 16));
+
+        while (true) {
+            final Token expectedToken = expected.getNextToken();
+            final Token foundToken = found.getNextToken();
+
+            final String msg = "Token '" + expectedToken.image + "' at "
+                            + expectedToken.beginLine + ":" + expectedToken.beginColumn;
+            Assert.assertEquals(msg, expectedToken.kind, foundToken.kind);
+            Assert.assertEquals(msg, expectedToken.image, foundToken.image);
+            Assert.assertEquals(msg, expectedToken.beginLine, foundToken.beginLine);
+            Assert.assertEquals(msg, expectedToken.beginColumn, foundToken.beginColumn);
+            Assert.assertEquals(msg, expectedToken.endLine, foundToken.endLine);
+            Assert.assertEquals(msg, expectedToken.endColumn, foundToken.endColumn);
+
+            if (expectedToken.kind == CSS3ParserConstants.EOF) {
+                return;
+            }
+        }
+    }
+}
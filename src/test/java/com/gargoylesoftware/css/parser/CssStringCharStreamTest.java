@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.io.InputStream;
+import java.io.StringReader;
+
+import org.apache.commons.io.IOUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserConstants;
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserTokenManager;
+import com.gargoylesoftware.css.parser.javacc.CharStream;
+import com.gargoylesoftware.css.parser.javacc.Token;
+
+/**
+ * Tests for {@link CssStringCharStream}.
+ *
+ * @author Ronald Brill
+ */
+public class CssStringCharStreamTest {
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void lineBreaks() throws Exception {
+        assertSameTokens("");
+        assertSameTokens(" ");
+        assertSameTokens("h1 { color: red }");
+        assertSameTokens("h1\n{\ncolor: red\n}\n");
+        assertSameTokens("h1\r\n{\r\ncolor: red\r\n}\r\n");
+        assertSameTokens("h1\r{\rcolor: red\r}\r");
+        assertSameTokens("h1\n\r{\r\n\ncolor:\r\r red\n\n}");
+        assertSameTokens("/* comment\n over\r\n lines */ h1 { color: 'red' }");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void realWorld() throws Exception {
+        assertSameTokensForResource("realworld/all.css");
+        assertSameTokensForResource("realworld/bootstrap_3_3_7_min.css");
+        assertSameTokensForResource("realworld/compass-homestyle.css");
+        assertSameTokensForResource("realworld/home.built.css");
+        assertSameTokensForResource("realworld/load.php.css");
+        assertSameTokensForResource("realworld/mui.css");
+        assertSameTokensForResource("realworld/normalize.css");
+        assertSameTokensForResource("realworld/style-V5-11.css");
+        assertSameTokensForResource("realworld/style.csx.css");
+        assertSameTokensForResource("realworld/www.css");
+        assertSameTokensForResource("realworld/blueprint/screen.css");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void charArray() throws Exception {
+        final char[] chars = "h1 { color: red }  ignored".toCharArray();
+        final CSS3ParserTokenManager tm = new CSS3ParserTokenManager(new CssStringCharStream(chars, 17));
+
+        final StringBuilder images = new StringBuilder();
+        Token token = tm.getNextToken();
+        while (token.kind != CSS3ParserConstants.EOF) {
+            images.append(token.image).append('|');
+            token = tm.getNextToken();
+        }
+        Assert.assertEquals("h1| {| |color|:| |red| |}|", images.toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void inputSource() throws Exception {
+        final CSSOMParser parser = new CSSOMParser();
+        final String css = "h1 { color: red }\n\nh2 {\n  color: green }";
+        final InputSource source = new InputSource(css);
+        Assert.assertEquals(css, source.getContent());
+
+        Assert.assertEquals("h1 { color: red }\r\nh2 { color: green }",
+                parser.parseStyleSheet(source, null).toString().trim());
+        Assert.assertEquals(css, IOUtils.toString(source.getReader()));
+        source.close();
+    }
+
+    private void assertSameTokensForResource(final String resourceName) throws Exception {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resourceName)) {
+            assertSameTokens(IOUtils.toString(is, "UTF-8"));
+        }
+    }
+
+    private static void assertSameTokens(final String css) {
+        final CSS3ParserTokenManager expected = tokenManager(new CssCharStream(new StringReader(css), 1, 1));
+        final CSS3ParserTokenManager found = tokenManager(new CssStringCharStream(css));
+
+        while (true) {
+            final Token expectedToken = expected.getNextToken();
+            final Token foundToken = found.getNextToken();
+
+            final String msg = "Token '" + expectedToken.image + "' at "
+                            + expectedToken.beginLine + ":" + expectedToken.beginColumn;
+            Assert.assertEquals(msg, expectedToken.kind, foundToken.kind);
+            Assert.assertEquals(msg, expectedToken.image, foundToken.image);
+            Assert.assertEquals(msg, expectedToken.beginLine, foundToken.beginLine);
+            Assert.assertEquals(msg, expectedToken.beginColumn, foundToken.beginColumn);
+            Assert.assertEquals(msg, expectedToken.endLine, foundToken.endLine);
+            Assert.assertEquals(msg, expectedToken.endColumn, foundToken.endColumn);
+
+            if (expectedToken.kind == CSS3ParserConstants.EOF) {
+                return;
+            }
+        }
+    }
+
+    private static CSS3ParserTokenManager tokenManager(final CharStream charStream) {
+        return new CSS3ParserTokenManager(charStream);
+    }
+}
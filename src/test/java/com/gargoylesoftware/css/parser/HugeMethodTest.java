@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.parser.javacc.CSS3ParserTokenManager;
+
+/**
+ * HotSpot does not compile methods with more than 8000 bytes of byte code
+ * (-XX:HugeMethodLimit); such methods are always interpreted. This test checks
+ * the classes of the parser package (including the generated ones).
+ *
+ * @author Ronald Brill
+ */
+public class HugeMethodTest {
+
+    /** The default value of -XX:HugeMethodLimit. */
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void noHugeMethods() throws Exception {
+        final Path classes = Paths.get(CSS3ParserTokenManager.class.getProtectionDomain()
+                .getCodeSource().getLocation().toURI());
+        final List<Path> classFiles;
+        try (Stream<Path> files = Files.walk(classes.resolve("com/gargoylesoftware/css/parser"))) {
+            classFiles = files.filter(p -> p.toString().endsWith(".class")).collect(Collectors.toList());
+        }
+        Assert.assertTrue(classFiles.contains(classes.resolve(
+                "com/gargoylesoftware/css/parser/javacc/CSS3ParserTokenManager.class")));
+
+        final List<String> hugeMethods = new ArrayList<>();
+        for (Path classFile : classFiles) {
+            try (InputStream is = Files.newInputStream(classFile)) {
+                hugeMethods.addAll(hugeMethods(new DataInputStream(is), classFile.getFileName().toString()));
+            }
+        }
+        Assert.assertEquals(new ArrayList<String>(), hugeMethods);
+    }
+
+    /**
+     * Reads the class file and returns the methods having more code than the limit.
+     */
+    private static List<String> hugeMethods(final DataInputStream in, final String className) throws IOException {
+        Assert.assertEquals(className, 0xCAFEBABE, in.readInt());
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+
+        final int constantPoolCount = in.readUnsignedShort();
+        final String[] utf8 = new String[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            final int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1:
+                    utf8[i] = in.readUTF();
+                    break;
+                case 5:
+                case 6:
+                    // long and double take two entries
+                    in.skipBytes(8);
+                    i++;
+                    break;
+                case 3:
+                case 4:
+                case 9:
+                case 10:
+                case 11:
+                case 12:
+                case 17:
+                case 18:
+                    in.skipBytes(4);
+                    break;
+                case 15:
+                    in.skipBytes(3);
+                    break;
+                case 7:
+                case 8:
+                case 16:
+                case 19:
+                case 20:
+                    in.skipBytes(2);
+                    break;
+                default:
+                    Assert.fail(className + ": unknown constant pool tag " + tag);
+            }
+        }
+
+        // access flags, this class, super class
+        in.skipBytes(6);
+        in.skipBytes(2 * in.readUnsignedShort());
+
+        final int fieldCount = in.readUnsignedShort();
+        for (int i = 0; i < fieldCount; i++) {
+            in.skipBytes(6);
+            skipAttributes(in);
+        }
+
+        final List<String> result = new ArrayList<>();
+        final int methodCount = in.readUnsignedShort();
+        for (int i = 0; i < methodCount; i++) {
+            in.skipBytes(2);
+            final String name = utf8[in.readUnsignedShort()];
+            final String descriptor = utf8[in.readUnsignedShort()];
+
+            final int attributeCount = in.readUnsignedShort();
+            for (int j = 0; j < attributeCount; j++) {
+                final String attributeName = utf8[in.readUnsignedShort()];
+                final int length = in.readInt();
+                if ("Code".equals(attributeName)) {
+                    // max stack, max locals
+                    in.skipBytes(4);
+                    final int codeLength = in.readInt();
+                    // the static initializer runs only once, there is nothing to compile
+                    if (codeLength > HUGE_METHOD_LIMIT && !"<clinit>".equals(name)) {
+                        result.add(className + " " + name + descriptor + ": " + codeLength + " bytes");
+                    }
+                    in.skipBytes(length - 8);
+                }
+                else {
+                    in.skipBytes(length);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static void skipAttributes(final DataInputStream in) throws IOException {
+        final int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            in.skipBytes(2);
+            in.skipBytes(in.readInt());
+        }
+    }
+}
@@ -30,6 +30,7 @@
 import org.junit.Assert;
 import org.junit.Test;
 
+import com.gargoylesoftware.css.ErrorHandler;
 import com.gargoylesoftware.css.dom.AbstractCSSRuleImpl;
 import com.gargoylesoftware.css.dom.CSSCharsetRuleImpl;
 import com.gargoylesoftware.css.dom.CSSFontFaceRuleImpl;
@@ -46,6 +47,7 @@
 import com.gargoylesoftware.css.dom.MediaListImpl;
 import com.gargoylesoftware.css.dom.Property;
 import com.gargoylesoftware.css.parser.javacc.CSS3Parser;
+import com.gargoylesoftware.css.parser.selector.Selector;
 
 /**
  * Testcases for correct error location reporting.
@@ -257,6 +259,72 @@ private void cssValue(final CSSValueImpl cssValue,
         }
     }
 
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void withoutLocators() throws Exception {
+        final String cssCode = CHARSET_RULE
+            + IMPORT_RULE
+            + UNKNOWN_AT_RULE
+            + PAGE_RULE
+            + FONT_FACE_RULE
+            + MEDIA_RULE_START
+            + STYLE_RULE
+            + "}\n"
+            + "p:first-line, a[href] > b + i ~ u { *color: red; margin: 1px 2px }";
+
+        final CSSOMParser parser = new CSSOMParser();
+        parser.setCreateLocators(false);
+        final ErrorHandler errorHandler = new ErrorHandler();
+        parser.setErrorHandler(errorHandler);
+
+        final CSSStyleSheetImpl sheet = parser.parseStyleSheet(new InputSource(cssCode), null);
+        Assert.assertEquals(7, sheet.getCssRules().getLength());
+        assertNoLocators(sheet.getCssRules());
+
+        // the positions are not tracked
+        Assert.assertEquals(1, errorHandler.getErrorCount());
+        Assert.assertEquals("-1", errorHandler.getErrorLines());
+        Assert.assertEquals("-1", errorHandler.getErrorColumns());
+
+        Assert.assertNull(parser.parsePropertyValue("1px solid red").getLocator());
+    }
+
+    private static void assertNoLocators(final CSSRuleListImpl rules) {
+        for (final AbstractCSSRuleImpl rule : rules.getRules()) {
+            Assert.assertNull(rule.getLocator());
+            if (rule instanceof CSSImportRuleImpl) {
+                Assert.assertNull(((CSSImportRuleImpl) rule).getMedia().getLocator());
+            }
+            else if (rule instanceof CSSMediaRuleImpl) {
+                Assert.assertNull(((CSSMediaRuleImpl) rule).getMediaList().getLocator());
+                assertNoLocators(((CSSMediaRuleImpl) rule).getCssRules());
+            }
+            else if (rule instanceof CSSPageRuleImpl) {
+                assertNoLocators(((CSSPageRuleImpl) rule).getStyle());
+            }
+            else if (rule instanceof CSSFontFaceRuleImpl) {
+                assertNoLocators(((CSSFontFaceRuleImpl) rule).getStyle());
+            }
+            else if (rule instanceof CSSStyleRuleImpl) {
+                final CSSStyleRuleImpl styleRule = (CSSStyleRuleImpl) rule;
+                Assert.assertNull(((Locatable) styleRule.getSelectors()).getLocator());
+                for (final Selector selector : styleRule.getSelectors()) {
+                    Assert.assertNull(selector.getLocator());
+                }
+                assertNoLocators(styleRule.getStyle());
+            }
+        }
+    }
+
+    private static void assertNoLocators(final CSSStyleDeclarationImpl style) {
+        for (final Property property : style.getProperties()) {
+            Assert.assertNull(property.getLocator());
+            Assert.assertNull(property.getValue().getLocator());
+        }
+    }
+
     /**
      * @throws Exception if any error occurs
      */
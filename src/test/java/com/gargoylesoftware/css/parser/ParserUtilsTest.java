@@ -51,4 +51,24 @@ public void trimUrl() {
 
         Assert.assertEquals("test", ParserUtils.trimUrl(new StringBuilder("url(   test \t )")));
     }
+
+    /**
+     * @throws Exception on failure
+     */
+    @Test
+    public void whitespaceImage() {
+        final String[] shared = {" ", "    ", "\n", "\n  ", "\r\n\t\t", "\t"};
+        for (String image : shared) {
+            final String fromChars = ParserUtils.whitespaceImage(("x" + image).toCharArray(), 1, image.length());
+            Assert.assertEquals(image, fromChars);
+            Assert.assertSame(fromChars, ParserUtils.whitespaceImage(image + "x", 0, image.length()));
+        }
+
+        final String[] notShared = {"a", "\n\n", " \n", "\t ", "\f",
+            "                                   "};
+        for (String image : notShared) {
+            Assert.assertNull(image, ParserUtils.whitespaceImage(image.toCharArray(), 0, image.length()));
+            Assert.assertNull(image, ParserUtils.whitespaceImage(image, 0, image.length()));
+        }
+    }
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.parser.javacc.CSS3Parser;
+
+/**
+ * Tests for {@link SingleTokenValueParser}.
+ *
+ * @author Ronald Brill
+ */
+public class SingleTokenValueParserTest {
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void identifiers() throws Exception {
+        assertSimple("red");
+        assertSimple("auto");
+        assertSimple("none");
+        assertSimple("Red");
+        assertSimple("-moz-box");
+        assertSimple("_hack");
+        assertSimple("sans-serif");
+        assertSimple("h1");
+        assertSimple("inherit");
+        assertSimple("INHERIT");
+        assertSimple("inherited");
+        assertSimple("-inherit");
+        assertSimple("progid");
+        assertSimple("url");
+        assertSimple("u");
+        assertSimple("äbc");
+        assertSimple("nota");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void numbers() throws Exception {
+        assertSimple("0");
+        assertSimple("10");
+        assertSimple("-10");
+        assertSimple("+10");
+        assertSimple("-0");
+        assertSimple("1.5");
+        assertSimple(".5");
+        assertSimple("-.5");
+        assertSimple("007");
+        assertSimple("1.0");
+        assertSimple("12345678901234567890");
+        assertSimple("50%");
+        assertSimple("-12.5%");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void dimensions() throws Exception {
+        final String[] units = {"px", "cm", "mm", "in", "pt", "pc", "em", "rem", "ex",
+            "deg", "rad", "grad", "ms", "s", "hz", "khz", "dpi", "dpcm",
+            "PX", "Em", "DPI", "kHz", "n", "e", "fr", "vh", "pxx", "ems", "url", "inherit"};
+        for (final String unit : units) {
+            assertSimple("10" + unit);
+            assertSimple("-1.5" + unit);
+            assertSimple("+.5" + unit);
+        }
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void hexColors() throws Exception {
+        assertSimple("#fff");
+        assertSimple("#FFF");
+        assertSimple("#000000");
+        assertSimple("#a1B2c3");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void strings() throws Exception {
+        assertSimple("''");
+        assertSimple("\"\"");
+        assertSimple("'abc'");
+        assertSimple("\"a 'b' c\"");
+        assertSimple("'a \"b\" c'");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void trailingWhitespace() throws Exception {
+        assertSimple("red ");
+        assertSimple("10px \t\r\n\f");
+        assertSimple("#fff\n");
+        assertSimple("'abc'  ");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void withoutLocators() throws Exception {
+        final CSS3Parser parser = new CSS3Parser();
+        parser.setCreateLocators(false);
+
+        final LexicalUnit lu = parser.parsePropertyValue(new InputSource("10px"));
+        Assert.assertEquals("10px", lu.toString());
+        Assert.assertNull(lu.getLocator());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void fallback() throws Exception {
+        assertNotSimple("");
+        assertNotSimple(" ");
+        assertNotSimple(" red");
+        assertNotSimple("red blue");
+        assertNotSimple("1px solid red");
+        assertNotSimple("red,blue");
+        assertNotSimple("red;");
+        assertNotSimple("red }");
+        assertNotSimple("red /* comment */");
+        assertNotSimple("red !important");
+        assertNotSimple("rgb(1, 2, 3)");
+        assertNotSimple("url(abc.png)");
+        assertNotSimple("u+0025-00ff");
+        assertNotSimple("progid:DXImageTransform.Microsoft.gradient(enabled=false)");
+        assertNotSimple("re\\64");
+        assertNotSimple("'a\\'b'");
+        assertNotSimple("'abc");
+        assertNotSimple("'abc\"");
+        assertNotSimple("'a\nb'");
+        assertNotSimple("#ff");
+        assertNotSimple("#ffff");
+        assertNotSimple("#ggg");
+        assertNotSimple("#");
+        assertNotSimple("and");
+        assertNotSimple("NOT");
+        assertNotSimple("only");
+        assertNotSimple("--var");
+        assertNotSimple("-");
+        assertNotSimple("+");
+        assertNotSimple("+red");
+        assertNotSimple("- 10px");
+        assertNotSimple("1.");
+        assertNotSimple("1.5.5");
+        assertNotSimple("1e3");
+        assertNotSimple("10px-");
+        assertNotSimple("10p\\x");
+        assertNotSimple("10%%");
+        assertNotSimple("red:");
+        assertNotSimple("10px/2");
+    }
+
+    private static void assertSimple(final String value) throws Exception {
+        final CSS3Parser parser = new CSS3Parser();
+        parser.setErrorHandler(new HandlerBase());
+
+        // the string based input source uses the fast path
+        final LexicalUnit simple = parser.parsePropertyValue(new InputSource(value));
+        Assert.assertNotNull("'" + value + "' not handled", SingleTokenValueParser.parse(parser, value));
+
+        assertSameLexicalUnit(value, parseExpression(value), simple);
+    }
+
+    private static void assertNotSimple(final String value) throws Exception {
+        final CSS3Parser parser = new CSS3Parser();
+        Assert.assertNull("'" + value + "' handled", SingleTokenValueParser.parse(parser, value));
+    }
+
+    /**
+     * Parses the value using the generated parser.
+     */
+    private static LexicalUnit parseExpression(final String value) throws Exception {
+        final CSS3Parser parser = new CSS3Parser();
+        parser.setErrorHandler(new HandlerBase());
+        return parser.parsePropertyValue(new InputSource(new StringReader(value)));
+    }
+
+    private static void assertSameLexicalUnit(final String value, final LexicalUnit expected, final LexicalUnit actual) {
+        Assert.assertNotNull(value, expected);
+        Assert.assertNotNull(value, actual);
+
+        Assert.assertEquals(value, expected.getLexicalUnitType(), actual.getLexicalUnitType());
+        Assert.assertEquals(value, expected.toString(), actual.toString());
+        Assert.assertEquals(value, expected.getStringValue(), actual.getStringValue());
+        Assert.assertEquals(value, expected.getDimensionUnitText(), actual.getDimensionUnitText());
+        Assert.assertEquals(value, expected.getDoubleValue(), actual.getDoubleValue(), 0);
+        Assert.assertEquals(value, expected.getIntegerValue(), actual.getIntegerValue());
+        Assert.assertEquals(value, expected.getFunctionName(), actual.getFunctionName());
+
+        Assert.assertEquals(value, expected.getLocator(), actual.getLocator());
+
+        if (expected.getParameters() == null) {
+            Assert.assertNull(value, actual.getParameters());
+        }
+        else {
+            assertSameLexicalUnit(value, expected.getParameters(), actual.getParameters());
+        }
+
+        if (expected.getNextLexicalUnit() == null) {
+            Assert.assertNull(value, actual.getNextLexicalUnit());
+        }
+        else {
+            assertSameLexicalUnit(value, expected.getNextLexicalUnit(), actual.getNextLexicalUnit());
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StyleSheetSplitter}.
+ *
+ * @author Ronald Brill
+ */
+public class StyleSheetSplitterTest {
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void split() throws Exception {
+        assertChunks("h1 { color: red }| h2 { color: blue }| h3 {}", 4);
+        assertChunks("@media print { h1 { color: red } h2 {} }|\nh3 { x: y }", 4);
+        assertChunks("h1 { color: red }| h2 { color: blue }", 17);
+        assertChunks("h1 {} h2 {}| h3 { x: y }", 8);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void stringsCommentsAndUrls() throws Exception {
+        assertChunks("h1 { content: '}' }| h2 { content: \"{\" }| h3 {}", 4);
+        assertChunks("h1 { color: red }| /* } */ h2 { x: y }", 4);
+        assertChunks("h1 { b: url(a}b.png) }| h2 { b: url( 'a{' ) }| h3 {}", 4);
+        assertChunks("h1 { b: \\} }| h2 {}", 4);
+        assertChunks("h1 { b: a\\'b }| h2 {}", 4);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void charsetAndImport() throws Exception {
+        assertChunks("@charset 'utf-8'; h1 {} @import 'x.css'; h2 {}| h3 {}", 4);
+        assertChunks("h1 {}| @media print { @import 'x.css'; }| h3 {}", 4);
+
+        assertChunks("h1 {} h2 {} @import 'x.css'; h3 {}| h4 {}", 4);
+        assertChunks("h1 {} h2 {} @IMPORT 'x.css'; h3 {}| h4 {}", 4);
+        assertChunks("h1 {} h2 {} @\\69mport 'x.css'; h3 {}| h4 {}", 4);
+        assertChunks("h1 {} h2 {} @charset 'utf-8'; h3 {}| h4 {}", 4);
+        assertChunks("h1 {}| h2 {}| @charsets 'utf-8'; h3 {}| h4 {}", 4);
+
+        Assert.assertNull(StyleSheetSplitter.split("h1 {} h2 {} h3 {} @import 'x.css'", 4));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void notSplittable() throws Exception {
+        Assert.assertNull(StyleSheetSplitter.split("", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { color: red } }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } } h2 { color: red }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { color: red ", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { color: red } /*", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { content: 'red }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { content: 'r\ned' }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { b: url(a'b) }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { b: url(a b) }", 4));
+        Assert.assertNull(StyleSheetSplitter.split("h1 { color: red } h2 { b: url(a\nb) }", 4));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void lineAndColumn() throws Exception {
+        final String css = "h1 {}\nh2 {}\r\nh3\r{}\t/* \n */h4 {}";
+        final List<StyleSheetSplitter.Chunk> chunks = StyleSheetSplitter.split(css, 1);
+        Assert.assertEquals(4, chunks.size());
+
+        Assert.assertEquals(1, chunks.get(0).getLine());
+        Assert.assertEquals(1, chunks.get(0).getColumn());
+        Assert.assertEquals(1, chunks.get(1).getLine());
+        Assert.assertEquals(6, chunks.get(1).getColumn());
+        Assert.assertEquals(2, chunks.get(2).getLine());
+        Assert.assertEquals(6, chunks.get(2).getColumn());
+        Assert.assertEquals(4, chunks.get(3).getLine());
+        Assert.assertEquals(3, chunks.get(3).getColumn());
+    }
+
+    /**
+     * Asserts the chunks of the given css; the expected chunk borders are marked with '|'.
+     */
+    private static void assertChunks(final String expected, final int chunkSize) {
+        final String css = expected.replace("|", "");
+        final List<StyleSheetSplitter.Chunk> chunks = StyleSheetSplitter.split(css, chunkSize);
+        Assert.assertNotNull(expected, chunks);
+
+        final StringBuilder actual = new StringBuilder();
+        int end = 0;
+        for (final StyleSheetSplitter.Chunk chunk : chunks) {
+            Assert.assertEquals(end, chunk.getBegin());
+            if (end > 0) {
+                actual.append('|');
+            }
+            actual.append(css, chunk.getBegin(), chunk.getEnd());
+            end = chunk.getEnd();
+        }
+        Assert.assertEquals(css.length(), end);
+        Assert.assertEquals(expected, actual.toString());
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.javacc;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.ErrorHandler;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.CssCharStream;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Tests for the {@link CssTokenizer}; the tokens have to be the same as the
+ * tokens of the generated {@link CSS3ParserTokenManager}.
+ *
+ * @author Ronald Brill
+ */
+public class CssTokenizerTest {
+
+    private static final String[] RESOURCES = {"atrule.css", "basic.css", "bad.css", "dojo.css", "html20.css",
+        "html40.css", "important.css", "multiple-values.css", "simple.css", "test.css", "yuck.css",
+        "realworld/all.css", "realworld/bootstrap_3_3_7_min.css", "realworld/compass-homestyle.css",
+        "realworld/home.built.css", "realworld/load.php.css", "realworld/mui.css", "realworld/normalize.css",
+        "realworld/style-V5-11.css", "realworld/style.csx.css", "realworld/www.css",
+        "realworld/blueprint/ie.css", "realworld/blueprint/print.css", "realworld/blueprint/screen.css"};
+
+    private static final String[] FRAGMENTS = {" ", "  ", "\t", "\n", "\r", "\r\n", "\f", "\\", "\\\n", "\\\r\n",
+        "a", "A", "b", "e", "E", "g", "m", "n", "o", "s", "t", "x", "z", "_", "ä", "中",
+        "0", "1", "00", "41", "45", "4d", "6D", "51", "70", "78", "12345", ".", "-", "--", "+", "%", "?",
+        "\"", "'", "(", ")", "{", "}", "[", "]", ";", ":", ",", ">", "~", "=", "|", "^", "$", "*", "/", "#",
+        "@", "!", "<", "<!--", "-->", "/*", "*/", "url(", "URL(", "u+", "U+", "not(", "lang(", "and", "only",
+        "inherit", "progid:", "em", "rem", "ex", "px", "cm", "mm", "in", "pt", "pc", "deg", "rad", "grad",
+        "ms", "hz", "khz", "dpi", "dpcm", "import", "page", "media", "charset", "font-face", "important",
+        "\\65 ", "\\6d", "\\0070", "\\g", "\\x", "\\\"", "\\)", "\\51", "\\4f", "\\0", "\\0000", "imp", "rt"};
+
+    /**
+     * The tokens of the test resources.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void resources() throws Exception {
+        for (String resource : RESOURCES) {
+            final List<String> expected;
+            try (Reader reader = open(resource)) {
+                expected = tokens(new CSS3ParserTokenManager(new CssCharStream(reader, 1, 1)));
+            }
+            final List<String> tokens;
+            try (Reader reader = open(resource)) {
+                tokens = tokens(new CssTokenizer(new CssCharStream(reader, 1, 1)));
+            }
+            Assert.assertEquals(resource, expected, tokens);
+        }
+    }
+
+    /**
+     * Some special cases.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void specialCases() throws Exception {
+        assertSameTokens("");
+        assertSameTokens("a { color: red }");
+        assertSameTokens("p:not(.x) , q  > r + s ~ t {}");
+        assertSameTokens("10px 1.5em .5rem 2EX 3\\70x 4\\0050 X 5dpi 6dpcm 7% 8foo 9s 10ms 11khz 12\\g rad");
+        assertSameTokens("url( \"a b\" ) url(x\\)y) url() url( ) url(\"a) url('b'");
+        assertSameTokens("u+0-7f U+4?? u+ u+-1 u+1234567");
+        assertSameTokens("\"a\\\"b\" 'c\\\nd' \"e\\41 f\" \"unterminated\n'x");
+        assertSameTokens("@import @IMPORT @\\69mport @font-face @media2 @-moz-x @ @1");
+        assertSameTokens("@imp\\51 rt @imp\\4frt @f\\6fnt-face @\\00006dedia @\\000006dedia @pa\\67 e");
+        assertSameTokens("! important !/* c */IMPORTANT !\n\t/*" + "*/ important ! x");
+        assertSameTokens("filter: progid:DXImageTransform.Microsoft.gradient()");
+        assertSameTokens("\\41 bc \\ x \\\n #abc #- # <!-- --> <! -- -x --x -\\31");
+        assertSameTokens("a/*" + "*/b/* unterminated");
+        assertSameTokens("/*");
+        assertSameTokens("/**");
+        assertSameTokens("x /* \n");
+        assertSameTokens("url(\"a\")");
+        assertSameTokens("'abc' ");
+    }
+
+    /**
+     * Random input made of fragments of the css syntax.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void randomInput() throws Exception {
+        final Random random = new Random(4711);
+        final StringBuilder css = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            css.setLength(0);
+            final int count = 1 + random.nextInt(12);
+            for (int j = 0; j < count; j++) {
+                css.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameTokens(css.toString());
+        }
+    }
+
+    /**
+     * The parser has to produce the same result using the tokenizer.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parse() throws Exception {
+        for (String resource : RESOURCES) {
+            final ErrorHandler expectedErrors = new ErrorHandler();
+            final CSSStyleSheetImpl expected = parse(new CSS3Parser(), expectedErrors, resource);
+
+            final CSS3Parser parser = new CSS3Parser(new CssTokenizer(null));
+            parser.setTokenRecycling(true);
+            final ErrorHandler errors = new ErrorHandler();
+            final CSSStyleSheetImpl sheet = parse(parser, errors, resource);
+
+            Assert.assertEquals(resource, expected.toString(), sheet.toString());
+            Assert.assertEquals(resource, expectedErrors.getErrorMessage(), errors.getErrorMessage());
+            Assert.assertEquals(resource, expectedErrors.getErrorLines(), errors.getErrorLines());
+            Assert.assertEquals(resource, expectedErrors.getErrorColumns(), errors.getErrorColumns());
+            Assert.assertEquals(resource, expectedErrors.getWarningMessage(), errors.getWarningMessage());
+        }
+    }
+
+    private void assertSameTokens(final String css) throws Exception {
+        final List<String> expected = tokens(new CSS3ParserTokenManager(
+                new CssCharStream(new StringReader(css), 1, 1)));
+        final List<String> tokens = tokens(new CssTokenizer(new CssCharStream(new StringReader(css), 1, 1)));
+        Assert.assertEquals(css, expected, tokens);
+    }
+
+    private static List<String> tokens(final CSS3ParserTokenManager tokenManager) {
+        final List<String> tokens = new ArrayList<>();
+        try {
+            Token token = tokenManager.getNextToken();
+            while (token.kind != CSS3ParserConstants.EOF) {
+                tokens.add(describe(token));
+                token = tokenManager.getNextToken();
+            }
+            tokens.add(describe(token));
+        }
+        catch (final TokenMgrError e) {
+            tokens.add(e.getMessage());
+        }
+        return tokens;
+    }
+
+    private static String describe(final Token token) {
+        final StringBuilder sb = new StringBuilder();
+        sb.append(CSS3ParserConstants.tokenImage[token.kind])
+            .append(" '").append(token.image).append("' ")
+            .append(token.beginLine).append(':').append(token.beginColumn).append('-')
+            .append(token.endLine).append(':').append(token.endColumn);
+        if (token instanceof NumericToken) {
+            sb.append(' ').append(((NumericToken) token).getDoubleValue());
+        }
+        return sb.toString();
+    }
+
+    private Reader open(final String resource) {
+        final InputStream is = getClass().getClassLoader().getResourceAsStream(resource);
+        Assert.assertNotNull(resource, is);
+        return new InputStreamReader(is, StandardCharsets.UTF_8);
+    }
+
+    private CSSStyleSheetImpl parse(final CSS3Parser parser, final ErrorHandler errorHandler,
+            final String resource) throws Exception {
+        try (Reader reader = open(resource)) {
+            final CSSOMParser cssomParser = new CSSOMParser(parser);
+            cssomParser.setErrorHandler(errorHandler);
+            return cssomParser.parseStyleSheet(new InputSource(reader), null);
+        }
+    }
+}
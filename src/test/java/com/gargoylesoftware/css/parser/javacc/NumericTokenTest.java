@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.javacc;
+
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.dom.CSSStyleDeclarationImpl;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.LexicalUnit;
+import com.gargoylesoftware.css.parser.LexicalUnit.LexicalUnitType;
+
+/**
+ * Unit tests for {@link NumericToken}.
+ *
+ * @author Ronald Brill
+ */
+public class NumericTokenTest {
+
+    private static NumericToken token(final int kind, final String image) {
+        final NumericToken t = (NumericToken) Token.newToken(kind, image);
+        t.parseImage();
+        return t;
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parseImage() throws Exception {
+        NumericToken t = token(CSS3ParserConstants.LENGTH_PX, "12px");
+        Assert.assertEquals("12px", t.image);
+        Assert.assertEquals(2, t.getNumberLength());
+        Assert.assertEquals(12d, t.getDoubleValue(), 0);
+        Assert.assertTrue(t.isInteger());
+
+        t = token(CSS3ParserConstants.PERCENTAGE, ".5%");
+        Assert.assertEquals(".5%", t.image);
+        Assert.assertEquals(2, t.getNumberLength());
+        Assert.assertEquals(0.5d, t.getDoubleValue(), 0);
+        Assert.assertFalse(t.isInteger());
+
+        t = token(CSS3ParserConstants.NUMBER, "2147483647");
+        Assert.assertTrue(t.isInteger());
+        Assert.assertEquals(Integer.MAX_VALUE, t.getIntValue());
+
+        t = token(CSS3ParserConstants.NUMBER, "2147483648");
+        Assert.assertFalse(t.isInteger());
+        Assert.assertEquals(2147483648d, t.getDoubleValue(), 0);
+
+        t = token(CSS3ParserConstants.DIMENSION, "1.25foo");
+        Assert.assertEquals("1.25foo", t.image);
+        Assert.assertEquals(1.25d, t.getDoubleValue(), 0);
+        Assert.assertEquals("foo", t.getDimensionUnit());
+    }
+
+    /**
+     * The value has to be the same as the one calculated by Double.parseDouble().
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void sameAsParseDouble() throws Exception {
+        final String[] numbers = {"0", "0.1", "0.3", ".7", "1.005", "123456789.123456789",
+            "9007199254740993", "0.000000000000000000000001", "12345678901234567890.5",
+            "3.14159265358979323846", "00000000000000000000001"};
+        for (String number : numbers) {
+            Assert.assertEquals(number, Double.parseDouble(number),
+                    token(CSS3ParserConstants.EMS, number + "em").getDoubleValue(), 0);
+        }
+
+        final Random random = new Random(4711);
+        for (int i = 0; i < 10000; i++) {
+            final String number = random.nextInt(100000) + "." + random.nextInt(1000000);
+            Assert.assertEquals(number, Double.parseDouble(number),
+                    token(CSS3ParserConstants.LENGTH_PX, number + "px").getDoubleValue(), 0);
+        }
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parser() throws Exception {
+        final CSSStyleDeclarationImpl style = new CSSOMParser()
+                .parseStyleDeclaration("a: -1.5px; b: 7; c: 3000000000; d: 2.5foo; e: 96dpi");
+
+        LexicalUnit lu = (LexicalUnit) style.getPropertyCSSValue("a").getValue();
+        Assert.assertEquals(LexicalUnitType.PIXEL, lu.getLexicalUnitType());
+        Assert.assertEquals(-1.5, lu.getDoubleValue(), 0);
+
+        lu = (LexicalUnit) style.getPropertyCSSValue("b").getValue();
+        Assert.assertEquals(LexicalUnitType.INTEGER, lu.getLexicalUnitType());
+        Assert.assertEquals(7, lu.getIntegerValue());
+
+        lu = (LexicalUnit) style.getPropertyCSSValue("c").getValue();
+        Assert.assertEquals(LexicalUnitType.REAL, lu.getLexicalUnitType());
+        Assert.assertEquals(3000000000d, lu.getDoubleValue(), 0);
+
+        lu = (LexicalUnit) style.getPropertyCSSValue("d").getValue();
+        Assert.assertEquals(LexicalUnitType.DIMENSION, lu.getLexicalUnitType());
+        Assert.assertEquals(2.5, lu.getDoubleValue(), 0);
+        Assert.assertEquals("foo", lu.getDimensionUnitText());
+
+        lu = (LexicalUnit) style.getPropertyCSSValue("e").getValue();
+        Assert.assertEquals(96, lu.getDoubleValue(), 0);
+        Assert.assertEquals("dpi", lu.getDimensionUnitText());
+    }
+}
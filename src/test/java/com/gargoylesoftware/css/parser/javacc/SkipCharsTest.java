@@ -0,0 +1,198 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.javacc;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.ErrorHandler;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Tests for the error recovery fast path {@link CSS3ParserTokenManager#skipChars(StringBuilder)};
+ * the parser has to produce the same result as without skipping.
+ *
+ * @author Ronald Brill
+ */
+public class SkipCharsTest {
+
+    private static final String[] RESOURCES = {"atrule.css", "bad.css", "dojo.css", "html40.css", "important.css",
+        "yuck.css", "realworld/www.css", "realworld/blueprint/ie.css", "realworld/blueprint/screen.css"};
+
+    private static final String[] FRAGMENTS = {" ", "  ", "\t", "\n", "\r", "\r\n", "\f",
+        "@foo", "@-moz-x", "@media", "@import", "@page", "{", "}", ";", ":", ",", "+", ">", "~", "=", "[", "]",
+        "(", ")", "a", "B", "p", "color", "red", "x{", ".c", "#x", "*zoom", "_height", "中", "and", "AND", "Only",
+        "inherit", "u+1f", "1", "12px", "1em", "2EM", "50%", ".5", "\"", "'", "\"s;}\"", "'{'", "\"a\\\"b\"",
+        "'c\\\nd'", "\"e\\41\nf\"", "\"g\\\r\nh\"", "\\", "\\;", "\\7b ", "\\41\n", "\\}", "/", "/*", "*/",
+        "/* ; } */", "/*" + "*/", "url(", "URL(", "uRl(", "xurl(", "url(a;b)", "url( \"x}\" )", "!", "!important",
+        "! /*" + "*/ important", "progid:", "progid:DXImageTransform.Microsoft.Alpha(opacity=50)", "expression(",
+        "<!--", "-->", "-"};
+
+    /**
+     * Some special cases.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void specialCases() throws Exception {
+        assertSameResult("");
+        assertSameResult("@foo bar; p { color: red }");
+        assertSameResult("@foo { a: b; c { d } } p {}");
+        assertSameResult("@foo \"a;b\" 'c}' url(x;y) URL( 'x;y' ) /* ; */ 12PX 1em ONLY x;");
+        assertSameResult("@foo a\\41\nb \\; \\7b ; p {}");
+        assertSameResult("p { color: red; *zoom: 1; _height: 1px; x: y }");
+        assertSameResult("p { filter: progid:DXImageTransform.Microsoft.gradient(startColorstr='#80000000',"
+                + " endColorstr='#80000000'); x: y }");
+        assertSameResult("p { a: b \\; c; d: e }");
+        assertSameResult("p { x: 1 !ie; y: 2 ! /* c */ important }");
+        assertSameResult("p { x: url(a;b) ; y: -url(a;b); z: xurl(a;b) }");
+        assertSameResult("p @here {color:red} @foo @bar; p {}");
+        assertSameResult("@foo \"unterminated\n; p {}");
+        assertSameResult("@foo 'unterminated");
+        assertSameResult("@foo /* unterminated");
+        assertSameResult("p { x: y /* unterminated");
+        assertSameResult("@foo { p { x: y }");
+
+        // longer than the buffer of the reader based stream
+        final StringBuilder block = new StringBuilder();
+        for (int i = 0; i < 400; i++) {
+            block.append("x: 'y;' /* } */ url(a;b) 12px \\7b ; ");
+        }
+        assertSameStyleSheet("@foo { " + block + "} p { color: red }");
+        assertSameStyleSheet("p { color: red } q( { " + block + " } r {}");
+        assertSameStyleSheet("@foo \"" + block + "\n; p {}");
+        assertSameStyleSheet("@foo /* " + block);
+    }
+
+    /**
+     * The resources.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void resources() throws Exception {
+        for (String resource : RESOURCES) {
+            final String css;
+            try (Reader reader = open(resource)) {
+                final StringBuilder sb = new StringBuilder();
+                final char[] buffer = new char[4096];
+                int read;
+                while ((read = reader.read(buffer)) != -1) {
+                    sb.append(buffer, 0, read);
+                }
+                css = sb.toString();
+            }
+            assertSameStyleSheet(css);
+        }
+    }
+
+    /**
+     * Random input made of fragments of the css syntax.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void randomInput() throws Exception {
+        final Random random = new Random(4711);
+        final StringBuilder css = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            css.setLength(0);
+            final int count = 1 + random.nextInt(30);
+            for (int j = 0; j < count; j++) {
+                css.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+            }
+            assertSameResult(css.toString());
+        }
+    }
+
+    private static void assertSameResult(final String css) throws Exception {
+        assertSameStyleSheet(css);
+
+        final CSS3Parser tokenizingDeclaration = new CSS3Parser(new CSS3ParserTokenManager(null) {
+            @Override
+            void skipChars(final StringBuilder text) {
+                // create all tokens
+            }
+        });
+        Assert.assertEquals(css, parseDeclaration(tokenizingDeclaration, css),
+                parseDeclaration(new CSS3Parser(), css));
+    }
+
+    private static void assertSameStyleSheet(final String css) throws Exception {
+        final CSS3Parser tokenizing = new CSS3Parser(new CSS3ParserTokenManager(null) {
+            @Override
+            void skipChars(final StringBuilder text) {
+                // create all tokens
+            }
+        });
+        final String expected = parse(tokenizing, css, false);
+        Assert.assertEquals(css, expected, parse(new CSS3Parser(), css, false));
+        Assert.assertEquals(css, expected, parse(new CSS3Parser(), css, true));
+
+        final CSS3Parser tokenizer = new CSS3Parser(new CssTokenizer(null));
+        tokenizer.setTokenRecycling(true);
+        Assert.assertEquals(css, expected, parse(tokenizer, css, true));
+    }
+
+    private static String parse(final CSS3Parser parser, final String css, final boolean reader) {
+        final CSSOMParser cssomParser = new CSSOMParser(parser);
+        final ErrorHandler errors = new ErrorHandler();
+        cssomParser.setErrorHandler(errors);
+        String result;
+        try {
+            final InputSource source = reader ? new InputSource(new StringReader(css)) : new InputSource(css);
+            result = String.valueOf(cssomParser.parseStyleSheet(source, null));
+        }
+        catch (final Throwable e) {
+            result = e.toString();
+        }
+        return describe(result, errors);
+    }
+
+    private static String parseDeclaration(final CSS3Parser parser, final String css) {
+        final CSSOMParser cssomParser = new CSSOMParser(parser);
+        final ErrorHandler errors = new ErrorHandler();
+        cssomParser.setErrorHandler(errors);
+        String result;
+        try {
+            result = String.valueOf(cssomParser.parseStyleDeclaration(css));
+        }
+        catch (final Throwable e) {
+            result = e.toString();
+        }
+        return describe(result, errors);
+    }
+
+    private static String describe(final String result, final ErrorHandler errors) {
+        return result
+                + "\nerrors: " + errors.getErrorMessage() + " " + errors.getErrorLines() + " "
+                + errors.getErrorColumns()
+                + "\nfatal: " + errors.getFatalErrorMessage() + " " + errors.getFatalErrorLines() + " "
+                + errors.getFatalErrorColumns()
+                + "\nwarnings: " + errors.getWarningMessage() + " " + errors.getWarningLines() + " "
+                + errors.getWarningColumns();
+    }
+
+    private Reader open(final String resource) {
+        final InputStream is = getClass().getClassLoader().getResourceAsStream(resource);
+        Assert.assertNotNull(resource, is);
+        return new InputStreamReader(is, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.javacc;
+
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.ErrorHandler;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Tests for the token recycling of the {@link CSS3ParserTokenManager}.
+ *
+ * @author Ronald Brill
+ */
+public class TokenRecyclingTest {
+
+    private static final String[] RESOURCES = {"basic.css", "bad.css", "yuck.css", "dojo.css", "test.css",
+        "realworld/all.css", "realworld/bootstrap_3_3_7_min.css", "realworld/normalize.css"};
+
+    /**
+     * The result (rules, locators and errors) has to be the same with and without recycling.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void sameResult() throws Exception {
+        for (String resource : RESOURCES) {
+            final CSS3Parser plain = new CSS3Parser();
+            final ErrorHandler plainErrors = new ErrorHandler();
+            final CSSStyleSheetImpl expected = parse(plain, plainErrors, resource);
+
+            final CSS3Parser recycling = new CSS3Parser();
+            recycling.setTokenRecycling(true);
+            final ErrorHandler recyclingErrors = new ErrorHandler();
+            final CSSStyleSheetImpl sheet = parse(recycling, recyclingErrors, resource);
+
+            Assert.assertEquals(resource, expected.toString(), sheet.toString());
+            Assert.assertEquals(resource, plainErrors.getErrorMessage(), recyclingErrors.getErrorMessage());
+            Assert.assertEquals(resource, plainErrors.getErrorLines(), recyclingErrors.getErrorLines());
+            Assert.assertEquals(resource, plainErrors.getErrorColumns(), recyclingErrors.getErrorColumns());
+            Assert.assertEquals(resource, plainErrors.getWarningMessage(), recyclingErrors.getWarningMessage());
+            for (int i = 0; i < sheet.getCssRules().getLength(); i++) {
+                Assert.assertEquals(resource,
+                        expected.getCssRules().getRules().get(i).getLocator().toString(),
+                        sheet.getCssRules().getRules().get(i).getLocator().toString());
+            }
+
+            Assert.assertEquals(0, plain.token_source.getReusedTokens());
+            Assert.assertTrue(resource, recycling.token_source.getReusedTokens() > 0);
+        }
+    }
+
+    private CSSStyleSheetImpl parse(final CSS3Parser parser, final ErrorHandler errorHandler,
+            final String resource) throws Exception {
+        try (InputStream is = getClass().getClassLoader().getResourceAsStream(resource)) {
+            final CSSOMParser cssomParser = new CSSOMParser(parser);
+            cssomParser.setErrorHandler(errorHandler);
+            return cssomParser.parseStyleSheet(
+                    new InputSource(new InputStreamReader(is, StandardCharsets.UTF_8)), null);
+        }
+    }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.media;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.CSSStyleSheetRuleIndex;
+import com.gargoylesoftware.css.dom.MediaListImpl;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Unit tests for {@link MediaQueryEvaluator}.
+ *
+ * @author Ronald Brill
+ */
+public class MediaQueryEvaluatorTest {
+
+    private static MediaListImpl media(final String media) throws Exception {
+        return new MediaListImpl(new CSSOMParser().parseMedia(media));
+    }
+
+    private static boolean matches(final MediaEnvironment environment, final String media) throws Exception {
+        return new MediaQueryEvaluator(environment).matches(media(media));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void mediaType() throws Exception {
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        Assert.assertTrue(matches(env, "all"));
+        Assert.assertTrue(matches(env, "screen"));
+        Assert.assertTrue(matches(env, "SCREEN"));
+        Assert.assertTrue(matches(env, "only screen"));
+        Assert.assertFalse(matches(env, "print"));
+        Assert.assertTrue(matches(env, "not print"));
+        Assert.assertFalse(matches(env, "not screen"));
+        Assert.assertTrue(matches(env, "print, screen"));
+        Assert.assertTrue(new MediaQueryEvaluator(env).matches(new MediaListImpl(null)));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void dimensions() throws Exception {
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        Assert.assertTrue(matches(env, "screen and (min-width: 1024px)"));
+        Assert.assertFalse(matches(env, "screen and (min-width: 1025px)"));
+        Assert.assertTrue(matches(env, "(max-width: 64em)"));
+        Assert.assertFalse(matches(env, "(max-width: 63em)"));
+        Assert.assertTrue(matches(env, "(width: 1024px) and (height: 768px)"));
+        Assert.assertTrue(matches(env, "(min-height: 7in)"));
+        Assert.assertTrue(matches(env, "(width)"));
+        Assert.assertFalse(matches(env, "(min-width: 100px) and (max-width: 800px)"));
+        Assert.assertTrue(matches(env, "not screen and (max-width: 800px)"));
+        Assert.assertTrue(matches(env, "(orientation: landscape)"));
+        Assert.assertFalse(matches(env, "(orientation: portrait)"));
+        Assert.assertTrue(matches(env, "(aspect-ratio: 4/3)"));
+        Assert.assertTrue(matches(env, "(min-aspect-ratio: 1/1)"));
+        Assert.assertFalse(matches(env, "(min-aspect-ratio: 16/9)"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void resolutionAndColor() throws Exception {
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        env.setResolution(2);
+        Assert.assertTrue(matches(env, "(min-resolution: 2dppx)"));
+        Assert.assertTrue(matches(env, "(min-resolution: 192dpi)"));
+        Assert.assertFalse(matches(env, "(min-resolution: 193dpi)"));
+        Assert.assertTrue(matches(env, "(color)"));
+        Assert.assertTrue(matches(env, "(min-color: 8)"));
+        Assert.assertFalse(matches(env, "(monochrome)"));
+        Assert.assertFalse(matches(env, "(grid)"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void keywordFeatures() throws Exception {
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        Assert.assertTrue(matches(env, "(prefers-color-scheme: light)"));
+        Assert.assertFalse(matches(env, "(prefers-color-scheme: dark)"));
+        Assert.assertFalse(matches(env, "(prefers-reduced-motion)"));
+        Assert.assertTrue(matches(env, "(hover: hover) and (pointer: fine)"));
+
+        env.setFeature("prefers-color-scheme", "dark");
+        env.setFeature("prefers-reduced-motion", "reduce");
+        Assert.assertTrue(matches(env, "(prefers-color-scheme: dark)"));
+        Assert.assertTrue(matches(env, "(prefers-reduced-motion)"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void unknownFeature() throws Exception {
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        Assert.assertFalse(matches(env, "(unknown-feature: 1)"));
+        Assert.assertFalse(matches(env, "not screen and (unknown-feature)"));
+        Assert.assertFalse(matches(env, "(min-orientation: landscape)"));
+        Assert.assertFalse(matches(env, "(min-width: red)"));
+        Assert.assertTrue(matches(env, "(unknown-feature), screen"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void cache() throws Exception {
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        final MediaQueryEvaluator evaluator = new MediaQueryEvaluator(env);
+        final MediaListImpl media = media("(max-width: 800px)");
+
+        Assert.assertFalse(evaluator.matches(media));
+        Assert.assertFalse(evaluator.matches(media));
+
+        // changing the environment invalidates the cache
+        env.setWidth(800);
+        Assert.assertTrue(evaluator.matches(media));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void cacheModifiedList() throws Exception {
+        final MediaQueryEvaluator evaluator = new MediaQueryEvaluator(new MediaEnvironment("screen", 1024, 768));
+        final MediaListImpl media = media("print");
+        Assert.assertFalse(evaluator.matches(media));
+
+        media.setMediaText("screen");
+        Assert.assertTrue(evaluator.matches(media));
+
+        media.setMedia(Arrays.asList("print"));
+        Assert.assertFalse(evaluator.matches(media));
+
+        // the list is part of the key, not the media list object
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(evaluator.matches(media("(min-width: " + i + "px)")));
+        }
+        Assert.assertFalse(evaluator.matches(media("(min-width: 1025px)")));
+        Assert.assertFalse(evaluator.matches(media));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void ruleIndex() throws Exception {
+        final String css = "p { color: red }\n"
+                + "@media print { p { color: black } }\n"
+                + "@media screen { p { color: blue } @media (max-width: 800px) { p { color: green } } }";
+        final InputSource is = new InputSource(new StringReader(css));
+        final CSSStyleSheetImpl sheet = new CSSOMParser().parseStyleSheet(is, null);
+        final CSSStyleSheetRuleIndex index = sheet.buildRuleIndex();
+
+        final MediaEnvironment env = new MediaEnvironment("screen", 1024, 768);
+        final MediaQueryEvaluator evaluator = new MediaQueryEvaluator(env);
+        List<CSSStyleSheetRuleIndex> matching = index.getMatchingIndexes(evaluator);
+        Assert.assertEquals(2, matching.size());
+        Assert.assertSame(index, matching.get(0));
+        Assert.assertEquals("screen", matching.get(1).getMediaList().getMediaText());
+
+        env.setWidth(640);
+        matching = index.getMatchingIndexes(evaluator);
+        Assert.assertEquals(3, matching.size());
+        Assert.assertEquals("all and (max-width: 800px)", matching.get(2).getMediaList().getMediaText());
+
+        env.setMediaType("print");
+        matching = index.getMatchingIndexes(evaluator);
+        Assert.assertEquals(2, matching.size());
+        Assert.assertEquals("print", matching.get(1).getMediaList().getMediaText());
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.media;
+
+import java.io.StringReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.dom.CSSMediaRuleImpl;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl;
+import com.gargoylesoftware.css.dom.CSSStyleSheetImpl.CSSStyleSheetRuleIndex;
+import com.gargoylesoftware.css.dom.MediaListImpl;
+import com.gargoylesoftware.css.dom.Property;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+import com.gargoylesoftware.css.parser.InputSource;
+
+/**
+ * Unit tests for {@link MediaQueryListInterner}.
+ *
+ * @author Ronald Brill
+ */
+public class MediaQueryListInternerTest {
+
+    private static MediaQueryList parse(final String media) throws Exception {
+        return new CSSOMParser().parseMedia(media);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void equalsAndHashCode() throws Exception {
+        final MediaQueryList list1 = immutable("screen and (min-width: 100px), print");
+        final MediaQueryList list2 = immutable("screen and (min-width: 100px), print");
+        Assert.assertEquals(list1, list2);
+        Assert.assertEquals(list1.hashCode(), list2.hashCode());
+        Assert.assertEquals(list1.getMediaQueries().get(0), list2.getMediaQueries().get(0));
+
+        Assert.assertNotEquals(list1, immutable("screen and (min-width: 101px), print"));
+        Assert.assertNotEquals(list1, immutable("screen and (min-width: 100px)"));
+        Assert.assertNotEquals(list1, immutable("not screen and (min-width: 100px), print"));
+    }
+
+    /**
+     * Mutable lists and queries can change, they are only equal to themselves.
+     *
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void equalsMutable() throws Exception {
+        final MediaQueryList list1 = parse("screen and (min-width: 100px), print");
+        final MediaQueryList list2 = parse("screen and (min-width: 100px), print");
+        Assert.assertEquals(list1, list1);
+        Assert.assertNotEquals(list1, list2);
+        Assert.assertNotEquals(list1, immutable("screen and (min-width: 100px), print"));
+        Assert.assertNotEquals(list1.getMediaQueries().get(0), list2.getMediaQueries().get(0));
+
+        final MediaQuery query = list1.getMediaQueries().get(1);
+        final int hash = query.hashCode();
+        query.addMediaProperty(list1.getMediaQueries().get(0).getProperties().get(0));
+        Assert.assertEquals(hash, query.hashCode());
+    }
+
+    private static MediaQueryList immutable(final String media) throws Exception {
+        return MediaQueryList.immutableCopyOf(parse(media).getMediaQueries());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void intern() throws Exception {
+        final MediaQueryListInterner interner = new MediaQueryListInterner();
+        final MediaQueryList list = parse("screen, print");
+
+        final MediaQueryList canonical = interner.intern(list);
+        Assert.assertNotSame(list, canonical);
+        Assert.assertEquals(list.getText(), canonical.getText());
+        Assert.assertTrue(canonical.isImmutable());
+        Assert.assertFalse(list.isImmutable());
+
+        Assert.assertSame(canonical, interner.intern(parse("screen, print")));
+        Assert.assertSame(canonical, interner.intern(canonical));
+        Assert.assertEquals(1, interner.size());
+
+        // the queries are shared between different lists
+        final MediaQueryList other = interner.intern(parse("print"));
+        Assert.assertNotSame(canonical, other);
+        Assert.assertSame(canonical.getMediaQueries().get(1), other.getMediaQueries().get(0));
+        Assert.assertEquals(2, interner.size());
+
+        interner.clear();
+        Assert.assertEquals(0, interner.size());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void immutable() throws Exception {
+        final MediaQueryList canonical = new MediaQueryListInterner().intern(parse("screen and (color)"));
+        final MediaQuery query = canonical.getMediaQueries().get(0);
+        Assert.assertTrue(query.isImmutable());
+
+        try {
+            canonical.add(new MediaQuery("print"));
+            Assert.fail("UnsupportedOperationException expected");
+        }
+        catch (final UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            query.addMediaProperty(null);
+            Assert.fail("UnsupportedOperationException expected");
+        }
+        catch (final UnsupportedOperationException e) {
+            // expected
+        }
+        try {
+            query.getProperties().clear();
+            Assert.fail("UnsupportedOperationException expected");
+        }
+        catch (final UnsupportedOperationException e) {
+            // expected
+        }
+        Assert.assertEquals("screen and (color)", query.toString());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parsedRulesShareMedia() throws Exception {
+        final String css = "@media screen { p { color: red } }\n"
+                + "@media print { p { color: black } }\n"
+                + "@media screen { div { color: blue } }";
+        final InputSource is = new InputSource(new StringReader(css));
+        final CSSStyleSheetImpl sheet = new CSSOMParser().parseStyleSheet(is, null);
+
+        final MediaListImpl media1 = ((CSSMediaRuleImpl) sheet.getCssRules().getRules().get(0)).getMediaList();
+        final MediaListImpl media3 = ((CSSMediaRuleImpl) sheet.getCssRules().getRules().get(2)).getMediaList();
+        Assert.assertNotSame(media1, media3);
+        Assert.assertSame(media1.getMediaQueryList(), media3.getMediaQueryList());
+        Assert.assertEquals(3, media3.getLocator().getLineNumber());
+
+        final CSSStyleSheetRuleIndex index = sheet.buildRuleIndex();
+        Assert.assertEquals(2, index.getChildren().size());
+
+        // the queries handed out are private copies
+        final MediaQuery query = media1.mediaQuery(0);
+        Assert.assertFalse(query.isImmutable());
+        Assert.assertNotSame(query, media3.mediaQuery(0));
+        query.addMediaProperty(new Property("color", null, false));
+        Assert.assertEquals("screen and (color)", media1.getMediaText());
+        Assert.assertEquals("screen", media3.getMediaText());
+        Assert.assertEquals("screen and (color)", media1.getMediaQueryList().getText());
+
+        // the media lists of the rules can still be modified
+        media3.setMediaText("speech");
+        Assert.assertEquals("screen, speech", media3.getMediaText());
+        Assert.assertEquals("screen and (color)", media1.getMediaText());
+        Assert.assertNotEquals(media1.getMediaQueryList(), media3.getMediaQueryList());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.selector;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.parser.CSSOMParser;
+
+/**
+ * Testcases for {@link AncestorFilter}.
+ * @author Ronald Brill
+ */
+public class AncestorFilterTest {
+
+    private static int[] hashes(final String selector) throws Exception {
+        final SelectorList selectors = new CSSOMParser().parseSelectors(selector);
+        Assert.assertEquals(1, selectors.size());
+        return AncestorFilter.getAncestorHashes(selectors.get(0));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void ancestorHashes() throws Exception {
+        Assert.assertArrayEquals(new int[0], hashes("p"));
+        Assert.assertArrayEquals(new int[0], hashes("p.a#b"));
+        Assert.assertArrayEquals(new int[0], hashes("p::before"));
+        Assert.assertArrayEquals(new int[0], hashes("h1 + p"));
+        Assert.assertArrayEquals(new int[0], hashes("h1 ~ p"));
+
+        Assert.assertArrayEquals(new int[] {AncestorFilter.hashTag("div")}, hashes("div p"));
+        Assert.assertArrayEquals(new int[] {AncestorFilter.hashTag("div")}, hashes("DIV > p"));
+        Assert.assertArrayEquals(new int[] {AncestorFilter.hashTag("div")}, hashes("div p::after"));
+        Assert.assertArrayEquals(new int[0], hashes("* > p"));
+        Assert.assertArrayEquals(new int[] {AncestorFilter.hashId("Main"), AncestorFilter.hashClass("x")},
+                hashes("#Main.x:hover[title] p"));
+
+        // the sibling is not an ancestor but its parent is
+        Assert.assertArrayEquals(new int[] {AncestorFilter.hashTag("li"), AncestorFilter.hashTag("ul"),
+            AncestorFilter.hashTag("body")},
+                hashes("body ul > li + li a"));
+        Assert.assertArrayEquals(new int[] {AncestorFilter.hashTag("div")},
+                hashes("div > h1 ~ p"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void pushPop() throws Exception {
+        final AncestorFilter filter = new AncestorFilter();
+        final int[] divP = hashes("div p");
+        final int[] mainP = hashes("div#main.content p");
+        final int[] tableP = hashes("table p");
+
+        Assert.assertTrue(filter.mightMatch(hashes("p")));
+        Assert.assertFalse(filter.mightMatch(divP));
+
+        filter.pushElement("html", null, null);
+        filter.pushElement("BODY", null, new String[0]);
+        filter.pushElement("DIV", "main", new String[] {"content", "wide"});
+        Assert.assertEquals(3, filter.getDepth());
+        Assert.assertTrue(filter.mightMatch(divP));
+        Assert.assertTrue(filter.mightMatch(mainP));
+        Assert.assertTrue(filter.mightMatch(hashes("body > div > p")));
+        Assert.assertFalse(filter.mightMatch(tableP));
+        Assert.assertFalse(filter.mightMatch(hashes("div#MAIN p")));
+        Assert.assertFalse(filter.mightMatch(hashes(".main p")));
+
+        filter.popElement();
+        Assert.assertEquals(2, filter.getDepth());
+        Assert.assertFalse(filter.mightMatch(divP));
+        Assert.assertTrue(filter.mightMatch(hashes("html body p")));
+
+        filter.pushElement("div", null, null);
+        filter.pushElement("div", null, null);
+        filter.popElement();
+        Assert.assertTrue(filter.mightMatch(divP));
+        Assert.assertFalse(filter.mightMatch(mainP));
+
+        filter.clear();
+        Assert.assertEquals(0, filter.getDepth());
+        Assert.assertFalse(filter.mightMatch(hashes("html p")));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void deepTree() throws Exception {
+        final AncestorFilter filter = new AncestorFilter();
+        final int[] divP = hashes("div p");
+        final int[] spanP = hashes("span p");
+
+        filter.pushElement("span", null, null);
+        for (int i = 0; i < 1000; i++) {
+            filter.pushElement("div", null, new String[] {"c" + i});
+        }
+        Assert.assertTrue(filter.mightMatch(divP));
+        Assert.assertTrue(filter.mightMatch(spanP));
+
+        for (int i = 0; i < 1000; i++) {
+            filter.popElement();
+        }
+        // saturated counters are never reset, therefore no false negatives
+        Assert.assertTrue(filter.mightMatch(spanP));
+        Assert.assertEquals(1, filter.getDepth());
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test(expected = IllegalStateException.class)
+    public void popEmpty() throws Exception {
+        new AncestorFilter().popElement();
+    }
+}
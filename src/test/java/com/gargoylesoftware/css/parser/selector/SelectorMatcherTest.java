@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.parser.selector;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.parser.CSSOMParser;
+
+/**
+ * Testcases for {@link SelectorMatcher}.
+ * @author Ronald Brill
+ */
+public class SelectorMatcherTest {
+
+    /**
+     * Simple element used for the tests.
+     */
+    private static final class Node {
+        private final String name_;
+        private final Map<String, String> attributes_ = new HashMap<>();
+        private final List<Node> children_ = new ArrayList<>();
+        private Node parent_;
+
+        Node(final String name, final String... attributes) {
+            name_ = name;
+            for (int i = 0; i < attributes.length; i += 2) {
+                attributes_.put(attributes[i], attributes[i + 1]);
+            }
+        }
+
+        Node add(final Node child) {
+            child.parent_ = this;
+            children_.add(child);
+            return child;
+        }
+    }
+
+    private static final ElementAdapter<Node> ADAPTER = new ElementAdapter<Node>() {
+
+        @Override
+        public String getLocalName(final Node element) {
+            return element.name_.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public String getId(final Node element) {
+            return element.attributes_.get("id");
+        }
+
+        @Override
+        public boolean hasClass(final Node element, final String className) {
+            final String classes = element.attributes_.get("class");
+            if (classes == null) {
+                return false;
+            }
+            for (String cls : classes.split("\\s+")) {
+                if (cls.equals(className)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public String getAttribute(final Node element, final String name) {
+            return element.attributes_.get(name);
+        }
+
+        @Override
+        public Node getParent(final Node element) {
+            return element.parent_;
+        }
+
+        @Override
+        public Node getPreviousSibling(final Node element) {
+            if (element.parent_ == null) {
+                return null;
+            }
+            final int idx = element.parent_.children_.indexOf(element);
+            return idx == 0 ? null : element.parent_.children_.get(idx - 1);
+        }
+
+        @Override
+        public String getLanguage(final Node element) {
+            for (Node node = element; node != null; node = node.parent_) {
+                final String lang = node.attributes_.get("lang");
+                if (lang != null) {
+                    return lang;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public boolean matchesPseudoClass(final Node element, final String pseudoClass) {
+            if ("first-child".equals(pseudoClass)) {
+                return getPreviousSibling(element) == null;
+            }
+            return element.attributes_.containsKey(":" + pseudoClass);
+        }
+    };
+
+    private final Node html_;
+    private final Node body_;
+    private final Node div_;
+    private final Node h1_;
+    private final Node p1_;
+    private final Node p2_;
+    private final Node span_;
+
+    /**
+     * Ctor.
+     */
+    public SelectorMatcherTest() {
+        html_ = new Node("html", "lang", "en-US");
+        body_ = html_.add(new Node("body"));
+        div_ = body_.add(new Node("DIV", "id", "main", "class", "content wide"));
+        h1_ = div_.add(new Node("h1", "title", "Hello World"));
+        p1_ = div_.add(new Node("p", "class", "first", ":hover", ""));
+        p2_ = div_.add(new Node("p", "lang", "de", "data-x", "a-b"));
+        span_ = p2_.add(new Node("span", "class", "x y"));
+    }
+
+    private static SelectorMatcher<Node> compile(final String selector) throws Exception {
+        final SelectorList selectors = new CSSOMParser().parseSelectors(selector);
+        Assert.assertEquals(1, selectors.size());
+        return SelectorMatcher.compile(selectors.get(0), ADAPTER);
+    }
+
+    private void assertMatches(final String selector, final Node... expected) throws Exception {
+        final SelectorMatcher<Node> matcher = compile(selector);
+        final List<Node> all = new ArrayList<>();
+        collect(html_, all);
+
+        final List<Node> found = new ArrayList<>();
+        for (Node node : all) {
+            if (matcher.matches(node)) {
+                found.add(node);
+            }
+        }
+
+        final List<String> expectedNames = new ArrayList<>();
+        for (Node node : expected) {
+            expectedNames.add(all.indexOf(node) + node.name_);
+        }
+        final List<String> foundNames = new ArrayList<>();
+        for (Node node : found) {
+            foundNames.add(all.indexOf(node) + node.name_);
+        }
+        Assert.assertEquals(selector, expectedNames, foundNames);
+    }
+
+    private static void collect(final Node node, final List<Node> all) {
+        all.add(node);
+        for (Node child : node.children_) {
+            collect(child, all);
+        }
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void elements() throws Exception {
+        assertMatches("*", html_, body_, div_, h1_, p1_, p2_, span_);
+        assertMatches("p", p1_, p2_);
+        assertMatches("div", div_);
+        assertMatches("DiV", div_);
+        assertMatches("table");
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void conditions() throws Exception {
+        assertMatches("#main", div_);
+        assertMatches("#MAIN");
+        assertMatches(".content", div_);
+        assertMatches("div.wide.content#main", div_);
+        assertMatches(".x.y", span_);
+        assertMatches(".x.z");
+        assertMatches("p.first", p1_);
+
+        assertMatches("[title]", h1_);
+        assertMatches("[TITLE]", h1_);
+        assertMatches("[title='Hello World']", h1_);
+        assertMatches("[title='hello world']");
+        assertMatches("[title~='World']", h1_);
+        assertMatches("[title~='Wor']");
+        assertMatches("[data-x|='a']", p2_);
+        assertMatches("[data-x|='a-']");
+        assertMatches("[title^='Hell']", h1_);
+        assertMatches("[title$='rld']", h1_);
+        assertMatches("[title*='o W']", h1_);
+        assertMatches("[title^='']");
+
+        assertMatches(":lang(en)", html_, body_, div_, h1_, p1_);
+        assertMatches(":lang(de)", p2_, span_);
+        assertMatches(":lang(de-CH)");
+
+        assertMatches("p:hover", p1_);
+        assertMatches(":first-child", html_, body_, div_, h1_, span_);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void negation() throws Exception {
+        assertMatches("p:not(.first)", p2_);
+        assertMatches("div :not(p)", h1_, span_);
+        assertMatches("p:not(:hover)", p2_);
+        assertMatches("p:not([lang])", p1_);
+    }
+
+    /**
+     * An unsupported argument of the negation is evaluated by the adapter;
+     * the parse error is not reported.
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void negationUnsupportedArgument() throws Exception {
+        final PrintStream err = System.err;
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(out, true, "UTF-8"));
+        try {
+            // the class name '1a' is not a valid selector without the escape
+            final SelectorMatcher<Node> matcher = compile("p:not(.\\31 a)");
+            matcher.matches(p1_);
+        }
+        finally {
+            System.setErr(err);
+        }
+        Assert.assertEquals("", out.toString("UTF-8"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void combinators() throws Exception {
+        assertMatches("div p", p1_, p2_);
+        assertMatches("html p", p1_, p2_);
+        assertMatches("body > p");
+        assertMatches("div > p", p1_, p2_);
+        assertMatches("div > p > span", span_);
+        assertMatches("body span", span_);
+        assertMatches("body > * > * > span", span_);
+        assertMatches("h1 + p", p1_);
+        assertMatches("h1 ~ p", p1_, p2_);
+        assertMatches("h1 + p + p", p2_);
+        assertMatches("h1 ~ p span", span_);
+        assertMatches("p + span");
+
+        // backtracking is required to find the matching ancestor
+        assertMatches("div.content > p span", span_);
+        assertMatches("div p ~ p > span", span_);
+        assertMatches("#main * p", (Node[]) new Node[0]);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void pseudoElements() throws Exception {
+        SelectorMatcher<Node> matcher = compile("p::before");
+        Assert.assertEquals("before", matcher.getPseudoElement());
+        Assert.assertFalse(matcher.matches(p1_));
+        Assert.assertTrue(matcher.matches(p1_, "before"));
+        Assert.assertTrue(matcher.matches(p1_, "::before"));
+        Assert.assertTrue(matcher.matches(p1_, ":BEFORE"));
+        Assert.assertFalse(matcher.matches(p1_, "after"));
+        Assert.assertFalse(matcher.matches(div_, "before"));
+
+        matcher = compile("div > p:first-line");
+        Assert.assertEquals("first-line", matcher.getPseudoElement());
+        Assert.assertTrue(matcher.matches(p2_, "first-line"));
+        Assert.assertFalse(matcher.matches(span_, "first-line"));
+
+        matcher = compile("p");
+        Assert.assertNull(matcher.getPseudoElement());
+        Assert.assertTrue(matcher.matches(p1_));
+        Assert.assertFalse(matcher.matches(p1_, "before"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void reuse() throws Exception {
+        final SelectorMatcher<Node> matcher = compile("div > p.first");
+        Assert.assertEquals("div > p.first", matcher.toString());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(matcher.matches(p1_));
+            Assert.assertFalse(matcher.matches(p2_));
+        }
+    }
+}
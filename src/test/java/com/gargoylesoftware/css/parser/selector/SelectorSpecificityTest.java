@@ -18,6 +18,12 @@
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.charset.StandardCharsets;
+
 import org.junit.Test;
 
 import com.gargoylesoftware.css.parser.CSSOMParser;
@@ -162,4 +168,98 @@ public void equalsTest() throws Exception {
         final SelectorSpecificity specificy1 = selectorSpecifity("li", "0,0,0,1");
         assertFalse(specificy0.equals(specificy1));
     }
+
+    /**
+     * The packed value has to give the same order as comparing a, b, c and d one after the other.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void packedValue() throws Exception {
+        final String[][] selectors = {
+            {"*", "0,0,0,0"}, {"li", "0,0,0,1"}, {"ul li", "0,0,0,2"}, {"li.red", "0,0,1,1"},
+            {"ul ol li.red", "0,0,1,3"}, {"li.red.level", "0,0,2,1"}, {"#x34y", "0,1,0,0"},
+            {"test#x34y", "0,1,0,1"}, {"#a #b", "0,2,0,0"}, {"h1 + *[rel=up]", "0,0,1,1"},
+            {"a b c d e f g h i j k l", "0,0,0,12"}, {".a.b.c.d.e.f.g.h.i.j.k.l", "0,0,12,0"}};
+        final CSSOMParser parser = new CSSOMParser();
+        for (String[] s1 : selectors) {
+            final Selector selector1 = parser.parseSelectors(s1[0]).get(0);
+            assertEquals(s1[1], selector1.getSelectorSpecificity().toString());
+            assertEquals(selector1.getSelectorSpecificity().getValue(), selector1.getPackedSpecificity());
+            assertEquals(SelectorSpecificity.calculate(selector1), selector1.getPackedSpecificity());
+
+            for (String[] s2 : selectors) {
+                final Selector selector2 = parser.parseSelectors(s2[0]).get(0);
+                final int expected = compareParts(s1[1], s2[1]);
+                assertEquals(s1[0] + " - " + s2[0], expected,
+                        Integer.signum(selector1.getSelectorSpecificity().compareTo(
+                                selector2.getSelectorSpecificity())));
+                assertEquals(s1[0] + " - " + s2[0], expected,
+                        Integer.signum(Integer.compare(selector1.getPackedSpecificity(),
+                                selector2.getPackedSpecificity())));
+            }
+        }
+
+        assertTrue(SelectorSpecificity.FROM_STYLE_ATTRIBUTE.getValue()
+                > parser.parseSelectors("#a #b #c .d .e .f g h i").get(0).getPackedSpecificity());
+        assertEquals(0, SelectorSpecificity.DEFAULT_STYLE_ATTRIBUTE.getValue());
+    }
+
+    /**
+     * Compares two specificities given as 'a,b,c,d' part by part.
+     */
+    private static int compareParts(final String specificity1, final String specificity2) {
+        final String[] parts1 = specificity1.split(",");
+        final String[] parts2 = specificity2.split(",");
+        for (int i = 0; i < 4; i++) {
+            final int result = Integer.compare(Integer.parseInt(parts1[i]), Integer.parseInt(parts2[i]));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * The serialized form is the one with the four fields and the memoized
+     * value of the selector is not serialized.
+     *
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void serialization() throws Exception {
+        final Selector selector = new CSSOMParser().parseSelectors("ul #x li.red").get(0);
+        final SelectorSpecificity specificity = selector.getSelectorSpecificity();
+
+        final ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(baos)) {
+            oos.writeObject(selector);
+        }
+        final String stream = new String(baos.toByteArray(), StandardCharsets.ISO_8859_1);
+        assertTrue(stream.contains("fieldA_"));
+        assertTrue(stream.contains("fieldD_"));
+        assertFalse(stream.contains("packedSpecificity_"));
+
+        final Selector copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(baos.toByteArray()))) {
+            copy = (Selector) ois.readObject();
+        }
+        assertEquals("0,1,1,2", copy.getSelectorSpecificity().toString());
+        assertEquals(specificity, copy.getSelectorSpecificity());
+        assertEquals(specificity.getValue(), copy.getPackedSpecificity());
+    }
+
+    /**
+     * @throws Exception if the test fails
+     */
+    @Test
+    public void packedValueOverflow() throws Exception {
+        final StringBuilder css = new StringBuilder("p");
+        for (int i = 0; i < 300; i++) {
+            css.append(".c").append(i);
+        }
+        selectorSpecifity(css.toString(), "0,0,255,1");
+        css.append("#id");
+        selectorSpecifity(css.toString(), "0,1,255,1");
+    }
 }
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019 Ronald Brill.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.gargoylesoftware.css.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.gargoylesoftware.css.dom.CSSStyleDeclarationImpl;
+import com.gargoylesoftware.css.dom.Property;
+import com.gargoylesoftware.css.parser.CSSOMParser;
+
+/**
+ * Unit tests for {@link CSSPropertyNames}.
+ *
+ * @author Ronald Brill
+ */
+public class CSSPropertyNamesTest {
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void ids() throws Exception {
+        final String[] names = CSSPropertyNames.getKnownNames();
+        Assert.assertEquals(CSSPropertyNames.getKnownCount(), names.length);
+        Assert.assertTrue(names.length > 100);
+
+        for (int id = 0; id < names.length; id++) {
+            Assert.assertEquals(names[id], CSSPropertyNames.getName(id));
+            Assert.assertEquals(id, CSSPropertyNames.getId(names[id]));
+            Assert.assertEquals(id, CSSPropertyNames.getId(names[id].toUpperCase()));
+        }
+
+        Assert.assertEquals(CSSPropertyNames.getId(CSSProperties.COLOR), CSSPropertyNames.getId("Color"));
+        Assert.assertNotEquals(CSSPropertyNames.getId(CSSProperties.COLOR),
+                CSSPropertyNames.getId(CSSProperties.BORDER_COLOR));
+
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, CSSPropertyNames.getId(null));
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, CSSPropertyNames.getId(""));
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, CSSPropertyNames.getId("colour"));
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, CSSPropertyNames.getId("-moz-color"));
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, CSSPropertyNames.getId("colo"));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void nameOfUnknownId() throws Exception {
+        CSSPropertyNames.getName(CSSPropertyNames.UNKNOWN_ID);
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void intern() throws Exception {
+        Assert.assertNull(CSSPropertyNames.intern(null));
+
+        Assert.assertSame(CSSProperties.COLOR, CSSPropertyNames.intern(new String("color")));
+
+        // the case is preserved
+        final String upper = CSSPropertyNames.intern(new String("COLOR"));
+        Assert.assertEquals("COLOR", upper);
+        Assert.assertSame(upper, CSSPropertyNames.intern(new String("COLOR")));
+
+        final String custom = CSSPropertyNames.intern(new String("-my-custom-property"));
+        Assert.assertEquals("-my-custom-property", custom);
+        Assert.assertSame(custom, CSSPropertyNames.intern(new String("-my-custom-property")));
+    }
+
+    /**
+     * @throws Exception if any error occurs
+     */
+    @Test
+    public void parser() throws Exception {
+        final CSSOMParser parser = new CSSOMParser();
+        final CSSStyleDeclarationImpl decl1 = parser.parseStyleDeclaration("color: red; -x-foo: 1px; WIDTH: 1px");
+        final CSSStyleDeclarationImpl decl2 = parser.parseStyleDeclaration("color: blue; -x-foo: 2px; WIDTH: 2px");
+
+        for (int i = 0; i < decl1.getLength(); i++) {
+            final Property property1 = decl1.getProperties().get(i);
+            final Property property2 = decl2.getProperties().get(i);
+            Assert.assertSame(property1.getName(), property2.getName());
+            Assert.assertEquals(property1.getId(), property2.getId());
+        }
+        Assert.assertSame(CSSProperties.COLOR, decl1.getProperties().get(0).getName());
+        Assert.assertEquals(CSSPropertyNames.getId(CSSProperties.COLOR), decl1.getProperties().get(0).getId());
+        Assert.assertEquals(CSSPropertyNames.UNKNOWN_ID, decl1.getProperties().get(1).getId());
+        Assert.assertEquals("WIDTH", decl1.getProperties().get(2).getName());
+        Assert.assertEquals(CSSPropertyNames.getId(CSSProperties.WIDTH), decl1.getProperties().get(2).getId());
+    }
+}